@@ -0,0 +1,266 @@
+package com.github.mygreen.supercsv.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+
+import com.github.mygreen.supercsv.annotation.CsvBean;
+import com.github.mygreen.supercsv.annotation.CsvColumn;
+import com.github.mygreen.supercsv.annotation.constraint.CsvLengthMax;
+import com.github.mygreen.supercsv.annotation.constraint.CsvRequire;
+import com.github.mygreen.supercsv.annotation.constraint.CsvUnique;
+import com.github.mygreen.supercsv.annotation.constraint.CsvWordForbid;
+import com.github.mygreen.supercsv.annotation.conversion.CsvDefaultValue;
+import com.github.mygreen.supercsv.annotation.format.CsvDateTimeFormat;
+import com.github.mygreen.supercsv.annotation.format.CsvEnumFormat;
+import com.github.mygreen.supercsv.annotation.format.CsvNumberFormat;
+
+/**
+ * ベンチマーク用の多数のカラムを持つBean。
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+@CsvBean(header=true, validateHeader=true)
+public class BenchmarkBean {
+    
+    @CsvColumn(number=1)
+    @CsvRequire
+    @CsvUnique
+    private long id;
+    
+    @CsvColumn(number=2)
+    @CsvRequire
+    @CsvLengthMax(10)
+    private String code;
+    
+    @CsvColumn(number=3)
+    @CsvWordForbid({"禁止", "NG", "dummy"})
+    private String name;
+    
+    @CsvColumn(number=4)
+    @CsvDefaultValue("")
+    @CsvWordForbid(provider=BenchmarkForbiddenWordProvider.class)
+    private String comment;
+    
+    @CsvColumn(number=5)
+    @CsvNumberFormat(pattern="#,##0")
+    private int quantity;
+    
+    @CsvColumn(number=6)
+    @CsvNumberFormat(pattern="#,##0.00")
+    private BigDecimal price;
+    
+    @CsvColumn(number=7)
+    private Double rate;
+    
+    @CsvColumn(number=8)
+    @CsvNumberFormat(pattern="#,##0")
+    private long amount;
+    
+    @CsvColumn(number=9)
+    private Integer count;
+    
+    @CsvColumn(number=10)
+    @CsvDateTimeFormat(pattern="uuuu/MM/dd")
+    private LocalDate orderDate;
+    
+    @CsvColumn(number=11)
+    @CsvDateTimeFormat(pattern="uuuu-MM-dd HH:mm:ss")
+    private LocalDateTime orderDateTime;
+    
+    @CsvColumn(number=12)
+    @CsvDateTimeFormat(pattern="yyyy-MM-dd HH:mm:ss")
+    private Date created;
+    
+    @CsvColumn(number=13)
+    private Timestamp updated;
+    
+    @CsvColumn(number=14)
+    @CsvEnumFormat(ignoreCase=true)
+    private BenchmarkStatus status;
+    
+    @CsvColumn(number=15)
+    private boolean active;
+    
+    @CsvColumn(number=16)
+    @CsvLengthMax(5)
+    private String branch;
+    
+    @CsvColumn(number=17)
+    private String country;
+    
+    @CsvColumn(number=18)
+    private String currency;
+    
+    @CsvColumn(number=19)
+    private Short score;
+    
+    @CsvColumn(number=20)
+    @CsvDefaultValue("")
+    private String note;
+    
+    public long getId() {
+        return id;
+    }
+    
+    public void setId(long id) {
+        this.id = id;
+    }
+    
+    public String getCode() {
+        return code;
+    }
+    
+    public void setCode(String code) {
+        this.code = code;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public String getComment() {
+        return comment;
+    }
+    
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+    
+    public int getQuantity() {
+        return quantity;
+    }
+    
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+    
+    public BigDecimal getPrice() {
+        return price;
+    }
+    
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+    
+    public Double getRate() {
+        return rate;
+    }
+    
+    public void setRate(Double rate) {
+        this.rate = rate;
+    }
+    
+    public long getAmount() {
+        return amount;
+    }
+    
+    public void setAmount(long amount) {
+        this.amount = amount;
+    }
+    
+    public Integer getCount() {
+        return count;
+    }
+    
+    public void setCount(Integer count) {
+        this.count = count;
+    }
+    
+    public LocalDate getOrderDate() {
+        return orderDate;
+    }
+    
+    public void setOrderDate(LocalDate orderDate) {
+        this.orderDate = orderDate;
+    }
+    
+    public LocalDateTime getOrderDateTime() {
+        return orderDateTime;
+    }
+    
+    public void setOrderDateTime(LocalDateTime orderDateTime) {
+        this.orderDateTime = orderDateTime;
+    }
+    
+    public Date getCreated() {
+        return created;
+    }
+    
+    public void setCreated(Date created) {
+        this.created = created;
+    }
+    
+    public Timestamp getUpdated() {
+        return updated;
+    }
+    
+    public void setUpdated(Timestamp updated) {
+        this.updated = updated;
+    }
+    
+    public BenchmarkStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(BenchmarkStatus status) {
+        this.status = status;
+    }
+    
+    public boolean isActive() {
+        return active;
+    }
+    
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+    
+    public String getBranch() {
+        return branch;
+    }
+    
+    public void setBranch(String branch) {
+        this.branch = branch;
+    }
+    
+    public String getCountry() {
+        return country;
+    }
+    
+    public void setCountry(String country) {
+        this.country = country;
+    }
+    
+    public String getCurrency() {
+        return currency;
+    }
+    
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+    
+    public Short getScore() {
+        return score;
+    }
+    
+    public void setScore(Short score) {
+        this.score = score;
+    }
+    
+    public String getNote() {
+        return note;
+    }
+    
+    public void setNote(String note) {
+        this.note = note;
+    }
+    
+}
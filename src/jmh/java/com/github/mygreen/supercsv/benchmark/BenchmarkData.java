@@ -0,0 +1,147 @@
+package com.github.mygreen.supercsv.benchmark;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.supercsv.io.CsvListWriter;
+import org.supercsv.prefs.CsvPreference;
+
+/**
+ * ベンチマーク用のデータを作成するクラス。
+ * <p>エラーを含むデータは、指定した割合でエラーとなるレコードを含めます。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class BenchmarkData {
+    
+    private static final String[] HEADER = {
+            "id", "code", "name", "comment", "quantity", "price", "rate", "amount", "count", "orderDate",
+            "orderDateTime", "created", "updated", "status", "active", "branch", "country", "currency", "score", "note"
+    };
+    
+    private static final String[] COUNTRIES = {"JP", "US", "GB", "DE", "FR"};
+    
+    private static final String[] CURRENCIES = {"JPY", "USD", "GBP", "EUR"};
+    
+    private static final LocalDateTime BASE_DATE_TIME = LocalDateTime.of(2020, 1, 1, 9, 0, 0);
+    
+    /**
+     * 指定したインデックスのレコードをエラーとするかどうか判定する。
+     * @param index レコードのインデックス
+     * @param errorRate エラーとなるレコードの割合(%)
+     * @return trueの場合、エラーとなるレコード。
+     */
+    private static boolean isError(final int index, final int errorRate) {
+        return errorRate > 0 && (index % 100) < errorRate;
+    }
+    
+    /**
+     * 読み込み用のCSVの文字列を作成する。
+     * @param rows レコード数
+     * @param errorRate エラーとなるレコードの割合(%)
+     * @return ヘッダー行を含むCSVの文字列。
+     */
+    public static String createCsv(final int rows, final int errorRate) {
+        
+        final StringWriter out = new StringWriter(rows * 256);
+        try(CsvListWriter writer = new CsvListWriter(out, CsvPreference.STANDARD_PREFERENCE)) {
+            writer.write(HEADER);
+            
+            for(int i=0; i < rows; i++) {
+                final boolean error = isError(i, errorRate);
+                final LocalDateTime dateTime = BASE_DATE_TIME.plusMinutes(i);
+                
+                writer.write(
+                        // 重複したIDとする
+                        String.valueOf(error ? 0 : i + 1),
+                        String.format("C%05d", i % 100000),
+                        "name" + (i % 100),
+                        error ? "comment " + BenchmarkForbiddenWordProvider.forbiddenWord(i) : "comment " + i,
+                        // 数値として不正な値とする
+                        error ? "abc" : String.format("%,d", i % 10000),
+                        String.format("%,d.%02d", i % 100000, i % 100),
+                        String.valueOf((i % 1000) / 10.0d),
+                        String.format("%,d", (long)i * 1000L),
+                        String.valueOf(i % 500),
+                        String.format("%04d/%02d/%02d", dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth()),
+                        String.format("%04d-%02d-%02d %02d:%02d:%02d", dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(),
+                                dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond()),
+                        String.format("%04d-%02d-%02d %02d:%02d:%02d", dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(),
+                                dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond()),
+                        String.format("%04d-%02d-%02d %02d:%02d:%02d.000", dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(),
+                                dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond()),
+                        BenchmarkStatus.values()[i % BenchmarkStatus.values().length].name().toLowerCase(),
+                        String.valueOf(i % 2 == 0),
+                        // 文字長が超過した値とする
+                        error ? "B000000" : String.format("B%03d", i % 1000),
+                        COUNTRIES[i % COUNTRIES.length],
+                        CURRENCIES[i % CURRENCIES.length],
+                        String.valueOf(i % 100),
+                        i % 3 == 0 ? "" : "note");
+            }
+            
+            writer.flush();
+            
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        
+        return out.toString();
+        
+    }
+    
+    /**
+     * 書き込み用のBeanを作成する。
+     * @param rows レコード数
+     * @param errorRate エラーとなるレコードの割合(%)
+     * @return 作成したBeanのリスト
+     */
+    public static List<BenchmarkBean> createBeans(final int rows, final int errorRate) {
+        
+        final List<BenchmarkBean> list = new ArrayList<>(rows);
+        for(int i=0; i < rows; i++) {
+            final boolean error = isError(i, errorRate);
+            final LocalDateTime dateTime = BASE_DATE_TIME.plusMinutes(i);
+            final Date date = Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+            
+            final BenchmarkBean bean = new BenchmarkBean();
+            bean.setId(error ? 0 : i + 1);
+            bean.setCode(String.format("C%05d", i % 100000));
+            bean.setName("name" + (i % 100));
+            bean.setComment(error ? "comment " + BenchmarkForbiddenWordProvider.forbiddenWord(i) : "comment " + i);
+            bean.setQuantity(i % 10000);
+            bean.setPrice(BigDecimal.valueOf(i % 10000000, 2));
+            bean.setRate((i % 1000) / 10.0d);
+            bean.setAmount((long)i * 1000L);
+            bean.setCount(i % 500);
+            bean.setOrderDate(LocalDate.from(dateTime));
+            bean.setOrderDateTime(dateTime);
+            bean.setCreated(date);
+            bean.setUpdated(new Timestamp(date.getTime()));
+            bean.setStatus(BenchmarkStatus.values()[i % BenchmarkStatus.values().length]);
+            bean.setActive(i % 2 == 0);
+            bean.setBranch(error ? "B000000" : String.format("B%03d", i % 1000));
+            bean.setCountry(COUNTRIES[i % COUNTRIES.length]);
+            bean.setCurrency(CURRENCIES[i % CURRENCIES.length]);
+            bean.setScore((short)(i % 100));
+            bean.setNote(i % 3 == 0 ? "" : "note");
+            
+            list.add(bean);
+        }
+        
+        return list;
+        
+    }
+    
+}
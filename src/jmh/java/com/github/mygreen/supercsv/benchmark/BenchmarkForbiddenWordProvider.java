@@ -0,0 +1,48 @@
+package com.github.mygreen.supercsv.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.github.mygreen.supercsv.builder.FieldAccessor;
+import com.github.mygreen.supercsv.cellprocessor.constraint.ForbiddenWordProvider;
+
+/**
+ * ベンチマーク用の大量の禁止語彙を提供するプロバイダ。
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class BenchmarkForbiddenWordProvider implements ForbiddenWordProvider {
+    
+    /**
+     * 禁止語彙の件数
+     */
+    public static final int WORD_SIZE = 1000;
+    
+    private static final List<String> WORDS;
+    static {
+        final List<String> words = new ArrayList<>(WORD_SIZE);
+        for(int i=0; i < WORD_SIZE; i++) {
+            words.add(forbiddenWord(i));
+        }
+        WORDS = Collections.unmodifiableList(words);
+    }
+    
+    /**
+     * 禁止語彙を取得する。
+     * @param index インデックス
+     * @return 禁止語彙
+     */
+    public static String forbiddenWord(final int index) {
+        return String.format("ng%04dword", index % WORD_SIZE);
+    }
+    
+    @Override
+    public Collection<String> getForbiddenWords(final FieldAccessor field) {
+        return WORDS;
+    }
+    
+}
@@ -0,0 +1,14 @@
+package com.github.mygreen.supercsv.benchmark;
+
+/**
+ * ベンチマーク用の列挙型。
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public enum BenchmarkStatus {
+    
+    ACTIVE, SUSPENDED, CLOSED;
+    
+}
@@ -0,0 +1,194 @@
+package com.github.mygreen.supercsv.benchmark;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.supercsv.prefs.CsvPreference;
+
+import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
+import com.github.mygreen.supercsv.exception.SuperCsvNoMatchColumnSizeException;
+import com.github.mygreen.supercsv.io.CsvAnnotationBeanReader;
+import com.github.mygreen.supercsv.io.CsvReadBatch;
+import com.github.mygreen.supercsv.io.CsvReadResult;
+
+/**
+ * {@link CsvAnnotationBeanReader}の読み込み処理のベンチマーク。
+ * <p>1回の操作で、{@link #rows}件のレコードを読み込みます。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+@State(Scope.Thread)
+public class ReaderBenchmark {
+    
+    /**
+     * 1回の操作で読み込むレコード数
+     */
+    @Param({"10000"})
+    public int rows;
+    
+    /**
+     * エラーとなるレコードの割合(%)
+     */
+    @Param({"0", "25"})
+    public int errorRate;
+    
+    /**
+     * 並列読み込み時のスレッド数
+     */
+    @Param({"4"})
+    public int parallelism;
+    
+    private String csv;
+    
+    private ExecutorService executor;
+    
+    @Setup(Level.Trial)
+    public void setup() {
+        this.csv = BenchmarkData.createCsv(rows, errorRate);
+        this.executor = Executors.newFixedThreadPool(parallelism);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+    
+    /**
+     * {@literal @CsvUnique}の状態を持つため、操作ごとにマッピング情報を作成する。
+     */
+    private CsvAnnotationBeanReader<BenchmarkBean> createReader() {
+        return new CsvAnnotationBeanReader<>(BenchmarkBean.class, new StringReader(csv), CsvPreference.STANDARD_PREFERENCE);
+    }
+    
+    @Benchmark
+    public void read(final Blackhole bh) throws IOException {
+        
+        try(CsvAnnotationBeanReader<BenchmarkBean> reader = createReader()) {
+            reader.getHeader(true);
+            
+            while(true) {
+                try {
+                    final BenchmarkBean bean = reader.read();
+                    if(bean == null) {
+                        break;
+                    }
+                    bh.consume(bean);
+                    
+                } catch(SuperCsvNoMatchColumnSizeException | SuperCsvBindingException e) {
+                    bh.consume(e);
+                }
+            }
+        }
+    }
+    
+    @Benchmark
+    public void tryRead(final Blackhole bh) throws IOException {
+        
+        try(CsvAnnotationBeanReader<BenchmarkBean> reader = createReader()) {
+            reader.getHeader(true);
+            
+            CsvReadResult<BenchmarkBean> result;
+            while(!(result = reader.tryRead()).isEof()) {
+                bh.consume(result);
+            }
+        }
+    }
+    
+    @Benchmark
+    public void lines(final Blackhole bh) throws IOException {
+        
+        try(CsvAnnotationBeanReader<BenchmarkBean> reader = createReader()) {
+            reader.getHeader(true);
+            
+            // エラーが発生した場合は、続きのレコードから再度読み込む。
+            while(true) {
+                try {
+                    reader.lines().forEach(bh::consume);
+                    break;
+                    
+                } catch(SuperCsvNoMatchColumnSizeException | SuperCsvBindingException e) {
+                    bh.consume(e);
+                }
+            }
+        }
+    }
+    
+    /**
+     * 並列ストリームで読み込む。
+     * <p>エラーが発生した場合は、先読みしたレコードは破棄されるため、エラーの割合が0%の場合のみ{@link #lines(Blackhole)}と比較できます。</p>
+     */
+    @Benchmark
+    public void linesParallel(final Blackhole bh) throws IOException {
+        
+        try(CsvAnnotationBeanReader<BenchmarkBean> reader = createReader()) {
+            reader.getHeader(true);
+            
+            while(true) {
+                try {
+                    reader.lines().parallel().forEach(bh::consume);
+                    break;
+                    
+                } catch(SuperCsvNoMatchColumnSizeException | SuperCsvBindingException e) {
+                    bh.consume(e);
+                }
+            }
+        }
+    }
+    
+    @Benchmark
+    public void readBatch(final Blackhole bh) throws IOException {
+        
+        try(CsvAnnotationBeanReader<BenchmarkBean> reader = createReader()) {
+            reader.getHeader(true);
+            
+            final CsvReadBatch<BenchmarkBean> batch = new CsvReadBatch<>(1000);
+            do {
+                reader.readBatch(1000, batch);
+                bh.consume(batch.getRecords());
+                bh.consume(batch.getErrors());
+            } while(batch.size() == 1000);
+        }
+    }
+    
+    @Benchmark
+    public void readAll(final Blackhole bh) throws IOException {
+        
+        try(CsvAnnotationBeanReader<BenchmarkBean> reader = createReader()) {
+            bh.consume(reader.readAll(true));
+        }
+    }
+    
+    @Benchmark
+    public void readParallel(final Blackhole bh) throws IOException {
+        
+        try(CsvAnnotationBeanReader<BenchmarkBean> reader = createReader()) {
+            reader.getHeader(true);
+            reader.readParallel(executor, parallelism, true, bh::consume, bh::consume);
+        }
+    }
+    
+}
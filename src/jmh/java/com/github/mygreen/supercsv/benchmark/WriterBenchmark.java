@@ -0,0 +1,157 @@
+package com.github.mygreen.supercsv.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.supercsv.prefs.CsvPreference;
+
+import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
+import com.github.mygreen.supercsv.io.CsvAnnotationBeanWriter;
+
+/**
+ * {@link CsvAnnotationBeanWriter}の書き込み処理のベンチマーク。
+ * <p>1回の操作で、{@link #rows}件のレコードを書き込みます。
+ *    出力先は、I/Oの影響を除くため、書き込んだ文字数のみを数える{@link Writer}です。
+ * </p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations=3, time=2)
+@Measurement(iterations=5, time=2)
+@Fork(1)
+@State(Scope.Thread)
+public class WriterBenchmark {
+    
+    /**
+     * 1回の操作で書き込むレコード数
+     */
+    @Param({"10000"})
+    public int rows;
+    
+    /**
+     * エラーとなるレコードの割合(%)
+     */
+    @Param({"0", "25"})
+    public int errorRate;
+    
+    /**
+     * 並列書き込み時のスレッド数
+     */
+    @Param({"4"})
+    public int parallelism;
+    
+    private List<BenchmarkBean> beans;
+    
+    private ExecutorService executor;
+    
+    @Setup(Level.Trial)
+    public void setup() {
+        this.beans = BenchmarkData.createBeans(rows, errorRate);
+        this.executor = Executors.newFixedThreadPool(parallelism);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+    }
+    
+    /**
+     * {@literal @CsvUnique}の状態を持つため、操作ごとにマッピング情報を作成する。
+     */
+    private CsvAnnotationBeanWriter<BenchmarkBean> createWriter(final Writer out) {
+        return new CsvAnnotationBeanWriter<>(BenchmarkBean.class, out, CsvPreference.STANDARD_PREFERENCE);
+    }
+    
+    @Benchmark
+    public long write(final Blackhole bh) throws IOException {
+        
+        final CountingWriter out = new CountingWriter();
+        try(CsvAnnotationBeanWriter<BenchmarkBean> writer = createWriter(out)) {
+            writer.writeHeader();
+            
+            for(BenchmarkBean bean : beans) {
+                try {
+                    writer.write(bean);
+                } catch(SuperCsvBindingException e) {
+                    bh.consume(e);
+                }
+            }
+        }
+        
+        return out.count;
+    }
+    
+    @Benchmark
+    public long writeAll() throws IOException {
+        
+        final CountingWriter out = new CountingWriter();
+        try(CsvAnnotationBeanWriter<BenchmarkBean> writer = createWriter(out)) {
+            writer.writeAll(beans, true);
+        }
+        
+        return out.count;
+    }
+    
+    @Benchmark
+    public long writeAllParallel() throws IOException {
+        
+        final CountingWriter out = new CountingWriter();
+        try(CsvAnnotationBeanWriter<BenchmarkBean> writer = createWriter(out)) {
+            writer.writeAllParallel(beans, executor, parallelism, true);
+        }
+        
+        return out.count;
+    }
+    
+    /**
+     * 書き込んだ文字数のみを数える{@link Writer}。
+     */
+    private static class CountingWriter extends Writer {
+        
+        private long count;
+        
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) {
+            count += len;
+        }
+        
+        @Override
+        public void write(final String str, final int off, final int len) {
+            count += len;
+        }
+        
+        @Override
+        public void flush() {
+            // do nothing.
+        }
+        
+        @Override
+        public void close() {
+            // do nothing.
+        }
+        
+    }
+    
+}
@@ -0,0 +1,12 @@
+/**
+ * JMHによるマイクロベンチマークを提供します。
+ * <p>Mavenのプロファイル{@literal jmh}を指定して実行します。</p>
+ * <pre class="highlight"><code>
+ * mvn -P jmh test-compile exec:exec
+ * mvn -P jmh test-compile exec:exec -Djmh.args="ReaderBenchmark -prof gc"
+ * </code></pre>
+ *
+ * @author T.TSUCHIE
+ *
+ */
+package com.github.mygreen.supercsv.benchmark;
@@ -22,6 +22,7 @@ import com.github.mygreen.supercsv.cellprocessor.format.TextPrinter;
  * <p>比較する際に、オブジェクト値をキャッシュするため、レコード数やオブジェクトのサイズによってはメモリをより多く消費します。
  *   そのような場合は、ハッシュ値で検証する{@link CsvUniqueHashCode}を利用してください。
  * </p>
+ * <p>整数型のカラムの場合は、属性{@link #storage()}で値の格納先を変更することで、メモリの使用量を抑えることができます。</p>
  *
  * 
  * <pre class="highlight"><code class="java">
@@ -32,10 +33,16 @@ import com.github.mygreen.supercsv.cellprocessor.format.TextPrinter;
  *     {@literal @CsvUnique}
  *     private long id;
  *     
+ *     // 値をヒープ外のメモリに格納する
+ *     {@literal @CsvColumn(number=2)}
+ *     {@literal @CsvUnique(storage=CsvUnique.Storage.OFF_HEAP)}
+ *     private long accountId;
+ *     
  *     // getter/setterは省略
  * }
  * </code></pre>
  *
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -85,6 +92,71 @@ public @interface CsvUnique {
      */
     int order() default 0;
     
+    /**
+     * 検証済みの値の格納先を指定します。
+     * <p>{@link Storage#HEAP}以外は、整数型（byte/short/int/long とそのラッパークラス）のカラムのみ指定可能です。</p>
+     * @since 2.4
+     * @return 省略した場合は、{@link Storage#HEAP}が適用されます。
+     */
+    Storage storage() default Storage.HEAP;
+    
+    /**
+     * 検証する値の想定件数を指定します。
+     * <p>{@link Storage#COMPACT}、{@link Storage#OFF_HEAP}、{@link Storage#DISK}の場合に、
+     *    想定件数を拡張せずに格納できる大きさのハッシュテーブルを、事前に確保します。
+     * </p>
+     * <p>ハッシュテーブルは件数が増えると2倍の大きさに拡張し、全ての値を移し替えます。
+     *    特に{@link Storage#DISK}では拡張する度に一時ファイルを作成し直すため、大量の値を検証する場合は指定してください。
+     * </p>
+     * @since 2.4
+     * @return 0以下の場合は、最小の大きさから必要に応じて拡張します。
+     */
+    long expectedSize() default 0L;
+    
+    /**
+     * 検証済みの値の格納先の種類です。
+     * <p>いずれの格納先も、重複した値が最初に現れた行番号を保持します。</p>
+     * 
+     * @since 2.4
+     */
+    enum Storage {
+        
+        /**
+         * ヒープ上の{@link java.util.HashMap}に、値のオブジェクトをそのまま格納します。
+         * <p>全てのクラスタイプで使用できます。</p>
+         */
+        HEAP,
+        
+        /**
+         * ヒープ上のプリミティブ型の配列によるハッシュテーブルに格納します。
+         * <p>値ごとのオブジェクトを作成しないため、{@link #HEAP}よりメモリの使用量を抑えることができます。</p>
+         */
+        COMPACT,
+        
+        /**
+         * ヒープ外のメモリ（ダイレクトバッファ）によるハッシュテーブルに格納します。
+         * <p>ヒープのサイズやGCの対象から外れるため、大量の値を検証する場合に適しています。</p>
+         * <p>確保したメモリは、Beanのクラスタイプを指定して作成したCsvAnnotationBeanReader/Writerを閉じたときに解放します。
+         *    Beanのマッピング情報を指定して作成した場合は、{@link com.github.mygreen.supercsv.builder.BeanMapping#closeCellProcessors()}で解放します。
+         *    解放しない場合は、GCで回収されるまで保持されます。
+         * </p>
+         */
+        OFF_HEAP,
+        
+        /**
+         * 一時ファイルをメモリにマッピングしたハッシュテーブルに格納します。
+         * <p>物理メモリを超える件数の値を検証する場合に使用します。
+         *    一時ファイルは、システムプロパティ{@literal java.io.tmpdir}のディレクトリに作成します。
+         * </p>
+         * <p>マッピングした領域と一時ファイルは、Beanのクラスタイプを指定して作成したCsvAnnotationBeanReader/Writerを閉じたときに解放します。
+         *    Beanのマッピング情報を指定して作成した場合は、{@link com.github.mygreen.supercsv.builder.BeanMapping#closeCellProcessors()}で解放します。
+         *    解放しない場合は、GCで回収されるまで保持されます。
+         * </p>
+         */
+        DISK,
+        ;
+    }
+    
     /**
      * アノテーションを複数個指定する際の要素です。
      */
@@ -19,6 +19,9 @@ import com.github.mygreen.supercsv.cellprocessor.format.TextPrinter;
  * 
  * <h3 class="description">基本的な使い方</h3>
  * <p>値を比較する際には、各要素の値のhashCode()メソッドで取得したハッシュ値にて判定します。</p>
+ * <p>32bitのハッシュ値は、レコード数が多くなると異なる値でも衝突しやすくなるため、
+ *    属性{@link #hashType()}で64bitのハッシュ値に切り替えることができます。
+ * </p>
  * 
  * <pre class="highlight"><code class="java">
  * {@literal @CsvBean}
@@ -28,10 +31,16 @@ import com.github.mygreen.supercsv.cellprocessor.format.TextPrinter;
  *     {@literal @CsvUniqueHashCode}
  *     private long id;
  *     
+ *     // 64bitのハッシュ値で判定する
+ *     {@literal @CsvColumn(number=2)}
+ *     {@literal @CsvUniqueHashCode(hashType=CsvUniqueHashCode.HashType.XXHASH64)}
+ *     private String mailAddress;
+ *     
  *     // getter/setterは省略
  * }
  * </code></pre>
  * 
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -54,7 +63,7 @@ public @interface CsvUniqueHashCode {
      *   <li>columnNumber : CSVの列番号です。1から始まります。</li>
      *   <li>label : カラムの見出し名です。</li>
      *   <li>validatedValue : 実際のカラムの値です。</li>
-     *   <li>hashCode : valueに対するハッシュ値です。</li>
+     *   <li>hashCode : valueに対するハッシュ値です。{@link HashType#XXHASH64}の場合はlong型の値です。</li>
      *   <li>printer : カラムの値に対数するフォーマッタです。{@link TextPrinter#print(Object)}でvalidatedValueの値を文字列に変換します。</li>
      * </ul>
      * 
@@ -82,6 +91,35 @@ public @interface CsvUniqueHashCode {
      */
     int order() default 0;
     
+    /**
+     * 判定に使用するハッシュ値の種類を指定します。
+     * @since 2.4
+     * @return 省略した場合は、{@link HashType#HASH_CODE}が適用されます。
+     */
+    HashType hashType() default HashType.HASH_CODE;
+    
+    /**
+     * 判定に使用するハッシュ値の種類です。
+     * 
+     * @since 2.4
+     */
+    enum HashType {
+        
+        /**
+         * 値のhashCode()メソッドで取得した32bitのハッシュ値で判定します。
+         */
+        HASH_CODE,
+        
+        /**
+         * カラムのフォーマッタで文字列に変換した値から、xxHash64で算出した64bitのハッシュ値で判定します。
+         * <p>{@link #HASH_CODE}と比べて、異なる値が重複と判定される可能性を大幅に抑えることができます。
+         *    ただし、文字列に変換した結果が同じになる値は、重複と判定されます。
+         * </p>
+         */
+        XXHASH64,
+        ;
+    }
+    
     /**
      * アノテーションを複数個指定する際の要素です。
      */
@@ -15,6 +15,8 @@ import com.github.mygreen.supercsv.cellprocessor.conversion.ByteSizePaddingProce
 import com.github.mygreen.supercsv.cellprocessor.conversion.CharWidthPaddingProcessor;
 import com.github.mygreen.supercsv.cellprocessor.conversion.PaddingProcessor;
 import com.github.mygreen.supercsv.cellprocessor.conversion.SimplePaddingProcessor;
+import com.github.mygreen.supercsv.io.FixedSizeCsvAnnotationBeanWriter;
+import com.github.mygreen.supercsv.io.FixedSizeTokenizer;
 
 /**
  * 固定長のカラムを表現するためのアノテーションです。
@@ -23,6 +25,9 @@ import com.github.mygreen.supercsv.cellprocessor.conversion.SimplePaddingProcess
  *  <li>書き込み時は、アノテーション{@link CsvMultiPad}によって、パディングします。</li>
  *  <li>読み込み時は、アノテーション{@link CsvOneSideTrim}によって、トリムします。</li>
  * </ul>
+ * <p>区切り文字を使用しない固定長のファイルは、全てのカラムにこのアノテーションを付与し、
+ *    {@link FixedSizeTokenizer}と{@link FixedSizeCsvAnnotationBeanWriter}によって読み書きします。
+ * </p>
  * 
  * <h3 class="description">基本的な使い方</h3>
  * 
@@ -67,6 +72,7 @@ import com.github.mygreen.supercsv.cellprocessor.conversion.SimplePaddingProcess
  * }
  * </code></pre>
  * 
+ * @version 2.4
  * @since 2.1
  * @author T.TSUCHIE
  *
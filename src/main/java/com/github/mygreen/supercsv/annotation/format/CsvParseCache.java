@@ -0,0 +1,55 @@
+package com.github.mygreen.supercsv.annotation.format;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.github.mygreen.supercsv.builder.Configuration;
+
+
+/**
+ * 読み込み時に、文字列から変換した値をキャッシュするためのアノテーションです。
+ * <p>ステータスコードや通貨コードなど、値の種類が少ないカラムに付与することで、
+ *    同じ文字列に対する変換処理とインスタンスの生成を省略します。
+ *    また、同じ値のインスタンスを共有するため、全レコードを読み込んだ際のメモリの使用量も抑えることができます。
+ * </p>
+ * <p>キャッシュは上限件数を持ち、上限を超えた場合は最も参照されていない値から破棄します。</p>
+ * <p>インスタンスを共有するため、キャッシュの対象は不変なクラスタイプのカラムのみです。
+ *    {@link java.util.Date}や{@link java.util.Calendar}など、変更可能なクラスタイプのカラムに付与した場合は無視されます。
+ * </p>
+ * <p>全てのカラムに対して有効にする場合は、{@link Configuration#setParseCacheSize(int)}で指定します。</p>
+ *
+ * <pre class="highlight"><code class="java">
+ * {@literal @CsvBean}
+ * public class SampleCsv {
+ *
+ *     {@literal @CsvColumn(number=1)}
+ *     {@literal @CsvParseCache(size=64)}
+ *     private String countryCode;
+ *
+ *     {@literal @CsvColumn(number=2)}
+ *     {@literal @CsvParseCache}
+ *     private LocalDate eventDate;
+ *
+ *     // getter/setterは省略
+ * }
+ * </code></pre>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+@Target({ElementType.FIELD, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CsvParseCache {
+    
+    /**
+     * キャッシュする値の上限件数を指定します。
+     * @return 0以下の場合は、キャッシュを無効にします。
+     */
+    int size() default 256;
+    
+}
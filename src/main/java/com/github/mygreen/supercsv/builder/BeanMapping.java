@@ -1,9 +1,15 @@
 package com.github.mygreen.supercsv.builder;
 
+import java.io.IOException;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.supercsv.cellprocessor.CellProcessorAdaptor;
 import org.supercsv.cellprocessor.ift.CellProcessor;
 
 import com.github.mygreen.supercsv.validation.CsvValidator;
@@ -12,12 +18,18 @@ import com.github.mygreen.supercsv.validation.CsvValidator;
  * 解析したBeanのマッピング情報です。
  *
  * @param <T> Beanのクラスタイプ
- * @version 2.1
+ * @version 2.4
  * @author T.TSUCHIE
  * 
  */
 public class BeanMapping<T> {
     
+    /**
+     * CellProcessorのチェインの次の処理を保持するフィールド。
+     * アクセスできない場合はnullとなり、チェインの先頭のみを閉じます。
+     */
+    private static final Field NEXT_FIELD = findNextField();
+    
     private final Class<T> type;
     
     private boolean header;
@@ -118,6 +130,82 @@ public class BeanMapping<T> {
                 .toArray(n -> new CellProcessor[n]);
     }
     
+    /**
+     * 読み込み用と書き込み用の{@link CellProcessor}のチェインをたどり、{@link AutoCloseable}を実装したものを全て閉じます。
+     * <p>例えば、ヒープ外のメモリや一時ファイルを格納先とする{@link com.github.mygreen.supercsv.cellprocessor.constraint.Unique}の領域を解放します。
+     *    途中で例外が発生しても、残りのCellProcessorを閉じてから、最初の例外をスローします。
+     * </p>
+     * <p>{@link com.github.mygreen.supercsv.io.CsvAnnotationBeanReader}などに、Beanのクラスタイプを指定して作成した場合は、
+     *    それらを閉じるときに呼ばれます。Beanのマッピング情報を指定して作成した場合は、
+     *    複数のファイルで共有していることがあるため、使い終わった後にこのメソッドを呼び出してください。
+     * </p>
+     * 
+     * @since 2.4
+     * @throws IOException CellProcessorを閉じるのに失敗した場合。
+     */
+    public void closeCellProcessors() throws IOException {
+        
+        final Set<CellProcessor> closed = Collections.newSetFromMap(new IdentityHashMap<>());
+        Exception error = null;
+        
+        for(ColumnMapping column : columns) {
+            for(CellProcessor processor : new CellProcessor[]{column.getCellProcessorForReading(), column.getCellProcessorForWriting()}) {
+                for(CellProcessor current = processor; current != null && closed.add(current); current = nextOf(current)) {
+                    if(!(current instanceof AutoCloseable)) {
+                        continue;
+                    }
+                    
+                    try {
+                        ((AutoCloseable)current).close();
+                    } catch(Exception e) {
+                        if(error == null) {
+                            error = e;
+                        } else {
+                            error.addSuppressed(e);
+                        }
+                    }
+                }
+            }
+        }
+        
+        if(error instanceof IOException) {
+            throw (IOException)error;
+        } else if(error instanceof RuntimeException) {
+            throw (RuntimeException)error;
+        } else if(error != null) {
+            throw new IOException("fail close cell processor.", error);
+        }
+        
+    }
+    
+    /**
+     * チェインの次のCellProcessorを取得する。
+     * @param processor CellProcessor
+     * @return 次のCellProcessor。存在しない場合はnullを返します。
+     */
+    private static CellProcessor nextOf(final CellProcessor processor) {
+        
+        if(NEXT_FIELD == null || !(processor instanceof CellProcessorAdaptor)) {
+            return null;
+        }
+        
+        try {
+            return (CellProcessor)NEXT_FIELD.get(processor);
+        } catch(IllegalAccessException e) {
+            return null;
+        }
+    }
+    
+    private static Field findNextField() {
+        try {
+            final Field field = CellProcessorAdaptor.class.getDeclaredField("next");
+            field.setAccessible(true);
+            return field;
+        } catch(ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+    
     /**
      * 
      * @return Beanのクラスタイプを取得する。
@@ -5,9 +5,12 @@ import java.util.Comparator;
 
 import org.supercsv.cellprocessor.ift.CellProcessor;
 
+import com.github.mygreen.supercsv.cellprocessor.constraint.UniqueFilter;
+
 /**
  * {@link CellProcessor}を組み立てる際の設定を保持するクラス。
  *
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -34,6 +37,31 @@ public class Configuration {
      */
     private boolean skipValidationOnWrite = false;
     
+    /**
+     * Beanのプロパティへのアクセス方法。
+     */
+    private PropertyAccessStrategy propertyAccessStrategy = new LambdaPropertyAccessStrategy();
+    
+    /**
+     * 入力値検証のエラー時の例外を軽量化するかどうか。
+     */
+    private boolean lightweightException = false;
+    
+    /**
+     * 読み込み時に変換した値をキャッシュする上限件数。
+     */
+    private int parseCacheSize = 0;
+    
+    /**
+     * 値のユニーク性の検証に使用するブルームフィルタの設定。
+     */
+    private UniqueFilter uniqueFilter;
+    
+    /**
+     * 値のユニーク性の検証を、複数のスレッドから並列に実行するかどうか。
+     */
+    private boolean concurrentUnique = false;
+    
     public Configuration() {
         
     }
@@ -111,4 +139,134 @@ public class Configuration {
     public void setSkipValidationOnWrite(boolean skipValidationOnWrite) {
         this.skipValidationOnWrite = skipValidationOnWrite;
     }
+    
+    /**
+     * Beanのプロパティへのアクセス方法を取得します。
+     * <p>デフォルトでは、{@link LambdaPropertyAccessStrategy}が設定されています。</p>
+     * @since 2.4
+     * @return {@link PropertyAccessStrategy}の実装。
+     */
+    public PropertyAccessStrategy getPropertyAccessStrategy() {
+        return propertyAccessStrategy;
+    }
+    
+    /**
+     * Beanのプロパティへのアクセス方法を設定します。
+     * @since 2.4
+     * @param propertyAccessStrategy {@link PropertyAccessStrategy}の実装。
+     */
+    public void setPropertyAccessStrategy(PropertyAccessStrategy propertyAccessStrategy) {
+        this.propertyAccessStrategy = propertyAccessStrategy;
+    }
+    
+    /**
+     * 入力値検証のエラー時にスローする例外を軽量化するかどうかを取得します。
+     * <p>軽量化した例外は、スタックトレースを作成せず、例外のメッセージも参照されるまでフォーマットしません。
+     *    不正なレコードが多いファイルを処理する際のコストを抑えることができます。
+     * </p>
+     * <p>対象となる例外は、{@link com.github.mygreen.supercsv.exception.SuperCsvValidationException}、
+     *    {@link com.github.mygreen.supercsv.exception.SuperCsvRowException}、
+     *    {@link com.github.mygreen.supercsv.exception.SuperCsvBindingException}です。
+     * </p>
+     * <p>初期値は、{@literal false}で、通常の例外をスローします。</p>
+     * @since 2.4
+     * @return {@literal true}の場合、軽量化した例外をスローします。
+     */
+    public boolean isLightweightException() {
+        return lightweightException;
+    }
+    
+    /**
+     * 入力値検証のエラー時にスローする例外を軽量化するかどうかを設定します。
+     * <p>{@link CellProcessor}を組み立てる前に設定する必要があります。</p>
+     * @since 2.4
+     * @param lightweightException {@literal true}の場合、軽量化した例外をスローします。
+     */
+    public void setLightweightException(boolean lightweightException) {
+        this.lightweightException = lightweightException;
+    }
+    
+    /**
+     * 読み込み時に、文字列から変換した値をキャッシュする上限件数を取得します。
+     * <p>アノテーション{@link com.github.mygreen.supercsv.annotation.format.CsvParseCache}が付与されていない、
+     *    全てのカラムに適用されます。ただし、キャッシュの対象は不変なクラスタイプのカラムのみです。
+     * </p>
+     * <p>初期値は、{@literal 0}で、キャッシュを行いません。</p>
+     * @since 2.4
+     * @return キャッシュする値の上限件数。
+     */
+    public int getParseCacheSize() {
+        return parseCacheSize;
+    }
+    
+    /**
+     * 読み込み時に、文字列から変換した値をキャッシュする上限件数を設定します。
+     * <p>{@link CellProcessor}を組み立てる前に設定する必要があります。</p>
+     * @since 2.4
+     * @param parseCacheSize キャッシュする値の上限件数。0以下の場合は、キャッシュを行いません。
+     */
+    public void setParseCacheSize(int parseCacheSize) {
+        this.parseCacheSize = parseCacheSize;
+    }
+    
+    /**
+     * 値のユニーク性の検証に使用するブルームフィルタの設定を取得します。
+     * <p>アノテーション{@link com.github.mygreen.supercsv.annotation.constraint.CsvUnique}、
+     *    {@link com.github.mygreen.supercsv.annotation.constraint.CsvUniqueHashCode}のカラムに適用され、
+     *    同じ入力を2回読み込むことで、少ないメモリで重複を検証します。
+     *    ただし、{@link com.github.mygreen.supercsv.annotation.constraint.CsvUnique#storage()}を指定したカラムは対象外です。
+     * </p>
+     * <p>初期値は、{@literal null}で、ブルームフィルタを使用しません。</p>
+     * @since 2.4
+     * @return ブルームフィルタの設定。
+     */
+    public UniqueFilter getUniqueFilter() {
+        return uniqueFilter;
+    }
+    
+    /**
+     * 値のユニーク性の検証に使用するブルームフィルタの設定を設定します。
+     * <p>{@link CellProcessor}を組み立てる前に設定する必要があります。</p>
+     * @since 2.4
+     * @param uniqueFilter ブルームフィルタの設定。nullの場合は、使用しません。
+     */
+    public void setUniqueFilter(UniqueFilter uniqueFilter) {
+        this.uniqueFilter = uniqueFilter;
+    }
+    
+    /**
+     * 値のユニーク性の検証を、複数のスレッドから並列に実行するかどうかを取得します。
+     * <p>{@literal true}の場合、アノテーション{@link com.github.mygreen.supercsv.annotation.constraint.CsvUnique}、
+     *    {@link com.github.mygreen.supercsv.annotation.constraint.CsvUniqueHashCode}のカラムは、
+     *    検証済みの値の格納先を分割して排他制御を行います。
+     *    1つの{@link BeanMapping}を使用して、レコードを複数のスレッドで並列に処理する場合などに、スレッド間の競合を抑えることができます。
+     * </p>
+     * <p>ただし、{@link com.github.mygreen.supercsv.annotation.constraint.CsvUnique#storage()}で
+     *    {@literal OFF_HEAP}、{@literal DISK}を指定したカラムと、{@link #getUniqueFilter()}を設定した場合は対象外です。
+     * </p>
+     * <p>分割の有無によらず、重複としてエラーになるのは、同じ値のうち行番号が最も小さいレコード以外です。
+     *    {@link com.github.mygreen.supercsv.io.AbstractCsvAnnotationBeanReader#readParallel(java.util.concurrent.Executor, int, boolean, com.github.mygreen.supercsv.io.CsvSuccessHandler, com.github.mygreen.supercsv.io.CsvErrorHandler)}
+     *    で並列に読み込む場合も、重複の判定はレコードの順番に確定させます。
+     *    複数のファイルを同時に読み込む場合は、
+     *    {@link com.github.mygreen.supercsv.io.AbstractCsvAnnotationBeanReader#setSourceId(int)}でファイルごとに読み込み元の番号を設定すると、
+     *    異なるファイルの同じ行番号を区別します。
+     * </p>
+     * <p>初期値は、{@literal false}です。</p>
+     * @since 2.4
+     * @return {@literal true}の場合、格納先を分割して排他制御を行います。
+     */
+    public boolean isConcurrentUnique() {
+        return concurrentUnique;
+    }
+    
+    /**
+     * 値のユニーク性の検証を、複数のスレッドから並列に実行するかどうかを設定します。
+     * <p>{@link CellProcessor}を組み立てる前に設定する必要があります。</p>
+     * @since 2.4
+     * @param concurrentUnique {@literal true}の場合、格納先を分割して排他制御を行います。
+     */
+    public void setConcurrentUnique(boolean concurrentUnique) {
+        this.concurrentUnique = concurrentUnique;
+    }
+    
 }
@@ -17,6 +17,7 @@ import com.github.mygreen.supercsv.util.Utils;
 /**
  * フィールドに統一的にアクセスするためのクラス。
  *
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -286,6 +287,15 @@ public class FieldAccessor {
         return getType().getName();
     }
     
+    /**
+     * フィールドの実体を取得する。
+     * @since 2.4
+     * @return フィールド情報。
+     */
+    public Field getField() {
+        return field;
+    }
+    
     /**
      * フィールドが定義されているクラス情報を取得する。
      * 
@@ -0,0 +1,68 @@
+package com.github.mygreen.supercsv.builder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+import org.supercsv.exception.SuperCsvReflectionException;
+
+/**
+ * setter/getterを介さずに、フィールドに直接アクセスする方法。
+ * <p>フィールドに対する{@link MethodHandle}を作成時に1度だけ取得します。</p>
+ * <p>setter/getterを定義していないBeanや、setter/getter内で処理を行いたくない場合に利用します。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class FieldPropertyAccessStrategy implements PropertyAccessStrategy {
+    
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    
+    @Override
+    public PropertyAccessor create(final Class<?> beanType, final FieldAccessor field) {
+        
+        final Field original = field.getField();
+        original.setAccessible(true);
+        
+        return new MethodHandlePropertyAccessStrategy.HandleAccessor(beanType, field.getName(),
+                createGetterHandle(original), createSetterHandle(original));
+        
+    }
+    
+    /**
+     * フィールドの値を取得する{@link MethodHandle}を作成します。
+     * @param field フィールド情報
+     * @return {@literal (Object)Object}の型に変換したハンドル。
+     * @throws SuperCsvReflectionException ハンドルの作成に失敗した場合
+     */
+    protected MethodHandle createGetterHandle(final Field field) {
+        
+        try {
+            return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+            
+        } catch(IllegalAccessException | RuntimeException e) {
+            throw new SuperCsvReflectionException(String.format("fail create field handle for %s", field), e);
+        }
+    }
+    
+    /**
+     * フィールドの値を設定する{@link MethodHandle}を作成します。
+     * @param field フィールド情報
+     * @return {@literal (Object, Object)void}の型に変換したハンドル。
+     *         finalなフィールドなど値が設定できない場合は、nullを返します。
+     */
+    protected MethodHandle createSetterHandle(final Field field) {
+        
+        try {
+            return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+            
+        } catch(IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+    
+}
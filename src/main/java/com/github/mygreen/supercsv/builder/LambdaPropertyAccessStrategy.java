@@ -0,0 +1,209 @@
+package com.github.mygreen.supercsv.builder;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.supercsv.exception.SuperCsvReflectionException;
+
+/**
+ * setter/getterを{@link LambdaMetafactory}により関数に変換して呼び出すアクセス方法。
+ * <p>通常のメソッド呼び出しと同等にJITコンパイラによる最適化が効くため、最も高速です。</p>
+ * <p>ただし、Beanのクラスやメソッドが公開されていない場合や、
+ *    ライブラリとは異なるクラスローダから参照できないクラスの場合などは、
+ *    {@link MethodHandlePropertyAccessStrategy}と同じ方法で呼び出します。
+ * </p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class LambdaPropertyAccessStrategy extends MethodHandlePropertyAccessStrategy {
+    
+    private static final MethodType GETTER_SAM_TYPE = MethodType.methodType(Object.class, Object.class);
+    
+    private static final MethodType SETTER_SAM_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    
+    @Override
+    public PropertyAccessor create(final Class<?> beanType, final FieldAccessor field) {
+        
+        final String name = field.getName();
+        
+        final Optional<Method> getter = findGetter(beanType, name);
+        final Optional<Method> setter = findSetter(beanType, name, field.getType());
+        
+        if(!getter.map(m -> isLambdaAccessible(m)).orElse(true)
+                || !setter.map(m -> isLambdaAccessible(m)).orElse(true)) {
+            return super.create(beanType, field);
+        }
+        
+        try {
+            return new LambdaAccessor(beanType, name,
+                    getter.map(m -> createGetterFunction(m)).orElse(null),
+                    setter.map(m -> createSetterFunction(m)).orElse(null));
+            
+        } catch(SuperCsvReflectionException e) {
+            // 関数の作成に失敗した場合
+            return super.create(beanType, field);
+        }
+        
+    }
+    
+    /**
+     * 関数に変換可能なメソッドかどうか判定します。
+     * <p>生成される関数のクラスからアクセス可能である必要があるため、
+     *    メソッドと関連するクラスが全て公開されていて、ライブラリのクラスローダから参照できる必要があります。
+     * </p>
+     * @param method 判定対象のメソッド
+     * @return {@literal true}の場合、変換可能です。
+     */
+    protected boolean isLambdaAccessible(final Method method) {
+        
+        if(!Modifier.isPublic(method.getModifiers())) {
+            return false;
+        }
+        
+        if(!isVisibleClass(method.getDeclaringClass()) || !isVisibleClass(method.getReturnType())) {
+            return false;
+        }
+        
+        for(Class<?> parameterType : method.getParameterTypes()) {
+            if(!isVisibleClass(parameterType)) {
+                return false;
+            }
+        }
+        
+        return true;
+        
+    }
+    
+    private boolean isVisibleClass(final Class<?> clazz) {
+        
+        if(clazz.isPrimitive()) {
+            return true;
+        }
+        
+        if(clazz.isArray()) {
+            return isVisibleClass(clazz.getComponentType());
+        }
+        
+        if(!Modifier.isPublic(clazz.getModifiers())) {
+            return false;
+        }
+        
+        try {
+            return Class.forName(clazz.getName(), false, LambdaPropertyAccessStrategy.class.getClassLoader()) == clazz;
+        } catch(ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+        
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Function<Object, Object> createGetterFunction(final Method method) {
+        
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final MethodHandle impl = lookup.unreflect(method);
+            
+            final CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    GETTER_SAM_TYPE,
+                    impl,
+                    MethodType.methodType(impl.type().returnType(), method.getDeclaringClass()).wrap());
+            
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+            
+        } catch(Throwable e) {
+            throw new SuperCsvReflectionException(String.format("fail create getter function for %s", method), e);
+        }
+        
+    }
+    
+    @SuppressWarnings("unchecked")
+    private BiConsumer<Object, Object> createSetterFunction(final Method method) {
+        
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final MethodHandle impl = lookup.unreflect(method);
+            
+            final CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    SETTER_SAM_TYPE,
+                    impl,
+                    MethodType.methodType(void.class, method.getDeclaringClass(), method.getParameterTypes()[0]).wrap()
+                        .changeReturnType(void.class));
+            
+            return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+            
+        } catch(Throwable e) {
+            throw new SuperCsvReflectionException(String.format("fail create setter function for %s", method), e);
+        }
+        
+    }
+    
+    /**
+     * 関数を保持するアクセッサ。
+     *
+     */
+    static class LambdaAccessor implements PropertyAccessor {
+        
+        private final Class<?> beanType;
+        
+        private final String name;
+        
+        private final Function<Object, Object> getter;
+        
+        private final BiConsumer<Object, Object> setter;
+        
+        LambdaAccessor(final Class<?> beanType, final String name,
+                final Function<Object, Object> getter, final BiConsumer<Object, Object> setter) {
+            this.beanType = beanType;
+            this.name = name;
+            this.getter = getter;
+            this.setter = setter;
+        }
+        
+        @Override
+        public String getName() {
+            return name;
+        }
+        
+        @Override
+        public Object getValue(final Object bean) {
+            
+            if(getter == null) {
+                throw notFoundGetter(beanType, name);
+            }
+            
+            try {
+                return getter.apply(bean);
+            } catch(RuntimeException e) {
+                throw new SuperCsvReflectionException(String.format("error extracting bean value for field %s", name), e);
+            }
+        }
+        
+        @Override
+        public void setValue(final Object bean, final Object value) {
+            
+            if(setter == null) {
+                throw notFoundSetter(beanType, name);
+            }
+            
+            try {
+                setter.accept(bean, value);
+            } catch(RuntimeException e) {
+                throw new SuperCsvReflectionException(String.format("error invoking method set%s()", capitalize(name)), e);
+            }
+        }
+        
+    }
+    
+}
@@ -0,0 +1,272 @@
+package com.github.mygreen.supercsv.builder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.supercsv.exception.SuperCsvReflectionException;
+
+/**
+ * setter/getterを{@link MethodHandle}により呼び出すアクセス方法。
+ * <p>メソッドの探索は、作成時に1度だけ行い、レコードごとの探索とリフレクションによる呼び出しを省略します。</p>
+ * <p>メソッドの探索のルールは、Super CSVの{@link org.supercsv.util.ReflectionUtils}と同じです。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class MethodHandlePropertyAccessStrategy implements PropertyAccessStrategy {
+    
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    
+    /**
+     * プリミティブ型とラッパー型の対応
+     */
+    private static final Map<Class<?>, Class<?>> AUTOBOXING_CONVERTER = new HashMap<>();
+    static {
+        AUTOBOXING_CONVERTER.put(boolean.class, Boolean.class);
+        AUTOBOXING_CONVERTER.put(Boolean.class, boolean.class);
+        AUTOBOXING_CONVERTER.put(char.class, Character.class);
+        AUTOBOXING_CONVERTER.put(Character.class, char.class);
+        AUTOBOXING_CONVERTER.put(byte.class, Byte.class);
+        AUTOBOXING_CONVERTER.put(Byte.class, byte.class);
+        AUTOBOXING_CONVERTER.put(short.class, Short.class);
+        AUTOBOXING_CONVERTER.put(Short.class, short.class);
+        AUTOBOXING_CONVERTER.put(int.class, Integer.class);
+        AUTOBOXING_CONVERTER.put(Integer.class, int.class);
+        AUTOBOXING_CONVERTER.put(long.class, Long.class);
+        AUTOBOXING_CONVERTER.put(Long.class, long.class);
+        AUTOBOXING_CONVERTER.put(float.class, Float.class);
+        AUTOBOXING_CONVERTER.put(Float.class, float.class);
+        AUTOBOXING_CONVERTER.put(double.class, Double.class);
+        AUTOBOXING_CONVERTER.put(Double.class, double.class);
+    }
+    
+    @Override
+    public PropertyAccessor create(final Class<?> beanType, final FieldAccessor field) {
+        
+        final String name = field.getName();
+        
+        final Optional<Method> getter = findGetter(beanType, name);
+        final Optional<Method> setter = findSetter(beanType, name, field.getType());
+        
+        return new HandleAccessor(beanType, name,
+                getter.map(m -> createGetterHandle(m)).orElse(null),
+                setter.map(m -> createSetterHandle(m)).orElse(null));
+        
+    }
+    
+    /**
+     * getterメソッドを{@link MethodHandle}に変換します。
+     * @param method getterメソッド
+     * @return {@literal (Object)Object}の型に変換したハンドル。
+     */
+    protected MethodHandle createGetterHandle(final Method method) {
+        
+        try {
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method).asType(GETTER_TYPE);
+            
+        } catch(IllegalAccessException | RuntimeException e) {
+            throw new SuperCsvReflectionException(String.format("fail create method handle for %s", method), e);
+        }
+    }
+    
+    /**
+     * setterメソッドを{@link MethodHandle}に変換します。
+     * @param method setterメソッド
+     * @return {@literal (Object, Object)void}の型に変換したハンドル。
+     */
+    protected MethodHandle createSetterHandle(final Method method) {
+        
+        try {
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method).asType(SETTER_TYPE);
+            
+        } catch(IllegalAccessException | RuntimeException e) {
+            throw new SuperCsvReflectionException(String.format("fail create method handle for %s", method), e);
+        }
+    }
+    
+    /**
+     * getterメソッドを探索します。
+     * <p>{@literal get<フィールド名>}のメソッドを探し、存在しない場合は、
+     *    boolean型の{@literal is<フィールド名>}のメソッドを探します。
+     * </p>
+     *
+     * @param beanType Beanのクラスタイプ
+     * @param fieldName フィールド名
+     * @return 見つからない場合は空を返します。
+     */
+    protected static Optional<Method> findGetter(final Class<?> beanType, final String fieldName) {
+        
+        final Optional<Method> getter = findGetterWithCompatibleReturnType(beanType, methodName("get", fieldName), false);
+        if(getter.isPresent()) {
+            return getter;
+        }
+        
+        return findGetterWithCompatibleReturnType(beanType, methodName("is", fieldName), true);
+        
+    }
+    
+    private static Optional<Method> findGetterWithCompatibleReturnType(final Class<?> beanType, final String methodName,
+            final boolean booleanType) {
+        
+        for(Method method : beanType.getMethods()) {
+            
+            if(Modifier.isStatic(method.getModifiers())
+                    || !methodName.equalsIgnoreCase(method.getName()) || method.getParameterTypes().length != 0
+                    || method.getReturnType().equals(void.class)) {
+                continue;
+            }
+            
+            if(!booleanType || method.getReturnType().equals(boolean.class) || method.getReturnType().equals(Boolean.class)) {
+                return Optional.of(method);
+            }
+        }
+        
+        return Optional.empty();
+        
+    }
+    
+    /**
+     * setterメソッドを探索します。
+     * <p>引数がフィールドのタイプと一致するメソッドを探し、存在しない場合は、
+     *    プリミティブ型/ラッパー型を入れ替えたタイプ、さらに代入可能なタイプの順に探します。
+     * </p>
+     *
+     * @param beanType Beanのクラスタイプ
+     * @param fieldName フィールド名
+     * @param argumentType 引数のタイプ
+     * @return 見つからない場合は空を返します。
+     */
+    protected static Optional<Method> findSetter(final Class<?> beanType, final String fieldName, final Class<?> argumentType) {
+        
+        final String methodName = methodName("set", fieldName);
+        
+        Optional<Method> setter = findSetterWithCompatibleParamType(beanType, methodName, argumentType);
+        if(setter.isPresent()) {
+            return setter;
+        }
+        
+        final Class<?> autoboxingType = AUTOBOXING_CONVERTER.get(argumentType);
+        if(autoboxingType != null) {
+            setter = findSetterWithCompatibleParamType(beanType, methodName, autoboxingType);
+        }
+        
+        return setter;
+        
+    }
+    
+    private static Optional<Method> findSetterWithCompatibleParamType(final Class<?> beanType, final String methodName,
+            final Class<?> argumentType) {
+        
+        Method compatibleSetter = null;
+        for(Method method : beanType.getMethods()) {
+            
+            if(Modifier.isStatic(method.getModifiers())
+                    || !methodName.equalsIgnoreCase(method.getName()) || method.getParameterTypes().length != 1) {
+                continue;
+            }
+            
+            final Class<?> parameterType = method.getParameterTypes()[0];
+            if(parameterType.equals(argumentType)) {
+                return Optional.of(method);
+                
+            } else if(compatibleSetter == null && parameterType.isAssignableFrom(argumentType)) {
+                compatibleSetter = method;
+            }
+        }
+        
+        return Optional.ofNullable(compatibleSetter);
+        
+    }
+    
+    private static String methodName(final String prefix, final String fieldName) {
+        return prefix + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+    }
+    
+    /**
+     * {@link MethodHandle}を保持するアクセッサ。
+     *
+     */
+    static class HandleAccessor implements PropertyAccessor {
+        
+        private final Class<?> beanType;
+        
+        private final String name;
+        
+        private final MethodHandle getter;
+        
+        private final MethodHandle setter;
+        
+        HandleAccessor(final Class<?> beanType, final String name, final MethodHandle getter, final MethodHandle setter) {
+            this.beanType = beanType;
+            this.name = name;
+            this.getter = getter;
+            this.setter = setter;
+        }
+        
+        @Override
+        public String getName() {
+            return name;
+        }
+        
+        @Override
+        public Object getValue(final Object bean) {
+            
+            if(getter == null) {
+                throw notFoundGetter(beanType, name);
+            }
+            
+            try {
+                return (Object)getter.invokeExact(bean);
+            } catch(Error e) {
+                throw e;
+            } catch(Throwable e) {
+                throw new SuperCsvReflectionException(String.format("error extracting bean value for field %s", name), e);
+            }
+        }
+        
+        @Override
+        public void setValue(final Object bean, final Object value) {
+            
+            if(setter == null) {
+                throw notFoundSetter(beanType, name);
+            }
+            
+            try {
+                setter.invokeExact(bean, value);
+            } catch(Error e) {
+                throw e;
+            } catch(Throwable e) {
+                throw new SuperCsvReflectionException(String.format("error invoking method set%s()", capitalize(name)), e);
+            }
+        }
+        
+    }
+    
+    static SuperCsvReflectionException notFoundGetter(final Class<?> beanType, final String name) {
+        return new SuperCsvReflectionException(String.format(
+                "unable to find getter for field %s in class %s - check that the corresponding nameMapping element matches the field name in the bean",
+                name, beanType.getName()));
+    }
+    
+    static SuperCsvReflectionException notFoundSetter(final Class<?> beanType, final String name) {
+        return new SuperCsvReflectionException(String.format(
+                "unable to find method set%s() in class %s - check that the corresponding nameMapping element matches the field name in the bean",
+                capitalize(name), beanType.getName()));
+    }
+    
+    static String capitalize(final String name) {
+        return name.substring(0, 1).toUpperCase() + name.substring(1);
+    }
+    
+}
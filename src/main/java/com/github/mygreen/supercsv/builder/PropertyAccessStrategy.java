@@ -0,0 +1,32 @@
+package com.github.mygreen.supercsv.builder;
+
+import org.supercsv.exception.SuperCsvReflectionException;
+
+/**
+ * Beanのプロパティへのアクセス方法を決める戦略のインタフェース。
+ * <p>{@link Configuration#setPropertyAccessStrategy(PropertyAccessStrategy)}で切り替えます。</p>
+ * <p>標準で次の実装を提供しています。</p>
+ * <ul>
+ *   <li>{@link LambdaPropertyAccessStrategy} : setter/getterを{@link java.lang.invoke.LambdaMetafactory}により関数に変換して呼び出します。（デフォルト）</li>
+ *   <li>{@link MethodHandlePropertyAccessStrategy} : setter/getterを{@link java.lang.invoke.MethodHandle}により呼び出します。</li>
+ *   <li>{@link FieldPropertyAccessStrategy} : setter/getterを介さずに、フィールドに直接アクセスします。</li>
+ * </ul>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public interface PropertyAccessStrategy {
+    
+    /**
+     * カラムのフィールドに対するアクセッサを作成します。
+     * <p>setter/getterが存在しない場合でも例外はスローせず、アクセッサの利用時にスローします。</p>
+     * 
+     * @param beanType Beanのクラスタイプ。
+     * @param field カラムのフィールド情報。
+     * @return プロパティのアクセッサ。
+     * @throws SuperCsvReflectionException アクセッサの作成に失敗した場合。
+     */
+    PropertyAccessor create(Class<?> beanType, FieldAccessor field);
+    
+}
@@ -0,0 +1,39 @@
+package com.github.mygreen.supercsv.builder;
+
+import org.supercsv.exception.SuperCsvReflectionException;
+
+/**
+ * Beanのプロパティに対して値の取得・設定を行うためのインタフェース。
+ * <p>{@link PropertyAccessStrategy}により、カラムごとに1度だけ作成され、
+ *    レコードの読み書きのたびに再利用されます。
+ * </p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public interface PropertyAccessor {
+    
+    /**
+     * プロパティの名称を取得します。
+     * @return フィールド名
+     */
+    String getName();
+    
+    /**
+     * プロパティの値を取得します。
+     * @param bean Beanのインスタンス
+     * @return プロパティの値
+     * @throws SuperCsvReflectionException 値の取得に失敗した場合
+     */
+    Object getValue(Object bean);
+    
+    /**
+     * プロパティの値を設定します。
+     * @param bean Beanのインスタンス
+     * @param value 設定する値
+     * @throws SuperCsvReflectionException 値の設定に失敗した場合
+     */
+    void setValue(Object bean, Object value);
+    
+}
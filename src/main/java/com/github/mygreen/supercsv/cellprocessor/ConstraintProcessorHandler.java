@@ -23,6 +23,7 @@ import com.github.mygreen.supercsv.util.Utils;
 /**
  * フィールドに設定されている制約のアノテーションをハンドリングして、{@link CellProcessor}を作成する。
  * 
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -56,6 +57,7 @@ public class ConstraintProcessorHandler implements ProcessorFactory {
                 // 登録済みのものから取得する。
                 final ConstraintProcessorFactory factory = factoryMap.get(anno.annotationType());
                 cp = factory.create(anno, cp, field, formatter, config);
+                applyConfig(cp, config);
                 
             } else if(constraintAnno.value().length > 0) {
                 /*
@@ -66,6 +68,7 @@ public class ConstraintProcessorHandler implements ProcessorFactory {
                     final ConstraintProcessorFactory factory = 
                             (ConstraintProcessorFactory) config.getBeanFactory().create(factoryClass);
                     cp = factory.create(anno, cp, field, formatter, config);
+                    applyConfig(cp, config);
                 }
                 
             } else {
@@ -78,6 +81,18 @@ public class ConstraintProcessorHandler implements ProcessorFactory {
         return cp;
     }
     
+    /**
+     * 作成した{@link CellProcessor}に対して、システム設定を反映します。
+     * @param processor 作成した{@link CellProcessor}
+     * @param config システム設定
+     */
+    private void applyConfig(final Optional<CellProcessor> processor, final Configuration config) {
+        
+        processor.filter(p -> p instanceof ValidationCellProcessor)
+            .ifPresent(p -> ((ValidationCellProcessor)p).setLightweightException(config.isLightweightException()));
+        
+    }
+    
     /**
      * アノテーションに対する{@link ConstraintProcessorFactory}を登録する。
      *
@@ -10,7 +10,7 @@ import com.github.mygreen.supercsv.util.Utils;
 /**
  * 入力値検証用の{@link CellProcessor}のベースとなるクラス。
  * 
- * @version 2.0
+ * @version 2.4
  * @author T.TSUCHIE
  *
  */
@@ -21,6 +21,11 @@ public abstract class ValidationCellProcessor extends CellProcessorAdaptor {
      */
     protected String validationMessage;
     
+    /**
+     * 検証エラー時の例外を軽量化するかどうか
+     */
+    protected boolean lightweightException;
+    
     /**
      * チェインの最後に実行される{@link CellProcessor}のインスタンスを作成するコンストラクタ。
      */
@@ -54,6 +59,24 @@ public abstract class ValidationCellProcessor extends CellProcessorAdaptor {
         this.validationMessage = validationMessage;
     }
     
+    /**
+     * 検証エラー時の例外を軽量化するかどうかを取得します。
+     * @since 2.4
+     * @return {@literal true}の場合、スタックトレースを持たない軽量な例外を作成します。
+     */
+    public boolean isLightweightException() {
+        return lightweightException;
+    }
+    
+    /**
+     * 検証エラー時の例外を軽量化するかどうかを設定します。
+     * @since 2.4
+     * @param lightweightException {@literal true}の場合、スタックトレースを持たない軽量な例外を作成します。
+     */
+    public void setLightweightException(boolean lightweightException) {
+        this.lightweightException = lightweightException;
+    }
+    
     /**
      * 標準の検証用のメッセージを取得する。
      * @return {@literal {クラス名.violated}}の形式。
@@ -67,6 +90,7 @@ public abstract class ValidationCellProcessor extends CellProcessorAdaptor {
      * @param context CsvContext CSVのコンテキスト。
      * @return 予め検証用のメッセージは設定された状態で作成される。
      *         ただし、{@link #getValidationMessage()}がnullまたは空の場合、{@link #getDefaultValidationMessage()}が設定される。
+     *         また、{@link #isLightweightException()}の値に従い、軽量な例外とするかどうかが設定される。
      */
     public SuperCsvValidationException.Builder createValidationException(final CsvContext context) {
         
@@ -76,6 +100,7 @@ public abstract class ValidationCellProcessor extends CellProcessorAdaptor {
         }
         
         return new SuperCsvValidationException.Builder(context, this)
+                .lightweight(lightweightException)
                 .validationMessage(message);
     }
     
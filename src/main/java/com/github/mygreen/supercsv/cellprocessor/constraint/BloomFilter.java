@@ -0,0 +1,86 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+/**
+ * 値が既に追加されたかどうかを、少ないメモリで判定するブルームフィルタ。
+ * <p>「追加されていない」という判定は確実ですが、「追加された可能性がある」という判定には誤検出を含みます。</p>
+ * <p>値は、64bitのハッシュ値として受け取ります。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+final class BloomFilter {
+    
+    /**
+     * ビット配列の最大の長さ
+     */
+    private static final long MAX_BITS = (long)Integer.MAX_VALUE * Long.SIZE;
+    
+    private final long[] bits;
+    
+    private final long bitSize;
+    
+    private final int hashCount;
+    
+    /**
+     * 想定する件数と誤検出率から、インスタンスを作成します。
+     * @param expectedInsertions 追加する値の想定件数
+     * @param falsePositiveProbability 想定件数を追加したときの誤検出率
+     */
+    BloomFilter(final long expectedInsertions, final double falsePositiveProbability) {
+        
+        final long n = Math.max(expectedInsertions, 1L);
+        final double ln2 = Math.log(2);
+        
+        final long m = (long)Math.ceil(-n * Math.log(falsePositiveProbability) / (ln2 * ln2));
+        final long words = (Math.min(Math.max(m, Long.SIZE), MAX_BITS) + Long.SIZE - 1) / Long.SIZE;
+        
+        this.bits = new long[(int)words];
+        this.bitSize = words * Long.SIZE;
+        this.hashCount = Math.max(1, (int)Math.round((double)bitSize / n * ln2));
+    }
+    
+    /**
+     * ハッシュ値を追加します。
+     * @param hash 追加する値のハッシュ値
+     * @return 既に追加された可能性がある場合、trueを返します。
+     */
+    boolean put(final long hash) {
+        
+        // ダブルハッシュ法により、2つのハッシュ値から必要な数のビット位置を求める。
+        final long h1 = LongUniqueStore.hash(hash);
+        final long h2 = LongUniqueStore.hash(h1) | 1L;
+        
+        boolean present = true;
+        long combined = h1;
+        for(int i=0; i < hashCount; i++) {
+            final long index = (combined & Long.MAX_VALUE) % bitSize;
+            final int word = (int)(index >>> 6);
+            final long mask = 1L << index;
+            if((bits[word] & mask) == 0L) {
+                bits[word] |= mask;
+                present = false;
+            }
+            combined += h2;
+        }
+        
+        return present;
+    }
+    
+    /**
+     * ビット配列の長さを取得します。
+     * @return ビット数
+     */
+    long bitSize() {
+        return bitSize;
+    }
+    
+    /**
+     * 1つの値に対して参照するビットの数を取得します。
+     * @return ハッシュ関数の数
+     */
+    int hashCount() {
+        return hashCount;
+    }
+    
+}
@@ -0,0 +1,66 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+/**
+ * ブルームフィルタで絞り込んだ重複の候補のハッシュ値のみを、正確に保持する{@link UniqueKeyStore}。
+ * <p>読み込みの段階は、{@link UniqueFilter}で切り替えます。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+class BloomKeyStore implements UniqueKeyStore {
+    
+    private final UniqueFilter filter;
+    
+    private BloomFilter bloomFilter;
+    
+    /**
+     * 1回目の読み込みで、ブルームフィルタが既に追加された可能性があると判定したハッシュ値
+     */
+    private final LongUniqueStore<Object> candidates = new LongUniqueStore<>(LongUniqueStore.TableType.ARRAY);
+    
+    /**
+     * 2回目の読み込みで検証した、重複の候補のハッシュ値
+     */
+    private final LongUniqueStore<Object> confirmed = new LongUniqueStore<>(LongUniqueStore.TableType.ARRAY);
+    
+    BloomKeyStore(final UniqueFilter filter) {
+        this.filter = filter;
+        this.bloomFilter = filter.createBloomFilter();
+    }
+    
+    @Override
+    public UniquePosition putKeyIfAbsent(final long key, final UniquePosition position) {
+        
+        if(filter.getPhase() == UniqueFilter.Phase.COLLECT) {
+            if(bloomFilter.put(key)) {
+                candidates.putKeyIfAbsent(key, position);
+            }
+            return null;
+        }
+        
+        // 2回目の読み込みでは、ブルームフィルタは不要
+        this.bloomFilter = null;
+        
+        if(!candidates.containsKey(key)) {
+            return null;
+        }
+        
+        return confirmed.putKeyIfAbsent(key, position);
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>1回目の読み込みでは、重複の判定を行わないため、常にnullを返します。</p>
+     */
+    @Override
+    public UniquePosition positionOfKey(final long key) {
+        
+        if(filter.getPhase() == UniqueFilter.Phase.COLLECT) {
+            return null;
+        }
+        
+        return confirmed.positionOfKey(key);
+    }
+    
+}
@@ -0,0 +1,93 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * ブルームフィルタで絞り込んだ重複の候補のみを、正確に保持する{@link UniqueStore}。
+ * <p>読み込みの段階は、{@link UniqueFilter}で切り替えます。</p>
+ * <p>ブルームフィルタには、値から算出した64ビットのハッシュ値を追加します。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+class BloomUniqueStore<T> implements UniqueStore<T> {
+    
+    private final UniqueFilter filter;
+    
+    private BloomFilter bloomFilter;
+    
+    /**
+     * ブルームフィルタに追加する、64ビットのハッシュ値の算出処理
+     */
+    private final ToLongFunction<T> hasher;
+    
+    /**
+     * 1回目の読み込みで、ブルームフィルタが既に追加された可能性があると判定した値
+     */
+    private final Set<T> candidates = new HashSet<>();
+    
+    /**
+     * 2回目の読み込みで検証した、重複の候補の値
+     */
+    private final UniqueStore<T> confirmed = UniqueStore.heap();
+    
+    BloomUniqueStore(final UniqueFilter filter, final ToLongFunction<T> hasher) {
+        this.filter = filter;
+        this.hasher = hasher;
+        this.bloomFilter = filter.createBloomFilter();
+    }
+    
+    @Override
+    public UniquePosition putIfAbsent(final T value, final UniquePosition position) {
+        
+        if(filter.getPhase() == UniqueFilter.Phase.COLLECT) {
+            if(bloomFilter.put(hasher.applyAsLong(value))) {
+                candidates.add(value);
+            }
+            return null;
+        }
+        
+        // 2回目の読み込みでは、ブルームフィルタは不要
+        this.bloomFilter = null;
+        
+        if(!candidates.contains(value)) {
+            return null;
+        }
+        
+        return confirmed.putIfAbsent(value, position);
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>1回目の読み込みでは、重複の判定を行わないため、常にnullを返します。</p>
+     */
+    @Override
+    public UniquePosition positionOf(final T value) {
+        
+        if(filter.getPhase() == UniqueFilter.Phase.COLLECT) {
+            return null;
+        }
+        
+        return confirmed.positionOf(value);
+    }
+    
+    /**
+     * 正確に保持している重複の候補の件数を取得します。
+     * @return 重複の候補の件数
+     */
+    @Override
+    public long size() {
+        return candidates.size();
+    }
+    
+    @Override
+    public void close() {
+        this.bloomFilter = null;
+        candidates.clear();
+        confirmed.close();
+    }
+    
+}
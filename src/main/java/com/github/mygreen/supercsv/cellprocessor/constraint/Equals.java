@@ -1,6 +1,10 @@
 package com.github.mygreen.supercsv.cellprocessor.constraint;
 
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.supercsv.cellprocessor.ift.CellProcessor;
@@ -12,7 +16,12 @@ import com.github.mygreen.supercsv.cellprocessor.format.TextPrinter;
 
 /**
  * 指定した値と等しいか検証するCellProcessor
+ * <p>値の判定は、インスタンスの作成時に作成したハッシュテーブルで行うため、値の件数によらず一定の時間で検証します。
+ *    整数型の場合は、プリミティブ型のハッシュテーブルを使用します。
+ * </p>
+ * <p>エラーメッセージに使用する、値をフォーマットして連結した文字列は、最初に検証エラーとなったときに作成します。</p>
  * 
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -21,10 +30,20 @@ public class Equals<T> extends ValidationCellProcessor {
     
     private final Class<T> type;
     
-    private final Collection<T> equaledValues;
+    private final List<T> equaledValues;
+    
+    /**
+     * 値が含まれるか判定する処理
+     */
+    private final Predicate<Object> equaledValueSet;
     
     private final TextPrinter<T> printer; 
     
+    /**
+     * 値をフォーマットして連結した文字列。エラー時に作成する。
+     */
+    private volatile String joinedFormattedValues;
+    
     public Equals(final Class<T> type, final Collection<T> equaledValues, final TextPrinter<T> printer) {
         super();
         checkPreconditions(type, equaledValues, printer);
@@ -32,6 +51,7 @@ public class Equals<T> extends ValidationCellProcessor {
         this.equaledValues = equaledValues.stream()
                 .distinct()
                 .collect(Collectors.toList());
+        this.equaledValueSet = createValueSet(type, this.equaledValues);
         this.printer = printer;
     }
     
@@ -42,6 +62,7 @@ public class Equals<T> extends ValidationCellProcessor {
         this.equaledValues = equaledValues.stream()
                 .distinct()
                 .collect(Collectors.toList());
+        this.equaledValueSet = createValueSet(type, this.equaledValues);
         this.printer = printer;
     }
     
@@ -51,6 +72,34 @@ public class Equals<T> extends ValidationCellProcessor {
         }
     }
     
+    /**
+     * 値が含まれるか判定する処理を作成します。
+     * <p>整数型の場合は、値をlong型のまま格納するハッシュテーブルを使用します。</p>
+     */
+    private static <T> Predicate<Object> createValueSet(final Class<T> type, final List<T> values) {
+        
+        if(isIntegralType(type)) {
+            final LongUniqueStore<Object> valueSet = new LongUniqueStore<>(LongUniqueStore.TableType.ARRAY);
+            final UniquePosition position = new UniquePosition(0, 0, 0);
+            for(T value : values) {
+                if(value != null) {
+                    valueSet.putKeyIfAbsent(((Number)value).longValue(), position);
+                }
+            }
+            return value -> valueSet.containsKey(((Number)value).longValue());
+        }
+        
+        final Set<T> valueSet = new HashSet<>(values);
+        return valueSet::contains;
+    }
+    
+    private static boolean isIntegralType(final Class<?> type) {
+        return Byte.class.equals(type) || byte.class.equals(type)
+                || Short.class.equals(type) || short.class.equals(type)
+                || Integer.class.equals(type) || int.class.equals(type)
+                || Long.class.equals(type) || long.class.equals(type);
+    }
+    
     @SuppressWarnings("unchecked")
     @Override
     public Object execute(final Object value, final CsvContext context) {
@@ -64,15 +113,12 @@ public class Equals<T> extends ValidationCellProcessor {
         
         final T result = (T) value;
         
-        if(!equaledValues.isEmpty() && !equaledValues.contains(value)) {
+        if(!equaledValues.isEmpty() && !equaledValueSet.test(value)) {
             final String formattedValue = printer.print(result);
-            final String joinedFormattedValues = equaledValues.stream()
-                    .map(v -> printer.print(v))
-                    .collect(Collectors.joining(", "));
             
             throw createValidationException(context)
                 .rejectedValue(result)
-                .messageFormat("'%s' is not equals any of [%s].", formattedValue, joinedFormattedValues)
+                .messageFormat("'%s' is not equals any of [%s].", formattedValue, getJoinedFormattedValues())
                 .messageVariables("equalsValues", equaledValues)
                 .messageVariables("printer", getPrinter())
                 .build();
@@ -81,6 +127,22 @@ public class Equals<T> extends ValidationCellProcessor {
         return next.execute(value, context);
     }
     
+    /**
+     * 値をフォーマットして連結した文字列を取得する。
+     * <p>最初に呼び出されたときに作成し、以降は同じ文字列を返します。</p>
+     * @return 値をカンマ区切りで連結した文字列
+     */
+    private String getJoinedFormattedValues() {
+        String joined = joinedFormattedValues;
+        if(joined == null) {
+            joined = equaledValues.stream()
+                    .map(v -> printer.print(v))
+                    .collect(Collectors.joining(", "));
+            this.joinedFormattedValues = joined;
+        }
+        return joined;
+    }
+    
     /**
      * 値のプロバイダを取得する。
      * @return コンストラクタで渡されたプロバイダ。
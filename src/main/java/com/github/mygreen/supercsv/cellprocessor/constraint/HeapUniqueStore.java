@@ -0,0 +1,44 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ヒープ上の{@link HashMap}に、値のオブジェクトをそのまま格納する{@link UniqueStore}。
+ * <p>全てのクラスタイプで使用できます。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+class HeapUniqueStore<T> implements UniqueStore<T> {
+    
+    private final Map<T, UniquePosition> encounteredElements = new HashMap<>();
+    
+    @Override
+    public UniquePosition putIfAbsent(final T value, final UniquePosition position) {
+        
+        final UniquePosition duplicated = encounteredElements.putIfAbsent(value, position);
+        if(duplicated == null) {
+            return null;
+        }
+        
+        if(position.isSameSource(duplicated) && position.compareTo(duplicated) < 0) {
+            encounteredElements.put(value, position);
+        }
+        
+        return duplicated;
+        
+    }
+    
+    @Override
+    public UniquePosition positionOf(final T value) {
+        return encounteredElements.get(value);
+    }
+    
+    @Override
+    public long size() {
+        return encounteredElements.size();
+    }
+    
+}
@@ -0,0 +1,659 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * 整数値を、オープンアドレス法のハッシュテーブルに格納する{@link UniqueStore}。
+ * <p>値ごとのオブジェクトを作成せず、キーと位置情報のみをlong値として保持します。
+ *    位置情報の読み込み元の番号は、0以外の番号が格納されたときに、それを保持する領域をハッシュテーブルに追加します。
+ *    そのため、読み込み元を区別しない場合は、使用するメモリは増えません。
+ * </p>
+ * <p>ハッシュテーブルの領域は、{@link TableType}により、ヒープ上の配列、ヒープ外のメモリ、メモリにマッピングした一時ファイルから選択します。
+ * </p>
+ * <p>値は{@link Number#longValue()}で変換するため、整数型のみに対応します。</p>
+ * <p>ハッシュテーブルを拡張したときや{@link #close()}を呼び出したときは、使用しなくなった領域を直ちに解放します。
+ *    ヒープ外のメモリやマッピングした領域は、GCで回収されるまで解放されないためです。
+ * </p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+class LongUniqueStore<T> implements UniqueStore<T>, UniqueKeyStore {
+    
+    /**
+     * ハッシュテーブルの領域の種類
+     */
+    enum TableType {
+        
+        /** ヒープ上のlong型の配列 */
+        ARRAY,
+        
+        /** ヒープ外のメモリ */
+        DIRECT_BUFFER,
+        
+        /** メモリにマッピングした一時ファイル */
+        MAPPED_FILE,
+        ;
+    }
+    
+    /**
+     * ハッシュテーブルの初期の大きさの最小値
+     */
+    private static final long INITIAL_CAPACITY = 1L << 10;
+    
+    /**
+     * ハッシュテーブルの大きさの最大値
+     */
+    private static final long MAX_CAPACITY = 1L << 40;
+    
+    private final TableType tableType;
+    
+    private Table table;
+    
+    private long size;
+    
+    /**
+     * ハッシュテーブルを拡張する件数
+     */
+    private long threshold;
+    
+    LongUniqueStore(final TableType tableType) {
+        this(tableType, 0L);
+    }
+    
+    /**
+     * 想定件数を指定して、ハッシュテーブルの大きさを事前に確保します。
+     * @param tableType ハッシュテーブルの領域の種類
+     * @param expectedSize 格納する値の想定件数。0以下の場合は、最小の大きさで作成します。
+     */
+    LongUniqueStore(final TableType tableType, final long expectedSize) {
+        this.tableType = tableType;
+        
+        final long capacity = capacityOf(expectedSize);
+        this.table = createTable(capacity, false);
+        this.threshold = thresholdOf(capacity);
+    }
+    
+    /**
+     * 想定件数を、拡張せずに格納できるハッシュテーブルの大きさを求めます。
+     * @param expectedSize 格納する値の想定件数
+     * @return 2のべき乗の値
+     */
+    static long capacityOf(final long expectedSize) {
+        
+        // 負荷率0.75で拡張しない大きさ
+        final long required = expectedSize + expectedSize / 3L + 1L;
+        if(expectedSize <= 0L || required <= INITIAL_CAPACITY) {
+            return INITIAL_CAPACITY;
+        }
+        
+        if(required > MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        
+        return Long.highestOneBit(required - 1L) << 1;
+    }
+    
+    @Override
+    public UniquePosition putIfAbsent(final T value, final UniquePosition position) {
+        return putKeyIfAbsent(((Number)value).longValue(), position);
+    }
+    
+    @Override
+    public UniquePosition positionOf(final T value) {
+        return positionOfKey(((Number)value).longValue());
+    }
+    
+    @Override
+    public UniquePosition putKeyIfAbsent(final long key, final UniquePosition position) {
+        
+        checkOpen();
+        
+        if(position.getSourceId() != 0 && !table.hasSources()) {
+            this.table = table.withSources();
+        }
+        
+        if(size >= threshold) {
+            resize();
+        }
+        
+        final UniquePosition found = insert(table, key, packPosition(position), position.getSourceId());
+        if(found == null) {
+            size++;
+        }
+        
+        return found;
+    }
+    
+    @Override
+    public UniquePosition positionOfKey(final long key) {
+        
+        checkOpen();
+        
+        final long index = indexOf(key);
+        if(index < 0L) {
+            return null;
+        }
+        
+        return unpackPosition(table.source(index), table.value(index));
+    }
+    
+    /**
+     * ハッシュテーブルに値を挿入します。
+     * <p>位置情報は、空きを表す0と区別するために、1を加えて格納します。</p>
+     * <p>既に格納されている場合で、指定した位置が同じ読み込み元のより前の位置のときは、位置情報を更新します。</p>
+     * @return 既に格納されている場合は、更新する前の位置。
+     */
+    private static UniquePosition insert(final Table table, final long key, final long value, final int source) {
+        
+        final long mask = table.capacity() - 1L;
+        long index = hash(key) & mask;
+        while(true) {
+            final long stored = table.value(index);
+            if(stored == 0L) {
+                table.set(index, key, value, source);
+                return null;
+            }
+            
+            if(table.key(index) == key) {
+                final int storedSource = table.source(index);
+                if(source == storedSource && value < stored) {
+                    table.set(index, key, value, source);
+                }
+                return unpackPosition(storedSource, stored);
+            }
+            
+            index = (index + 1L) & mask;
+        }
+    }
+    
+    /**
+     * 行番号とレコード番号を、1を加えた1つのlong値にまとめます。
+     * <p>行番号を上位に配置するため、同じ読み込み元の位置は、long値の大小で前後を比較できます。</p>
+     */
+    private static long packPosition(final UniquePosition position) {
+        return (((long)position.getLineNumber() << 32) | (position.getRowNumber() & 0xFFFFFFFFL)) + 1L;
+    }
+    
+    private static UniquePosition unpackPosition(final int source, final long value) {
+        final long position = value - 1L;
+        return new UniquePosition(source, (int)(position >>> 32), (int)position);
+    }
+    
+    /**
+     * long値のキーが格納されているかどうか判定します。
+     * @param key 判定するキー
+     * @return 格納されている場合、trueを返します。
+     */
+    boolean containsKey(final long key) {
+        
+        checkOpen();
+        
+        return indexOf(key) >= 0L;
+    }
+    
+    /**
+     * long値のキーを格納している位置を探します。
+     * @param key 探すキー
+     * @return 格納されていない場合は、-1を返します。
+     */
+    private long indexOf(final long key) {
+        
+        final long mask = table.capacity() - 1L;
+        long index = hash(key) & mask;
+        while(true) {
+            if(table.value(index) == 0L) {
+                return -1L;
+            }
+            
+            if(table.key(index) == key) {
+                return index;
+            }
+            
+            index = (index + 1L) & mask;
+        }
+    }
+    
+    private void resize() {
+        
+        final long capacity = table.capacity() * 2L;
+        final Table newTable = createTable(capacity, table.hasSources());
+        
+        final long oldCapacity = table.capacity();
+        for(long i=0; i < oldCapacity; i++) {
+            final long stored = table.value(i);
+            if(stored != 0L) {
+                insert(newTable, table.key(i), stored, table.source(i));
+            }
+        }
+        
+        // 拡張前の領域は、GCを待たずに解放する
+        table.release();
+        
+        this.table = newTable;
+        this.threshold = thresholdOf(capacity);
+    }
+    
+    private void checkOpen() {
+        if(table == null) {
+            throw new IllegalStateException("store has already been closed.");
+        }
+    }
+    
+    private static long thresholdOf(final long capacity) {
+        // 負荷率は0.75
+        return capacity - (capacity >>> 2);
+    }
+    
+    /**
+     * MurmurHash3の最終処理により、連番の値をハッシュテーブル全体に分散させます。
+     */
+    static long hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+    
+    /**
+     * ハッシュテーブルの領域を作成します。
+     * @param capacity ハッシュテーブルの大きさ
+     * @param withSources 読み込み元の番号を保持する領域を含めるかどうか
+     */
+    private Table createTable(final long capacity, final boolean withSources) {
+        
+        switch(tableType) {
+            case ARRAY:
+                final ArrayTable arrayTable = new ArrayTable(capacity);
+                return withSources ? arrayTable.withSources() : arrayTable;
+            case DIRECT_BUFFER:
+                return BufferTable.allocateDirect(capacity, withSources);
+            case MAPPED_FILE:
+                return BufferTable.mapTempFile(capacity, withSources);
+            default:
+                throw new IllegalStateException("unknown table type : " + tableType);
+        }
+    }
+    
+    @Override
+    public long size() {
+        return size;
+    }
+    
+    @Override
+    public boolean isConcurrent() {
+        return false;
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>ヒープ外のメモリやマッピングした一時ファイルの領域を解放します。</p>
+     */
+    @Override
+    public void close() {
+        if(table != null) {
+            table.release();
+            this.table = null;
+        }
+    }
+    
+    /**
+     * ハッシュテーブルの領域。
+     * <p>1つの要素は、キーと、1を加えた位置情報から構成されます。位置情報が0の場合は空きを表します。
+     *    読み込み元の番号を保持する領域を追加した場合は、要素に読み込み元の番号を含めます。
+     * </p>
+     */
+    private static interface Table {
+        
+        long capacity();
+        
+        long key(long index);
+        
+        long value(long index);
+        
+        /**
+         * 読み込み元の番号を取得します。
+         * @return 読み込み元の番号を保持していない場合は、0を返します。
+         */
+        int source(long index);
+        
+        void set(long index, long key, long value, int source);
+        
+        /**
+         * 読み込み元の番号を保持する領域があるかどうか。
+         */
+        boolean hasSources();
+        
+        /**
+         * 読み込み元の番号を保持する領域を追加します。
+         * <p>領域を作成し直した場合は、元の領域は解放します。</p>
+         * @return 領域を追加したハッシュテーブル
+         */
+        Table withSources();
+        
+        /**
+         * 領域を解放します。解放した後は、領域にアクセスしてはいけません。
+         */
+        void release();
+        
+    }
+    
+    /**
+     * ヒープ上の配列によるハッシュテーブルの領域。
+     */
+    private static final class ArrayTable implements Table {
+        
+        private static final long MAX_CAPACITY = 1L << 30;
+        
+        private final long[] keys;
+        
+        private final long[] values;
+        
+        /**
+         * 読み込み元の番号。0以外の番号を格納するまでは作成しない。
+         */
+        private int[] sources;
+        
+        private ArrayTable(final long capacity) {
+            if(capacity > MAX_CAPACITY) {
+                throw new IllegalStateException("too many values for compact storage : " + capacity);
+            }
+            this.keys = new long[(int)capacity];
+            this.values = new long[(int)capacity];
+        }
+        
+        @Override
+        public long capacity() {
+            return keys.length;
+        }
+        
+        @Override
+        public long key(final long index) {
+            return keys[(int)index];
+        }
+        
+        @Override
+        public long value(final long index) {
+            return values[(int)index];
+        }
+        
+        @Override
+        public int source(final long index) {
+            return sources == null ? 0 : sources[(int)index];
+        }
+        
+        @Override
+        public void set(final long index, final long key, final long value, final int source) {
+            keys[(int)index] = key;
+            values[(int)index] = value;
+            if(sources != null) {
+                sources[(int)index] = source;
+            }
+        }
+        
+        @Override
+        public boolean hasSources() {
+            return sources != null;
+        }
+        
+        @Override
+        public Table withSources() {
+            if(sources == null) {
+                this.sources = new int[keys.length];
+            }
+            return this;
+        }
+        
+        @Override
+        public void release() {
+            // GCで回収される
+        }
+        
+    }
+    
+    /**
+     * {@link ByteBuffer}によるハッシュテーブルの領域。
+     * <p>1つの{@link ByteBuffer}の大きさには上限があるため、複数に分割して保持します。</p>
+     */
+    private static final class BufferTable implements Table {
+        
+        /** 1要素のバイト数（キーと位置情報） */
+        private static final int ENTRY_BYTES = 16;
+        
+        /** 読み込み元の番号を含める場合の1要素のバイト数（キーと位置情報と読み込み元の番号） */
+        private static final int ENTRY_BYTES_WITH_SOURCE = 24;
+        
+        /** 1つのバッファに格納する要素数 */
+        private static final int CHUNK_SHIFT = 26;
+        
+        private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1L;
+        
+        /**
+         * ダイレクトバッファを、GCを待たずに解放する処理
+         */
+        private static final Consumer<ByteBuffer> UNMAPPER = createUnmapper();
+        
+        private final long capacity;
+        
+        private final ByteBuffer[] chunks;
+        
+        /**
+         * 1要素のバイト数
+         */
+        private final int entryBytes;
+        
+        /**
+         * マッピングした一時ファイル。ダイレクトバッファの場合はnull。
+         */
+        private final Path file;
+        
+        private BufferTable(final long capacity, final ByteBuffer[] chunks, final int entryBytes, final Path file) {
+            this.capacity = capacity;
+            this.chunks = chunks;
+            this.entryBytes = entryBytes;
+            this.file = file;
+        }
+        
+        /**
+         * ダイレクトバッファを解放する処理を作成します。
+         * <p>JDKのバージョンにより解放方法が異なるため、リフレクションで呼び出します。
+         *    解放できない環境の場合は、GCで回収されるまで待ちます。
+         * </p>
+         */
+        private static Consumer<ByteBuffer> createUnmapper() {
+            
+            try {
+                // Java9以降
+                final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+                final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                final Object unsafe = theUnsafe.get(null);
+                
+                return buffer -> invokeQuietly(invokeCleaner, unsafe, buffer);
+                
+            } catch(ReflectiveOperationException | RuntimeException e) {
+                // Java8
+            }
+            
+            try {
+                final Method cleanerMethod = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+                final Method cleanMethod = Class.forName("sun.misc.Cleaner").getMethod("clean");
+                
+                return buffer -> {
+                    final Object cleaner = invokeQuietly(cleanerMethod, buffer);
+                    if(cleaner != null) {
+                        invokeQuietly(cleanMethod, cleaner);
+                    }
+                };
+                
+            } catch(ReflectiveOperationException | RuntimeException e) {
+                return buffer -> {};
+            }
+            
+        }
+        
+        private static Object invokeQuietly(final Method method, final Object target, final Object... args) {
+            try {
+                return method.invoke(target, args);
+            } catch(ReflectiveOperationException | RuntimeException e) {
+                return null;
+            }
+        }
+        
+        private static int chunkCount(final long capacity) {
+            return (int)((capacity + CHUNK_MASK) >>> CHUNK_SHIFT);
+        }
+        
+        private static long chunkEntries(final long capacity) {
+            return Math.min(capacity, 1L << CHUNK_SHIFT);
+        }
+        
+        private static int entryBytes(final boolean withSources) {
+            return withSources ? ENTRY_BYTES_WITH_SOURCE : ENTRY_BYTES;
+        }
+        
+        static BufferTable allocateDirect(final long capacity, final boolean withSources) {
+            
+            final int entryBytes = entryBytes(withSources);
+            final ByteBuffer[] chunks = new ByteBuffer[chunkCount(capacity)];
+            final int chunkBytes = (int)(chunkEntries(capacity) * entryBytes);
+            for(int i=0; i < chunks.length; i++) {
+                chunks[i] = ByteBuffer.allocateDirect(chunkBytes).order(ByteOrder.nativeOrder());
+            }
+            
+            return new BufferTable(capacity, chunks, entryBytes, null);
+        }
+        
+        static BufferTable mapTempFile(final long capacity, final boolean withSources) {
+            
+            final int entryBytes = entryBytes(withSources);
+            final ByteBuffer[] chunks = new ByteBuffer[chunkCount(capacity)];
+            final long chunkBytes = chunkEntries(capacity) * entryBytes;
+            final Path file;
+            try {
+                file = Files.createTempFile("super-csv-unique", ".tmp");
+                
+                // マッピングした領域は、チャネルを閉じた後も有効。
+                try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                        StandardOpenOption.DELETE_ON_CLOSE)) {
+                    for(int i=0; i < chunks.length; i++) {
+                        chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, i * chunkBytes, chunkBytes)
+                                .order(ByteOrder.nativeOrder());
+                    }
+                }
+                
+            } catch(IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            
+            return new BufferTable(capacity, chunks, entryBytes, file);
+        }
+        
+        @Override
+        public long capacity() {
+            return capacity;
+        }
+        
+        private int offset(final long index) {
+            return (int)((index & CHUNK_MASK) * entryBytes);
+        }
+        
+        @Override
+        public long key(final long index) {
+            return chunks[(int)(index >>> CHUNK_SHIFT)].getLong(offset(index));
+        }
+        
+        @Override
+        public long value(final long index) {
+            return chunks[(int)(index >>> CHUNK_SHIFT)].getLong(offset(index) + 8);
+        }
+        
+        @Override
+        public int source(final long index) {
+            if(entryBytes == ENTRY_BYTES) {
+                return 0;
+            }
+            return chunks[(int)(index >>> CHUNK_SHIFT)].getInt(offset(index) + 16);
+        }
+        
+        @Override
+        public void set(final long index, final long key, final long value, final int source) {
+            final ByteBuffer chunk = chunks[(int)(index >>> CHUNK_SHIFT)];
+            final int offset = offset(index);
+            chunk.putLong(offset, key);
+            chunk.putLong(offset + 8, value);
+            if(entryBytes != ENTRY_BYTES) {
+                chunk.putInt(offset + 16, source);
+            }
+        }
+        
+        @Override
+        public boolean hasSources() {
+            return entryBytes != ENTRY_BYTES;
+        }
+        
+        /**
+         * {@inheritDoc}
+         * <p>1要素のバイト数が変わるため、同じ大きさの領域を作成し直して、要素をコピーします。</p>
+         */
+        @Override
+        public Table withSources() {
+            
+            if(hasSources()) {
+                return this;
+            }
+            
+            final BufferTable newTable = (file == null) ? allocateDirect(capacity, true) : mapTempFile(capacity, true);
+            for(long i=0; i < capacity; i++) {
+                final long value = value(i);
+                if(value != 0L) {
+                    newTable.set(i, key(i), value, 0);
+                }
+            }
+            
+            release();
+            return newTable;
+        }
+        
+        /**
+         * {@inheritDoc}
+         * <p>マッピングした一時ファイルは、チャネルを閉じたときに削除されますが、
+         *    マッピング中に削除できない環境のため、解放後に再度削除します。
+         * </p>
+         */
+        @Override
+        public void release() {
+            
+            for(int i=0; i < chunks.length; i++) {
+                if(chunks[i] != null) {
+                    UNMAPPER.accept(chunks[i]);
+                    chunks[i] = null;
+                }
+            }
+            
+            if(file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch(IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+        
+    }
+    
+}
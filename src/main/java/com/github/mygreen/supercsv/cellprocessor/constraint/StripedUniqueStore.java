@@ -0,0 +1,106 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+import java.util.function.Supplier;
+
+/**
+ * 格納先を複数の領域に分割し、領域ごとに排他制御を行う{@link UniqueStore}。
+ * <p>値のハッシュ値により領域を決めるため、異なる値を格納するスレッド同士は、ほとんど競合しません。</p>
+ * <p>{@link UniqueKeyStore}として使用する場合は、分割した領域ごとの格納先も{@link UniqueKeyStore}を実装している必要があります。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+class StripedUniqueStore<T> implements UniqueStore<T>, UniqueKeyStore {
+    
+    /**
+     * 分割する領域の数のビット数
+     */
+    private static final int SEGMENT_SHIFT = 4;
+    
+    /**
+     * 分割する領域の数
+     */
+    static final int SEGMENT_COUNT = 1 << SEGMENT_SHIFT;
+    
+    private final UniqueStore<T>[] segments;
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    StripedUniqueStore(final Supplier<? extends UniqueStore<T>> segmentFactory) {
+        this.segments = new UniqueStore[SEGMENT_COUNT];
+        for(int i=0; i < segments.length; i++) {
+            segments[i] = segmentFactory.get();
+        }
+    }
+    
+    @Override
+    public UniquePosition putIfAbsent(final T value, final UniquePosition position) {
+        
+        final UniqueStore<T> segment = segmentOf(value);
+        synchronized(segment) {
+            return segment.putIfAbsent(value, position);
+        }
+    }
+    
+    @Override
+    public UniquePosition positionOf(final T value) {
+        
+        final UniqueStore<T> segment = segmentOf(value);
+        synchronized(segment) {
+            return segment.positionOf(value);
+        }
+    }
+    
+    @Override
+    public UniquePosition putKeyIfAbsent(final long key, final UniquePosition position) {
+        
+        final UniqueStore<T> segment = segmentOfKey(key);
+        synchronized(segment) {
+            return ((UniqueKeyStore)segment).putKeyIfAbsent(key, position);
+        }
+    }
+    
+    @Override
+    public UniquePosition positionOfKey(final long key) {
+        
+        final UniqueStore<T> segment = segmentOfKey(key);
+        synchronized(segment) {
+            return ((UniqueKeyStore)segment).positionOfKey(key);
+        }
+    }
+    
+    private UniqueStore<T> segmentOf(final T value) {
+        // 領域内のハッシュテーブルは下位ビットを使用するため、上位ビットで領域を決める。
+        return segments[(value.hashCode() * 0x9E3779B9) >>> (Integer.SIZE - SEGMENT_SHIFT)];
+    }
+    
+    private UniqueStore<T> segmentOfKey(final long key) {
+        return segments[(int)(LongUniqueStore.hash(key) >>> (Long.SIZE - SEGMENT_SHIFT))];
+    }
+    
+    @Override
+    public long size() {
+        long size = 0L;
+        for(UniqueStore<T> segment : segments) {
+            synchronized(segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+    
+    @Override
+    public boolean isConcurrent() {
+        return true;
+    }
+    
+    @Override
+    public void close() {
+        for(UniqueStore<T> segment : segments) {
+            synchronized(segment) {
+                segment.close();
+            }
+        }
+    }
+    
+}
@@ -1,37 +1,81 @@
 package com.github.mygreen.supercsv.cellprocessor.constraint;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.Objects;
 
 import org.supercsv.cellprocessor.ift.CellProcessor;
 import org.supercsv.util.CsvContext;
 
 import com.github.mygreen.supercsv.cellprocessor.ValidationCellProcessor;
 import com.github.mygreen.supercsv.cellprocessor.format.TextPrinter;
+import com.github.mygreen.supercsv.exception.SuperCsvValidationException;
 
 /**
  * 値がユニークかチェックするCellProcessor.
+ * <p>複数のスレッドから並列に実行できます。</p>
+ * <p>検証済みの値は、コンストラクタで指定した{@link UniqueStore}に格納します。
+ *    {@link UniqueStore#concurrent(java.util.function.Supplier)}で作成した格納先を指定すると、
+ *    格納先を分割して排他制御を行うため、複数のスレッドから並列に実行する際の競合を抑えることができます。
+ * </p>
+ * <p>値の位置は、読み込み元の番号と行番号から{@link UniquePosition}として格納します。
+ *    読み込み元の番号は、{@link UniqueSource}で処理中のスレッドに設定された値で、
+ *    1つのインスタンスで複数のファイルを検証する場合に、異なるファイルの同じ行番号を区別します。
+ *    重複した値の位置は、メッセージ変数の{@literal duplicatedSourceId}、{@literal duplicatedLineNumber}、{@literal duplicatedRowNumber}で参照できます。
+ * </p>
+ * <p>重複と判定してエラーとするのは、同じ値のうち行番号が最も小さいセル以外です。
+ *    {@link UniqueSource}で判定を確定させない設定の場合は、並列に実行して行番号の大きいセルを先に実行しても、
+ *    後からレコードの順番に確定させる時点で、行番号の大きいセルをエラーとします。
+ *    {@link com.github.mygreen.supercsv.io.AbstractCsvAnnotationBeanReader#readParallel(java.util.concurrent.Executor, int, boolean, com.github.mygreen.supercsv.io.CsvSuccessHandler, com.github.mygreen.supercsv.io.CsvErrorHandler)}
+ *    は、この設定でレコードを処理します。
+ * </p>
+ * <p>ヒープ外のメモリや一時ファイルを使用する格納先の場合は、検証が終わった後に{@link #close()}を呼び出して領域を解放します。</p>
  * 
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
  */
-public class Unique<T> extends ValidationCellProcessor {
+public class Unique<T> extends ValidationCellProcessor implements AutoCloseable {
     
-    private final Map<T, ValueObject> encounteredElements = new HashMap<>();
+    private final UniqueStore<T> encounteredElements;
     
     private final TextPrinter<T> printer;
     
     public Unique(final TextPrinter<T> printer) {
+        this(UniqueStore.heap(), printer);
+    }
+    
+    public Unique(final TextPrinter<T> printer, final CellProcessor next) {
+        this(UniqueStore.heap(), printer, next);
+    }
+    
+    /**
+     * 値の格納先を指定してインスタンスを作成します。
+     * @since 2.4
+     * @param store 検証済みの値の格納先
+     * @param printer 値のフォーマッタ
+     * @throws NullPointerException {@literal store or printer is null.}
+     */
+    public Unique(final UniqueStore<T> store, final TextPrinter<T> printer) {
         super();
         checkPreconditions(printer);
         this.printer = printer;
+        this.encounteredElements = Objects.requireNonNull(store, "store should not be null.");
     }
     
-    public Unique(final TextPrinter<T> printer, final CellProcessor next) {
+    /**
+     * 値の格納先を指定してインスタンスを作成します。
+     * @since 2.4
+     * @param store 検証済みの値の格納先
+     * @param printer 値のフォーマッタ
+     * @param next チェインの中で呼ばれる次の処理
+     * @throws NullPointerException {@literal store or printer or next is null.}
+     */
+    public Unique(final UniqueStore<T> store, final TextPrinter<T> printer, final CellProcessor next) {
         super(next);
         checkPreconditions(printer);
         this.printer = printer;
+        this.encounteredElements = Objects.requireNonNull(store, "store should not be null.");
     }
     
     private static <T> void checkPreconditions(final TextPrinter<T> printer) {
@@ -50,42 +94,66 @@ public class Unique<T> extends ValidationCellProcessor {
         
         final T result = (T)value;
         
-        if(encounteredElements.containsKey(result)) {
-            
-            final String formattedValue = printer.print(result);
-            final ValueObject duplicatedObject = encounteredElements.get(result);
-            throw createValidationException(context)
-                .messageFormat("duplicate value '%s' encountered.", formattedValue)
-                .rejectedValue(result)
-                .messageVariables("duplicatedLineNumber", duplicatedObject.lineNumber)
-                .messageVariables("duplicatedRowNumber", duplicatedObject.rowNumber)
-                .messageVariables("printer", getPrinter())
-                .build();
-            
-        } else {
-            final ValueObject object = new ValueObject(result, context.getLineNumber(), context.getRowNumber());
-            encounteredElements.put(object.value, object);
+        final UniqueSource source = UniqueSource.current();
+        final UniquePosition position = new UniquePosition(source == null ? 0 : source.getSourceId(),
+                context.getLineNumber(), context.getRowNumber());
+        
+        final UniquePosition duplicatedPosition = putIfAbsent(result, position);
+        if(UniqueSource.isDuplicated(source, position, duplicatedPosition)) {
+            throw createDuplicatedException(result, duplicatedPosition, context);
+        }
+        
+        if(source != null && source.isDeferred()) {
+            // 後からレコードの順番に、最も前の位置のセルかどうかを確定させる。
+            final int columnNumber = context.getColumnNumber();
+            final List<Object> rowSource = context.getRowSource();
+            source.defer(() -> {
+                final UniquePosition earliestPosition = positionOf(result);
+                if(earliestPosition != null && !earliestPosition.equals(position)) {
+                    final CsvContext cellContext = new CsvContext(position.getLineNumber(), position.getRowNumber(), columnNumber);
+                    cellContext.setRowSource(rowSource);
+                    throw createDuplicatedException(result, earliestPosition, cellContext);
+                }
+            });
         }
         
         return next.execute(value, context);
     }
     
-    private class ValueObject {
-        
-        final T value;
-        
-        final int lineNumber;
-        
-        final int rowNumber;
+    private UniquePosition putIfAbsent(final T value, final UniquePosition position) {
+        if(encounteredElements.isConcurrent()) {
+            return encounteredElements.putIfAbsent(value, position);
+        }
         
+        synchronized(encounteredElements) {
+            return encounteredElements.putIfAbsent(value, position);
+        }
+    }
+    
+    private UniquePosition positionOf(final T value) {
+        if(encounteredElements.isConcurrent()) {
+            return encounteredElements.positionOf(value);
+        }
         
-        ValueObject(final T value, final int lineNumber, final int rowNumber) {
-            this.value = value;
-            this.lineNumber = lineNumber;
-            this.rowNumber = rowNumber;
+        synchronized(encounteredElements) {
+            return encounteredElements.positionOf(value);
         }
     }
     
+    private SuperCsvValidationException createDuplicatedException(final T value, final UniquePosition duplicatedPosition,
+            final CsvContext context) {
+        
+        final String formattedValue = printer.print(value);
+        return createValidationException(context)
+            .messageFormat("duplicate value '%s' encountered.", formattedValue)
+            .rejectedValue(value)
+            .messageVariables("duplicatedSourceId", duplicatedPosition.getSourceId())
+            .messageVariables("duplicatedLineNumber", duplicatedPosition.getLineNumber())
+            .messageVariables("duplicatedRowNumber", duplicatedPosition.getRowNumber())
+            .messageVariables("printer", getPrinter())
+            .build();
+    }
+    
     /**
      * 
      * @return 値のフォーマッタを取得する。
@@ -94,4 +162,30 @@ public class Unique<T> extends ValidationCellProcessor {
         return printer;
     }
     
+    /**
+     * 検証済みの値の格納先を取得します。
+     * @since 2.4
+     * @return コンストラクタで指定した格納先。
+     */
+    public UniqueStore<T> getStore() {
+        return encounteredElements;
+    }
+    
+    /**
+     * 検証済みの値の格納先が使用している領域を解放します。
+     * <p>解放した後は、値を検証することはできません。</p>
+     * @since 2.4
+     * @see UniqueStore#close()
+     */
+    @Override
+    public void close() {
+        if(encounteredElements.isConcurrent()) {
+            encounteredElements.close();
+        } else {
+            synchronized(encounteredElements) {
+                encounteredElements.close();
+            }
+        }
+    }
+    
 }
@@ -9,10 +9,14 @@ import com.github.mygreen.supercsv.builder.Configuration;
 import com.github.mygreen.supercsv.builder.FieldAccessor;
 import com.github.mygreen.supercsv.cellprocessor.ConstraintProcessorFactory;
 import com.github.mygreen.supercsv.cellprocessor.format.TextFormatter;
+import com.github.mygreen.supercsv.cellprocessor.format.TextPrinter;
+import com.github.mygreen.supercsv.exception.SuperCsvInvalidAnnotationException;
+import com.github.mygreen.supercsv.localization.MessageBuilder;
 
 /**
  * アノテーション{@link CsvUnique}をハンドリングして、CellProcessorの{@link Unique}を作成する。
  * 
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -26,12 +30,78 @@ public class UniqueFactory<T> implements ConstraintProcessorFactory<CsvUnique> {
         @SuppressWarnings("unchecked")
         final TextFormatter<T> typeFormatter = (TextFormatter<T>)formatter;
         
-        final Unique<T> processor = next.map(n -> new Unique<T>(typeFormatter, n))
-                .orElseGet(() -> new Unique<T>(typeFormatter));
+        final UniqueStore<T> store = createStore(anno, field, typeFormatter, config);
+        
+        final Unique<T> processor = next.map(n -> new Unique<T>(store, typeFormatter, n))
+                .orElseGet(() -> new Unique<T>(store, typeFormatter));
         
         processor.setValidationMessage(anno.message());
         
         return Optional.of(processor);
     }
     
+    /**
+     * アノテーションの属性{@link CsvUnique#storage()}に対応する、値の格納先を作成する。
+     * @param anno アノテーション
+     * <p>{@link CsvUnique.Storage#HEAP}の場合に、{@link Configuration#getUniqueFilter()}が設定されているときは、
+     *    ブルームフィルタを使用する格納先を作成する。
+     * </p>
+     * <p>{@link CsvUnique#expectedSize()}を指定した場合は、整数型の格納先のハッシュテーブルの大きさを事前に確保する。</p>
+     * <p>{@link Configuration#isConcurrentUnique()}がtrueの場合、{@link CsvUnique.Storage#HEAP}、{@link CsvUnique.Storage#COMPACT}は、
+     *    分割して排他制御を行う格納先を作成する。
+     * </p>
+     * @param anno アノテーション
+     * @param field フィールド情報
+     * @param printer 値のフォーマッタ。ブルームフィルタに追加するハッシュ値の算出に使用する。
+     * @param config システム設定
+     * @return 値の格納先
+     * @throws SuperCsvInvalidAnnotationException 整数型以外のカラムに、{@link CsvUnique.Storage#HEAP}以外を指定した場合。
+     */
+    private UniqueStore<T> createStore(final CsvUnique anno, final FieldAccessor field, final TextPrinter<T> printer,
+            final Configuration config) {
+        
+        final CsvUnique.Storage storage = anno.storage();
+        if(storage == CsvUnique.Storage.HEAP) {
+            final UniqueFilter filter = config.getUniqueFilter();
+            if(filter != null) {
+                return filter.createStore(printer);
+            }
+            return config.isConcurrentUnique() ? UniqueStore.concurrent(UniqueStore::heap) : UniqueStore.heap();
+        }
+        
+        if(!isIntegralType(field.getType())) {
+            throw new SuperCsvInvalidAnnotationException(anno, MessageBuilder.create("anno.CsvUnique.notSupportStorage")
+                    .var("property", field.getNameWithClass())
+                    .varWithAnno("anno", anno.annotationType())
+                    .var("storage", storage.name())
+                    .varWithClass("type", field.getType())
+                    .format());
+        }
+        
+        final long expectedSize = anno.expectedSize();
+        switch(storage) {
+            case COMPACT:
+                if(config.isConcurrentUnique()) {
+                    // 分割した領域ごとに、想定件数を均等に割り当てる
+                    final long segmentExpectedSize = expectedSize / StripedUniqueStore.SEGMENT_COUNT;
+                    return UniqueStore.concurrent(() -> UniqueStore.compact(segmentExpectedSize));
+                }
+                return UniqueStore.compact(expectedSize);
+            case OFF_HEAP:
+                return UniqueStore.offHeap(expectedSize);
+            case DISK:
+                return UniqueStore.disk(expectedSize);
+            default:
+                return UniqueStore.heap();
+        }
+        
+    }
+    
+    private static boolean isIntegralType(final Class<?> type) {
+        return Byte.class.equals(type) || byte.class.equals(type)
+                || Short.class.equals(type) || short.class.equals(type)
+                || Integer.class.equals(type) || int.class.equals(type)
+                || Long.class.equals(type) || long.class.equals(type);
+    }
+    
 }
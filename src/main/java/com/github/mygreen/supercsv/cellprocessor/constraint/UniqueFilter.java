@@ -0,0 +1,155 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+import java.util.Objects;
+
+import com.github.mygreen.supercsv.cellprocessor.format.TextPrinter;
+
+/**
+ * ブルームフィルタを使用して、少ないメモリで値のユニーク性を検証するための設定と状態を保持するクラス。
+ * <p>同じ入力を2回読み込むことで、次のように検証します。</p>
+ * <ol>
+ *   <li>1回目の読み込み（{@link Phase#COLLECT}）では、全ての値をブルームフィルタに追加し、
+ *       既に追加された可能性がある値のみを、重複の候補として正確に保持します。重複のエラーは発生しません。</li>
+ *   <li>{@link #startVerification()}を呼び出して、2回目の読み込み（{@link Phase#VERIFY}）に切り替えます。</li>
+ *   <li>2回目の読み込みでは、候補の値のみを対象に重複を判定し、エラーとします。
+ *       候補以外の値は、1回目の読み込みで1度しか現れていないことが確定しています。</li>
+ * </ol>
+ * <p>ブルームフィルタの誤検出は候補の件数が増えるだけで、検証結果は正確です。</p>
+ * <p>{@link com.github.mygreen.supercsv.builder.Configuration#setUniqueFilter(UniqueFilter)}で設定すると、
+ *    アノテーション{@link com.github.mygreen.supercsv.annotation.constraint.CsvUnique}、
+ *    {@link com.github.mygreen.supercsv.annotation.constraint.CsvUniqueHashCode}から作成する
+ *    CellProcessorに適用されます。2回の読み込みは、同じ{@link com.github.mygreen.supercsv.builder.BeanMapping}を使用する必要があります。
+ * </p>
+ *
+ * <pre class="highlight"><code class="java">
+ * UniqueFilter uniqueFilter = new UniqueFilter(500_000_000L, 0.01d);
+ *
+ * BeanMappingFactory beanMappingFactory = new BeanMappingFactory();
+ * beanMappingFactory.getConfiguration().setUniqueFilter(uniqueFilter);
+ *
+ * BeanMapping&lt;SampleCsv&gt; beanMapping = beanMappingFactory.create(SampleCsv.class);
+ *
+ * // 1回目の読み込み
+ * try(CsvAnnotationBeanReader&lt;SampleCsv&gt; csvReader = new CsvAnnotationBeanReader&lt;&gt;(beanMapping, ...)) {
+ *     csvReader.readAll();
+ * }
+ *
+ * // 2回目の読み込み
+ * uniqueFilter.startVerification();
+ * try(CsvAnnotationBeanReader&lt;SampleCsv&gt; csvReader = new CsvAnnotationBeanReader&lt;&gt;(beanMapping, ...)) {
+ *     List&lt;SampleCsv&gt; list = csvReader.readAll();
+ * }
+ * </code></pre>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class UniqueFilter {
+    
+    /**
+     * 読み込みの段階
+     */
+    public enum Phase {
+        
+        /** 1回目の読み込みで、重複の候補を集める段階 */
+        COLLECT,
+        
+        /** 2回目の読み込みで、重複の候補を検証する段階 */
+        VERIFY,
+        ;
+    }
+    
+    private final long expectedInsertions;
+    
+    private final double falsePositiveProbability;
+    
+    private volatile Phase phase = Phase.COLLECT;
+    
+    /**
+     * 想定する件数と誤検出率を指定してインスタンスを作成します。
+     * @param expectedInsertions 1つのカラムで検証する値の想定件数。ブルームフィルタの大きさの算出に使用します。
+     * @param falsePositiveProbability ブルームフィルタの誤検出率。0より大きく1未満の値。
+     * @throws IllegalArgumentException {@literal expectedInsertions < 1 or falsePositiveProbability is not in (0, 1).}
+     */
+    public UniqueFilter(final long expectedInsertions, final double falsePositiveProbability) {
+        if(expectedInsertions < 1L) {
+            throw new IllegalArgumentException(String.format("expectedInsertions should be greater than 0. but %d.", expectedInsertions));
+        }
+        
+        if(!(falsePositiveProbability > 0.0d && falsePositiveProbability < 1.0d)) {
+            throw new IllegalArgumentException(String.format("falsePositiveProbability should be between 0 and 1. but %s.", falsePositiveProbability));
+        }
+        
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+    
+    /**
+     * 2回目の読み込みを開始し、重複の候補の検証を行う段階に切り替えます。
+     * <p>1回目の読み込みが完了した後に呼び出します。</p>
+     * @throws IllegalStateException 既に切り替えている場合。
+     */
+    public synchronized void startVerification() {
+        if(phase != Phase.COLLECT) {
+            throw new IllegalStateException("verification has already been started.");
+        }
+        this.phase = Phase.VERIFY;
+    }
+    
+    /**
+     * 現在の読み込みの段階を取得します。
+     * @return 初期値は{@link Phase#COLLECT}です。
+     */
+    public Phase getPhase() {
+        return phase;
+    }
+    
+    /**
+     * 値の等価性で判定する{@link Unique}用の、値の格納先を作成します。
+     * <p>ブルームフィルタには、32ビットの{@link Object#hashCode()}ではなく、
+     *    フォーマッタで文字列に変換した値の64ビットのハッシュ値（xxHash64）を追加します。
+     *    件数が多い場合でも、ハッシュ値の衝突による重複の候補の増加を抑えます。
+     * </p>
+     * @param printer 値のフォーマッタ。等しい値は、同じ文字列に変換する必要があります。
+     * @return 新しいインスタンスを返します。
+     * @throws NullPointerException {@literal printer is null.}
+     */
+    public <T> UniqueStore<T> createStore(final TextPrinter<T> printer) {
+        Objects.requireNonNull(printer, "printer should not be null.");
+        return new BloomUniqueStore<>(this, value -> XxHash64.hash(printer.print(value)));
+    }
+    
+    /**
+     * {@link UniqueHashCode}用の、ハッシュ値の格納先を作成します。
+     * @return 新しいインスタンスを返します。
+     */
+    public UniqueKeyStore createKeyStore() {
+        return new BloomKeyStore(this);
+    }
+    
+    /**
+     * 設定値に従ったブルームフィルタを作成します。
+     * @return 新しいインスタンスを返します。
+     */
+    BloomFilter createBloomFilter() {
+        return new BloomFilter(expectedInsertions, falsePositiveProbability);
+    }
+    
+    /**
+     * 1つのカラムで検証する値の想定件数を取得します。
+     * @return コンストラクタで指定した値。
+     */
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+    
+    /**
+     * ブルームフィルタの誤検出率を取得します。
+     * @return コンストラクタで指定した値。
+     */
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+    
+}
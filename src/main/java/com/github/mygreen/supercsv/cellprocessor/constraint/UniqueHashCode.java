@@ -1,37 +1,92 @@
 package com.github.mygreen.supercsv.cellprocessor.constraint;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.Objects;
 
 import org.supercsv.cellprocessor.ift.CellProcessor;
 import org.supercsv.util.CsvContext;
 
+import com.github.mygreen.supercsv.annotation.constraint.CsvUniqueHashCode;
 import com.github.mygreen.supercsv.cellprocessor.ValidationCellProcessor;
 import com.github.mygreen.supercsv.cellprocessor.format.TextPrinter;
+import com.github.mygreen.supercsv.exception.SuperCsvValidationException;
 
 /**
  * 値がユニークかハッシュコードを元にチェックするCellProcessor.
+ * <p>複数のスレッドから並列に実行できます。</p>
+ * <p>ハッシュ値と、その値が最初に現れた位置は、プリミティブ型の配列によるハッシュテーブルに格納するため、
+ *    値ごとのオブジェクトは作成しません。
+ * </p>
+ * <p>{@link Object#hashCode()}の32bitのハッシュ値は、件数が多くなると異なる値でも衝突しやすくなります。
+ *    コンストラクタの引数hashTypeに{@link CsvUniqueHashCode.HashType#XXHASH64}を指定すると、{@link TextPrinter}で文字列に変換した値から、
+ *    64bitのハッシュ値（xxHash64）を算出して判定します。
+ * </p>
+ * <p>検証済みのハッシュ値は、コンストラクタで指定した{@link UniqueKeyStore}に格納します。
+ *    {@link UniqueKeyStore#concurrent()}で作成した格納先を指定すると、ハッシュテーブルを分割して排他制御を行うため、
+ *    複数のスレッドから並列に実行する際の競合を抑えることができます。
+ *    {@link UniqueFilter#createKeyStore()}で作成した格納先を指定すると、ブルームフィルタで絞り込んだ重複の候補のハッシュ値のみを保持します。
+ * </p>
+ * <p>値の位置の扱いや、重複と判定するセルは、{@link Unique}と同様です。
+ *    {@link UniqueSource}で判定を確定させない設定の場合は、後からレコードの順番に確定させ、同じハッシュ値のうち行番号が最も小さいセル以外をエラーとします。
+ * </p>
  * 
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
  */
 public class UniqueHashCode<T> extends ValidationCellProcessor {
     
-    private final Map<Integer, ValueObject> encounteredElements = new HashMap<>();
+    private final UniqueKeyStore encounteredElements;
     
     private final TextPrinter<T> printer;
     
+    private final CsvUniqueHashCode.HashType hashType;
+    
+    private final boolean wideHash;
+    
     public UniqueHashCode(final TextPrinter<T> printer) {
+        this(UniqueKeyStore.compact(), CsvUniqueHashCode.HashType.HASH_CODE, printer);
+    }
+    
+    public UniqueHashCode(final TextPrinter<T> printer, final CellProcessor next) {
+        this(UniqueKeyStore.compact(), CsvUniqueHashCode.HashType.HASH_CODE, printer, next);
+    }
+    
+    /**
+     * ハッシュ値の格納先と種類を指定してインスタンスを作成します。
+     * @since 2.4
+     * @param store 検証済みのハッシュ値の格納先
+     * @param hashType ハッシュ値の種類
+     * @param printer 値のフォーマッタ
+     * @throws NullPointerException {@literal store or hashType or printer is null.}
+     */
+    public UniqueHashCode(final UniqueKeyStore store, final CsvUniqueHashCode.HashType hashType, final TextPrinter<T> printer) {
         super();
         checkPreconditions(printer);
         this.printer = printer;
+        this.hashType = Objects.requireNonNull(hashType, "hashType should not be null.");
+        this.wideHash = hashType == CsvUniqueHashCode.HashType.XXHASH64;
+        this.encounteredElements = Objects.requireNonNull(store, "store should not be null.");
     }
     
-    public UniqueHashCode(final TextPrinter<T> printer, final CellProcessor next) {
+    /**
+     * ハッシュ値の格納先と種類を指定してインスタンスを作成します。
+     * @since 2.4
+     * @param store 検証済みのハッシュ値の格納先
+     * @param hashType ハッシュ値の種類
+     * @param printer 値のフォーマッタ
+     * @param next チェインの中で呼ばれる次の処理
+     * @throws NullPointerException {@literal store or hashType or printer or next is null.}
+     */
+    public UniqueHashCode(final UniqueKeyStore store, final CsvUniqueHashCode.HashType hashType, final TextPrinter<T> printer,
+            final CellProcessor next) {
         super(next);
         checkPreconditions(printer);
         this.printer = printer;
+        this.hashType = Objects.requireNonNull(hashType, "hashType should not be null.");
+        this.wideHash = hashType == CsvUniqueHashCode.HashType.XXHASH64;
+        this.encounteredElements = Objects.requireNonNull(store, "store should not be null.");
     }
     
     private static <T> void checkPreconditions(final TextPrinter<T> printer) {
@@ -49,42 +104,68 @@ public class UniqueHashCode<T> extends ValidationCellProcessor {
         }
         
         final T result = (T)value;
-        final int hashCode = value.hashCode();
+        final long hashCode = wideHash ? XxHash64.hash(printer.print(result)) : value.hashCode();
         
-        if(encounteredElements.containsKey(hashCode)) {
-            
-            final ValueObject duplicatedObject = encounteredElements.get(result);
-            throw createValidationException(context)
-                .messageFormat("duplicate hashCode '%s' encountered.", hashCode)
-                .rejectedValue(result)
-                .messageVariables("hashCode", hashCode)
-                .messageVariables("duplicatedRowNumber", duplicatedObject.rowNumber)
-                .messageVariables("duplicatedLineNumber", duplicatedObject.lineNumber)
-                .messageVariables("printer", getPrinter())
-                .build();
-            
-        } else {
-            final ValueObject object = new ValueObject(hashCode, context.getRowNumber(), context.getLineNumber());
-            encounteredElements.put(object.hashCode, object);
+        final UniqueSource source = UniqueSource.current();
+        final UniquePosition position = new UniquePosition(source == null ? 0 : source.getSourceId(),
+                context.getLineNumber(), context.getRowNumber());
+        
+        final UniquePosition duplicatedPosition = putKeyIfAbsent(hashCode, position);
+        if(UniqueSource.isDuplicated(source, position, duplicatedPosition)) {
+            throw createDuplicatedException(result, hashCode, duplicatedPosition, context);
+        }
+        
+        if(source != null && source.isDeferred()) {
+            // 後からレコードの順番に、最も前の位置のセルかどうかを確定させる。
+            final int columnNumber = context.getColumnNumber();
+            final List<Object> rowSource = context.getRowSource();
+            source.defer(() -> {
+                final UniquePosition earliestPosition = positionOfKey(hashCode);
+                if(earliestPosition != null && !earliestPosition.equals(position)) {
+                    final CsvContext cellContext = new CsvContext(position.getLineNumber(), position.getRowNumber(), columnNumber);
+                    cellContext.setRowSource(rowSource);
+                    throw createDuplicatedException(result, hashCode, earliestPosition, cellContext);
+                }
+            });
         }
         
         return next.execute(value, context);
     }
     
-    private static class ValueObject {
-        
-        final int hashCode;
-        
-        final int rowNumber;
+    private UniquePosition putKeyIfAbsent(final long key, final UniquePosition position) {
+        if(encounteredElements.isConcurrent()) {
+            return encounteredElements.putKeyIfAbsent(key, position);
+        }
         
-        final int lineNumber;
+        synchronized(encounteredElements) {
+            return encounteredElements.putKeyIfAbsent(key, position);
+        }
+    }
+    
+    private UniquePosition positionOfKey(final long key) {
+        if(encounteredElements.isConcurrent()) {
+            return encounteredElements.positionOfKey(key);
+        }
         
-        ValueObject(final int hashCode, final int rowNumber, final int lineNumber) {
-            this.hashCode = hashCode;
-            this.rowNumber = rowNumber;
-            this.lineNumber = lineNumber;
+        synchronized(encounteredElements) {
+            return encounteredElements.positionOfKey(key);
         }
+    }
+    
+    private SuperCsvValidationException createDuplicatedException(final T value, final long hashCode,
+            final UniquePosition duplicatedPosition, final CsvContext context) {
         
+        // 32bitのハッシュ値の場合は、従来通りint型の値として渡す
+        final Object hashCodeValue = wideHash ? (Object)hashCode : (Object)(int)hashCode;
+        return createValidationException(context)
+            .messageFormat("duplicate hashCode '%s' encountered.", hashCodeValue)
+            .rejectedValue(value)
+            .messageVariables("hashCode", hashCodeValue)
+            .messageVariables("duplicatedSourceId", duplicatedPosition.getSourceId())
+            .messageVariables("duplicatedRowNumber", duplicatedPosition.getRowNumber())
+            .messageVariables("duplicatedLineNumber", duplicatedPosition.getLineNumber())
+            .messageVariables("printer", getPrinter())
+            .build();
     }
     
     /**
@@ -95,4 +176,31 @@ public class UniqueHashCode<T> extends ValidationCellProcessor {
         return printer;
     }
     
+    /**
+     * ハッシュ値の種類を取得します。
+     * @since 2.4
+     * @return コンストラクタで指定した種類。
+     */
+    public CsvUniqueHashCode.HashType getHashType() {
+        return hashType;
+    }
+    
+    /**
+     * 検証済みのハッシュ値の格納先を取得します。
+     * @since 2.4
+     * @return コンストラクタで指定した格納先。
+     */
+    public UniqueKeyStore getStore() {
+        return encounteredElements;
+    }
+    
+    /**
+     * 64bitのハッシュ値で判定するかどうか。
+     * @since 2.4
+     * @return trueの場合、フォーマッタで文字列に変換した値から、64bitのハッシュ値を算出します。
+     */
+    public boolean isWideHash() {
+        return wideHash;
+    }
+    
 }
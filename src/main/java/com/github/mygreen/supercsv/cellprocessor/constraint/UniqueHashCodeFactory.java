@@ -13,6 +13,7 @@ import com.github.mygreen.supercsv.cellprocessor.format.TextFormatter;
 /**
  * アノテーション{@link CsvUniqueHashCode}をハンドリングして、CellProcessorの{@link UniqueHashCode}を作成する。
  * 
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -26,12 +27,31 @@ public class UniqueHashCodeFactory<T> implements ConstraintProcessorFactory<CsvU
         @SuppressWarnings("unchecked")
         final TextFormatter<T> typeFormatter = (TextFormatter<T>)formatter;
         
-        final UniqueHashCode<T> processor = next.map(n -> new UniqueHashCode<T>(typeFormatter, n))
-                .orElseGet(() -> new UniqueHashCode<T>(typeFormatter));
+        final UniqueKeyStore store = createKeyStore(config);
+        
+        final UniqueHashCode<T> processor = next.map(n -> new UniqueHashCode<T>(store, anno.hashType(), typeFormatter, n))
+                .orElseGet(() -> new UniqueHashCode<T>(store, anno.hashType(), typeFormatter));
         
         processor.setValidationMessage(anno.message());
         
         return Optional.of(processor);
     }
     
+    /**
+     * システム設定に対応する、ハッシュ値の格納先を作成する。
+     * <p>{@link Configuration#getUniqueFilter()}が設定されているときは、ブルームフィルタを使用する格納先を作成する。</p>
+     * <p>{@link Configuration#isConcurrentUnique()}がtrueの場合は、分割して排他制御を行う格納先を作成する。</p>
+     * @param config システム設定
+     * @return ハッシュ値の格納先
+     */
+    private UniqueKeyStore createKeyStore(final Configuration config) {
+        
+        final UniqueFilter filter = config.getUniqueFilter();
+        if(filter != null) {
+            return filter.createKeyStore();
+        }
+        
+        return config.isConcurrentUnique() ? UniqueKeyStore.concurrent() : UniqueKeyStore.compact();
+    }
+    
 }
@@ -0,0 +1,56 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+/**
+ * {@link UniqueHashCode}で検証済みのハッシュ値と、その値が最初に現れた位置を格納するクラス。
+ * <p>位置の扱いは{@link UniqueStore}と同様で、同じ読み込み元のキーが複数回格納された場合は、行番号が最も小さい位置を保持します。</p>
+ * <p>実装クラスはスレッドセーフである必要はありません。{@link #isConcurrent()}がfalseの場合は、{@link UniqueHashCode}で排他制御を行います。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public interface UniqueKeyStore {
+    
+    /**
+     * ヒープ上のプリミティブ型の配列によるハッシュテーブルに、キーを格納する実装を取得します。
+     * @return 新しいインスタンスを返します。
+     */
+    static UniqueKeyStore compact() {
+        return new LongUniqueStore<>(LongUniqueStore.TableType.ARRAY);
+    }
+    
+    /**
+     * ロックを分割した、複数のスレッドから並列に格納できる実装を取得します。
+     * <p>キーにより、分割した領域ごとに排他制御を行います。</p>
+     * @return 新しいインスタンスを返します。
+     */
+    static UniqueKeyStore concurrent() {
+        return new StripedUniqueStore<Object>(() -> new LongUniqueStore<>(LongUniqueStore.TableType.ARRAY));
+    }
+    
+    /**
+     * long値のキーがまだ格納されていない場合に、位置と共に格納します。
+     * <p>既に格納されている場合で、指定した位置が同じ読み込み元のより前の位置のときは、保持する位置を更新します。</p>
+     * @param key 格納するキー
+     * @param position 値の位置
+     * @return 既に格納されている場合は、更新する前の格納済みの位置を返します。
+     *         格納されていない場合は、nullを返します。
+     */
+    UniquePosition putKeyIfAbsent(long key, UniquePosition position);
+    
+    /**
+     * long値のキーの格納済みの位置を取得します。
+     * @param key キー
+     * @return 格納されていない場合は、nullを返します。
+     */
+    UniquePosition positionOfKey(long key);
+    
+    /**
+     * 実装クラス自身で排他制御を行うかどうか。
+     * @return trueの場合、複数のスレッドから並列に{@link #putKeyIfAbsent(long, UniquePosition)}、{@link #positionOfKey(long)}を呼び出すことができます。
+     */
+    default boolean isConcurrent() {
+        return false;
+    }
+    
+}
@@ -0,0 +1,117 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+/**
+ * {@link UniqueStore}、{@link UniqueKeyStore}に格納する、値が現れた位置。
+ * <p>位置は、読み込み元の番号、行番号、レコード番号から構成されます。
+ *    読み込み元の番号は、1つのデータを複数のファイルに分割して読み込む場合に、ファイルを区別するための番号です。
+ *    詳細は{@link UniqueSource}を参照してください。
+ * </p>
+ * <p>位置の前後は、読み込み元の番号、行番号、レコード番号の順に比較します。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public final class UniquePosition implements Comparable<UniquePosition> {
+    
+    private final int sourceId;
+    
+    private final int lineNumber;
+    
+    private final int rowNumber;
+    
+    /**
+     * 位置を指定してインスタンスを作成します。
+     * @param sourceId 読み込み元の番号。0以上の値。
+     * @param lineNumber 行番号。0以上の値。
+     * @param rowNumber レコード番号。0以上の値。
+     * @throws IllegalArgumentException {@literal sourceId < 0 or lineNumber < 0 or rowNumber < 0.}
+     */
+    public UniquePosition(final int sourceId, final int lineNumber, final int rowNumber) {
+        if(sourceId < 0 || lineNumber < 0 || rowNumber < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "position should not be negative. but sourceId=%d, lineNumber=%d, rowNumber=%d.",
+                    sourceId, lineNumber, rowNumber));
+        }
+        this.sourceId = sourceId;
+        this.lineNumber = lineNumber;
+        this.rowNumber = rowNumber;
+    }
+    
+    /**
+     * 読み込み元の番号を取得します。
+     * @return 読み込み元を指定していない場合は0を返します。
+     */
+    public int getSourceId() {
+        return sourceId;
+    }
+    
+    /**
+     * 行番号を取得します。
+     * @return 行番号
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+    
+    /**
+     * レコード番号を取得します。
+     * @return レコード番号
+     */
+    public int getRowNumber() {
+        return rowNumber;
+    }
+    
+    /**
+     * 同じ読み込み元の位置かどうか判定します。
+     * @param other 比較対象の位置
+     * @return 読み込み元の番号が等しい場合、trueを返します。
+     */
+    public boolean isSameSource(final UniquePosition other) {
+        return sourceId == other.sourceId;
+    }
+    
+    @Override
+    public int compareTo(final UniquePosition other) {
+        
+        int result = Integer.compare(sourceId, other.sourceId);
+        if(result != 0) {
+            return result;
+        }
+        
+        result = Integer.compare(lineNumber, other.lineNumber);
+        if(result != 0) {
+            return result;
+        }
+        
+        return Integer.compare(rowNumber, other.rowNumber);
+    }
+    
+    @Override
+    public boolean equals(final Object obj) {
+        if(this == obj) {
+            return true;
+        }
+        
+        if(!(obj instanceof UniquePosition)) {
+            return false;
+        }
+        
+        final UniquePosition other = (UniquePosition) obj;
+        return sourceId == other.sourceId && lineNumber == other.lineNumber && rowNumber == other.rowNumber;
+    }
+    
+    @Override
+    public int hashCode() {
+        int result = sourceId;
+        result = 31 * result + lineNumber;
+        result = 31 * result + rowNumber;
+        return result;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("UniquePosition [sourceId=%d, lineNumber=%d, rowNumber=%d]", sourceId, lineNumber, rowNumber);
+    }
+    
+}
@@ -0,0 +1,152 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link Unique}、{@link UniqueHashCode}で重複を判定する際の、処理中のスレッドのレコードの読み込み元の情報。
+ * <p>CSVの読み込み処理が、レコードを処理する間だけスレッドに設定します。設定されていない場合は、読み込み元の番号を0として扱います。</p>
+ * <p>読み込み元の番号は、位置{@link UniquePosition}に含めて格納するため、
+ *    1つのデータを複数のファイルに分割して読み込む場合でも、異なるファイルの同じ行番号を区別できます。
+ * </p>
+ * <p>重複の判定を確定させない設定の場合、重複がないと判定したセルは、{@link #takeDeferredChecks()}で取り出して、
+ *    後からレコードの順番に{@link Check#verify()}を呼び出して確定させます。
+ *    複数のスレッドでレコードを処理すると、行番号の大きいセルを先に判定することがありますが、
+ *    確定させる時点では、それより前のレコードは全て格納済みのため、行番号が最も小さいセル以外を重複とすることができます。
+ * </p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public final class UniqueSource {
+    
+    private static final ThreadLocal<UniqueSource> CURRENT = new ThreadLocal<>();
+    
+    private final int sourceId;
+    
+    /**
+     * 確定させていないセルの判定処理。確定を遅らせない場合はnull。
+     */
+    private final List<Check> deferredChecks;
+    
+    /**
+     * 読み込み元の情報を指定してインスタンスを作成します。
+     * @param sourceId 読み込み元の番号。0以上の値。
+     * @param deferred trueの場合、重複の判定を確定させずに保持します。
+     * @throws IllegalArgumentException {@literal sourceId < 0.}
+     */
+    public UniqueSource(final int sourceId, final boolean deferred) {
+        if(sourceId < 0) {
+            throw new IllegalArgumentException(String.format("sourceId should be zero or greater. but %d.", sourceId));
+        }
+        this.sourceId = sourceId;
+        this.deferredChecks = deferred ? new ArrayList<>() : null;
+    }
+    
+    /**
+     * 現在のスレッドに設定されている読み込み元の情報を取得します。
+     * @return 設定されていない場合は、nullを返します。
+     */
+    public static UniqueSource current() {
+        return CURRENT.get();
+    }
+    
+    /**
+     * 現在のスレッドに、読み込み元の情報を設定します。
+     * <p>レコードの処理が終わったら、{@link #end()}で設定を解除します。</p>
+     */
+    public void begin() {
+        CURRENT.set(this);
+    }
+    
+    /**
+     * 現在のスレッドに設定した、読み込み元の情報を解除します。
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+    
+    /**
+     * 読み込み元の番号を取得します。
+     * @return コンストラクタで指定した値。
+     */
+    public int getSourceId() {
+        return sourceId;
+    }
+    
+    /**
+     * 重複の判定を確定させずに保持するかどうか。
+     * @return trueの場合、重複がないと判定したセルを、後から確定させます。
+     */
+    public boolean isDeferred() {
+        return deferredChecks != null;
+    }
+    
+    /**
+     * 格納済みの位置から、セルを重複とするかどうか判定します。
+     * <ul>
+     *   <li>格納済みの位置の方が前の場合は、重複とします。</li>
+     *   <li>同じ読み込み元の後の位置の場合は、格納先はセルの位置に更新されています。
+     *       判定を確定させない設定のときは、後の位置のセルを確定させる時点で重複とするため、このセルは重複としません。</li>
+     *   <li>それ以外の場合は、格納済みの位置のセルが既に確定している可能性があるため、このセルを重複とします。</li>
+     * </ul>
+     * @param source 処理中のスレッドの読み込み元の情報。設定されていない場合はnull。
+     * @param position セルの位置
+     * @param stored 格納済みの位置。格納されていなかった場合はnull。
+     * @return 重複とする場合は、trueを返します。
+     */
+    static boolean isDuplicated(final UniqueSource source, final UniquePosition position, final UniquePosition stored) {
+        
+        if(stored == null) {
+            return false;
+        }
+        
+        if(stored.compareTo(position) < 0) {
+            return true;
+        }
+        
+        return !(source != null && source.isDeferred() && stored.isSameSource(position));
+    }
+    
+    /**
+     * 確定させていないセルの判定処理を追加します。
+     * @param check 判定処理
+     */
+    void defer(final Check check) {
+        deferredChecks.add(check);
+    }
+    
+    /**
+     * 確定させていないセルの判定処理を取り出します。
+     * <p>取り出した判定処理は、このインスタンスからは削除します。</p>
+     * @return 判定処理。ない場合は空のリストを返します。
+     */
+    public List<Check> takeDeferredChecks() {
+        
+        if(deferredChecks == null || deferredChecks.isEmpty()) {
+            return Collections.emptyList();
+        }
+        
+        final List<Check> checks = new ArrayList<>(deferredChecks);
+        deferredChecks.clear();
+        return checks;
+    }
+    
+    /**
+     * 重複がないと判定したセルを、確定させる処理。
+     */
+    @FunctionalInterface
+    public interface Check {
+        
+        /**
+         * 格納先が保持する位置と、セルの位置を比較して、重複の判定を確定させます。
+         * <p>格納先が保持する位置がセルの位置と異なる場合は、より前に同じ値が現れているため、重複とします。</p>
+         * @throws com.github.mygreen.supercsv.exception.SuperCsvValidationException 重複と判定した場合。
+         */
+        void verify();
+        
+    }
+    
+}
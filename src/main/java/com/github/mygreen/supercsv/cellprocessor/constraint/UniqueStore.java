@@ -0,0 +1,140 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link Unique}で検証済みの値と、その値が最初に現れた位置を格納するクラス。
+ * <p>位置は、読み込み元の番号、行番号、レコード番号からなる{@link UniquePosition}として扱います。
+ *    読み込み元の番号により、1つのデータを複数のファイルに分割して読み込む場合でも、異なるファイルの位置を区別します。
+ * </p>
+ * <p>同じ読み込み元の値が複数回格納された場合は、行番号が最も小さい位置を保持します。
+ *    そのため、1つの入力を複数のスレッドから順不同で格納した場合でも、全て格納した後に保持する位置は一定になります。
+ *    異なる読み込み元の値の場合は、先に格納した位置を保持します。
+ * </p>
+ * <p>実装クラスはスレッドセーフである必要はありません。{@link #isConcurrent()}がfalseの場合は、{@link Unique}で排他制御を行います。</p>
+ * <p>ヒープ外のメモリや一時ファイルを使用する実装は、{@link #close()}で領域を解放します。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public interface UniqueStore<T> extends AutoCloseable {
+    
+    /**
+     * ヒープ上の{@link java.util.HashMap}に、値のオブジェクトをそのまま格納する実装を取得します。
+     * @return 新しいインスタンスを返します。
+     */
+    static <T> UniqueStore<T> heap() {
+        return new HeapUniqueStore<>();
+    }
+    
+    /**
+     * ヒープ上のプリミティブ型の配列によるハッシュテーブルに、整数値を格納する実装を取得します。
+     * @return 新しいインスタンスを返します。
+     */
+    static <T> UniqueStore<T> compact() {
+        return compact(0L);
+    }
+    
+    /**
+     * ヒープ上のプリミティブ型の配列によるハッシュテーブルに、整数値を格納する実装を取得します。
+     * @param expectedSize 格納する値の想定件数。ハッシュテーブルの大きさを事前に確保します。0以下の場合は、最小の大きさで作成します。
+     * @return 新しいインスタンスを返します。
+     */
+    static <T> UniqueStore<T> compact(final long expectedSize) {
+        return new LongUniqueStore<>(LongUniqueStore.TableType.ARRAY, expectedSize);
+    }
+    
+    /**
+     * ヒープ外のメモリによるハッシュテーブルに、整数値を格納する実装を取得します。
+     * @return 新しいインスタンスを返します。
+     */
+    static <T> UniqueStore<T> offHeap() {
+        return offHeap(0L);
+    }
+    
+    /**
+     * ヒープ外のメモリによるハッシュテーブルに、整数値を格納する実装を取得します。
+     * <p>ハッシュテーブルを拡張する度に領域を確保し直すため、件数が多い場合は想定件数を指定します。</p>
+     * @param expectedSize 格納する値の想定件数。ハッシュテーブルの大きさを事前に確保します。0以下の場合は、最小の大きさで作成します。
+     * @return 新しいインスタンスを返します。
+     */
+    static <T> UniqueStore<T> offHeap(final long expectedSize) {
+        return new LongUniqueStore<>(LongUniqueStore.TableType.DIRECT_BUFFER, expectedSize);
+    }
+    
+    /**
+     * 一時ファイルをメモリにマッピングしたハッシュテーブルに、整数値を格納する実装を取得します。
+     * @return 新しいインスタンスを返します。
+     */
+    static <T> UniqueStore<T> disk() {
+        return disk(0L);
+    }
+    
+    /**
+     * 一時ファイルをメモリにマッピングしたハッシュテーブルに、整数値を格納する実装を取得します。
+     * <p>ハッシュテーブルを拡張する度に一時ファイルを作成し直すため、件数が多い場合は想定件数を指定します。</p>
+     * @param expectedSize 格納する値の想定件数。ハッシュテーブルの大きさを事前に確保します。0以下の場合は、最小の大きさで作成します。
+     * @return 新しいインスタンスを返します。
+     */
+    static <T> UniqueStore<T> disk(final long expectedSize) {
+        return new LongUniqueStore<>(LongUniqueStore.TableType.MAPPED_FILE, expectedSize);
+    }
+    
+    /**
+     * ロックを分割した、複数のスレッドから並列に格納できる実装を取得します。
+     * <p>値のハッシュ値により、分割した領域ごとに排他制御を行います。</p>
+     * @since 2.4
+     * @param segmentFactory 分割した領域ごとの格納先を作成する処理。
+     * @return 新しいインスタンスを返します。
+     */
+    static <T> UniqueStore<T> concurrent(final Supplier<UniqueStore<T>> segmentFactory) {
+        return new StripedUniqueStore<>(segmentFactory);
+    }
+    
+    /**
+     * 値がまだ格納されていない場合に、位置と共に格納します。
+     * <p>既に格納されている場合で、指定した位置が同じ読み込み元のより前の位置のときは、保持する位置を更新します。</p>
+     * @param value 格納する値。nullは渡されません。
+     * @param position 値の位置
+     * @return 既に格納されている場合は、更新する前の格納済みの位置を返します。
+     *         格納されていない場合は、nullを返します。
+     * @throws java.io.UncheckedIOException 一時ファイルの操作に失敗した場合。
+     */
+    UniquePosition putIfAbsent(T value, UniquePosition position);
+    
+    /**
+     * 値の格納済みの位置を取得します。
+     * @param value 値。nullは渡されません。
+     * @return 格納されていない場合は、nullを返します。
+     */
+    UniquePosition positionOf(T value);
+    
+    /**
+     * 格納している値の件数を取得します。
+     * @return 格納している値の件数
+     */
+    long size();
+    
+    /**
+     * 実装クラス自身で排他制御を行うかどうか。
+     * @return trueの場合、複数のスレッドから並列に{@link #putIfAbsent(Object, UniquePosition)}、{@link #positionOf(Object)}を呼び出すことができます。
+     */
+    default boolean isConcurrent() {
+        return false;
+    }
+    
+    /**
+     * 格納先が使用している領域を解放します。
+     * <p>ヒープ外のメモリや一時ファイルを使用する実装では、GCを待たずに領域を解放します。
+     *    解放した後は、値を格納することはできません。
+     * </p>
+     * <p>デフォルトの実装は何もしません。</p>
+     * @since 2.4
+     */
+    @Override
+    default void close() {
+        // 何もしない
+    }
+    
+}
@@ -13,14 +13,23 @@ import com.github.mygreen.supercsv.cellprocessor.ValidationCellProcessor;
 
 /**
  * 禁止語彙を含んでいないか検証するCellProcessor.
+ * <p>禁止語彙は、インスタンスの作成時にAho-Corasick法のオートマトンに変換し、
+ *    語彙の件数によらず、値を1回走査して検証します。
+ * </p>
  * 
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
  */
 public class WordForbid extends ValidationCellProcessor implements StringCellProcessor {
     
-    private final Collection<String> words;
+    private final List<String> words;
+    
+    /**
+     * 語彙を検索するオートマトン
+     */
+    private final WordMatcher matcher;
     
     public WordForbid(final Collection<String> words) {
         super();
@@ -28,6 +37,7 @@ public class WordForbid extends ValidationCellProcessor implements StringCellPro
         this.words = words.stream()
                 .distinct()
                 .collect(Collectors.toList());
+        this.matcher = new WordMatcher(this.words);
     }
     
     public WordForbid(final Collection<String> words, final CellProcessor next) {
@@ -36,6 +46,7 @@ public class WordForbid extends ValidationCellProcessor implements StringCellPro
         this.words = words.stream()
                 .distinct()
                 .collect(Collectors.toList());
+        this.matcher = new WordMatcher(this.words);
     }
     
     private static void checkPreconditions(final Collection<String> words) {
@@ -53,11 +64,8 @@ public class WordForbid extends ValidationCellProcessor implements StringCellPro
         
         final String stringValue = value.toString();
         
-        final List<String> hitWords = words.stream()
-                .filter(word -> stringValue.contains(word))
-                .collect(Collectors.toList());
-        
-        if(!hitWords.isEmpty()) {
+        if(matcher.containsAny(stringValue)) {
+            final List<String> hitWords = matcher.findAll(stringValue);
             final String joinedWords = String.join(", ", hitWords);
             throw createValidationException(context)
                 .messageFormat("'%s' contains the forbidden substring '%s'", stringValue, joinedWords)
@@ -0,0 +1,299 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 複数の語彙を、1回の走査で文字列から検索するためのAho-Corasick法によるオートマトン。
+ * <p>語彙の件数によらず、文字列の長さに比例する時間で検索できます。</p>
+ * <p>{@link String#contains(CharSequence)}と同様に、文字列はchar単位で比較します。</p>
+ * <p>作成後は状態を変更しないため、複数のスレッドから並列に使用できます。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+final class WordMatcher {
+    
+    private static final int ROOT = 0;
+    
+    private static final int NONE = -1;
+    
+    /**
+     * 検索対象の語彙。インデックスは、状態が表す語彙の番号に対応します。
+     */
+    private final List<String> words;
+    
+    /**
+     * 遷移表のキー。状態と文字を組み合わせた値。
+     */
+    private long[] transitionKeys;
+    
+    /**
+     * 遷移表の遷移先の状態。{@link #NONE}の場合は空き。
+     */
+    private int[] transitionTargets;
+    
+    private int transitionMask;
+    
+    /**
+     * 状態ごとの失敗時の遷移先
+     */
+    private final int[] failure;
+    
+    /**
+     * 状態ごとの、その状態で一致が確定する語彙の番号。
+     */
+    private final int[] wordIndex;
+    
+    /**
+     * 状態ごとの、失敗時の遷移を辿って最初に到達する、語彙が一致する状態。
+     */
+    private final int[] outputLink;
+    
+    /**
+     * 空文字の語彙の番号。
+     */
+    private final int emptyWordIndex;
+    
+    /**
+     * 語彙を指定してオートマトンを作成します。
+     * @param words 検索対象の語彙。重複は除去済みであること。
+     */
+    WordMatcher(final List<String> words) {
+        
+        this.words = words;
+        
+        // トライ木を作成する。子の状態への遷移の文字は、失敗時の遷移先を求める際に使用する。
+        final List<int[]> children = new ArrayList<>();
+        final List<Integer> wordIndexList = new ArrayList<>();
+        children.add(new int[0]);
+        wordIndexList.add(NONE);
+        
+        int emptyIndex = NONE;
+        initTransitions(words.stream().mapToInt(String::length).sum());
+        
+        for(int i=0; i < words.size(); i++) {
+            final String word = words.get(i);
+            if(word.isEmpty()) {
+                emptyIndex = i;
+                continue;
+            }
+            
+            int state = ROOT;
+            for(int j=0; j < word.length(); j++) {
+                final char c = word.charAt(j);
+                int next = transition(state, c);
+                if(next == NONE) {
+                    next = children.size();
+                    children.add(new int[0]);
+                    wordIndexList.add(NONE);
+                    putTransition(state, c, next);
+                    children.set(state, append(children.get(state), c));
+                }
+                state = next;
+            }
+            wordIndexList.set(state, i);
+        }
+        
+        final int stateCount = children.size();
+        this.emptyWordIndex = emptyIndex;
+        this.failure = new int[stateCount];
+        this.outputLink = new int[stateCount];
+        this.wordIndex = new int[stateCount];
+        for(int i=0; i < stateCount; i++) {
+            wordIndex[i] = wordIndexList.get(i);
+        }
+        
+        // 幅優先探索で、失敗時の遷移先を求める
+        final int[] queue = new int[stateCount];
+        int head = 0;
+        int tail = 0;
+        failure[ROOT] = ROOT;
+        outputLink[ROOT] = NONE;
+        queue[tail++] = ROOT;
+        
+        while(head < tail) {
+            final int state = queue[head++];
+            for(int c : children.get(state)) {
+                final char ch = (char)c;
+                final int child = transition(state, ch);
+                
+                int fail;
+                if(state == ROOT) {
+                    fail = ROOT;
+                } else {
+                    fail = failure[state];
+                    while(fail != ROOT && transition(fail, ch) == NONE) {
+                        fail = failure[fail];
+                    }
+                    final int next = transition(fail, ch);
+                    fail = next == NONE ? ROOT : next;
+                }
+                
+                failure[child] = fail;
+                outputLink[child] = fail == ROOT ? NONE : (wordIndex[fail] != NONE ? fail : outputLink[fail]);
+                queue[tail++] = child;
+            }
+        }
+    }
+    
+    private static int[] append(final int[] array, final char c) {
+        final int[] expanded = new int[array.length + 1];
+        System.arraycopy(array, 0, expanded, 0, array.length);
+        expanded[array.length] = c;
+        return expanded;
+    }
+    
+    private void initTransitions(final int maxTransitions) {
+        // 負荷率を0.5以下にする
+        int capacity = 16;
+        while(capacity < maxTransitions * 2) {
+            capacity <<= 1;
+        }
+        
+        this.transitionKeys = new long[capacity];
+        this.transitionTargets = new int[capacity];
+        this.transitionMask = capacity - 1;
+        Arrays.fill(transitionTargets, NONE);
+    }
+    
+    private static long transitionKey(final int state, final char c) {
+        return ((long)state << 16) | c;
+    }
+    
+    private int slotOf(final long key) {
+        return (int)((key * 0x9E3779B97F4A7C15L) >>> 32) & transitionMask;
+    }
+    
+    private void putTransition(final int state, final char c, final int target) {
+        final long key = transitionKey(state, c);
+        int slot = slotOf(key);
+        while(transitionTargets[slot] != NONE) {
+            slot = (slot + 1) & transitionMask;
+        }
+        transitionKeys[slot] = key;
+        transitionTargets[slot] = target;
+    }
+    
+    /**
+     * 遷移先の状態を取得します。
+     * @return 遷移先がない場合は、{@link #NONE}を返します。
+     */
+    private int transition(final int state, final char c) {
+        final long key = transitionKey(state, c);
+        int slot = slotOf(key);
+        while(true) {
+            final int target = transitionTargets[slot];
+            if(target == NONE || transitionKeys[slot] == key) {
+                return target;
+            }
+            slot = (slot + 1) & transitionMask;
+        }
+    }
+    
+    /**
+     * 1文字を読み込んだ後の状態を取得します。
+     */
+    private int step(int state, final char c) {
+        while(true) {
+            final int next = transition(state, c);
+            if(next != NONE) {
+                return next;
+            }
+            if(state == ROOT) {
+                return ROOT;
+            }
+            state = failure[state];
+        }
+    }
+    
+    /**
+     * いずれかの語彙を含むかどうか判定します。
+     * @param text 検索対象の文字列
+     * @return 1つでも含む場合は、trueを返します。
+     */
+    boolean containsAny(final CharSequence text) {
+        
+        if(emptyWordIndex != NONE) {
+            return true;
+        }
+        
+        int state = ROOT;
+        final int length = text.length();
+        for(int i=0; i < length; i++) {
+            state = step(state, text.charAt(i));
+            if(wordIndex[state] != NONE || outputLink[state] != NONE) {
+                return true;
+            }
+        }
+        
+        return false;
+    }
+    
+    /**
+     * 文字列に含まれる語彙の番号を取得します。
+     * @param text 検索対象の文字列
+     * @return 含まれる語彙の番号
+     */
+    private BitSet match(final CharSequence text) {
+        
+        final BitSet found = new BitSet(words.size());
+        if(emptyWordIndex != NONE) {
+            found.set(emptyWordIndex);
+        }
+        
+        int state = ROOT;
+        final int length = text.length();
+        for(int i=0; i < length; i++) {
+            state = step(state, text.charAt(i));
+            
+            int output = wordIndex[state] != NONE ? state : outputLink[state];
+            while(output != NONE) {
+                found.set(wordIndex[output]);
+                output = outputLink[output];
+            }
+        }
+        
+        return found;
+    }
+    
+    /**
+     * 文字列に含まれる語彙を取得します。
+     * @param text 検索対象の文字列
+     * @return 含まれる語彙。順序は、コンストラクタで指定した語彙の順序です。
+     */
+    List<String> findAll(final CharSequence text) {
+        
+        final BitSet found = match(text);
+        final List<String> result = new ArrayList<>(found.cardinality());
+        for(int i = found.nextSetBit(0); i >= 0; i = found.nextSetBit(i + 1)) {
+            result.add(words.get(i));
+        }
+        return result;
+    }
+    
+    /**
+     * 文字列に含まれない語彙を取得します。
+     * @param text 検索対象の文字列
+     * @return 含まれない語彙。全て含まれる場合は空のリストを返します。
+     *         順序は、コンストラクタで指定した語彙の順序です。
+     */
+    List<String> findMissing(final CharSequence text) {
+        
+        final BitSet found = match(text);
+        if(found.cardinality() == words.size()) {
+            return Collections.emptyList();
+        }
+        
+        final List<String> result = new ArrayList<>(words.size() - found.cardinality());
+        for(int i = found.nextClearBit(0); i < words.size(); i = found.nextClearBit(i + 1)) {
+            result.add(words.get(i));
+        }
+        return result;
+    }
+    
+}
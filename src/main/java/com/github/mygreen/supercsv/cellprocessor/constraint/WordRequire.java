@@ -13,13 +13,23 @@ import com.github.mygreen.supercsv.cellprocessor.ValidationCellProcessor;
 
 /**
  * 必須語彙を含んでいるか検証するCellProcessor.
+ * <p>必須語彙は、インスタンスの作成時にAho-Corasick法のオートマトンに変換し、
+ *    語彙の件数によらず、値を1回走査して検証します。
+ * </p>
+ * 
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
  */
 public class WordRequire extends ValidationCellProcessor implements StringCellProcessor {
     
-    private final Collection<String> words;
+    private final List<String> words;
+    
+    /**
+     * 語彙を検索するオートマトン
+     */
+    private final WordMatcher matcher;
     
     public WordRequire(final Collection<String> words) {
         super();
@@ -27,6 +37,7 @@ public class WordRequire extends ValidationCellProcessor implements StringCellPr
         this.words = words.stream()
                 .distinct()
                 .collect(Collectors.toList());
+        this.matcher = new WordMatcher(this.words);
         
     }
     
@@ -36,6 +47,7 @@ public class WordRequire extends ValidationCellProcessor implements StringCellPr
         this.words = words.stream()
                 .distinct()
                 .collect(Collectors.toList());
+        this.matcher = new WordMatcher(this.words);
         
     }
     
@@ -56,9 +68,7 @@ public class WordRequire extends ValidationCellProcessor implements StringCellPr
         if(!words.isEmpty()) {
             final String stringValue = value.toString();
             
-            final List<String> requiredWords = words.stream()
-                    .filter(word -> !stringValue.contains(word))
-                    .collect(Collectors.toList());
+            final List<String> requiredWords = matcher.findMissing(stringValue);
             
             if(!requiredWords.isEmpty()) {
                 final String joinedWords = String.join(", ", requiredWords);
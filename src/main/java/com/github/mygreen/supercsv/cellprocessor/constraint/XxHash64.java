@@ -0,0 +1,140 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 64bitのハッシュ値を算出するアルゴリズム xxHash64 の実装。
+ * <p>{@link Object#hashCode()}の32bitのハッシュ値では、件数が億単位になると衝突が避けられないため、
+ *    より衝突の少ないハッシュ値が必要な場合に使用します。
+ * </p>
+ * <p>アルゴリズムの仕様は、<a href="https://github.com/Cyan4973/xxHash">xxHash</a>を参照してください。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+final class XxHash64 {
+    
+    private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+    
+    private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+    
+    private static final long PRIME64_3 = 0x165667B19E3779F9L;
+    
+    private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+    
+    private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+    
+    private XxHash64() {
+    }
+    
+    /**
+     * 文字列をUTF-8で符号化した値のハッシュ値を算出します。
+     * @param text 対象の文字列
+     * @return シード値を0としたハッシュ値
+     */
+    static long hash(final String text) {
+        return hash(text.getBytes(StandardCharsets.UTF_8), 0L);
+    }
+    
+    /**
+     * バイト配列のハッシュ値を算出します。
+     * @param data 対象のバイト配列
+     * @param seed シード値
+     * @return ハッシュ値
+     */
+    static long hash(final byte[] data, final long seed) {
+        
+        final int length = data.length;
+        int offset = 0;
+        long h;
+        
+        if(length >= 32) {
+            long v1 = seed + PRIME64_1 + PRIME64_2;
+            long v2 = seed + PRIME64_2;
+            long v3 = seed;
+            long v4 = seed - PRIME64_1;
+            
+            final int limit = length - 32;
+            do {
+                v1 = round(v1, readLong(data, offset));
+                v2 = round(v2, readLong(data, offset + 8));
+                v3 = round(v3, readLong(data, offset + 16));
+                v4 = round(v4, readLong(data, offset + 24));
+                offset += 32;
+            } while(offset <= limit);
+            
+            h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            h = mergeRound(h, v1);
+            h = mergeRound(h, v2);
+            h = mergeRound(h, v3);
+            h = mergeRound(h, v4);
+            
+        } else {
+            h = seed + PRIME64_5;
+        }
+        
+        h += length;
+        
+        while(offset + 8 <= length) {
+            h ^= round(0L, readLong(data, offset));
+            h = Long.rotateLeft(h, 27) * PRIME64_1 + PRIME64_4;
+            offset += 8;
+        }
+        
+        if(offset + 4 <= length) {
+            h ^= (readInt(data, offset) & 0xFFFFFFFFL) * PRIME64_1;
+            h = Long.rotateLeft(h, 23) * PRIME64_2 + PRIME64_3;
+            offset += 4;
+        }
+        
+        while(offset < length) {
+            h ^= (data[offset] & 0xFFL) * PRIME64_5;
+            h = Long.rotateLeft(h, 11) * PRIME64_1;
+            offset++;
+        }
+        
+        h ^= h >>> 33;
+        h *= PRIME64_2;
+        h ^= h >>> 29;
+        h *= PRIME64_3;
+        h ^= h >>> 32;
+        return h;
+    }
+    
+    private static long round(long acc, final long input) {
+        acc += input * PRIME64_2;
+        acc = Long.rotateLeft(acc, 31);
+        return acc * PRIME64_1;
+    }
+    
+    private static long mergeRound(long acc, final long value) {
+        acc ^= round(0L, value);
+        return acc * PRIME64_1 + PRIME64_4;
+    }
+    
+    /**
+     * リトルエンディアンで8バイトを読み込みます。
+     */
+    private static long readLong(final byte[] data, final int offset) {
+        return (data[offset] & 0xFFL)
+                | (data[offset + 1] & 0xFFL) << 8
+                | (data[offset + 2] & 0xFFL) << 16
+                | (data[offset + 3] & 0xFFL) << 24
+                | (data[offset + 4] & 0xFFL) << 32
+                | (data[offset + 5] & 0xFFL) << 40
+                | (data[offset + 6] & 0xFFL) << 48
+                | (data[offset + 7] & 0xFFL) << 56;
+    }
+    
+    /**
+     * リトルエンディアンで4バイトを読み込みます。
+     */
+    private static int readInt(final byte[] data, final int offset) {
+        return (data[offset] & 0xFF)
+                | (data[offset + 1] & 0xFF) << 8
+                | (data[offset + 2] & 0xFF) << 16
+                | (data[offset + 3] & 0xFF) << 24;
+    }
+    
+}
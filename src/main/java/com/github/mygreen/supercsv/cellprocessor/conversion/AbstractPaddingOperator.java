@@ -3,151 +3,178 @@ package com.github.mygreen.supercsv.cellprocessor.conversion;
 /**
  * パディング処理の抽象クラス。
  * <p>サロゲートペアを考慮します。</p>
+ * <p>文字列の切り出しとパディングは、コードポイントの配列などに変換せずに1回の走査で行います。</p>
  *
+ * @version 2.4
  * @since 2.1
  * @author T.TSUCHIE
  *
  */
 public abstract class AbstractPaddingOperator implements PaddingProcessor {
 
-    /**
-     * コードポイントの配列に変換する。
-     * @param text
-     * @return
-     */
-    private int[] toCodePointArray(final String text) {
-        final int length = text.length();
-        final int codePointLength = text.codePointCount(0, length);
-
-        int[] array = new int[codePointLength];
-        for(int i=0, j=0, codePoint=0; i < length; j++, i+=Character.charCount(codePoint)) {
-            codePoint = text.codePointAt(i);
-            array[j] = codePoint;
-        }
-
-        return array;
-    }
-
     @Override
     public String pad(final String text, final int size, final char padChar, final boolean rightAlign, final boolean chopped) {
 
         final int currentSize = count(text);
-        final int padCharSize = count(String.valueOf(padChar));
-        final int[] codePointArray = toCodePointArray(text);
-        final int codePointSize = codePointArray.length;
 
-        if(rightAlign) {
-            // 右詰
-            if(currentSize == size) {
+        if(currentSize == size) {
+            return text;
+
+        } else if(currentSize > size) {
+            // 指定した長さを超える場合
+            if(!chopped) {
+                // 切り出さない場合
                 return text;
+            }
+
+            final int overLength = currentSize - size;
+            if(rightAlign) {
+                // 右詰
+                return chopLeft(text, overLength, size - currentSize, padChar);
 
-            } else if(currentSize > size) {
-                // 指定した長さを超える場合
-                if(chopped) {
-                    // 切り出す場合
-
-                    /*
-                     * 左端から長さをカウントしていき、オーバした長さ分を切り取る
-                     */
-                    final int overLength = currentSize - size;
-                    for(int i=0, chopLength=0; i < codePointSize; i++) {
-                        final int codePoint = codePointArray[i];
-                        chopLength += count(codePoint);
-                        if(chopLength >= overLength) {
-                            // substring(i+1)
-                            String chopText = new String(codePointArray, i+1, codePointSize-(i+1));
-
-                            // 切り取った後の再調整。
-                            // パディング文字が全角の場合は、余分に切り取る場合があるため。
-                            return pad(chopText, size, padChar, rightAlign, chopped);
-                        }
-
-                    }
-
-                    // 全て切り出す場合
-                    return "";
-
-                } else {
-                    // 切り出さない場合
-                    return text;
-                }
             } else {
-                // 指定したサイズより少ない場合
+                // 左詰
+                return chopRight(text, overLength, size - currentSize, padChar);
+            }
 
-                /*
-                 * パディング文字を付与していく
-                 * ・パディング文字が全角の時があり、長さが2以上になるので注意する
-                 */
-                final int lackLength = size - currentSize;
-                int padCount = lackLength / padCharSize;
+        } else {
+            // 指定したサイズより少ない場合
+            return appendPadding(text, 0, text.length(), size - currentSize, padChar, rightAlign);
+        }
 
-                StringBuilder appender = new StringBuilder();
-                for(int i=0; i < padCount; i++) {
-                    appender.append(padChar);
-                }
+    }
 
-                appender.append(text);
+    /**
+     * 左端から長さをカウントしていき、オーバした長さ分を切り取り、不足分を左側にパディングする。
+     * @param text 処理対象の文字列
+     * @param overLength 超過している長さ
+     * @param lackLength 切り取る前の不足している長さ。負の値。
+     * @param padChar パディングする文字
+     * @return 切り取った文字列
+     */
+    private String chopLeft(final String text, final int overLength, final int lackLength, final char padChar) {
 
-                return appender.toString();
+        final int length = text.length();
+        int chopLength = 0;
+        int index = 0;
+        while(index < length) {
+            final int codePoint = text.codePointAt(index);
+            chopLength += count(codePoint);
+            index += Character.charCount(codePoint);
+
+            if(chopLength >= overLength) {
+                // 切り取った後の再調整。
+                // パディング文字が全角の場合は、余分に切り取る場合があるため。
+                return appendPadding(text, index, length, lackLength + chopLength, padChar, true);
+            }
+        }
 
+        // 全て切り出す場合
+        return "";
+    }
+
+    /**
+     * 右端から長さをカウントしていき、オーバした長さ分を切り取り、不足分を右側にパディングする。
+     * @param text 処理対象の文字列
+     * @param overLength 超過している長さ
+     * @param lackLength 切り取る前の不足している長さ。負の値。
+     * @param padChar パディングする文字
+     * @return 切り取った文字列
+     */
+    private String chopRight(final String text, final int overLength, final int lackLength, final char padChar) {
+
+        int chopLength = 0;
+        int index = text.length();
+        while(index > 0) {
+            final int codePoint = text.codePointBefore(index);
+            chopLength += count(codePoint);
+            index -= Character.charCount(codePoint);
+
+            if(chopLength >= overLength) {
+                // 切り取った後の再調整。
+                // パディング文字が全角の場合は、余分に切り取る場合があるため。
+                return appendPadding(text, 0, index, lackLength + chopLength, padChar, false);
             }
-        } else {
-            // 左詰
+        }
 
-            if(currentSize == size) {
-                return text;
+        // 全て切り出す場合
+        return "";
+    }
 
-            } else if(currentSize > size) {
-                // 指定したサイズを超える場合
-                if(chopped) {
-                    // 切り出す場合
-
-                    /*
-                     * 右端から長さをカウントしていき、オーバした長さ分を切り取る
-                     */
-                    final int overLength = currentSize - size;
-                    for(int i=codePointSize-1, chopLength=0; i >= 0; i--) {
-                        final int codePoint = codePointArray[i];
-                        chopLength += count(codePoint);
-                        if(chopLength >= overLength) {
-                            // substring(0, i)
-                            String chopText = new String(codePointArray, 0, i);
-
-                            // 切り取った後の再調整。
-                            // パディング文字が全角の場合は、余分に切り取る場合があるため。
-                            return pad(chopText, size, padChar, rightAlign, chopped);
-                        }
-
-                    }
-
-
-                    // 全て切り出す場合
-                    return "";
-
-                } else {
-                    // 切り出さない場合
-                    return text;
-                }
-            } else {
-                // 指定したサイズより少ない場合
+    /**
+     * 文字列の範囲に、パディング文字を付与する。
+     * <p>パディング文字が全角の時があり、長さが2以上になるので注意する。</p>
+     * @param text 処理対象の文字列
+     * @param begin 文字列の範囲の開始位置
+     * @param end 文字列の範囲の終了位置
+     * @param lackLength 不足している長さ
+     * @param padChar パディングする文字
+     * @param rightAlign 右詰めするかどうか。
+     * @return パディングした文字列
+     */
+    private String appendPadding(final String text, final int begin, final int end, final int lackLength,
+            final char padChar, final boolean rightAlign) {
 
-                /*
-                 * パディング文字を付与していく
-                 * ・パディング文字が全角の時があり、長さが2以上になるので注意する
-                 */
-                final int lackLength = size - currentSize;
-                int padCount = lackLength / padCharSize;
+        final int padCount = lackLength > 0 ? lackLength / count(padChar) : 0;
+        if(padCount == 0) {
+            return text.substring(begin, end);
+        }
 
-                StringBuilder appender = new StringBuilder(text);
-                for(int i=0; i < padCount; i++) {
-                    appender.append(padChar);
-                }
+        final StringBuilder appender = new StringBuilder(end - begin + padCount);
+        if(!rightAlign) {
+            appender.append(text, begin, end);
+        }
 
-                return appender.toString();
-            }
+        for(int i=0; i < padCount; i++) {
+            appender.append(padChar);
+        }
+
+        if(rightAlign) {
+            appender.append(text, begin, end);
+        }
+
+        return appender.toString();
+    }
+
+    /**
+     * 文字列のサイズを、パディング処理と同じ方法でカウントします。
+     * <p>固定長のレコードの書き込み時に、パディングした値のサイズを検証するために使用します。</p>
+     * @since 2.4
+     * @param text カウント対象の文字列
+     * @return 文字列のサイズ
+     * @throws NullPointerException {@literal text is null.}
+     */
+    public int sizeOf(final String text) {
+        return count(text);
+    }
 
+    /**
+     * 開始位置から、指定したサイズに収まる範囲の終了位置を求めます。
+     * <p>固定長のレコードをカラムに切り出すために使用します。
+     *    サイズの境界が文字の途中になる場合は、その文字を含めません。
+     * </p>
+     * @since 2.4
+     * @param text 処理対象の文字列
+     * @param beginIndex 開始位置
+     * @param size 切り出すサイズ
+     * @return 終了位置（この位置の文字は含まない）。文字列の長さを超えることはありません。
+     * @throws NullPointerException {@literal text is null.}
+     */
+    public int endIndexOf(final String text, final int beginIndex, final int size) {
+
+        final int length = text.length();
+        int currentSize = 0;
+        int index = beginIndex;
+        while(index < length) {
+            final int codePoint = text.codePointAt(index);
+            currentSize += count(codePoint);
+            if(currentSize > size) {
+                break;
+            }
+            index += Character.charCount(codePoint);
         }
 
+        return index;
     }
 
     /**
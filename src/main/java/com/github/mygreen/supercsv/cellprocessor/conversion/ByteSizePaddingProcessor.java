@@ -1,21 +1,57 @@
 package com.github.mygreen.supercsv.cellprocessor.conversion;
 
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.github.mygreen.supercsv.util.ArgUtils;
 
 /**
  * 文字数をバイトサイズでカウントして、パディングする。
  * <p>バイト数は、エンコードによって変わるため、環境によってこのクラスを継承しクラスを使用してください。</p>
+ * <p>UTF-8、Windows-31j、EUC-JPなど、前後の文字によってバイト数が変わらない文字コードの場合は、
+ *    BMPの文字ごとのバイト数の表を事前に作成し、文字列をエンコードせずにカウントします。
+ *    表は文字コードごとに作成し、インスタンス間で共有します。
+ * </p>
  *
+ * @version 2.4
  * @since 2.1
  * @author T.TSUCHIE
  *
  */
 public abstract class ByteSizePaddingProcessor extends AbstractPaddingOperator {
     
+    /**
+     * バイト数の表を使用する文字コードの名称。
+     * <p>エスケープシーケンスやBOMを出力する文字コードは、文字ごとのバイト数の合計が、
+     *    文字列をエンコードしたときのバイト数と一致しないため、対象外とします。
+     * </p>
+     */
+    private static final Set<String> STATELESS_CHARSETS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "UTF-8", "windows-31j", "Shift_JIS", "EUC-JP", "US-ASCII", "ISO-8859-1")));
+    
+    /**
+     * 文字コードごとの、BMPの文字のバイト数の表。
+     */
+    private static final Map<Charset, byte[]> WIDTH_TABLES = new ConcurrentHashMap<>();
+    
     private final Charset charset;
     
+    /**
+     * BMPの文字のバイト数の表。対象外の文字コードの場合はnull。
+     */
+    private final byte[] widthTable;
+    
     /**
      * 文字コードを指定するコンストラクタ
      * @param charset 文字コード
@@ -24,18 +60,82 @@ public abstract class ByteSizePaddingProcessor extends AbstractPaddingOperator {
     public ByteSizePaddingProcessor(final Charset charset) {
         ArgUtils.notNull(charset, "charset");
         this.charset = charset;
+        this.widthTable = STATELESS_CHARSETS.contains(charset.name())
+                ? WIDTH_TABLES.computeIfAbsent(charset, ByteSizePaddingProcessor::createWidthTable)
+                : null;
+    }
+    
+    /**
+     * BMPの文字ごとのバイト数の表を作成する。
+     * <p>{@link String#getBytes(Charset)}と同様に、変換できない文字は代替文字のバイト数とします。</p>
+     * @param charset 文字コード
+     * @return 文字をインデックスとする、バイト数の表。
+     */
+    private static byte[] createWidthTable(final Charset charset) {
+        
+        final CharsetEncoder encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        
+        final char[] chars = new char[1];
+        final CharBuffer in = CharBuffer.wrap(chars);
+        final ByteBuffer out = ByteBuffer.allocate((int)Math.ceil(encoder.maxBytesPerChar()) + encoder.replacement().length);
+        
+        final byte[] table = new byte[Character.MAX_VALUE + 1];
+        for(int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            chars[0] = (char)c;
+            // JDK9以降でビルドしたときに、Java8で存在しない共変戻り値のメソッドを呼び出さないようにする。
+            ((Buffer)in).clear();
+            ((Buffer)out).clear();
+            encoder.reset();
+            encoder.encode(in, out, true);
+            encoder.flush(out);
+            table[c] = (byte)out.position();
+        }
+        
+        return table;
+    }
+    
+    /**
+     * 文字コードを取得する。
+     * @since 2.4
+     * @return 文字コード
+     */
+    public Charset getCharset() {
+        return charset;
     }
     
     @Override
     public int count(int codePoint) {
-        return count(String.valueOf(Character.toChars(codePoint)));
+        if(widthTable != null && Character.isBmpCodePoint(codePoint)) {
+            return widthTable[codePoint];
+        }
+        
+        return String.valueOf(Character.toChars(codePoint)).getBytes(charset).length;
     }
     
     @Override
     public int count(final String text) {
         ArgUtils.notNull(text, "text");
         
-        return text.getBytes(charset).length;
+        if(widthTable == null) {
+            return text.getBytes(charset).length;
+        }
+        
+        int count = 0;
+        final int length = text.length();
+        for(int i=0; i < length; i++) {
+            final char c = text.charAt(i);
+            if(Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                // サロゲートペアは、BMP外の文字としてカウントする。
+                count += count(text.codePointAt(i));
+                i++;
+            } else {
+                count += widthTable[c];
+            }
+        }
+        
+        return count;
     }
     
     /**
@@ -44,7 +144,7 @@ public abstract class ByteSizePaddingProcessor extends AbstractPaddingOperator {
     public static class Utf8 extends ByteSizePaddingProcessor {
         
         public Utf8() {
-            super(Charset.forName("UTF-8"));
+            super(StandardCharsets.UTF_8);
         }
         
     };
@@ -70,5 +170,5 @@ public abstract class ByteSizePaddingProcessor extends AbstractPaddingOperator {
         }
         
     };
-
+    
 }
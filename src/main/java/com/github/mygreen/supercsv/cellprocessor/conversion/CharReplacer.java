@@ -1,52 +1,52 @@
 package com.github.mygreen.supercsv.cellprocessor.conversion;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.Arrays;
 
 import com.github.mygreen.supercsv.util.ArgUtils;
 import com.github.mygreen.supercsv.util.Utils;
 
 /**
  * 文字を置換するクラス
+ * <p>置換対象の文字は、登録時にトライ木に格納します。
+ *    置換時は、文字列を先頭から1回走査し、各位置で最も長く一致する置換対象の文字を置換します。
+ * </p>
+ * <p>置換対象の文字が含まれない場合は、文字列をコピーせずにそのまま返します。</p>
  * 
- * @version 2.0.1
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
  */
 public class CharReplacer {
     
-    /** 置換元が1文字の場合 */
-    private final Map<Character, String> singles = new HashMap<>();
+    /** トライ木のルートの状態 */
+    private static final int ROOT = 0;
     
-    /** 置換元が2文字以上の文字の場合 */
-    private final List<MultiChar> multi = new ArrayList<>();
+    /** 遷移先がないことを表す状態 */
+    private static final int NONE = -1;
     
     /**
-     * 置換元の文字が2文字以上の場合
-     *
+     * 遷移表のキー。状態と文字を組み合わせた値。
      */
-    private static class MultiChar {
-        
-        private final String word;
-        
-        private final String replacement;
-        
-        private MultiChar(final String word, final String replacement) {
-            this.word = word;
-            this.replacement = replacement;
-        }
-        
-    }
+    private long[] transitionKeys = new long[16];
+    
+    /**
+     * 遷移表の遷移先の状態。{@link #NONE}の場合は空き。
+     */
+    private int[] transitionTargets = newTargets(16);
+    
+    private int transitionCount = 0;
+    
+    /**
+     * 状態ごとの置換後の文字。置換対象の文字の末尾ではない状態はnull。
+     */
+    private String[] replacements = new String[16];
+    
+    private int stateCount = 1;
     
     /**
      * 置換対象の文字を登録する。
+     * <p>同じ置換対象の文字を複数回登録した場合は、最初に登録した置換後の文字を使用する。</p>
      * @param word 置換対象の文字
      * @param replacement 置換後の文字
      * @throws IllegalArgumentException word is empty.
@@ -56,60 +56,36 @@ public class CharReplacer {
         ArgUtils.notEmpty(word, "word");
         ArgUtils.notNull(replacement, "replacement");
         
-        if(word.length() == 1) {
-            singles.computeIfAbsent(word.charAt(0), key -> replacement);
-            
-        } else {
-            multi.add(new MultiChar(word, replacement));
+        int state = ROOT;
+        for(int i=0; i < word.length(); i++) {
+            final char c = word.charAt(i);
+            int next = transition(state, c);
+            if(next == NONE) {
+                next = addState();
+                putTransition(state, c, next);
+            }
+            state = next;
+        }
+        
+        if(replacements[state] == null) {
+            replacements[state] = replacement;
         }
         
     }
     
     /**
      * 登録後に置換文字の整理を行うため、必ず実行すること。
+     * <p>置換対象の文字は登録時にトライ木に格納するため、現在は処理を行いません。</p>
      */
     public void ready() {
         
-        // 複数の文字の場合、重複を排除する。
-        final Set<String> duplicatedWords = new HashSet<>();
-        final List<MultiChar> newMulti = new ArrayList<>();
-        for(MultiChar word : multi) {
-            if(duplicatedWords.contains(word.word)) {
-                continue;
-            }
-            duplicatedWords.add(word.word);
-            newMulti.add(word);
-        }
-        
-        // 複数の文字の場合、文字長が長い順に並び替える。
-        Collections.sort(newMulti, new Comparator<MultiChar>() {
-            
-            @Override
-            public int compare(final MultiChar o1, final MultiChar o2) {
-                
-                final int length1 = o1.word.length();
-                final int length2 = o2.word.length();
-                if(length1 < length2) {
-                    return 1;
-                    
-                } else if(length1 > length2) {
-                    return -1;
-                    
-                } else {
-                    return o1.word.compareTo(o2.word);
-                }
-            }
-        });
-        
-        multi.clear();
-        multi.addAll(newMulti);
-        
     }
     
     /**
      * 登録された文字を元に置換する。
      * @param text 置換対象の文字
      * @return 置換した文字。置換対象の文字がnullまたは空文字の場合、置換しない。
+     *         置換対象の文字が含まれない場合は、引数の文字列をそのまま返す。
      */
     public String replace(final String text) {
         
@@ -118,53 +94,115 @@ public class CharReplacer {
         }
         
         final int length = text.length();
-        StringBuilder replaced = new StringBuilder();
+        StringBuilder replaced = null;
+        int copied = 0;
         int index = 0;
         
         while(index < length) {
-            int multiIndex = replaceMulti(text, index, replaced);
-            if(multiIndex > index) {
-                index = multiIndex;
-                continue;
+            
+            // 最も長く一致する置換対象の文字を探す
+            int state = ROOT;
+            int matchedEnd = NONE;
+            String matchedReplacement = null;
+            for(int i=index; i < length; i++) {
+                state = transition(state, text.charAt(i));
+                if(state == NONE) {
+                    break;
+                }
+                
+                if(replacements[state] != null) {
+                    matchedEnd = i + 1;
+                    matchedReplacement = replacements[state];
+                }
             }
             
-            int singleIndex = replaceSingle(text, index, replaced);
-            if(singleIndex > index) {
-                index = singleIndex;
+            if(matchedEnd == NONE) {
+                // 置換できるものがない場合
+                index++;
                 continue;
             }
             
-            // 置換できるものがない場合
-            replaced.append(text.charAt(index));
-            index++;
-            
+            if(replaced == null) {
+                replaced = new StringBuilder(length + 16);
+            }
+            replaced.append(text, copied, index).append(matchedReplacement);
+            index = matchedEnd;
+            copied = matchedEnd;
         }
         
+        if(replaced == null) {
+            return text;
+        }
+        
+        replaced.append(text, copied, length);
         return replaced.toString();
     }
     
-    private int replaceSingle(final String source, final int index, final StringBuilder replaced) {
-        
-        final char c = source.charAt(index);
-        if(singles.containsKey(c)) {
-            replaced.append(singles.get(c));
-            return index + 1;
+    private static int[] newTargets(final int capacity) {
+        final int[] targets = new int[capacity];
+        Arrays.fill(targets, NONE);
+        return targets;
+    }
+    
+    private int addState() {
+        if(stateCount == replacements.length) {
+            this.replacements = Arrays.copyOf(replacements, stateCount * 2);
         }
-        
-        return index;
-        
+        return stateCount++;
     }
     
-    private int replaceMulti(final String source, final int index, final StringBuilder replaced) {
-        
-        for(MultiChar word : multi) {
-            if(source.indexOf(word.word, index) == index) {
-                replaced.append(word.replacement);
-                return index + word.word.length();
+    private static long transitionKey(final int state, final char c) {
+        return ((long)state << 16) | c;
+    }
+    
+    private static int slotOf(final long key, final int mask) {
+        return (int)((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+    
+    /**
+     * 遷移先の状態を取得する。
+     * @return 遷移先がない場合は、{@link #NONE}を返す。
+     */
+    private int transition(final int state, final char c) {
+        final long key = transitionKey(state, c);
+        final int mask = transitionTargets.length - 1;
+        int slot = slotOf(key, mask);
+        while(true) {
+            final int target = transitionTargets[slot];
+            if(target == NONE || transitionKeys[slot] == key) {
+                return target;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+    
+    private void putTransition(final int state, final char c, final int target) {
+        
+        // 負荷率を0.5以下にする
+        if((transitionCount + 1) * 2 > transitionTargets.length) {
+            final long[] oldKeys = transitionKeys;
+            final int[] oldTargets = transitionTargets;
+            this.transitionKeys = new long[oldKeys.length * 2];
+            this.transitionTargets = newTargets(oldTargets.length * 2);
+            for(int i=0; i < oldTargets.length; i++) {
+                if(oldTargets[i] != NONE) {
+                    insertTransition(oldKeys[i], oldTargets[i]);
+                }
             }
         }
         
-        return index;
+        insertTransition(transitionKey(state, c), target);
+        transitionCount++;
+    }
+    
+    private void insertTransition(final long key, final int target) {
+        final int mask = transitionTargets.length - 1;
+        int slot = slotOf(key, mask);
+        while(transitionTargets[slot] != NONE) {
+            slot = (slot + 1) & mask;
+        }
+        transitionKeys[slot] = key;
+        transitionTargets[slot] = target;
     }
     
 }
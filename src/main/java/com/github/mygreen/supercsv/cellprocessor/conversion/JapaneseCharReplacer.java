@@ -1,18 +1,28 @@
 package com.github.mygreen.supercsv.cellprocessor.conversion;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.github.mygreen.supercsv.util.Utils;
 
 /**
  * 日本語の全角・半角の文字を置換する。
+ * <p>選択した文字の種類の対応表は、BMPの全ての文字に対する{@literal char}型の配列の変換表と、
+ *    濁点・半濁点を含む半角カナのような複数の文字の変換表に変換して使用します。
+ *    変換表は、文字の種類の組み合わせごとに作成し、インスタンス間で共有します。
+ * </p>
+ * <p>変換対象の文字が含まれない場合は、文字列をコピーせずにそのまま返します。</p>
  * 
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -221,26 +231,48 @@ public class JapaneseCharReplacer {
         
     }
     
+    /**
+     * 文字の種類の組み合わせごとの変換表。
+     * <p>キーは、全角文字への変換表と半角文字への変換表の組み合わせ。</p>
+     */
+    private static final Map<Set<CharCategory>, ConversionTable[]> TABLE_CACHE = new ConcurrentHashMap<>();
+    
     /** 全角文字への置換処理 */
-    private final CharReplacer fullCharReplacer = new CharReplacer();
+    private final ConversionTable fullCharTable;
     
     /** 半角文字への置換処理 */
-    private final CharReplacer halfCharReplacer = new CharReplacer();
+    private final ConversionTable halfCharTable;
     
     public JapaneseCharReplacer(final Collection<CharCategory> categories) {
         
-        Set<CharCategory> categorySet = new HashSet<>(categories);
-        for(CharCategory category : categorySet) {
+        final Set<CharCategory> categorySet = EnumSet.noneOf(CharCategory.class);
+        categorySet.addAll(categories);
+        
+        final ConversionTable[] tables = TABLE_CACHE.computeIfAbsent(categorySet, JapaneseCharReplacer::createTables);
+        this.fullCharTable = tables[0];
+        this.halfCharTable = tables[1];
+        
+    }
+    
+    /**
+     * 文字の種類の組み合わせに対する変換表を作成する。
+     * <p>同じ変換元の文字が複数ある場合は、{@link CharCategory}の定義順で先の対応を使用する。</p>
+     * @param categories 文字の種類
+     * @return 全角文字への変換表と、半角文字への変換表。
+     */
+    private static ConversionTable[] createTables(final Set<CharCategory> categories) {
+        
+        final Map<String, String> toFull = new LinkedHashMap<>();
+        final Map<String, String> toHalf = new LinkedHashMap<>();
+        for(CharCategory category : categories) {
             final String[][] charMap = CHAR_MAPS.get(category);
             for(String[] map : charMap) {
-                fullCharReplacer.register(map[0], map[1]);
-                halfCharReplacer.register(map[1], map[0]);
+                toFull.putIfAbsent(map[0], map[1]);
+                toHalf.putIfAbsent(map[1], map[0]);
             }
         }
         
-        fullCharReplacer.ready();
-        halfCharReplacer.ready();
-        
+        return new ConversionTable[]{new ConversionTable(toFull), new ConversionTable(toHalf)};
     }
     
     public JapaneseCharReplacer(final CharCategory... categories) {
@@ -258,7 +290,7 @@ public class JapaneseCharReplacer {
             return text;
         }
         
-        return fullCharReplacer.replace(text);
+        return fullCharTable.replace(text);
     }
     
     /**
@@ -272,9 +304,146 @@ public class JapaneseCharReplacer {
             return text;
         }
         
-        return halfCharReplacer.replace(text);
+        return halfCharTable.replace(text);
         
     }
     
+    /**
+     * 1方向の文字の変換表。
+     * <p>変換元が1文字の場合は、文字コードをインデックスとする配列で変換先を引きます。
+     *    変換元が2文字の場合は、1文字目を{@link BitSet}で判定してから、2文字の組み合わせを検索します。
+     * </p>
+     * <p>作成後は状態を変更しないため、複数のスレッドから並列に使用できます。</p>
+     */
+    private static final class ConversionTable {
+        
+        /** 変換先が1文字ではないことを表す値 */
+        private static final char MULTI = '\uFFFF';
+        
+        /** 変換元が1文字の場合の、変換先の文字。変換しない場合は0。 */
+        private final char[] singles = new char[Character.MAX_VALUE + 1];
+        
+        /** 変換元が1文字で、変換先が1文字ではない場合の変換元の文字。昇順に並ぶ。 */
+        private final char[] expansionKeys;
+        
+        private final String[] expansionValues;
+        
+        /** 変換元が2文字の場合の、1文字目 */
+        private final BitSet pairHeads = new BitSet();
+        
+        /** 変換元が2文字の場合の、2文字を組み合わせた値。昇順に並ぶ。 */
+        private final int[] pairKeys;
+        
+        private final String[] pairValues;
+        
+        private ConversionTable(final Map<String, String> charMap) {
+            
+            final Map<Character, String> expansions = new HashMap<>();
+            final Map<Integer, String> pairs = new HashMap<>();
+            
+            for(Map.Entry<String, String> entry : charMap.entrySet()) {
+                final String source = entry.getKey();
+                final String target = entry.getValue();
+                
+                if(source.length() == 1) {
+                    final char c = source.charAt(0);
+                    if(target.length() == 1 && target.charAt(0) != MULTI && target.charAt(0) != 0) {
+                        singles[c] = target.charAt(0);
+                    } else {
+                        singles[c] = MULTI;
+                        expansions.put(c, target);
+                    }
+                    
+                } else if(source.length() == 2) {
+                    pairHeads.set(source.charAt(0));
+                    pairs.put(pairKey(source.charAt(0), source.charAt(1)), target);
+                    
+                } else {
+                    throw new IllegalArgumentException("source should be 1 or 2 chars : " + source);
+                }
+            }
+            
+            this.expansionKeys = new char[expansions.size()];
+            this.expansionValues = new String[expansions.size()];
+            int index = 0;
+            for(Character key : new TreeSet<>(expansions.keySet())) {
+                expansionKeys[index] = key;
+                expansionValues[index] = expansions.get(key);
+                index++;
+            }
+            
+            this.pairKeys = pairs.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            this.pairValues = new String[pairKeys.length];
+            for(int i=0; i < pairKeys.length; i++) {
+                pairValues[i] = pairs.get(pairKeys[i]);
+            }
+        }
+        
+        private static int pairKey(final char first, final char second) {
+            return (first << 16) | second;
+        }
+        
+        /**
+         * 文字列を変換する。
+         * @param text 変換対象の文字列。nullまたは空文字ではないこと。
+         * @return 変換対象の文字が含まれない場合は、引数の文字列をそのまま返す。
+         */
+        String replace(final String text) {
+            
+            final int length = text.length();
+            StringBuilder replaced = null;
+            int copied = 0;
+            int index = 0;
+            
+            while(index < length) {
+                final char c = text.charAt(index);
+                
+                // 2文字の変換元を優先する
+                String multi = null;
+                int consumed = 1;
+                if(index + 1 < length && pairHeads.get(c)) {
+                    final int found = Arrays.binarySearch(pairKeys, pairKey(c, text.charAt(index + 1)));
+                    if(found >= 0) {
+                        multi = pairValues[found];
+                        consumed = 2;
+                    }
+                }
+                
+                char single = 0;
+                if(multi == null) {
+                    single = singles[c];
+                    if(single == 0) {
+                        index++;
+                        continue;
+                    }
+                    
+                    if(single == MULTI) {
+                        multi = expansionValues[Arrays.binarySearch(expansionKeys, c)];
+                    }
+                }
+                
+                if(replaced == null) {
+                    replaced = new StringBuilder(length + 16);
+                }
+                replaced.append(text, copied, index);
+                if(multi != null) {
+                    replaced.append(multi);
+                } else {
+                    replaced.append(single);
+                }
+                
+                index += consumed;
+                copied = index;
+            }
+            
+            if(replaced == null) {
+                return text;
+            }
+            
+            replaced.append(text, copied, length);
+            return replaced.toString();
+        }
+        
+    }
     
 }
@@ -0,0 +1,83 @@
+package com.github.mygreen.supercsv.cellprocessor.format;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 変換した値を{@link ParsedValueCache}にキャッシュする{@link TextParser}。
+ * <p>変換に失敗した場合は、キャッシュせずに例外をそのままスローします。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class CachedTextParser<T> implements TextParser<T> {
+    
+    private final TextParser<T> parser;
+    
+    private final ParsedValueCache<T> cache;
+    
+    /**
+     * 変換処理とキャッシュを指定してインスタンスを作成します。
+     * @param parser 実際に変換を行うパーサ
+     * @param cache 変換した値のキャッシュ
+     * @throws NullPointerException {@literal parser or cache is null.}
+     */
+    public CachedTextParser(final TextParser<T> parser, final ParsedValueCache<T> cache) {
+        this.parser = Objects.requireNonNull(parser, "parser should not be null.");
+        this.cache = Objects.requireNonNull(cache, "cache should not be null.");
+    }
+    
+    @Override
+    public T parse(final String text) {
+        
+        if(text == null) {
+            return parser.parse(text);
+        }
+        
+        final T cached = cache.get(text);
+        if(cached != null) {
+            return cached;
+        }
+        
+        final T value = parser.parse(text);
+        if(value != null) {
+            cache.put(text, value);
+        }
+        
+        return value;
+    }
+    
+    @Override
+    public Optional<String> getPattern() {
+        return parser.getPattern();
+    }
+    
+    @Override
+    public Map<String, Object> getMessageVariables() {
+        return parser.getMessageVariables();
+    }
+    
+    @Override
+    public Optional<String> getValidationMessage() {
+        return parser.getValidationMessage();
+    }
+    
+    /**
+     * 実際に変換を行うパーサを取得します。
+     * @return コンストラクタで渡したパーサ。
+     */
+    public TextParser<T> getParser() {
+        return parser;
+    }
+    
+    /**
+     * 変換した値のキャッシュを取得します。
+     * @return コンストラクタで渡したキャッシュ。
+     */
+    public ParsedValueCache<T> getCache() {
+        return cache;
+    }
+    
+}
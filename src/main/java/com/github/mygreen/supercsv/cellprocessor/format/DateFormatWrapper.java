@@ -10,19 +10,37 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * スレッドセーフな{@link DateFormat}。
+ * <p>{@link DateFormat}はスレッドセーフではないため、コンストラクタで指定したフォーマッタを雛形として、
+ *    スレッドごとに複製したインスタンスを使用します。
+ *    そのため、複数のスレッドから同時に呼び出されても、ロックによる待ち合わせは発生しません。
+ * </p>
  *
+ * @version 2.4
  * @since 1.2
  * @author T.TSUCHIE
  *
  */
 public class DateFormatWrapper<T extends Date> extends AbstractTextFormatter<T> {
     
+    /**
+     * 雛形となるフォーマッタ。
+     * <p>書式の参照のみに使用し、フォーマットと解析には{@link #localFormatter}を使用します。</p>
+     */
     private final DateFormat formatter;
     
-    private final Class<T> type;
+    /**
+     * スレッドごとのフォーマッタ
+     */
+    private final ThreadLocal<DateFormat> localFormatter;
+    
+    /**
+     * 解析した日時を、対応する日時のクラスに変換する処理
+     */
+    private final Function<Date, T> converter;
     
     /**
      * フォーマッタを指定してインスタンスを作成するコンストラクタ。
@@ -35,7 +53,8 @@ public class DateFormatWrapper<T extends Date> extends AbstractTextFormatter<T>
         Objects.requireNonNull(type);
         
         this.formatter = (DateFormat) formatter.clone();
-        this.type = type;
+        this.localFormatter = ThreadLocal.withInitial(() -> (DateFormat) this.formatter.clone());
+        this.converter = createConverter(type);
         
     }
     
@@ -54,7 +73,6 @@ public class DateFormatWrapper<T extends Date> extends AbstractTextFormatter<T>
      */
     public DateFormatWrapper(final Class<T> type) {
         Objects.requireNonNull(type);
-        this.type = type;
         
         final String pattern;
         if(Timestamp.class.isAssignableFrom(type)) {
@@ -71,6 +89,32 @@ public class DateFormatWrapper<T extends Date> extends AbstractTextFormatter<T>
         }
         
         this.formatter = new SimpleDateFormat(pattern);
+        this.localFormatter = ThreadLocal.withInitial(() -> (DateFormat) this.formatter.clone());
+        this.converter = createConverter(type);
+    }
+    
+    /**
+     * 解析した日時を、対応する日時のクラスに変換する処理を作成します。
+     * <p>解析のたびにクラスタイプを判定しないよう、インスタンスの作成時に決定します。</p>
+     * @param type 日時型のクラスタイプ。
+     * @return 変換処理。
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Date> Function<Date, T> createConverter(final Class<T> type) {
+        
+        if(Timestamp.class.isAssignableFrom(type)) {
+            return date -> (T)new Timestamp(date.getTime());
+            
+        } else if(Time.class.isAssignableFrom(type)) {
+            return date -> (T)new Time(date.getTime());
+            
+        } else if(java.sql.Date.class.isAssignableFrom(type)) {
+            return date -> (T)new java.sql.Date(date.getTime());
+            
+        } else {
+            return date -> (T)date;
+        }
+        
     }
     
     /**
@@ -79,37 +123,22 @@ public class DateFormatWrapper<T extends Date> extends AbstractTextFormatter<T>
      * @return フォーマットした文字列。
      */
     @Override
-    public synchronized String print(final Date date) {
-        return formatter.format(date);
+    public String print(final Date date) {
+        return localFormatter.get().format(date);
         
     }
     
-    @SuppressWarnings("unchecked")
     @Override
-    public synchronized T parse(final String text) throws TextParseException {
+    public T parse(final String text) throws TextParseException {
         
         final Date date;
         try {
-            date = formatter.parse(text);
+            date = localFormatter.get().parse(text);
         } catch (ParseException e) {
             throw new TextParseException(text, Date.class);
         }
         
-        if(Timestamp.class.isAssignableFrom(type)) {
-            return (T)new Timestamp(date.getTime());
-            
-        } else if(Time.class.isAssignableFrom(type)) {
-            return (T)new Time(date.getTime());
-            
-        } else if(java.sql.Date.class.isAssignableFrom(type)) {
-            return (T)new java.sql.Date(date.getTime());
-            
-        } else if(Date.class.isAssignableFrom(type)) {
-            return (T)date;
-            
-        } else {
-            throw new TextParseException(text, type, "Cannot support type.");
-        }
+        return converter.apply(date);
     }
     
     @Override
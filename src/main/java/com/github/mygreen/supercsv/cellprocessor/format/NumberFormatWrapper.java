@@ -13,19 +13,38 @@ import java.util.Optional;
 
 /**
  * 書式を指定した数値のフォーマッタ。
+ * <p>{@link NumberFormat}はスレッドセーフではないため、コンストラクタで指定したフォーマッタを雛形として、
+ *    スレッドごとに複製したインスタンスを使用します。
+ *    そのため、複数のスレッドから同時に呼び出されても、ロックによる待ち合わせは発生しません。
+ * </p>
  * 
+ * @version 2.4
  * @since 1.2
  * @author T.TSUCHIE
  *
  */
 public class NumberFormatWrapper<T extends Number> extends AbstractTextFormatter<T> {
     
+    /**
+     * 雛形となるフォーマッタ。
+     * <p>書式の参照のみに使用し、フォーマットと解析には{@link #localFormatter}を使用します。</p>
+     */
     private final NumberFormat formatter;
     
+    /**
+     * スレッドごとのフォーマッタと解析位置
+     */
+    private final ThreadLocal<LocalFormatter> localFormatter;
+    
     private final Class<T> type;
     
     private final boolean lenient;
     
+    /**
+     * 解析した数値を、{@link #type}に変換する処理
+     */
+    private final NumberConverter converter;
+    
     public NumberFormatWrapper(final NumberFormat formatter, final Class<T> type) {
         this(formatter, type, false);
     }
@@ -35,19 +54,22 @@ public class NumberFormatWrapper<T extends Number> extends AbstractTextFormatter
         Objects.requireNonNull(type);
         
         this.formatter = (NumberFormat) formatter.clone();
+        this.localFormatter = ThreadLocal.withInitial(() -> new LocalFormatter((NumberFormat) this.formatter.clone()));
         this.type = type;
         this.lenient = lenient;
+        this.converter = createConverter(type);
         
     }
     
     @Override
-    public synchronized String print(final Number number) {
-        return formatter.format(number);
+    public String print(final Number number) {
+        return localFormatter.get().formatter.format(number);
     }
     
+    @SuppressWarnings("unchecked")
     @Override
     public T parse(final String text) {
-        return parse(type, text);
+        return (T) parse(type, converter, text);
     }
     
     /**
@@ -61,18 +83,27 @@ public class NumberFormatWrapper<T extends Number> extends AbstractTextFormatter
      * @throws TextParseException fail convert Number or BigDecimal.
      */
     @SuppressWarnings("unchecked")
-    synchronized <N extends Number> N parse(final Class<N> type, final String text) {
+    <N extends Number> N parse(final Class<N> type, final String text) {
+        final NumberConverter converter = (type == this.type) ? this.converter : createConverter(type);
+        return (N) parse(type, converter, text);
+    }
+    
+    private Number parse(final Class<? extends Number> type, final NumberConverter converter, final String text) {
+        
+        final LocalFormatter local = localFormatter.get();
         
         final Number result;
         if(lenient) {
             try {
-                result = formatter.parse(text);
+                result = local.formatter.parse(text);
             } catch(ParseException e) {
                 throw new TextParseException(text, type, e);
             }
         } else {
-            ParsePosition position = new ParsePosition(0);
-            result = formatter.parse(text, position);
+            final ParsePosition position = local.position;
+            position.setIndex(0);
+            position.setErrorIndex(-1);
+            result = local.formatter.parse(text, position);
             
             if(position.getIndex() != text.length()) {
                 throw new TextParseException(text, type, String.format("Cannot parse '%s' using fromat %s", text, getPattern()));
@@ -80,80 +111,80 @@ public class NumberFormatWrapper<T extends Number> extends AbstractTextFormatter
         }
         
         try {
-            if(result instanceof BigDecimal) {
-                // if set DecimalFormat#setParseBigDecimal(true)
-                return (N) convertWithBigDecimal(type, (BigDecimal) result, text);
-                
-            } else {
-                return (N) convertWithNumber(type, result, text);
-            }
+            return converter.convert(result, text);
         } catch(NumberFormatException | ArithmeticException e) {
             throw new TextParseException(text, type, e);
         }
         
     }
     
-    private Number convertWithNumber(final Class<? extends Number> type, final Number number, final String str) {
-        
-        if(Byte.class.isAssignableFrom(type) || byte.class.isAssignableFrom(type)) {
-            return number.byteValue();
-            
-        } else if(Short.class.isAssignableFrom(type) || short.class.isAssignableFrom(type)) {
-            return number.shortValue() ;
-            
-        } else if(Integer.class.isAssignableFrom(type) || int.class.isAssignableFrom(type)) {
-            return number.intValue();
-            
-        } else if(Long.class.isAssignableFrom(type) || long.class.isAssignableFrom(type)) {
-            return number.longValue();
-            
-        } else if(Float.class.isAssignableFrom(type) || float.class.isAssignableFrom(type)) {
-            return number.floatValue();
-            
-        } else if(Double.class.isAssignableFrom(type) || double.class.isAssignableFrom(type)) {
-            return number.doubleValue();
-            
-        } else if(type.isAssignableFrom(BigInteger.class)) {
-            return new BigInteger(str);
-            
-        } else if(type.isAssignableFrom(BigDecimal.class)) {
-            return new BigDecimal(str);
-            
-        }
-        
-        throw new IllegalArgumentException(String.format("not support class type : %s", type.getCanonicalName()));
-    }
-    
-    private Number convertWithBigDecimal(final Class<? extends Number> type, final BigDecimal number, final String str) {
+    /**
+     * 解析した数値を、指定したクラスに変換する処理を作成します。
+     * <p>解析のたびにクラスタイプを判定しないよう、インスタンスの作成時に決定します。</p>
+     * @param type 変換する数値のクラス。
+     * @return 変換処理。サポートしていないクラスタイプの場合は、変換時に例外{@link IllegalArgumentException}をスローします。
+     */
+    private NumberConverter createConverter(final Class<? extends Number> type) {
         
         if(Byte.class.isAssignableFrom(type) || byte.class.isAssignableFrom(type)) {
-            return lenient ? number.byteValue() : number.byteValueExact();
+            return (number, str) -> {
+                if(number instanceof BigDecimal) {
+                    return lenient ? number.byteValue() : ((BigDecimal) number).byteValueExact();
+                }
+                return number.byteValue();
+            };
             
         } else if(Short.class.isAssignableFrom(type) || short.class.isAssignableFrom(type)) {
-            return lenient ? number.shortValue() : number.shortValueExact();
+            return (number, str) -> {
+                if(number instanceof BigDecimal) {
+                    return lenient ? number.shortValue() : ((BigDecimal) number).shortValueExact();
+                }
+                return number.shortValue();
+            };
             
         } else if(Integer.class.isAssignableFrom(type) || int.class.isAssignableFrom(type)) {
-            return lenient ? number.intValue() : number.intValueExact();
+            return (number, str) -> {
+                if(number instanceof BigDecimal) {
+                    return lenient ? number.intValue() : ((BigDecimal) number).intValueExact();
+                }
+                return number.intValue();
+            };
             
         } else if(Long.class.isAssignableFrom(type) || long.class.isAssignableFrom(type)) {
-            return lenient ? number.longValue() : number.longValueExact();
+            return (number, str) -> {
+                if(number instanceof BigDecimal) {
+                    return lenient ? number.longValue() : ((BigDecimal) number).longValueExact();
+                }
+                return number.longValue();
+            };
             
         } else if(Float.class.isAssignableFrom(type) || float.class.isAssignableFrom(type)) {
-            return number.floatValue();
+            return (number, str) -> number.floatValue();
             
         } else if(Double.class.isAssignableFrom(type) || double.class.isAssignableFrom(type)) {
-            return number.doubleValue();
+            return (number, str) -> number.doubleValue();
             
         } else if(type.isAssignableFrom(BigInteger.class)) {
-            return lenient ? number.toBigInteger() : number.toBigIntegerExact();
+            return (number, str) -> {
+                if(number instanceof BigDecimal) {
+                    return lenient ? ((BigDecimal) number).toBigInteger() : ((BigDecimal) number).toBigIntegerExact();
+                }
+                return new BigInteger(str);
+            };
             
         } else if(type.isAssignableFrom(BigDecimal.class)) {
-            return number;
+            return (number, str) -> {
+                if(number instanceof BigDecimal) {
+                    return number;
+                }
+                return new BigDecimal(str);
+            };
             
         }
         
-        throw new IllegalArgumentException(String.format("not support class type : %s", type.getCanonicalName()));
-        
+        return (number, str) -> {
+            throw new IllegalArgumentException(String.format("not support class type : %s", type.getCanonicalName()));
+        };
     }
     
     @Override
@@ -188,4 +219,35 @@ public class NumberFormatWrapper<T extends Number> extends AbstractTextFormatter
         return vars;
     }
     
+    /**
+     * 解析した数値を変換する処理。
+     */
+    @FunctionalInterface
+    private static interface NumberConverter {
+        
+        /**
+         * 解析した数値を変換します。
+         * @param number 解析した数値。{@link DecimalFormat#setParseBigDecimal(boolean)}が有効な場合は{@link BigDecimal}。
+         * @param str 解析元の文字列。
+         * @return 変換した数値。
+         */
+        Number convert(Number number, String str);
+        
+    }
+    
+    /**
+     * スレッドごとに保持する、フォーマッタと解析位置。
+     */
+    private static final class LocalFormatter {
+        
+        private final NumberFormat formatter;
+        
+        private final ParsePosition position = new ParsePosition(0);
+        
+        private LocalFormatter(final NumberFormat formatter) {
+            this.formatter = formatter;
+        }
+        
+    }
+    
 }
@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import org.supercsv.cellprocessor.ift.CellProcessor;
 
+import com.github.mygreen.supercsv.annotation.format.CsvParseCache;
 import com.github.mygreen.supercsv.builder.BuildCase;
 import com.github.mygreen.supercsv.builder.Configuration;
 import com.github.mygreen.supercsv.builder.FieldAccessor;
@@ -11,7 +12,11 @@ import com.github.mygreen.supercsv.cellprocessor.ProcessorFactory;
 
 /**
  * 文字列をパースして、各オブジェクト型に変換するCellProcessor {@link ParseProcessor}を作成する。
+ * <p>アノテーション{@link CsvParseCache}または{@link Configuration#getParseCacheSize()}により、
+ *    キャッシュが有効な場合は、{@link CachedTextParser}を介して変換します。
+ * </p>
  * 
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -25,13 +30,36 @@ public class ParseProcessorFactory<T> implements ProcessorFactory {
             final BuildCase buildCase, final Class<?>[] groups) {
         
         final Class<T> fieldType = (Class<T>)field.getType();
-        final TextFormatter<T> typeFormatter = (TextFormatter<T>)formatter;
+        final TextParser<T> parser = createParser(field, (TextFormatter<T>)formatter, config);
         
-        final ParseProcessor<T> processor = next.map(n -> new ParseProcessor<>(fieldType, typeFormatter, n))
-                .orElseGet(() -> new ParseProcessor<>(fieldType, typeFormatter));
+        final ParseProcessor<T> processor = next.map(n -> new ParseProcessor<>(fieldType, parser, n))
+                .orElseGet(() -> new ParseProcessor<>(fieldType, parser));
+        processor.setLightweightException(config.isLightweightException());
         
         return Optional.of(processor);
         
     }
     
+    /**
+     * キャッシュの設定に応じて、文字列のパーサを作成する。
+     * @param field フィールド情報
+     * @param formatter フィールドのフォーマッタ
+     * @param config システム設定
+     * @return キャッシュが無効な場合は、フォーマッタをそのまま返す。
+     */
+    private TextParser<T> createParser(final FieldAccessor field, final TextFormatter<T> formatter,
+            final Configuration config) {
+        
+        final int cacheSize = field.getAnnotation(CsvParseCache.class)
+                .map(a -> a.size())
+                .orElse(config.getParseCacheSize());
+        
+        if(cacheSize <= 0 || !ParsedValueCache.isCacheableType(field.getType())) {
+            return formatter;
+        }
+        
+        return new CachedTextParser<>(formatter, new ParsedValueCache<>(cacheSize));
+        
+    }
+    
 }
@@ -0,0 +1,165 @@
+package com.github.mygreen.supercsv.cellprocessor.format;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 文字列と変換した値の組み合わせを、上限件数まで保持するキャッシュ。
+ * <p>上限を超えた場合は、最も参照されていない値から破棄します。</p>
+ * <p>複数のスレッドから参照されることを考慮し、キーのハッシュ値で分割した領域ごとに排他制御を行います。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class ParsedValueCache<T> {
+    
+    /**
+     * 領域を分割する際の最大数
+     */
+    private static final int MAX_SEGMENTS = 16;
+    
+    /**
+     * 1つの領域に保持する最小の件数
+     */
+    private static final int MIN_SEGMENT_SIZE = 16;
+    
+    private final int maxSize;
+    
+    private final Segment<T>[] segments;
+    
+    /**
+     * 上限件数を指定してインスタンスを作成します。
+     * @param maxSize キャッシュする値の上限件数。
+     * @throws IllegalArgumentException {@literal maxSize < 1.}
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public ParsedValueCache(final int maxSize) {
+        if(maxSize < 1) {
+            throw new IllegalArgumentException(String.format("maxSize should be greater than 0. but %d.", maxSize));
+        }
+        this.maxSize = maxSize;
+        
+        int segmentCount = 1;
+        while(segmentCount < MAX_SEGMENTS && segmentCount * 2 * MIN_SEGMENT_SIZE <= maxSize) {
+            segmentCount *= 2;
+        }
+        
+        final int segmentSize = (maxSize + segmentCount - 1) / segmentCount;
+        this.segments = new Segment[segmentCount];
+        for(int i=0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentSize);
+        }
+    }
+    
+    /**
+     * キャッシュされた値を取得します。
+     * @param text 変換前の文字列
+     * @return キャッシュされていない場合はnullを返します。
+     */
+    public T get(final String text) {
+        final Segment<T> segment = segmentFor(text);
+        synchronized(segment) {
+            return segment.get(text);
+        }
+    }
+    
+    /**
+     * 変換した値をキャッシュします。
+     * @param text 変換前の文字列
+     * @param value 変換した値
+     */
+    public void put(final String text, final T value) {
+        final Segment<T> segment = segmentFor(text);
+        synchronized(segment) {
+            segment.put(text, value);
+        }
+    }
+    
+    /**
+     * キャッシュされている件数を取得します。
+     * @return キャッシュされている件数
+     */
+    public int size() {
+        int size = 0;
+        for(Segment<T> segment : segments) {
+            synchronized(segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+    
+    /**
+     * キャッシュをクリアします。
+     */
+    public void clear() {
+        for(Segment<T> segment : segments) {
+            synchronized(segment) {
+                segment.clear();
+            }
+        }
+    }
+    
+    /**
+     * キャッシュする値の上限件数を取得します。
+     * @return コンストラクタで指定した値。
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+    
+    private Segment<T> segmentFor(final String text) {
+        final int h = text.hashCode();
+        return segments[(h ^ (h >>> 16)) & (segments.length - 1)];
+    }
+    
+    /**
+     * 変換した値をキャッシュしてもよいクラスタイプかどうか判定します。
+     * <p>キャッシュした値は複数のBeanで共有するため、不変なクラスタイプのみを対象とします。</p>
+     * @param type 判定対象のクラスタイプ
+     * @return キャッシュ可能な場合、trueを返します。
+     */
+    public static boolean isCacheableType(final Class<?> type) {
+        
+        if(type.isPrimitive() || type.isEnum()) {
+            return true;
+        }
+        
+        if(String.class.equals(type) || Boolean.class.equals(type) || Character.class.equals(type)
+                || Byte.class.equals(type) || Short.class.equals(type) || Integer.class.equals(type)
+                || Long.class.equals(type) || Float.class.equals(type) || Double.class.equals(type)
+                || BigDecimal.class.equals(type) || BigInteger.class.equals(type)) {
+            return true;
+        }
+        
+        // Date and Time APIのクラスは不変
+        final Package pkg = type.getPackage();
+        return pkg != null && pkg.getName().equals("java.time");
+        
+    }
+    
+    /**
+     * 分割した領域ごとの、参照順を保持するマップ。
+     */
+    private static final class Segment<T> extends LinkedHashMap<String, T> {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final int maxSize;
+        
+        private Segment(final int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+        
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, T> eldest) {
+            return size() > maxSize;
+        }
+        
+    }
+    
+}
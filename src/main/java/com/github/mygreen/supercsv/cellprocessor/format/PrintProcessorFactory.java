@@ -29,6 +29,7 @@ public class PrintProcessorFactory<T> implements ProcessorFactory {
         
         final PrintProcessor<T> processor = next.map(n -> new PrintProcessor<>(typeFormatter, (StringCellProcessor)n))
                 .orElseGet(() -> new PrintProcessor<>(typeFormatter));
+        processor.setLightweightException(config.isLightweightException());
         
         return Optional.of(processor);
         
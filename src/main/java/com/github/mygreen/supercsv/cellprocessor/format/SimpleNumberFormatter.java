@@ -9,7 +9,12 @@ import java.util.Objects;
 
 /**
  * 書式がない数値のフォーマッタ。
+ * <p>整数型（byte/short/int/long とそのラッパークラス）で丸め方法の指定がない場合、
+ *    符号と半角数字のみから構成される文字列は、{@link BigDecimal}を経由せずに直接解析します。
+ *    小数や指数表記などそれ以外の文字列は、従来通り{@link BigDecimal}として解析します。
+ * </p>
  *
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -22,6 +27,11 @@ public class SimpleNumberFormatter<T extends Number> extends AbstractTextFormatt
     
     private final MathContext mathContext;
     
+    /**
+     * 整数型の場合の種類。整数型以外の場合はnull。
+     */
+    private final IntegralType integralType;
+    
     /**
      * デフォルトコンストラクタ
      * @param type 数値のクラスタイプ
@@ -48,6 +58,7 @@ public class SimpleNumberFormatter<T extends Number> extends AbstractTextFormatt
         this.type = type;
         this.lenient = lenient;
         this.mathContext = mathContext;
+        this.integralType = IntegralType.of(type);
         
     }
     
@@ -55,6 +66,13 @@ public class SimpleNumberFormatter<T extends Number> extends AbstractTextFormatt
     @Override
     public T parse(final String text) {
         
+        if(integralType != null && mathContext == null) {
+            final Number number = parseIntegral(text);
+            if(number != null) {
+                return (T) number;
+            }
+        }
+        
         try {
             final BigDecimal number = mathContext == null ? new BigDecimal(text) : new BigDecimal(text, mathContext);
             return (T) parseFromBigDecimal(type, number);
@@ -64,6 +82,54 @@ public class SimpleNumberFormatter<T extends Number> extends AbstractTextFormatt
         }
     }
     
+    /**
+     * 符号と半角数字のみから構成される文字列を、整数として直接解析します。
+     * <p>解析できない形式、または型の範囲外の場合は、{@link BigDecimal}による解析に任せるためにnullを返します。</p>
+     * @param text 解析対象の文字列
+     * @return 解析した値。解析できない場合はnullを返します。
+     */
+    private Number parseIntegral(final String text) {
+        
+        final int length = text.length();
+        if(length == 0) {
+            return null;
+        }
+        
+        int index = 0;
+        boolean negative = false;
+        final char first = text.charAt(0);
+        if(first == '-' || first == '+') {
+            negative = (first == '-');
+            index++;
+        }
+        
+        // 18桁まではlongの範囲でオーバーフローしない
+        final int digits = length - index;
+        if(digits == 0 || digits > 18) {
+            return null;
+        }
+        
+        long value = 0L;
+        for(; index < length; index++) {
+            final char c = text.charAt(index);
+            if(c < '0' || c > '9') {
+                return null;
+            }
+            value = value * 10L + (c - '0');
+        }
+        
+        if(negative) {
+            value = -value;
+        }
+        
+        if(value < integralType.minValue || value > integralType.maxValue) {
+            return null;
+        }
+        
+        return integralType.box(value);
+        
+    }
+    
     private Number parseFromBigDecimal(final Class<? extends Number> type, final BigDecimal number) {
         
         if(Byte.class.isAssignableFrom(type) || byte.class.isAssignableFrom(type)) {
@@ -100,12 +166,49 @@ public class SimpleNumberFormatter<T extends Number> extends AbstractTextFormatt
     public String print(final T object) {
         
         if(mathContext != null) {
+            if(integralType != null && isWithinPrecision(object.longValue())) {
+                // 丸めが発生しない場合は、BigDecimalを経由しない。
+                return Long.toString(object.longValue());
+            }
+            
             return printNumber(object);
         }
         
         return object.toString();
     }
     
+    /**
+     * 整数の桁数が、丸めの精度の範囲内かどうか判定します。
+     * @param value 判定対象の値
+     * @return 精度の範囲内の場合、trueを返します。
+     */
+    private boolean isWithinPrecision(final long value) {
+        
+        final int precision = mathContext.getPrecision();
+        if(precision == 0) {
+            return true;
+        }
+        
+        if(precision >= 19) {
+            // longの最大桁数は19桁
+            return true;
+        }
+        
+        long abs = Math.abs(value);
+        if(abs < 0L) {
+            // Long.MIN_VALUE
+            return false;
+        }
+        
+        int digits = 1;
+        while(abs >= 10L) {
+            abs /= 10L;
+            digits++;
+        }
+        
+        return digits <= precision;
+    }
+    
     private String printNumber(final Object object) {
         
         if(Byte.class.isAssignableFrom(type) || byte.class.isAssignableFrom(type)) {
@@ -165,4 +268,76 @@ public class SimpleNumberFormatter<T extends Number> extends AbstractTextFormatt
         return vars;
     }
     
+    /**
+     * 直接解析する整数型の種類。
+     */
+    private static enum IntegralType {
+        
+        BYTE(Byte.MIN_VALUE, Byte.MAX_VALUE) {
+            @Override
+            Number box(final long value) {
+                return Byte.valueOf((byte)value);
+            }
+        },
+        SHORT(Short.MIN_VALUE, Short.MAX_VALUE) {
+            @Override
+            Number box(final long value) {
+                return Short.valueOf((short)value);
+            }
+        },
+        INTEGER(Integer.MIN_VALUE, Integer.MAX_VALUE) {
+            @Override
+            Number box(final long value) {
+                return Integer.valueOf((int)value);
+            }
+        },
+        LONG(Long.MIN_VALUE, Long.MAX_VALUE) {
+            @Override
+            Number box(final long value) {
+                return Long.valueOf(value);
+            }
+        },
+        ;
+        
+        private final long minValue;
+        
+        private final long maxValue;
+        
+        private IntegralType(final long minValue, final long maxValue) {
+            this.minValue = minValue;
+            this.maxValue = maxValue;
+        }
+        
+        /**
+         * 範囲内の値を、対応するラッパークラスに変換します。
+         * @param value 変換対象の値
+         * @return ラッパークラスのインスタンス
+         */
+        abstract Number box(long value);
+        
+        /**
+         * クラスタイプに対応する種類を取得します。
+         * @param type 数値のクラスタイプ
+         * @return 整数型以外の場合はnullを返します。
+         */
+        static IntegralType of(final Class<?> type) {
+            
+            if(Byte.class.isAssignableFrom(type) || byte.class.isAssignableFrom(type)) {
+                return BYTE;
+                
+            } else if(Short.class.isAssignableFrom(type) || short.class.isAssignableFrom(type)) {
+                return SHORT;
+                
+            } else if(Integer.class.isAssignableFrom(type) || int.class.isAssignableFrom(type)) {
+                return INTEGER;
+                
+            } else if(Long.class.isAssignableFrom(type) || long.class.isAssignableFrom(type)) {
+                return LONG;
+            }
+            
+            return null;
+        }
+        
+    }
+    
 }
@@ -3,10 +3,20 @@ package com.github.mygreen.supercsv.cellprocessor.format;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
 import java.time.chrono.JapaneseDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -16,22 +26,57 @@ import com.github.mygreen.supercsv.util.Utils;
 
 /**
  * Date and Time APIの{@link DateTimeFormatter}をラップしたクラス。
+ * <p>Java標準のクラスタイプは、対応する{@link TemporalQuery}を使用して直接解析します。
+ *    それ以外のクラスタイプは、static メソッド {@code parse(CharSequence, DateTimeFormatter)}をリフレクションで呼び出します。
+ * </p>
  *
- * @version 2.1
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
  */
 public class TemporalFormatWrapper<T extends TemporalAccessor> extends AbstractTextFormatter<T> {
     
+    /**
+     * Java標準のクラスタイプに対する、解析用の{@link TemporalQuery}
+     */
+    private static final Map<Class<?>, TemporalQuery<?>> QUERIES;
+    static {
+        final Map<Class<?>, TemporalQuery<?>> queries = new HashMap<>();
+        queries.put(LocalDate.class, LocalDate::from);
+        queries.put(LocalDateTime.class, LocalDateTime::from);
+        queries.put(LocalTime.class, LocalTime::from);
+        queries.put(MonthDay.class, MonthDay::from);
+        queries.put(OffsetDateTime.class, OffsetDateTime::from);
+        queries.put(OffsetTime.class, OffsetTime::from);
+        queries.put(Year.class, Year::from);
+        queries.put(YearMonth.class, YearMonth::from);
+        queries.put(ZonedDateTime.class, ZonedDateTime::from);
+        QUERIES = Collections.unmodifiableMap(queries);
+    }
+    
     private final DateTimeFormatter formatter;
     
     private final Class<T> type;
     
+    /**
+     * 解析用の{@link TemporalQuery}。Java標準以外のクラスタイプの場合はnull。
+     */
+    private final TemporalQuery<T> query;
+    
+    /**
+     * Java標準以外のクラスタイプの場合の、解析用のメソッド。
+     */
     private final Method parseMethod;
     
     private String pattern;
     
+    /**
+     * 和暦として出力するかどうか。
+     * <p>{@link #setPattern(String)}で書式を設定したときに決定します。</p>
+     */
+    private boolean japaneseEra;
+    
     /**
      * 
      * @param formatter ラップする{@link DateTimeFormatter}を指定します。
@@ -46,6 +91,14 @@ public class TemporalFormatWrapper<T extends TemporalAccessor> extends AbstractT
         this.formatter = formatter;
         this.type = type;
         
+        @SuppressWarnings("unchecked")
+        final TemporalQuery<T> query = (TemporalQuery<T>) QUERIES.get(type);
+        this.query = query;
+        
+        if(query != null) {
+            this.parseMethod = null;
+            return;
+        }
         
         try {
             this.parseMethod = type.getMethod("parse", CharSequence.class, DateTimeFormatter.class);
@@ -65,6 +118,15 @@ public class TemporalFormatWrapper<T extends TemporalAccessor> extends AbstractT
     @Override
     public T parse(final String text) {
         
+        if(query != null) {
+            try {
+                return formatter.parse(text, query);
+                
+            } catch(DateTimeParseException e) {
+                throw new TextParseException(text, type, e);
+            }
+        }
+        
         try {
             return (T) parseMethod.invoke(type, text, formatter);
             
@@ -80,14 +142,11 @@ public class TemporalFormatWrapper<T extends TemporalAccessor> extends AbstractT
     @Override
     public String print(final T object) {
         
-        if(pattern.contains("G") && formatter.getLocale().getLanguage().equals("ja")) {
-            if(LocalDate.class.isAssignableFrom(type)) {
-                JapaneseDate date = JapaneseDate.from((LocalDate)object);
-                return formatter.format(date);
-            }
+        if(japaneseEra) {
+            JapaneseDate date = JapaneseDate.from((LocalDate)object);
+            return formatter.format(date);
         }
         
-        
         return formatter.format(object);
     }
     
@@ -106,6 +165,9 @@ public class TemporalFormatWrapper<T extends TemporalAccessor> extends AbstractT
      */
     public void setPattern(String pattern) {
         this.pattern = pattern;
+        this.japaneseEra = pattern != null && pattern.contains("G")
+                && formatter.getLocale().getLanguage().equals("ja")
+                && LocalDate.class.isAssignableFrom(type);
     }
     
     @Override
@@ -0,0 +1,65 @@
+package com.github.mygreen.supercsv.exception;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+/**
+ * 参照されるまでフォーマットを遅延する例外のメッセージ。
+ * <p>フォーマットは最初の参照時に1度だけ行い、結果を保持します。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+final class LazyMessage implements Serializable {
+    
+    /** serialVersionUID */
+    private static final long serialVersionUID = 1L;
+    
+    private String message;
+    
+    private transient String format;
+    
+    private transient Object[] args;
+    
+    /**
+     * フォーマット済みのメッセージを指定してインスタンスを作成します。
+     * @param message メッセージ
+     */
+    LazyMessage(final String message) {
+        this.message = message;
+    }
+    
+    /**
+     * 書式を指定してインスタンスを作成します。
+     * @param format 書式
+     * @param args 書式の引数
+     */
+    LazyMessage(final String format, final Object[] args) {
+        this.format = format;
+        this.args = args;
+    }
+    
+    /**
+     * メッセージを取得します。
+     * @return 未フォーマットの場合は、{@link String#format(String, Object...)}でフォーマットします。
+     */
+    String get() {
+        
+        if(message == null && format != null) {
+            this.message = String.format(format, args);
+            this.format = null;
+            this.args = null;
+        }
+        
+        return message;
+    }
+    
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        // 引数がシリアライズできるとは限らないため、フォーマット済みの値を書き出す。
+        get();
+        out.defaultWriteObject();
+    }
+    
+}
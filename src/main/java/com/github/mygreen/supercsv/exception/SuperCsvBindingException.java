@@ -13,7 +13,9 @@ import com.github.mygreen.supercsv.validation.CsvBindingErrors;
 
 /**
  * CellProcessorとは別に、値を検証した結果、エラーが存在する場合にスローされる例外。
+ * <p>軽量な例外として作成した場合は、スタックトレースを持ちません。</p>
  * 
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -30,9 +32,62 @@ public class SuperCsvBindingException extends SuperCsvException {
      */
     private final List<SuperCsvException> processingErrors = new ArrayList<>();
     
+    /**
+     * 軽量な例外かどうか。
+     */
+    private final boolean lightweight;
+    
+    /**
+     * コンストラクタの処理が完了したかどうか。
+     * スタックトレースを作成するかどうかを、コンストラクタの処理後に判定するために使用します。
+     */
+    private boolean constructed;
+    
     public SuperCsvBindingException(final String msg, final CsvContext context, final CsvBindingErrors bingingErrors) {
+        this(msg, context, bingingErrors, false);
+    }
+    
+    /**
+     * 軽量な例外として作成するかどうかを指定して、インスタンスを作成します。
+     * 
+     * @since 2.4
+     * @param msg メッセージ
+     * @param context CSVのコンテキスト
+     * @param bingingErrors エラー情報
+     * @param lightweight {@literal true}の場合、スタックトレースを作成しません。
+     */
+    public SuperCsvBindingException(final String msg, final CsvContext context, final CsvBindingErrors bingingErrors,
+            final boolean lightweight) {
         super(msg, context);
         this.bingingErrors = bingingErrors;
+        this.lightweight = lightweight;
+        
+        this.constructed = true;
+        if(!lightweight) {
+            fillInStackTrace();
+        }
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>コンストラクタの処理が完了するまでは、スタックトレースを作成しません。</p>
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if(!constructed) {
+            return this;
+        }
+        
+        return super.fillInStackTrace();
+    }
+    
+    /**
+     * 軽量な例外かどうか。
+     * @since 2.4
+     * @return {@literal true}の場合、スタックトレースを持ちません。
+     */
+    public boolean isLightweight() {
+        return lightweight;
     }
     
     /**
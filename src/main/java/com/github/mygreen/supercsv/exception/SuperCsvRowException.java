@@ -12,7 +12,9 @@ import org.supercsv.util.CsvContext;
 
 /**
  * 行のエラーをまとめた例外。
+ * <p>軽量な例外として作成した場合は、スタックトレースを持たず、例外のメッセージは参照時にフォーマットします。</p>
  *
+ * @version 2.4
  * @author T.TSUCHIE
  *
  */
@@ -23,8 +25,80 @@ public class SuperCsvRowException extends SuperCsvException {
     
     private final List<SuperCsvException> columnErrors = new ArrayList<>();
     
+    /**
+     * 遅延してフォーマットするメッセージ。軽量な例外の場合のみ設定されます。
+     */
+    private LazyMessage lazyMessage;
+    
+    /**
+     * コンストラクタの処理が完了したかどうか。
+     * スタックトレースを作成するかどうかを、コンストラクタの処理後に判定するために使用します。
+     */
+    private boolean constructed;
+    
     public SuperCsvRowException(final String msg, final CsvContext context) {
         super(msg, context);
+        
+        // スタックトレースの先頭が例外の作成箇所となるよう、コンストラクタ内で作成する。
+        this.constructed = true;
+        fillInStackTrace();
+    }
+    
+    /**
+     * 軽量な例外として作成するかどうかを指定して、インスタンスを作成します。
+     * <p>軽量な例外は、スタックトレースを作成せず、例外のメッセージを参照されたときにフォーマットします。</p>
+     * 
+     * @since 2.4
+     * @param context CSVのコンテキスト
+     * @param lightweight {@literal true}の場合、軽量な例外として作成します。
+     * @param format メッセージの書式
+     * @param args 書式の引数
+     */
+    public SuperCsvRowException(final CsvContext context, final boolean lightweight, final String format, final Object... args) {
+        super(lightweight ? null : String.format(format, args), context);
+        
+        if(lightweight) {
+            this.lazyMessage = new LazyMessage(format, args);
+            this.constructed = true;
+        } else {
+            this.constructed = true;
+            fillInStackTrace();
+        }
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>コンストラクタの処理が完了するまでは、スタックトレースを作成しません。</p>
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if(!constructed) {
+            return this;
+        }
+        
+        return super.fillInStackTrace();
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>軽量な例外の場合は、最初に参照されたときにメッセージをフォーマットします。</p>
+     */
+    @Override
+    public String getMessage() {
+        if(lazyMessage != null) {
+            return lazyMessage.get();
+        }
+        
+        return super.getMessage();
+    }
+    
+    /**
+     * 軽量な例外かどうか。
+     * @since 2.4
+     * @return {@literal true}の場合、スタックトレースを持たず、メッセージを遅延してフォーマットします。
+     */
+    public boolean isLightweight() {
+        return lazyMessage != null;
     }
     
     public void addError(final SuperCsvException error) {
@@ -13,7 +13,9 @@ import com.github.mygreen.supercsv.util.Utils;
 /**
  * {@link CellProcessor}の実行に失敗（入力値が不正）などの時にスローされる例外。
  * <p>フォーマット用のメッセージや、変数が設定可能。</p>
+ * <p>軽量な例外として作成した場合は、スタックトレースを持たず、例外のメッセージは参照時にフォーマットします。</p>
  *
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -31,12 +33,98 @@ public class SuperCsvValidationException extends SuperCsvCellProcessorException
     
     private Map<String, Object> messageVariables = new HashMap<>();
     
+    /**
+     * 軽量な例外かどうか。
+     */
+    private boolean lightweight;
+    
+    /**
+     * 遅延してフォーマットするメッセージ。軽量な例外の場合のみ設定されます。
+     */
+    private LazyMessage lazyMessage;
+    
+    /**
+     * コンストラクタの処理が完了したかどうか。
+     * スタックトレースを作成するかどうかを、コンストラクタの処理後に判定するために使用します。
+     */
+    private boolean constructed;
+    
     public SuperCsvValidationException(final String msg, final CsvContext context, final CellProcessor processor) {
         super(msg, context, processor);
+        
+        // スタックトレースの先頭が例外の作成箇所となるよう、コンストラクタ内で作成する。
+        this.constructed = true;
+        fillInStackTrace();
     }
     
     public SuperCsvValidationException(final String msg, final CsvContext context, final CellProcessor processor, final Throwable t) {
         super(msg, context, processor, t);
+        
+        this.constructed = true;
+        fillInStackTrace();
+    }
+    
+    /**
+     * 軽量な例外のインスタンスを作成します。
+     * @param lazyMessage 遅延してフォーマットするメッセージ。
+     * @param context CSVのコンテキスト
+     * @param processor 例外が発生した{@link CellProcessor}
+     */
+    private SuperCsvValidationException(final LazyMessage lazyMessage, final CsvContext context, final CellProcessor processor) {
+        super((String)null, context, processor);
+        this.lightweight = true;
+        this.lazyMessage = lazyMessage;
+        this.constructed = true;
+    }
+    
+    /**
+     * 原因となる例外を指定して、軽量な例外のインスタンスを作成します。
+     * @param lazyMessage 遅延してフォーマットするメッセージ。
+     * @param context CSVのコンテキスト
+     * @param processor 例外が発生した{@link CellProcessor}
+     * @param t 原因となる例外
+     */
+    private SuperCsvValidationException(final LazyMessage lazyMessage, final CsvContext context, final CellProcessor processor,
+            final Throwable t) {
+        super((String)null, context, processor, t);
+        this.lightweight = true;
+        this.lazyMessage = lazyMessage;
+        this.constructed = true;
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>コンストラクタの処理が完了するまでは、スタックトレースを作成しません。</p>
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if(!constructed) {
+            return this;
+        }
+        
+        return super.fillInStackTrace();
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>軽量な例外の場合は、最初に参照されたときにメッセージをフォーマットします。</p>
+     */
+    @Override
+    public String getMessage() {
+        if(lazyMessage != null) {
+            return lazyMessage.get();
+        }
+        
+        return super.getMessage();
+    }
+    
+    /**
+     * 軽量な例外かどうか。
+     * @since 2.4
+     * @return {@literal true}の場合、スタックトレースを持たず、メッセージを遅延してフォーマットします。
+     */
+    public boolean isLightweight() {
+        return lightweight;
     }
     
     /**
@@ -73,8 +161,11 @@ public class SuperCsvValidationException extends SuperCsvCellProcessorException
     
     @Override
     public SuperCsvValidationException clone() {
-        return new Builder(new CsvContext(getCsvContext()), getProcessor())
-                .message(getMessage())
+        final Builder builder = new Builder(new CsvContext(getCsvContext()), getProcessor());
+        builder.message = (lazyMessage != null) ? lazyMessage : new LazyMessage(getMessage());
+        
+        return builder
+                .lightweight(lightweight)
                 .exception(getCause())
                 .rejectedValue(rejectedValue)
                 .validationMessage(validationMessage)
@@ -93,7 +184,7 @@ public class SuperCsvValidationException extends SuperCsvCellProcessorException
         
         private final CellProcessor processor;
         
-        private String message;
+        private LazyMessage message;
         
         private Throwable exception;
         
@@ -105,6 +196,8 @@ public class SuperCsvValidationException extends SuperCsvCellProcessorException
         
         private boolean parsedError;
         
+        private boolean lightweight;
+        
         public Builder(CsvContext context, CellProcessor processor) {
             this.context = context;
             this.processor = processor;
@@ -116,7 +209,7 @@ public class SuperCsvValidationException extends SuperCsvCellProcessorException
          * @return
          */
         public Builder message(String message) {
-            this.message = message;
+            this.message = (message == null) ? null : new LazyMessage(message);
             return this;
         }
         
@@ -129,7 +222,8 @@ public class SuperCsvValidationException extends SuperCsvCellProcessorException
          * @return
          */
         public Builder messageFormat(final String format, final Object... args) {
-            return message(String.format(format, args));
+            this.message = new LazyMessage(format, args);
+            return this;
         }
         
         /**
@@ -215,20 +309,39 @@ public class SuperCsvValidationException extends SuperCsvCellProcessorException
             return this;
         }
         
+        /**
+         * 軽量な例外として作成するかどうか設定する。
+         * <p>軽量な例外は、スタックトレースを作成せず、例外用のメッセージを参照されたときにフォーマットします。</p>
+         * @since 2.4
+         * @param lightweight {@literal true}の場合、軽量な例外として作成します。
+         * @return
+         */
+        public Builder lightweight(boolean lightweight) {
+            this.lightweight = lightweight;
+            return this;
+        }
+        
         /**
          * {@link SuperCsvValidationException}のインスタンスを作成する。
          * @return
          */
         public SuperCsvValidationException build() {
             
-            final String msg = Optional.ofNullable(message)
-                    .orElseGet(() -> processor.getClass().getName() + " error.");
+            final LazyMessage msg = Optional.ofNullable(message)
+                    .orElseGet(() -> new LazyMessage("%s error.", new Object[]{processor.getClass().getName()}));
             
             final SuperCsvValidationException error;
-            if(exception == null) {
-                error = new SuperCsvValidationException(msg, context, processor);
+            if(lightweight) {
+                if(exception == null) {
+                    error = new SuperCsvValidationException(msg, context, processor);
+                } else {
+                    error = new SuperCsvValidationException(msg, context, processor, exception);
+                }
+                
+            } else if(exception == null) {
+                error = new SuperCsvValidationException(msg.get(), context, processor);
             } else {
-                error = new SuperCsvValidationException(msg, context, processor, exception);
+                error = new SuperCsvValidationException(msg.get(), context, processor, exception);
             }
             
             error.rejectedValue = rejectedValue;
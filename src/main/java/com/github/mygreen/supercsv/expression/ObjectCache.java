@@ -6,6 +6,13 @@ import java.util.LinkedList;
 import java.util.Map;
 
 
+/**
+ * SoftReferenceでオブジェクトを保持するキャッシュ。
+ * <p>複数のスレッドから参照されるため、各メソッドは同期化しています。</p>
+ *
+ * @version 2.4
+ *
+ */
 public class ObjectCache<K, V> {
     
     private final Map<K, SoftReference<V>> map = new HashMap<K, SoftReference<V>>();
@@ -28,18 +35,18 @@ public class ObjectCache<K, V> {
         this.objectsToKeepCount = maxObjectsToKeep;
     }
     
-    public void compact() {
+    public synchronized void compact() {
         for (final Map.Entry<K, SoftReference<V>> entry : map.entrySet()) {
             final SoftReference<V> ref = entry.getValue();
             if (ref.get() == null) map.remove(entry.getKey());
         }
     }
     
-    public boolean contains(final K key) {
+    public synchronized boolean contains(final K key) {
         return map.containsKey(key);
     }
     
-    public V get(final K key) {
+    public synchronized V get(final K key) {
         final SoftReference<V> softReference = map.get(key);
         if (softReference != null) {
             final V value = softReference.get();
@@ -55,7 +62,7 @@ public class ObjectCache<K, V> {
         return null;
     }
     
-    public void put(final K key, final V value) {
+    public synchronized void put(final K key, final V value) {
         map.remove(key);
         map.put(key, new SoftReference<V>(value));
     }
@@ -1,18 +1,28 @@
 package com.github.mygreen.supercsv.io;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.Reader;
 import java.io.UncheckedIOException;
-import java.lang.reflect.Method;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Spliterator;
-import java.util.Spliterators;
-import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -30,6 +40,8 @@ import org.supercsv.util.MethodCache;
 
 import com.github.mygreen.supercsv.builder.BeanMapping;
 import com.github.mygreen.supercsv.builder.CallbackMethod;
+import com.github.mygreen.supercsv.builder.PropertyAccessor;
+import com.github.mygreen.supercsv.cellprocessor.constraint.UniqueSource;
 import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
 import com.github.mygreen.supercsv.exception.SuperCsvNoMatchColumnSizeException;
 import com.github.mygreen.supercsv.exception.SuperCsvNoMatchHeaderException;
@@ -38,6 +50,7 @@ import com.github.mygreen.supercsv.validation.CsvBindingErrors;
 import com.github.mygreen.supercsv.validation.CsvError;
 import com.github.mygreen.supercsv.validation.CsvExceptionConverter;
 import com.github.mygreen.supercsv.validation.CsvValidator;
+import com.github.mygreen.supercsv.validation.MessageCodeGenerator;
 import com.github.mygreen.supercsv.validation.ValidationContext;
 
 /**
@@ -46,7 +59,7 @@ import com.github.mygreen.supercsv.validation.ValidationContext;
  * @param <T> マッピング対象のBeanのクラスタイプ
  *
  * @see CsvBeanReader
- * @version 2.3
+ * @version 2.4
  * @since 2.1
  * @author T.TSUCHIE
  *
@@ -59,21 +72,60 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
      */
     protected BeanMappingCache<T> beanMappingCache;
     
+    /**
+     * 閉じるときに、CellProcessorも閉じるかどうか。
+     * Beanのマッピング情報を内部で作成した場合のみ閉じます。
+     */
+    boolean closeCellProcessors;
+    
     /** temporary storage of processed columns to be mapped to the bean */
     protected final List<Object> processedColumns = new ArrayList<>();
     
-    /** cache of methods for mapping from columns to fields */
+    /**
+     * cache of methods for mapping from columns to fields
+     * @deprecated 2.4から、値の設定は{@link BeanMappingCache#getPropertyAccessors()}で事前に解決したアクセッサを使用するため、本クラスからは参照しません。
+     *             サブクラスとの互換性のために残しています。
+     */
+    @Deprecated
     protected final MethodCache cache = new MethodCache();
     
     /** exception converter. */
     protected CsvExceptionConverter exceptionConverter = new CsvExceptionConverter();
     
     /** processing error messages. */
-    protected final List<String> errorMessages = new ArrayList<>();
+    protected CsvErrorMessageSink errorMessageSink = CsvErrorMessageSink.unlimited();
+    
+    /**
+     * processing error messages.
+     * @deprecated 2.4から、メッセージは{@link #errorMessageSink}が保持します。
+     *             このリストは、現在の格納先の{@link CsvErrorMessageSink#getMessages()}に委譲します。
+     */
+    @Deprecated
+    protected final List<String> errorMessages = new ErrorMessageListAdapter(() -> errorMessageSink);
+    
+    /**
+     * エラー情報をメッセージの格納先に追加する処理。
+     */
+    private final Consumer<CsvError> errorMessageCollector = this::addErrorMessage;
     
     /** validator */
     protected final List<CsvValidator<T>> validators = new ArrayList<>();
     
+    /**
+     * 並列読み込み時に、1つのタスクで処理するレコード数。
+     */
+    private static final int PARALLEL_CHUNK_SIZE = 128;
+    
+    /**
+     * 逐次読み込み時に、レコードの処理中に再利用する作業用のインスタンス。
+     */
+    private final RecordWorkspace workspace = new RecordWorkspace(processedColumns);
+    
+    /**
+     * 値のユニーク性の検証で使用する、読み込み元の情報。読み込み元の番号が0の場合はnull。
+     */
+    private UniqueSource uniqueSource;
+    
     public AbstractCsvAnnotationBeanReader(final Reader reader, final CsvPreference preference) {
         super(reader, preference);
     }
@@ -84,6 +136,14 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
     
     /**
      * 1レコード分を読み込みます。
+     * <p>処理が成功するレコードでは、{@link CsvContext}や{@link CsvBindingErrors}などの作業用のインスタンスを再利用し、
+     *    エラー情報は、セルの値に問題がある場合のみ作成します。
+     *    そのため、コールバックメソッドや{@link CsvValidator}に渡すコンテキストやエラー情報は、
+     *    処理の終了後に保持しないでください。
+     * </p>
+     * <p>ver.2.4から、{@link CsvContext#getRowSource()}は、読み込んだレコードのカラムの値（CellProcessorで処理する前の文字列）を返します。
+     *    ver.2.3までは、CellProcessorで処理した値を保持しており、処理前に参照すると前のレコードの値となっていました。
+     * </p>
      * 
      * @return Beanのレコード。読み込むレコードがない場合は、nullを返します。
      * 
@@ -96,16 +156,40 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
     public T read() throws IOException {
         
         if(readRow()) {
-            
+            return processRecord(workspace, getColumns(), getLineNumber(), getRowNumber(), errorMessageCollector);
+        }
+        
+        return null; // EOF
+        
+        
+    }
+    
+    /**
+     * 読み込んだ1レコード分の値をBeanに変換します。
+     * 
+     * @param ws 作業用のインスタンス
+     * @param columns レコードのカラムの値
+     * @param lineNumber 行番号
+     * @param rowNumber レコード番号
+     * @param errorCollector メッセージに変換するエラー情報の追加先
+     * @return Beanのレコード
+     * @throws SuperCsvNoMatchColumnSizeException レコードのカラムサイズに問題がある場合
+     * @throws SuperCsvBindingException セルの値に問題がある場合
+     * @throws SuperCsvException 設定など、その他に問題がある場合
+     */
+    private T processRecord(final RecordWorkspace ws, final List<String> columns, final int lineNumber, final int rowNumber,
+            final Consumer<CsvError> errorCollector) {
+        
+        final CsvContext context = ws.prepareContext(columns, lineNumber, rowNumber);
+        final CsvBindingErrors bindingErrors = ws.prepareBindingErrors();
+        final boolean sourceBegun = beginUniqueSource();
+        
+        try {
             final T bean = instantiateBean(beanMappingCache.getOriginal().getType());
-            final CsvBindingErrors bindingErrors = new CsvBindingErrors(beanMappingCache.getOriginal().getType());
-            
-            final CsvContext context = new CsvContext(getLineNumber(), getRowNumber(), 1);
-            context.setRowSource(new ArrayList<Object>(processedColumns));
             
             Optional<SuperCsvRowException> rowException = Optional.empty();
             try {
-                executeCellProcessor(processedColumns, getColumns(), beanMappingCache.getCellProcessorsForReading(), context);
+                executeCellProcessor(ws.processedColumns, columns, beanMappingCache.getCellProcessorsForReading(), context);
                 
             } catch(SuperCsvRowException e) {
                 /*
@@ -114,117 +198,768 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
                  */
                 rowException = Optional.of(e);
                 
-                final List<CsvError> errors = exceptionConverter.convert(e, beanMappingCache.getOriginal());
-                bindingErrors.addAllErrors(errors);
+                final List<CsvError> errors = exceptionConverter.convert(e, beanMappingCache.getOriginal());
+                bindingErrors.addAllErrors(errors);
+                
+            } catch(SuperCsvException e) {
+                exceptionConverter.convert(e, beanMappingCache.getOriginal()).forEach(errorCollector);
+                throw e;
+            }
+            
+            bindRecord(ws, bean, context, bindingErrors);
+            
+            // エラーメッセージの変換
+            processErrors(bindingErrors, context, rowException, errorCollector);
+            
+            return bean;
+            
+        } catch(RuntimeException e) {
+            // 例外からコンテキストなどが参照されるため、再利用をやめる。
+            ws.release(columns);
+            throw e;
+            
+        } finally {
+            if(sourceBegun) {
+                UniqueSource.end();
+            }
+        }
+        
+    }
+    
+    /**
+     * 読み込み元の番号を指定している場合に、値のユニーク性の検証で使用する読み込み元の情報を、処理中のスレッドに設定します。
+     * <p>並列読み込み時など、既に設定されている場合は、設定しません。</p>
+     * @return 設定した場合は、{@literal true}を返します。
+     */
+    private boolean beginUniqueSource() {
+        
+        if(uniqueSource == null || UniqueSource.current() != null) {
+            return false;
+        }
+        
+        uniqueSource.begin();
+        return true;
+    }
+    
+    /**
+     * CellProcessorで処理したカラムの値をBeanにマッピングし、コールバックメソッドの実行と入力値検証を行います。
+     * 
+     * @param ws 作業用のインスタンス
+     * @param bean マッピング先のBean
+     * @param context コンテキスト
+     * @param bindingErrors エラー情報
+     */
+    private void bindRecord(final RecordWorkspace ws, final T bean, final CsvContext context, final CsvBindingErrors bindingErrors) {
+        
+        // コールバックメソッドの実行（読み込み前）
+        final List<CallbackMethod> preReadMethods = beanMappingCache.getOriginal().getPreReadMethods();
+        for(int i=0; i < preReadMethods.size(); i++) {
+            preReadMethods.get(i).invoke(bean, context, bindingErrors, beanMappingCache.getOriginal());
+        }
+        
+        // beanへのマッピング
+        populateBean(bean, beanMappingCache.getNameMapping(), ws.processedColumns, bindingErrors);
+        
+        // Bean(レコード)の入力値検証
+        final ValidationContext<T> validationContext = ws.prepareValidationContext();
+        for(int i=0; i < validators.size(); i++) {
+            validators.get(i).validate(bean, bindingErrors, validationContext);
+        }
+        
+        // コールバックメソッドの実行（読み込み後）
+        final List<CallbackMethod> postReadMethods = beanMappingCache.getOriginal().getPostReadMethods();
+        for(int i=0; i < postReadMethods.size(); i++) {
+            postReadMethods.get(i).invoke(bean, context, bindingErrors, beanMappingCache.getOriginal());
+        }
+        
+    }
+    
+    /**
+     * 1レコード分を読み込み、結果をオブジェクトとして返します。
+     * <p>{@link #read()}と異なり、レコードの値に問題がある場合でも例外をスローせずに、
+     *    エラー情報を{@link CsvReadResult}に格納して返します。
+     *    CellProcessorで発生したエラーは、カラムごとに{@link CsvError}に変換し、
+     *    行単位の例外{@link SuperCsvRowException}や{@link SuperCsvBindingException}は作成しません。
+     * </p>
+     * <p>エラー時は、{@link #read()}と同様に、{@link #getErrorMessages()}にメッセージを追加します。</p>
+     * 
+     * @since 2.4
+     * @return 読み込み結果。読み込むレコードがない場合は、ステータスが{@link CsvReadStatus#EOF}の結果を返します。
+     * @throws IOException レコードの読み込みに失敗した場合。
+     * @throws SuperCsvReflectionException Beanのインスタンスの作成や、値の設定に失敗した場合。
+     */
+    public CsvReadResult<T> tryRead() throws IOException {
+        
+        try {
+            if(!readRow()) {
+                return CsvReadResult.eof();
+            }
+            
+        } catch(SuperCsvException e) {
+            // 行の分割に失敗した場合
+            final CsvBindingErrors bindingErrors = new CsvBindingErrors(beanMappingCache.getOriginal().getType());
+            bindingErrors.addAllErrors(exceptionConverter.convert(e, beanMappingCache.getOriginal()));
+            return tryProcessErrors(bindingErrors, getLineNumber(), getRowNumber());
+        }
+        
+        final List<String> columns = getColumns();
+        final CsvContext context = workspace.prepareContext(columns, getLineNumber(), getRowNumber());
+        final CsvBindingErrors bindingErrors = workspace.prepareBindingErrors();
+        
+        try {
+            final CellProcessor[] processors = beanMappingCache.getCellProcessorsForReading();
+            if(columns.size() != processors.length) {
+                bindingErrors.addAllErrors(exceptionConverter.convert(
+                        new SuperCsvNoMatchColumnSizeException(columns.size(), processors.length, context),
+                        beanMappingCache.getOriginal()));
+                workspace.release(columns);
+                return tryProcessErrors(bindingErrors, getLineNumber(), getRowNumber());
+            }
+            
+            final boolean executed;
+            final boolean sourceBegun = beginUniqueSource();
+            try {
+                executed = tryExecuteCellProcessor(workspace.processedColumns, columns, processors, context, bindingErrors);
+            } finally {
+                if(sourceBegun) {
+                    UniqueSource.end();
+                }
+            }
+            
+            if(!executed) {
+                // カラムの値以外に問題がある場合は、以降の処理は行わない。
+                workspace.release(columns);
+                return tryProcessErrors(bindingErrors, getLineNumber(), getRowNumber());
+            }
+            
+            final T bean = instantiateBean(beanMappingCache.getOriginal().getType());
+            bindRecord(workspace, bean, context, bindingErrors);
+            
+            if(bindingErrors.hasErrors()) {
+                // エラー情報は結果から参照されるため、再利用をやめる。
+                workspace.release(columns);
+                return tryProcessErrors(bindingErrors, getLineNumber(), getRowNumber());
+            }
+            
+            return CsvReadResult.success(bean, getLineNumber(), getRowNumber());
+            
+        } catch(RuntimeException e) {
+            // 例外からコンテキストなどが参照されるため、再利用をやめる。
+            workspace.release(columns);
+            throw e;
+        }
+        
+    }
+    
+    /**
+     * 例外をスローせずに、行の各カラムの値に対してCellProcessorを適用します。
+     * <p>CellProcessorで発生したエラーは、{@link CsvError}に変換してエラー情報に追加し、
+     *    後の入力値検証で処理を続けるために、仮に元の値を設定します。
+     * </p>
+     * 
+     * @param destination 処理したカラムの値の格納先
+     * @param source 読み込んだカラムの値
+     * @param processors 適用するCellProcessor
+     * @param context コンテキスト
+     * @param bindingErrors エラー情報
+     * @return カラムの値以外に問題があり、処理を続けられない場合は、{@literal false}を返します。
+     */
+    private boolean tryExecuteCellProcessor(final List<Object> destination, final List<String> source,
+            final CellProcessor[] processors, final CsvContext context, final CsvBindingErrors bindingErrors) {
+        
+        destination.clear();
+        
+        for( int i = 0; i < source.size(); i++ ) {
+            
+            try {
+                context.setColumnNumber(i + 1); // update context (columns start at 1)
+                
+                if( processors[i] == null ) {
+                    destination.add(source.get(i)); // no processing required
+                } else {
+                    destination.add(processors[i].execute(source.get(i), context)); // execute the processor chain
+                }
+            } catch(SuperCsvCellProcessorException e) {
+                bindingErrors.addAllErrors(exceptionConverter.convert(e, beanMappingCache.getOriginal()));
+                
+                // 各カラムでエラーがあっても、後の入力値検証で処理を続けるために、仮に値を設定する。
+                destination.add(source.get(i));
+                
+            } catch(SuperCsvException e) {
+                bindingErrors.addAllErrors(exceptionConverter.convert(e, beanMappingCache.getOriginal()));
+                return false;
+            }
+        }
+        
+        return true;
+        
+    }
+    
+    /**
+     * エラー情報をメッセージに変換し、エラーの読み込み結果を作成します。
+     * @param bindingErrors エラー情報
+     * @param lineNumber 行番号
+     * @param rowNumber レコード番号
+     * @return エラーの読み込み結果
+     */
+    private CsvReadResult<T> tryProcessErrors(final CsvBindingErrors bindingErrors, final int lineNumber, final int rowNumber) {
+        
+        bindingErrors.getAllErrors().forEach(errorMessageCollector);
+        
+        return CsvReadResult.error(bindingErrors, lineNumber, rowNumber);
+        
+    }
+    
+    /**
+     * 成功時、例外発生時の処理を指定して、1レコード分を読み込みます。
+     * 
+     * @since 2.3
+     * @param successHandler 読み込み成功時の処理の実装。
+     * @param errorHandler CSVに関する例外発生時の処理の実装。
+     * @return CSVの読み込み処理ステータスを返します。
+     * @throws IOException 致命的なレコードの読み込みに失敗した場合にスローされます。
+     */
+    public CsvReadStatus read(final CsvSuccessHandler<T> successHandler, final CsvErrorHandler errorHandler) throws IOException {
+        
+        try {
+            final T bean = read();
+            if(bean != null) {
+                successHandler.onSuccess(bean);
+                return CsvReadStatus.SUCCESS;
+            } else {
+                return CsvReadStatus.EOF;
+            }
+        
+        } catch(SuperCsvException e) {
+            errorHandler.onError(e);
+            return CsvReadStatus.ERROR;
+            
+        }
+        
+    }
+    
+    /**
+     * 指定したレコード数までをまとめて読み込みます。
+     * <p>各レコードは{@link #tryRead()}で読み込むため、変換に失敗したレコードも例外を作成せずに、
+     *    エラーの読み込み結果を{@link CsvReadBatch#getErrors()}に追加して、続きのレコードを読み込みます。
+     * </p>
+     * 
+     * @since 2.4
+     * @param maxRows 読み込むレコード数の上限。
+     * @return 読み込んだ結果。読み込むレコードがない場合は、空の結果を返します。
+     *         上限より少ない場合は、最後のレコードまで読み込んでいます。
+     * @throws IOException 致命的なレコードの読み込みに失敗した場合にスローされます。
+     * @throws IllegalArgumentException {@literal maxRows < 1.}
+     */
+    public CsvReadBatch<T> readBatch(final int maxRows) throws IOException {
+        if(maxRows < 1) {
+            throw new IllegalArgumentException(String.format("maxRows should be greater than 0. but %d.", maxRows));
+        }
+        
+        return readBatch(maxRows, new CsvReadBatch<>(maxRows));
+    }
+    
+    /**
+     * 読み込み結果のインスタンスを再利用して、指定したレコード数までをまとめて読み込みます。
+     * <p>引数の読み込み結果は、クリアしてから追加するため、内部のリストの領域を使い回します。
+     *    そのため、前回の読み込み結果のリストを参照し続けないでください。
+     * </p>
+     * <p>各レコードは{@link #tryRead()}で読み込むため、変換に失敗したレコードも例外を作成せずに、
+     *    エラーの読み込み結果を{@link CsvReadBatch#getErrors()}に追加して、続きのレコードを読み込みます。
+     * </p>
+     * 
+     * @since 2.4
+     * @param maxRows 読み込むレコード数の上限。
+     * @param batch 再利用する読み込み結果。
+     * @return 引数で指定した読み込み結果。読み込むレコードがない場合は、空の結果を返します。
+     *         上限より少ない場合は、最後のレコードまで読み込んでいます。
+     * @throws IOException 致命的なレコードの読み込みに失敗した場合にスローされます。
+     * @throws SuperCsvReflectionException Beanのインスタンスの作成や、値の設定に失敗した場合。
+     * @throws NullPointerException {@literal batch is null.}
+     * @throws IllegalArgumentException {@literal maxRows < 1.}
+     */
+    public CsvReadBatch<T> readBatch(final int maxRows, final CsvReadBatch<T> batch) throws IOException {
+        
+        Objects.requireNonNull(batch, "batch should not be null.");
+        if(maxRows < 1) {
+            throw new IllegalArgumentException(String.format("maxRows should be greater than 0. but %d.", maxRows));
+        }
+        
+        batch.clear();
+        
+        final List<T> records = batch.getRecords();
+        final List<CsvReadResult<T>> errors = batch.getErrors();
+        
+        while(records.size() + errors.size() < maxRows) {
+            final CsvReadResult<T> result = tryRead();
+            if(result.isEof()) {
+                break;
+            } else if(result.isSuccess()) {
+                records.add(result.getRecord().get());
+            } else {
+                errors.add(result);
+            }
+        }
+        
+        return batch;
+    }
+    
+    /**
+     * 残りの全てのレコードを、指定したレコード数ごとにまとめて処理します。
+     * <p>変換に失敗したレコードは、{@link #getErrorMessages()}にメッセージが追加され、処理対象から除外されます。</p>
+     * 
+     * @since 2.4
+     * @param size まとめて処理するレコード数。
+     * @param action 変換に成功したレコードをまとめて処理する実装。レコードが存在しない場合は呼ばれません。
+     * @throws IOException 致命的なレコードの読み込みに失敗した場合にスローされます。
+     * @throws NullPointerException {@literal action is null.}
+     * @throws IllegalArgumentException {@literal size < 1.}
+     */
+    public void forEachBatch(final int size, final Consumer<List<T>> action) throws IOException {
+        forEachBatch(size, action, error -> {});
+    }
+    
+    /**
+     * 残りの全てのレコードを、指定したレコード数ごとにまとめて処理します。
+     * <p>変換に失敗したレコードの読み込み結果は、まとめて読み込んだレコードを処理する前に、読み込み順にエラー時の処理に渡します。</p>
+     * <p>読み込み結果のインスタンスは1つだけ作成し、{@link #readBatch(int, CsvReadBatch)}で使い回すため、
+     *    引数actionに渡したリストは、処理が終わった後に参照し続けないでください。
+     * </p>
+     * 
+     * @since 2.4
+     * @param size まとめて処理するレコード数。
+     * @param action 変換に成功したレコードをまとめて処理する実装。レコードが存在しない場合は呼ばれません。
+     * @param errorHandler 変換に失敗したレコードの読み込み結果を処理する実装。
+     * @throws IOException 致命的なレコードの読み込みに失敗した場合にスローされます。
+     * @throws NullPointerException {@literal action or errorHandler is null.}
+     * @throws IllegalArgumentException {@literal size < 1.}
+     */
+    public void forEachBatch(final int size, final Consumer<List<T>> action, final Consumer<CsvReadResult<T>> errorHandler)
+            throws IOException {
+        
+        Objects.requireNonNull(action, "action should not be null.");
+        Objects.requireNonNull(errorHandler, "errorHandler should not be null.");
+        if(size < 1) {
+            throw new IllegalArgumentException(String.format("size should be greater than 0. but %d.", size));
+        }
+        
+        final CsvReadBatch<T> batch = new CsvReadBatch<>(size);
+        while(true) {
+            readBatch(size, batch);
+            
+            for(CsvReadResult<T> error : batch.getErrors()) {
+                errorHandler.accept(error);
+            }
+            
+            if(!batch.getRecords().isEmpty()) {
+                action.accept(batch.getRecords());
+            }
+            
+            if(batch.size() < size) {
+                break;  // EOF
+            }
+        }
+        
+    }
+    
+    /**
+     * 複数のスレッドでレコードを処理しながら、残りの全てのレコードを読み込みます。
+     * <p>レコードの読み込み（行の分割と行番号の採番）は、呼び出し元のスレッドで順番に行い、
+     *    CellProcessorの実行、Beanへのマッピング、{@link CsvValidator}による検証、コールバックメソッドの実行は、
+     *    引数で指定した{@link Executor}のスレッドで並列に行います。
+     * </p>
+     * <p>成功時、例外発生時の処理は、呼び出し元のスレッドで呼ばれます。
+     *    引数orderedが{@literal true}の場合は、ファイルのレコードの順番に呼ばれます。
+     *    例外が持つ行番号などの情報や、{@link #getErrorMessages()}に追加されるメッセージは、
+     *    {@link #read(CsvSuccessHandler, CsvErrorHandler)}で1レコードずつ読み込む場合と同じです。
+     * </p>
+     * <p>並列に処理するため、{@link CsvValidator}やコールバックメソッドを定義したリスナーは、スレッドセーフである必要があります。</p>
+     * <p>{@literal @CsvUnique}、{@literal @CsvUniqueHashCode}による重複の判定は、呼び出し元のスレッドでレコードの順番に確定させるため、
+     *    処理の順序によらず、1レコードずつ読み込む場合と同じく、同じ値のうち行番号が最も小さいレコード以外がエラーとなります。
+     *    並列に処理する間に重複がないと判定したセルは、それより前のレコードの処理が全て終わった後に、最も前の位置の値かどうかを確定させます。
+     *    そのため、引数orderedが{@literal false}の場合でも、判定を確定させるレコードは、前のレコードの処理が終わるのを待ってから通知します。
+     *    重複と確定したエラーは、他のカラムのエラーと同様に、例外とメッセージに追加します。
+     * </p>
+     * 
+     * @since 2.4
+     * @param executor レコードを処理するスレッドプール。
+     * @param parallelism 並列に処理するスレッド数の目安。処理中として保持するレコード数の上限の算出に使用します。
+     * @param ordered {@literal true}の場合、ファイルのレコードの順番に結果を処理します。
+     * @param successHandler 読み込み成功時の処理の実装。
+     * @param errorHandler CSVに関する例外発生時の処理の実装。
+     * @throws IOException 致命的なレコードの読み込みに失敗した場合にスローされます。
+     *         それまでに読み込んだレコードは、処理した後にスローします。
+     * @throws NullPointerException {@literal executor or successHandler or errorHandler is null.}
+     * @throws IllegalArgumentException {@literal parallelism < 1.}
+     */
+    public void readParallel(final Executor executor, final int parallelism, final boolean ordered,
+            final CsvSuccessHandler<T> successHandler, final CsvErrorHandler errorHandler) throws IOException {
+        
+        Objects.requireNonNull(executor, "executor should not be null.");
+        Objects.requireNonNull(successHandler, "successHandler should not be null.");
+        Objects.requireNonNull(errorHandler, "errorHandler should not be null.");
+        if(parallelism < 1) {
+            throw new IllegalArgumentException(String.format("parallelism should be greater than 0. but %d.", parallelism));
+        }
+        
+        final int maxPendingChunks = parallelism * 2;
+        
+        // 作業用のインスタンスは、スレッド間で使い回す
+        final Queue<RecordWorkspace> workspaces = new ConcurrentLinkedQueue<>();
+        
+        final Deque<Future<List<RecordResult<T>>>> pending = new ArrayDeque<>();
+        final CompletionService<List<RecordResult<T>>> completionService = ordered ? null : new ExecutorCompletionService<>(executor);
+        
+        IOException readError = null;
+        boolean eof = false;
+        
+        try {
+            while(true) {
+                
+                // 処理中のレコード数が上限に達するまで、読み込んでタスクを登録する。
+                while(!eof && pending.size() < maxPendingChunks) {
+                    final List<RawRecord> chunk = new ArrayList<>(PARALLEL_CHUNK_SIZE);
+                    try {
+                        while(chunk.size() < PARALLEL_CHUNK_SIZE) {
+                            if(!readRawRecord(chunk)) {
+                                eof = true;
+                                break;
+                            }
+                        }
+                    } catch(IOException e) {
+                        // 読み込み済みのレコードを処理してからスローする。
+                        readError = e;
+                        eof = true;
+                    }
+                    
+                    if(chunk.isEmpty()) {
+                        break;
+                    }
+                    
+                    final Callable<List<RecordResult<T>>> task = () -> processChunk(chunk, workspaces);
+                    if(ordered) {
+                        final FutureTask<List<RecordResult<T>>> future = new FutureTask<>(task);
+                        executor.execute(future);
+                        pending.addLast(future);
+                    } else {
+                        pending.addLast(completionService.submit(task));
+                    }
+                }
+                
+                if(pending.isEmpty()) {
+                    break;
+                }
+                
+                // 処理の終わったタスクの結果を通知する。
+                final List<RecordResult<T>> results;
+                if(ordered) {
+                    results = getChunkResult(pending.removeFirst());
+                } else {
+                    final Future<List<RecordResult<T>>> done = takeCompleted(completionService);
+                    results = getChunkResult(done);
+                    
+                    // 重複の判定を確定させるには、前のレコードの処理が全て終わっている必要がある。
+                    if(hasUniqueChecks(results)) {
+                        awaitPreceding(pending, done);
+                    }
+                    pending.remove(done);
+                }
+                
+                for(RecordResult<T> result : results) {
+                    if(result.fatalError != null) {
+                        throw result.fatalError;
+                    }
+                    
+                    verifyUnique(result);
+                    
+                    if(result.error != null) {
+                        result.errors.forEach(errorMessageCollector);
+                        errorHandler.onError(result.error);
+                        
+                    } else {
+                        successHandler.onSuccess(result.bean);
+                    }
+                }
+                
+            }
+            
+        } finally {
+            // 途中で例外が発生した場合は、残りのタスクを中止する。
+            for(Future<?> future : pending) {
+                future.cancel(true);
+            }
+        }
+        
+        if(readError != null) {
+            throw readError;
+        }
+        
+    }
+    
+    /**
+     * 1レコード分を読み込み、カラムの値をコピーして追加します。
+     * @param chunk 読み込んだレコードの追加先
+     * @return EOFの場合は{@literal false}を返します。
+     * @throws IOException レコードの読み込みに失敗した場合。
+     */
+    private boolean readRawRecord(final List<RawRecord> chunk) throws IOException {
+        
+        try {
+            if(!readRow()) {
+                return false;
+            }
+            
+            chunk.add(new RawRecord(new ArrayList<>(getColumns()), getLineNumber(), getRowNumber(), null));
+            
+        } catch(SuperCsvException e) {
+            // 行の分割に失敗した場合は、読み込み順に通知するために、レコードとして追加する。
+            chunk.add(new RawRecord(null, getLineNumber(), getRowNumber(), e));
+        }
+        
+        return true;
+        
+    }
+    
+    /**
+     * 複数のレコードをBeanに変換します。別なスレッドで実行されます。
+     * @param chunk 読み込んだレコード
+     * @param workspaces 作業用のインスタンスのプール
+     * @return レコードごとの処理結果
+     */
+    private List<RecordResult<T>> processChunk(final List<RawRecord> chunk, final Queue<RecordWorkspace> workspaces) {
+        
+        RecordWorkspace ws = workspaces.poll();
+        if(ws == null) {
+            ws = new RecordWorkspace(new ArrayList<>());
+        }
+        
+        final List<RecordResult<T>> results = new ArrayList<>(chunk.size());
+        final List<CsvError> errors = new ArrayList<>();
+        final Consumer<CsvError> errorCollector = errors::add;
+        
+        // 重複の判定は、呼び出し元のスレッドでレコードの順番に確定させる。
+        final UniqueSource source = new UniqueSource(getSourceId(), true);
+        source.begin();
+        
+        try {
+            for(RawRecord record : chunk) {
+                
+                if(record.error != null) {
+                    results.add(RecordResult.error(record.error, Collections.emptyList()));
+                    continue;
+                }
+                
+                errors.clear();
+                RecordResult<T> result;
+                try {
+                    final T bean = processRecord(ws, record.columns, record.lineNumber, record.rowNumber, errorCollector);
+                    result = RecordResult.success(bean);
+                    
+                } catch(SuperCsvException e) {
+                    result = RecordResult.error(e, new ArrayList<>(errors));
+                    
+                } catch(RuntimeException e) {
+                    // 以降のレコードは処理しない
+                    results.add(RecordResult.fatalError(e));
+                    break;
+                }
+                
+                result.uniqueChecks = source.takeDeferredChecks();
+                results.add(result);
+            }
+            
+        } finally {
+            UniqueSource.end();
+            workspaces.offer(ws);
+        }
+        
+        return results;
+        
+    }
+    
+    /**
+     * 処理の完了したタスクを取得します。
+     * @param completionService 処理結果を保持するサービス
+     * @return 処理の完了したタスク
+     * @throws InterruptedIOException 待機中に割り込まれた場合
+     */
+    private Future<List<RecordResult<T>>> takeCompleted(final CompletionService<List<RecordResult<T>>> completionService)
+            throws InterruptedIOException {
+        
+        try {
+            return completionService.take();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for processing records.");
+        }
+    }
+    
+    /**
+     * 重複の判定を確定させていないレコードがあるかどうか。
+     * @param results レコードごとの処理結果
+     * @return 確定させていないレコードがある場合は、{@literal true}を返します。
+     */
+    private boolean hasUniqueChecks(final List<RecordResult<T>> results) {
+        
+        for(RecordResult<T> result : results) {
+            if(!result.uniqueChecks.isEmpty()) {
+                return true;
+            }
+        }
+        
+        return false;
+    }
+    
+    /**
+     * 指定したタスクより前に登録したタスクの処理が、全て終わるのを待ちます。
+     * <p>待機したタスクの処理結果は、後から取得して通知します。</p>
+     * @param pending 登録順の処理中のタスク
+     * @param done 処理の終わったタスク
+     * @throws InterruptedIOException 待機中に割り込まれた場合
+     */
+    private void awaitPreceding(final Deque<Future<List<RecordResult<T>>>> pending, final Future<List<RecordResult<T>>> done)
+            throws InterruptedIOException {
+        
+        for(Future<List<RecordResult<T>>> future : pending) {
+            if(future == done) {
+                break;
+            }
+            
+            try {
+                future.get();
+                
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("interrupted while waiting for processing records.");
                 
-            } catch(SuperCsvException e) {
-                errorMessages.addAll(exceptionConverter.convertAndFormat(e, beanMappingCache.getOriginal()));
-                throw e;
+            } catch(ExecutionException e) {
+                // 例外は、処理結果を取得するときにスローする。
             }
-            
-            // コールバックメソッドの実行（読み込み前）
-            for(CallbackMethod callback : beanMappingCache.getOriginal().getPreReadMethods()) {
-                callback.invoke(bean, context, bindingErrors, beanMappingCache.getOriginal());
+        }
+    }
+    
+    /**
+     * 並列に処理する間に重複がないと判定したセルについて、最も前の位置の値かどうかを確定させます。
+     * <p>重複と確定した場合は、エラー情報を追加し、成功したレコードはエラーに変更します。</p>
+     * @param result 1レコード分の処理結果
+     */
+    private void verifyUnique(final RecordResult<T> result) {
+        
+        List<SuperCsvException> rejected = null;
+        for(UniqueSource.Check check : result.uniqueChecks) {
+            try {
+                check.verify();
+            } catch(SuperCsvCellProcessorException e) {
+                if(rejected == null) {
+                    rejected = new ArrayList<>();
+                }
+                rejected.add(e);
             }
+        }
+        
+        if(rejected == null) {
+            return;
+        }
+        
+        final List<CsvError> errors = new ArrayList<>();
+        for(SuperCsvException e : rejected) {
+            errors.addAll(exceptionConverter.convert(e, beanMappingCache.getOriginal()));
+        }
+        
+        if(result.error == null) {
+            final CsvBindingErrors bindingErrors = new CsvBindingErrors(beanMappingCache.getOriginal().getType());
+            bindingErrors.addAllErrors(errors);
             
-            // beanへのマッピング
-            populateBean(bean, beanMappingCache.getNameMapping(), bindingErrors);
+            final SuperCsvBindingException bindingException = new SuperCsvBindingException("has binding error.",
+                    rejected.get(0).getCsvContext(), bindingErrors, isLightweightException());
+            bindingException.addAllProcessingErrors(rejected);
             
-            // Bean(レコード)の入力値検証
-            for(CsvValidator<T> recordValidator : validators) {
-                recordValidator.validate(bean, bindingErrors, new ValidationContext<>(context, beanMappingCache.getOriginal()));
-            }
+            result.bean = null;
+            result.error = bindingException;
+            result.errors = errors;
             
-            // コールバックメソッドの実行（読み込み後）
-            for(CallbackMethod callback : beanMappingCache.getOriginal().getPostReadMethods()) {
-                callback.invoke(bean, context, bindingErrors, beanMappingCache.getOriginal());
+        } else {
+            if(result.error instanceof SuperCsvBindingException) {
+                final SuperCsvBindingException bindingException = (SuperCsvBindingException) result.error;
+                bindingException.getBindingErrors().addAllErrors(errors);
+                bindingException.addAllProcessingErrors(rejected);
             }
             
-            // エラーメッセージの変換
-            processErrors(bindingErrors, context, rowException);
-            
-            return bean;
-            
+            final List<CsvError> allErrors = new ArrayList<>(result.errors);
+            allErrors.addAll(errors);
+            result.errors = allErrors;
         }
         
-        return null; // EOF
-        
-        
     }
     
     /**
-     * 成功時、例外発生時の処理を指定して、1レコード分を読み込みます。
-     * 
-     * @since 2.3
-     * @param successHandler 読み込み成功時の処理の実装。
-     * @param errorHandler CSVに関する例外発生時の処理の実装。
-     * @return CSVの読み込み処理ステータスを返します。
-     * @throws IOException 致命的なレコードの読み込みに失敗した場合にスローされます。
+     * タスクの処理結果を取得します。
+     * @param future 処理結果を取得するタスク
+     * @return レコードごとの処理結果
+     * @throws InterruptedIOException 待機中に割り込まれた場合
      */
-    public CsvReadStatus read(final CsvSuccessHandler<T> successHandler, final CsvErrorHandler errorHandler) throws IOException {
+    private List<RecordResult<T>> getChunkResult(final Future<List<RecordResult<T>>> future) throws InterruptedIOException {
         
         try {
-            final T bean = read();
-            if(bean != null) {
-                successHandler.onSuccess(bean);
-                return CsvReadStatus.SUCCESS;
-            } else {
-                return CsvReadStatus.EOF;
-            }
-        
-        } catch(SuperCsvException e) {
-            errorHandler.onError(e);
-            return CsvReadStatus.ERROR;
+            return future.get();
+            
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for processing records.");
             
+        } catch(ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if(cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("fail processing records.", cause);
         }
-        
     }
     
     /**
      * {@link Stream} を返します。要素はCSVの行をBeanにマッピングしたオブジェクトです。
      * <p>読み込む際には例外 {@link SuperCsvException} / {@link UncheckedIOException} が発生する可能性があります（読み込みを行った {@link Stream} メソッドからスローされます)。</p>
      * <p>読み込み時にスローされた {@link IOException} は、{@link UncheckedIOException} にラップされます。</p>
+     * <p>{@link Stream#parallel()}により並列ストリームにした場合は、レコードをまとめて先読みして分割し、
+     *    CellProcessorの実行やBeanへのマッピングを複数のスレッドで行います。
+     *    このとき、{@link CsvValidator}やコールバックメソッドを定義したリスナーは、スレッドセーフである必要があります。
+     *    また、{@link #getErrorMessages()}に追加されるメッセージの順番は、レコードの順番と異なることがあります。
+     * </p>
      * 
      * @since 2.3
      * @return 各レコードをBeanに変換した {@link Stream} を返します。
      */
     public Stream<T> lines() {
+        return StreamSupport.stream(new LinesSpliterator(), false);
+    }
+    
+    /**
+     * 読み込んだ1レコード分の値をBeanに変換し、例外発生時はメッセージを追加します。
+     * <p>{@link #lines()}の並列ストリームでは複数のスレッドから呼ばれるため、メッセージの追加は同期して行います。</p>
+     * 
+     * @param ws 作業用のインスタンス
+     * @param columns レコードのカラムの値
+     * @param lineNumber 行番号
+     * @param rowNumber レコード番号
+     * @param errors 作業用のエラー情報の格納先
+     * @return Beanのレコード
+     */
+    private T processRecordSynchronized(final RecordWorkspace ws, final List<String> columns, final int lineNumber,
+            final int rowNumber, final List<CsvError> errors) {
         
-        Iterator<T> itr = new Iterator<T>() {
-            
-            T nextLine = null;
+        errors.clear();
+        try {
+            return processRecord(ws, columns, lineNumber, rowNumber, errors::add);
             
-            @Override
-            public boolean hasNext() {
-                if(nextLine != null) {
-                    return true;
-                    
-                } else {
-                    try {
-                        nextLine = read();
-                        return (nextLine != null);
-                    } catch(IOException e) {
-                        throw new UncheckedIOException(e);
-                    }
-                }
-            }
-
-            @Override
-            public T next() {
-                if (nextLine != null || hasNext()) {
-                    T line = nextLine;
-                    nextLine = null;
-                    return line;
-                } else {
-                    throw new NoSuchElementException();
-                }
+        } catch(SuperCsvException e) {
+            synchronized(errorMessageSink) {
+                errors.forEach(errorMessageCollector);
             }
-            
-        };
+            throw e;
+        }
         
-        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
-                itr, Spliterator.ORDERED | Spliterator.NONNULL), false);
-
     }
     
     /**
@@ -262,19 +997,38 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
      */
     protected void processErrors(final CsvBindingErrors bindingErrors, final CsvContext context,
             final Optional<SuperCsvRowException> rowException) {
+        processErrors(bindingErrors, context, rowException, errorMessageCollector);
+    }
+    
+    /**
+     * 行の例外情報をメッセージに変換したりします。
+     * @since 2.4
+     * @param bindingErrors
+     * @param context
+     * @param rowException
+     * @param errorCollector メッセージに変換するエラー情報の追加先
+     */
+    protected void processErrors(final CsvBindingErrors bindingErrors, final CsvContext context,
+            final Optional<SuperCsvRowException> rowException, final Consumer<CsvError> errorCollector) {
         if(bindingErrors.hasErrors()) {
-            final List<String> message = bindingErrors.getAllErrors().stream()
-                    .map(error -> error.format(exceptionConverter.getMessageResolver(), exceptionConverter.getMessageInterpolator()))
-                    .collect(Collectors.toList());
-            errorMessages.addAll(message);
+            bindingErrors.getAllErrors().forEach(errorCollector);
             
-            final SuperCsvBindingException bindingException = new SuperCsvBindingException("has binding error.", context, bindingErrors);
+            final SuperCsvBindingException bindingException = new SuperCsvBindingException("has binding error.", context, bindingErrors,
+                    isLightweightException());
             rowException.ifPresent(re -> bindingException.addAllProcessingErrors(re.getColumnErrors()));
             
             throw bindingException;
         }
     }
     
+    /**
+     * 入力値検証のエラー時の例外を軽量化するかどうか。
+     * @return {@link com.github.mygreen.supercsv.builder.Configuration#isLightweightException()}の値。
+     */
+    private boolean isLightweightException() {
+        return beanMappingCache.getOriginal().getConfiguration().isLightweightException();
+    }
+    
     /**
      * 指定したBeanのクラスのインスタンスを作成する。
      * 
@@ -321,8 +1075,8 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
         
         destination.clear();
         
-        final SuperCsvRowException rowException = new SuperCsvRowException(
-                String.format("row (%d) has errors column", context.getRowNumber()), context);
+        // エラーがあるときのみ作成する
+        SuperCsvRowException rowException = null;
         
         for( int i = 0; i < source.size(); i++ ) {
             
@@ -335,6 +1089,10 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
                     destination.add(processors[i].execute(source.get(i), context)); // execute the processor chain
                 }
             } catch(SuperCsvCellProcessorException e) {
+                if(rowException == null) {
+                    rowException = new SuperCsvRowException(context, isLightweightException(),
+                            "row (%d) has errors column", context.getRowNumber());
+                }
                 rowException.addError(e);
                 
                 // 各カラムでエラーがあっても、後の入力値検証で処理を続けるために、仮に値を設定する。
@@ -347,7 +1105,7 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
             }
         }
         
-        if(rowException.isNotEmptyColumnErrors()) {
+        if(rowException != null) {
             throw rowException;
         }
         
@@ -355,11 +1113,29 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
     
     /**
      * Beanの各フィールドに対して値を設定する。
+     * <p>値の設定は、{@link BeanMappingCache#getPropertyAccessors()}で事前に解決したアクセッサを利用します。</p>
      * @param resultBean
      * @param nameMapping
      * @param bindingErrors
+     * @throws SuperCsvReflectionException 値の設定に失敗した場合
      */
     protected void populateBean(final T resultBean, final String[] nameMapping, final CsvBindingErrors bindingErrors) {
+        populateBean(resultBean, nameMapping, processedColumns, bindingErrors);
+    }
+    
+    /**
+     * CellProcessorで処理したカラムの値を指定して、Beanの各フィールドに対して値を設定する。
+     * @since 2.4
+     * @param resultBean
+     * @param nameMapping
+     * @param processedColumns CellProcessorで処理したカラムの値
+     * @param bindingErrors
+     * @throws SuperCsvReflectionException 値の設定に失敗した場合
+     */
+    protected void populateBean(final T resultBean, final String[] nameMapping, final List<Object> processedColumns,
+            final CsvBindingErrors bindingErrors) {
+        
+        final PropertyAccessor[] accessors = beanMappingCache.getPropertyAccessors();
         
         // map each column to its associated field on the bean
         for( int i = 0; i < nameMapping.length; i++ ) {
@@ -372,18 +1148,32 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
             }
             
             // invoke the setter on the bean
-            final Method setMethod = cache.getSetMethod(resultBean, fieldName, fieldValue.getClass());
-            try {
-                setMethod.invoke(resultBean, fieldValue);
-                
-            } catch(final Exception e) {
-                throw new SuperCsvReflectionException(String.format("error invoking method %s()", setMethod.getName()), e);
-            }
+            accessors[i].setValue(resultBean, fieldValue);
             
         }
         
     }
     
+    /**
+     * {@inheritDoc}
+     * <p>Beanのクラスタイプを指定して作成した場合は、CellProcessorのうち、{@link AutoCloseable}を実装したものも閉じます。
+     *    例えば、ヒープ外のメモリや一時ファイルを格納先とする{@link com.github.mygreen.supercsv.annotation.constraint.CsvUnique}の領域を解放します。
+     *    Beanのマッピング情報を指定して作成した場合は、他のインスタンスと共有していることがあるため閉じません。
+     *    使い終わった後に{@link BeanMapping#closeCellProcessors()}を呼び出してください。
+     * </p>
+     * @since 2.4
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            if(closeCellProcessors && beanMappingCache != null) {
+                beanMappingCache.getOriginal().closeCellProcessors();
+            }
+        }
+    }
+    
     /**
      * Beanクラスを元に作成したヘッダー情報を取得する。
      * @return ヘッダー一覧。
@@ -402,10 +1192,42 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
     
     /**
      * エラーメッセージを取得します。
+     * <p>メッセージは、{@link #setErrorMessageSink(CsvErrorMessageSink)}で設定した格納先が保持しているものです。</p>
+     * <p>初期値の格納先の場合は、保持しているリストそのものを返すため、要素のクリアや追加ができます。</p>
      * @return 処理中に発生した例外をメッセージに変換した
      */
     public List<String> getErrorMessages() {
-        return errorMessages;
+        return errorMessageSink.getMessages();
+    }
+    
+    /**
+     * エラー情報を、フォーマット前のメッセージとして格納先に追加します。
+     * @since 2.4
+     * @param error 追加するエラー情報
+     */
+    protected void addErrorMessage(final CsvError error) {
+        errorMessageSink.add(new CsvErrorMessage(error,
+                exceptionConverter.getMessageResolver(), exceptionConverter.getMessageInterpolator()));
+    }
+    
+    /**
+     * エラーメッセージの格納先を取得します。
+     * @since 2.4
+     * @return 初期値は、全てのメッセージを保持する{@link CsvErrorMessageSink#unlimited()}です。
+     */
+    public CsvErrorMessageSink getErrorMessageSink() {
+        return errorMessageSink;
+    }
+    
+    /**
+     * エラーメッセージの格納先を設定します。
+     * <p>大量のエラーが発生する可能性がある場合は、保持するメッセージ数に上限のある実装などを設定します。</p>
+     * @since 2.4
+     * @param errorMessageSink エラーメッセージの格納先
+     * @throws NullPointerException {@literal errorMessageSink is null.}
+     */
+    public void setErrorMessageSink(final CsvErrorMessageSink errorMessageSink) {
+        this.errorMessageSink = Objects.requireNonNull(errorMessageSink, "errorMessageSink should not be null.");
     }
     
     /**
@@ -424,6 +1246,36 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
         this.exceptionConverter = exceptionConverter;
     }
     
+    /**
+     * 読み込み元の番号を取得します。
+     * @since 2.4
+     * @return 初期値は、0です。
+     */
+    public int getSourceId() {
+        return uniqueSource == null ? 0 : uniqueSource.getSourceId();
+    }
+    
+    /**
+     * 読み込み元の番号を設定します。
+     * <p>1つのデータを複数のファイルに分割して、同じ{@link BeanMapping}を使用して読み込む場合に、ファイルごとに異なる番号を設定します。
+     *    {@literal @CsvUnique}、{@literal @CsvUniqueHashCode}で重複を判定する際に、値の位置に読み込み元の番号を含めて格納するため、
+     *    異なるファイルの同じ行番号の値を区別でき、重複した値の位置は、メッセージ変数{@literal duplicatedSourceId}で参照できます。
+     * </p>
+     * <p>位置の前後は、読み込み元の番号、行番号の順に比較します。
+     *    同じ読み込み元の値は、並列に読み込む場合でも行番号が最も小さい値以外を重複とします。
+     *    異なる読み込み元の値は、先に判定を確定させた値以外を重複とします。
+     * </p>
+     * @since 2.4
+     * @param sourceId 読み込み元の番号。0以上の値。
+     * @throws IllegalArgumentException {@literal sourceId < 0.}
+     */
+    public void setSourceId(final int sourceId) {
+        if(sourceId < 0) {
+            throw new IllegalArgumentException(String.format("sourceId should be zero or greater. but %d.", sourceId));
+        }
+        this.uniqueSource = (sourceId == 0) ? null : new UniqueSource(sourceId, false);
+    }
+    
     /**
      * レコードの値を検証するValidatorを追加します。
      * @param validators {@link CsvValidator}の実装クラスを設定します。
@@ -441,4 +1293,332 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
         return validators;
     }
     
+    /**
+     * レコードの処理中に再利用する作業用のインスタンスを保持するクラス。
+     * <p>例外をスローしたときは、例外が参照し続けるため破棄して、次のレコードで作り直します。</p>
+     *
+     * @since 2.4
+     */
+    private final class RecordWorkspace {
+        
+        /** CellProcessorで処理したカラムの値 */
+        private final List<Object> processedColumns;
+        
+        private CsvContext context;
+        
+        private CsvBindingErrors bindingErrors;
+        
+        private ValidationContext<T> validationContext;
+        
+        RecordWorkspace(final List<Object> processedColumns) {
+            this.processedColumns = processedColumns;
+        }
+        
+        /**
+         * レコードの情報を設定した、作業用の{@link CsvContext}を取得します。
+         * <p>行の値は、読み込んだレコードのカラムの値を直接参照します。</p>
+         * @param columns レコードのカラムの値
+         * @param lineNumber 行番号
+         * @param rowNumber レコード番号
+         * @return 再利用するコンテキスト。
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        CsvContext prepareContext(final List<String> columns, final int lineNumber, final int rowNumber) {
+            
+            if(context == null) {
+                this.context = new CsvContext(lineNumber, rowNumber, 1);
+            } else {
+                context.setLineNumber(lineNumber);
+                context.setRowNumber(rowNumber);
+                context.setColumnNumber(1);
+            }
+            
+            context.setRowSource((List)columns);
+            
+            return context;
+        }
+        
+        /**
+         * 空の状態の作業用の{@link CsvBindingErrors}を取得します。
+         * <p>入力値検証やコールバックメソッドで、メッセージコードの生成方法が変更されていることがあるため、
+         *    エラー情報と合わせて初期状態に戻します。
+         * </p>
+         * @return 再利用するエラー情報。
+         */
+        CsvBindingErrors prepareBindingErrors() {
+            
+            if(bindingErrors == null) {
+                this.bindingErrors = new CsvBindingErrors(beanMappingCache.getOriginal().getType());
+            } else {
+                bindingErrors.clearAllErrors();
+                bindingErrors.setMessageCodeGenerator(new MessageCodeGenerator());
+            }
+            
+            return bindingErrors;
+        }
+        
+        /**
+         * 作業用の{@link ValidationContext}を取得します。
+         * @return 再利用する入力値検証用のコンテキスト。
+         */
+        ValidationContext<T> prepareValidationContext() {
+            
+            if(validationContext == null || validationContext.getCsvContext() != context) {
+                this.validationContext = new ValidationContext<>(context, beanMappingCache.getOriginal());
+            }
+            
+            return validationContext;
+        }
+        
+        /**
+         * 例外をスローする際に、作業用のインスタンスを切り離します。
+         * <p>コンテキストの行の値は、次のレコードの読み込みで上書きされないようにコピーします。</p>
+         * @param columns レコードのカラムの値
+         */
+        void release(final List<String> columns) {
+            
+            if(context != null) {
+                context.setRowSource(new ArrayList<Object>(columns));
+            }
+            
+            this.context = null;
+            this.bindingErrors = null;
+            this.validationContext = null;
+        }
+        
+    }
+    
+    /**
+     * {@link #lines()}のための{@link Spliterator}。
+     * <p>分割時は、レコードをまとめて先読みし、先頭部分として切り出します。
+     *    切り出したレコードは、それぞれの作業用のインスタンスを使用してBeanに変換します。
+     * </p>
+     *
+     * @since 2.4
+     */
+    private final class LinesSpliterator implements Spliterator<T> {
+        
+        /** 分割時に先読みするレコード数の増分 */
+        private static final int BATCH_UNIT = PARALLEL_CHUNK_SIZE;
+        
+        /** 分割時に先読みするレコード数の上限 */
+        private static final int MAX_BATCH = 1 << 16;
+        
+        private final List<CsvError> errors = new ArrayList<>();
+        
+        private int batch = 0;
+        
+        private boolean eof = false;
+        
+        /** 先読み時に発生した例外。先読みしたレコードを処理した後にスローします。 */
+        private IOException readError;
+        
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            
+            if(eof) {
+                throwReadError();
+                return false;
+            }
+            
+            try {
+                if(!readRow()) {
+                    this.eof = true;
+                    return false;
+                }
+            } catch(IOException e) {
+                this.eof = true;
+                throw new UncheckedIOException(e);
+            }
+            
+            action.accept(processRecordSynchronized(workspace, getColumns(), getLineNumber(), getRowNumber(), errors));
+            return true;
+        }
+        
+        @Override
+        public Spliterator<T> trySplit() {
+            
+            if(eof) {
+                return null;
+            }
+            
+            final int size = Math.min(batch + BATCH_UNIT, MAX_BATCH);
+            final List<RawRecord> chunk = new ArrayList<>(size);
+            try {
+                while(chunk.size() < size) {
+                    if(!readRawRecord(chunk)) {
+                        this.eof = true;
+                        break;
+                    }
+                }
+            } catch(IOException e) {
+                // 読み込み済みのレコードを処理してからスローする。
+                this.readError = e;
+                this.eof = true;
+            }
+            
+            if(chunk.isEmpty()) {
+                return null;
+            }
+            
+            this.batch = chunk.size();
+            return new RawRecordSpliterator(chunk.toArray(new RawRecord[chunk.size()]), 0, chunk.size());
+        }
+        
+        private void throwReadError() {
+            if(readError != null) {
+                final IOException e = readError;
+                this.readError = null;
+                throw new UncheckedIOException(e);
+            }
+        }
+        
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+        
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL;
+        }
+        
+    }
+    
+    /**
+     * {@link #lines()}の並列ストリームで、先読みしたレコードを変換する{@link Spliterator}。
+     *
+     * @since 2.4
+     */
+    private final class RawRecordSpliterator implements Spliterator<T> {
+        
+        private final RawRecord[] records;
+        
+        private int index;
+        
+        private final int fence;
+        
+        private final List<CsvError> errors = new ArrayList<>();
+        
+        /** 最初の変換時に作成する作業用のインスタンス */
+        private RecordWorkspace ws;
+        
+        RawRecordSpliterator(final RawRecord[] records, final int origin, final int fence) {
+            this.records = records;
+            this.index = origin;
+            this.fence = fence;
+        }
+        
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            
+            if(index >= fence) {
+                return false;
+            }
+            
+            final RawRecord record = records[index++];
+            if(record.error != null) {
+                throw record.error;
+            }
+            
+            if(ws == null) {
+                this.ws = new RecordWorkspace(new ArrayList<>());
+            }
+            
+            action.accept(processRecordSynchronized(ws, record.columns, record.lineNumber, record.rowNumber, errors));
+            return true;
+        }
+        
+        @Override
+        public Spliterator<T> trySplit() {
+            
+            final int mid = (index + fence) >>> 1;
+            if(index >= mid) {
+                return null;
+            }
+            
+            final Spliterator<T> prefix = new RawRecordSpliterator(records, index, mid);
+            this.index = mid;
+            return prefix;
+        }
+        
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+        
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+        
+    }
+    
+    /**
+     * 並列読み込み時に、読み込んだ1レコード分の値を保持するクラス。
+     *
+     * @since 2.4
+     */
+    private static final class RawRecord {
+        
+        private final List<String> columns;
+        
+        private final int lineNumber;
+        
+        private final int rowNumber;
+        
+        /** 行の分割に失敗した場合の例外 */
+        private final SuperCsvException error;
+        
+        RawRecord(final List<String> columns, final int lineNumber, final int rowNumber, final SuperCsvException error) {
+            this.columns = columns;
+            this.lineNumber = lineNumber;
+            this.rowNumber = rowNumber;
+            this.error = error;
+        }
+        
+    }
+    
+    /**
+     * 並列読み込み時の、1レコード分の処理結果を保持するクラス。
+     *
+     * @param <T> マッピング対象のBeanのクラスタイプ
+     * @since 2.4
+     */
+    private static final class RecordResult<T> {
+        
+        private T bean;
+        
+        private SuperCsvException error;
+        
+        /** メッセージに変換するエラー情報 */
+        private List<CsvError> errors;
+        
+        /** 処理を継続できない例外 */
+        private RuntimeException fatalError;
+        
+        /** 重複の判定を確定させていないセルの判定処理 */
+        private List<UniqueSource.Check> uniqueChecks = Collections.emptyList();
+        
+        static <T> RecordResult<T> success(final T bean) {
+            final RecordResult<T> result = new RecordResult<>();
+            result.bean = bean;
+            return result;
+        }
+        
+        static <T> RecordResult<T> error(final SuperCsvException error, final List<CsvError> errors) {
+            final RecordResult<T> result = new RecordResult<>();
+            result.error = error;
+            result.errors = errors;
+            return result;
+        }
+        
+        static <T> RecordResult<T> fatalError(final RuntimeException fatalError) {
+            final RecordResult<T> result = new RecordResult<>();
+            result.fatalError = fatalError;
+            return result;
+        }
+        
+    }
+    
 }
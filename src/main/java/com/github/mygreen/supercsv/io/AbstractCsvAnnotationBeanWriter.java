@@ -1,15 +1,22 @@
 package com.github.mygreen.supercsv.io;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.Writer;
-import java.lang.reflect.Method;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
 
 import org.supercsv.cellprocessor.ift.CellProcessor;
 import org.supercsv.exception.SuperCsvCellProcessorException;
@@ -23,6 +30,7 @@ import org.supercsv.util.MethodCache;
 
 import com.github.mygreen.supercsv.builder.BeanMapping;
 import com.github.mygreen.supercsv.builder.CallbackMethod;
+import com.github.mygreen.supercsv.builder.PropertyAccessor;
 import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
 import com.github.mygreen.supercsv.exception.SuperCsvRowException;
 import com.github.mygreen.supercsv.validation.CsvBindingErrors;
@@ -37,7 +45,7 @@ import com.github.mygreen.supercsv.validation.ValidationContext;
  * @param <T> マッピング対象のBeanのクラスタイプ
  * 
  * @see CsvBeanWriter
- * @version 2.3
+ * @version 2.4
  * @since 2.1
  * @author T.TSUCHIE
  *
@@ -50,24 +58,53 @@ public abstract class AbstractCsvAnnotationBeanWriter<T> extends AbstractCsvWrit
      */
     protected BeanMappingCache<T> beanMappingCache;
     
+    /**
+     * 閉じるときに、CellProcessorも閉じるかどうか。
+     * Beanのマッピング情報を内部で作成した場合のみ閉じます。
+     */
+    boolean closeCellProcessors;
+    
     /** temporary storage of bean values */
     protected final List<Object> beanValues = new ArrayList<>();
     
     /** temporary storage of processed columns to be written */
     protected final List<Object> processedColumns = new ArrayList<>();
     
-    /** cache of methods for mapping from fields to columns */
+    /**
+     * cache of methods for mapping from fields to columns
+     * @deprecated 2.4から、値の取得は{@link BeanMappingCache#getPropertyAccessors()}で事前に解決したアクセッサを使用するため、本クラスからは参照しません。
+     *             サブクラスとの互換性のために残しています。
+     */
+    @Deprecated
     protected final MethodCache cache = new MethodCache();
     
     /** exception converter. */
     protected CsvExceptionConverter exceptionConverter = new CsvExceptionConverter();
     
     /** processing error messages. */
-    protected final List<String> errorMessages = new ArrayList<>();
+    protected CsvErrorMessageSink errorMessageSink = CsvErrorMessageSink.unlimited();
+    
+    /**
+     * processing error messages.
+     * @deprecated 2.4から、メッセージは{@link #errorMessageSink}が保持します。
+     *             このリストは、現在の格納先の{@link CsvErrorMessageSink#getMessages()}に委譲します。
+     */
+    @Deprecated
+    protected final List<String> errorMessages = new ErrorMessageListAdapter(() -> errorMessageSink);
+    
+    /**
+     * エラー情報をメッセージの格納先に追加する処理。
+     */
+    private final Consumer<CsvError> errorMessageCollector = this::addErrorMessage;
     
     /** validator */
     protected final List<CsvValidator<T>> validators = new ArrayList<>();
     
+    /**
+     * 並列書き込み時に、1つのタスクで処理するレコード数。
+     */
+    private static final int PARALLEL_CHUNK_SIZE = 128;
+    
     public AbstractCsvAnnotationBeanWriter(final Writer writer, final CsvPreference preference) {
         super(writer, preference);
         
@@ -90,22 +127,47 @@ public abstract class AbstractCsvAnnotationBeanWriter<T> extends AbstractCsvWrit
         super.incrementRowAndLineNo();
         
         final CsvContext context = new CsvContext(getLineNumber(), getRowNumber(), 1);
-        context.setRowSource(Collections.emptyList());  // 空の値を入れる
-        
         final CsvBindingErrors bindingErrors = new CsvBindingErrors(beanMappingCache.getOriginal().getType());
         
+        processRecord(source, context, bindingErrors, beanValues, processedColumns, errorMessageCollector);
+        
+        // write the list
+        super.writeRow(processedColumns);
+        
+        // コールバックメソッドの実行（書き込み後）
+        postWrite(source, context, bindingErrors);
+        
+    }
+    
+    /**
+     * 1レコード分のBeanの値を、書き込むカラムの値に変換します。
+     * 
+     * @param source 書き込むレコード
+     * @param context 行番号などを設定したコンテキスト
+     * @param bindingErrors エラー情報
+     * @param values Beanから取得した値の格納先
+     * @param columns CellProcessorで処理したカラムの値の格納先
+     * @param errorCollector メッセージに変換するエラー情報の追加先
+     * @throws SuperCsvBindingException セルの値に問題がある場合
+     * @throws SuperCsvException 設定など、その他に問題がある場合
+     */
+    private void processRecord(final T source, final CsvContext context, final CsvBindingErrors bindingErrors,
+            final List<Object> values, final List<Object> columns, final Consumer<CsvError> errorCollector) {
+        
+        context.setRowSource(Collections.emptyList());  // 空の値を入れる
+        
         // コールバックメソッドの実行（書き込み前）
         for(CallbackMethod callback : beanMappingCache.getOriginal().getPreWriteMethods()) {
             callback.invoke(source, context, bindingErrors, beanMappingCache.getOriginal());
         }
         
         // extract the bean values
-        extractBeanValues(source, beanMappingCache.getNameMapping());
-        context.setRowSource(new ArrayList<Object>(beanValues));
+        extractBeanValues(source, beanMappingCache.getNameMapping(), values);
+        context.setRowSource(new ArrayList<Object>(values));
         
         Optional<SuperCsvRowException> rowException = Optional.empty();
         try {
-            executeCellProcessors(processedColumns, beanValues, beanMappingCache.getCellProcessorsForWriting(), context);
+            executeCellProcessors(columns, values, beanMappingCache.getCellProcessorsForWriting(), context);
             
         } catch(SuperCsvRowException e) {
             /*
@@ -119,7 +181,7 @@ public abstract class AbstractCsvAnnotationBeanWriter<T> extends AbstractCsvWrit
             
         } catch(SuperCsvException e) {
             // convert exception and format to message.
-            errorMessages.addAll(exceptionConverter.convertAndFormat(e, beanMappingCache.getOriginal()));
+            exceptionConverter.convert(e, beanMappingCache.getOriginal()).forEach(errorCollector);
             throw e;
         }
         
@@ -131,18 +193,25 @@ public abstract class AbstractCsvAnnotationBeanWriter<T> extends AbstractCsvWrit
         }
         
         // エラーメッセージの変換
-        processErrors(bindingErrors, context, rowException);
+        processErrors(bindingErrors, context, rowException, errorCollector);
         
-        // write the list
-        super.writeRow(processedColumns);
+    }
+    
+    /**
+     * 書き込み後のコールバックメソッドを実行し、追加されたエラーを処理します。
+     * @param source 書き込んだレコード
+     * @param context コンテキスト
+     * @param bindingErrors エラー情報
+     * @throws SuperCsvBindingException コールバックメソッド内でエラーが追加された場合
+     */
+    private void postWrite(final T source, final CsvContext context, final CsvBindingErrors bindingErrors) {
         
-        // コールバックメソッドの実行（書き込み後）
         for(CallbackMethod callback : beanMappingCache.getOriginal().getPostWriteMethods()) {
             callback.invoke(source, context, bindingErrors, beanMappingCache.getOriginal());
         }
         
         // エラーメッセージの変換
-        processErrors(bindingErrors, context, rowException);
+        processErrors(bindingErrors, context, Optional.empty());
         
     }
     
@@ -169,6 +238,164 @@ public abstract class AbstractCsvAnnotationBeanWriter<T> extends AbstractCsvWrit
         
     }
     
+    /**
+     * 複数のスレッドでレコードを変換しながら、全てのレコードを書き込みます。
+     * <p>Beanからの値の取得、CellProcessorの実行、{@link CsvValidator}による検証、書き込み前のコールバックメソッドの実行は、
+     *    引数で指定した{@link Executor}のスレッドで並列に行い、
+     *    ファイルへの書き込み、書き込み後のコールバックメソッドの実行は、呼び出し元のスレッドで引数のレコードの順番に行います。
+     * </p>
+     * <p>変換済みで書き込み待ちのレコード数には上限があり、書き込みが追い付かない場合は、変換を待機します。</p>
+     * <p>例外発生時の処理は、呼び出し元のスレッドでレコードの順番に呼ばれます。
+     *    {@link #getErrorMessages()}に追加されるメッセージの順番は、
+     *    {@link #write(Object, CsvErrorHandler)}で1レコードずつ書き込む場合と同じです。
+     *    例外発生時の処理から例外をスローした場合は、以降のレコードの処理を中止します。
+     * </p>
+     * <p>並列に処理するため、{@link CsvValidator}やコールバックメソッドを定義したリスナーは、スレッドセーフである必要があります。
+     *    また、コンテキストの行番号は、値に改行を含むレコードがないとして採番するため、
+     *    改行を含むレコードを書き込む場合は、以降のレコードの行番号が1レコードずつ書き込む場合と異なることがあります。
+     * </p>
+     * 
+     * @since 2.4
+     * @param sources 書き込むレコードのデータ。
+     * @param executor レコードを変換するスレッドプール。
+     * @param parallelism 並列に処理するスレッド数の目安。変換中として保持するレコード数の上限の算出に使用します。
+     * @param errorHandler CSVに関する例外発生時の処理の実装。
+     * @throws IOException レコードの出力に失敗した場合。
+     * @throws NullPointerException {@literal sources or executor or errorHandler is null.}
+     * @throws IllegalArgumentException {@literal parallelism < 1.}
+     */
+    public void writeParallel(final Iterable<T> sources, final Executor executor, final int parallelism,
+            final CsvErrorHandler errorHandler) throws IOException {
+        
+        Objects.requireNonNull(sources, "sources should not be null.");
+        Objects.requireNonNull(executor, "executor should not be null.");
+        Objects.requireNonNull(errorHandler, "errorHandler should not be null.");
+        if(parallelism < 1) {
+            throw new IllegalArgumentException(String.format("parallelism should be greater than 0. but %d.", parallelism));
+        }
+        
+        final int maxPendingChunks = parallelism * 2;
+        
+        final Iterator<T> itr = sources.iterator();
+        final Deque<Future<List<RecordResult<T>>>> pending = new ArrayDeque<>();
+        
+        try {
+            while(true) {
+                
+                // 処理中のレコード数が上限に達するまで、タスクを登録する。
+                while(itr.hasNext() && pending.size() < maxPendingChunks) {
+                    final List<RawRecord<T>> chunk = new ArrayList<>(PARALLEL_CHUNK_SIZE);
+                    while(itr.hasNext() && chunk.size() < PARALLEL_CHUNK_SIZE) {
+                        // update the current row/line numbers
+                        super.incrementRowAndLineNo();
+                        chunk.add(new RawRecord<>(itr.next(), getLineNumber(), getRowNumber()));
+                    }
+                    
+                    final FutureTask<List<RecordResult<T>>> future = new FutureTask<>(() -> processChunk(chunk));
+                    executor.execute(future);
+                    pending.addLast(future);
+                }
+                
+                if(pending.isEmpty()) {
+                    break;
+                }
+                
+                // 変換の終わったレコードを順番に書き込む。
+                for(RecordResult<T> result : getChunkResult(pending.removeFirst())) {
+                    if(result.fatalError != null) {
+                        throw result.fatalError;
+                        
+                    } else if(result.error != null) {
+                        result.errors.forEach(errorMessageCollector);
+                        errorHandler.onError(result.error);
+                        
+                    } else {
+                        super.writeRow(result.columns);
+                        
+                        try {
+                            postWrite(result.source, result.context, result.bindingErrors);
+                        } catch(SuperCsvException e) {
+                            errorHandler.onError(e);
+                        }
+                    }
+                }
+                
+            }
+            
+        } finally {
+            // 途中で例外が発生した場合は、残りのタスクを中止する。
+            for(Future<?> future : pending) {
+                future.cancel(true);
+            }
+        }
+        
+    }
+    
+    /**
+     * 複数のレコードを書き込むカラムの値に変換します。別なスレッドで実行されます。
+     * @param chunk 書き込むレコード
+     * @return レコードごとの処理結果
+     */
+    private List<RecordResult<T>> processChunk(final List<RawRecord<T>> chunk) {
+        
+        final List<RecordResult<T>> results = new ArrayList<>(chunk.size());
+        final List<Object> values = new ArrayList<>();
+        final List<CsvError> errors = new ArrayList<>();
+        final Consumer<CsvError> errorCollector = errors::add;
+        
+        for(RawRecord<T> record : chunk) {
+            
+            errors.clear();
+            try {
+                Objects.requireNonNull(record.source, "the bean to write should not be null.");
+                
+                final CsvContext context = new CsvContext(record.lineNumber, record.rowNumber, 1);
+                final CsvBindingErrors bindingErrors = new CsvBindingErrors(beanMappingCache.getOriginal().getType());
+                final List<Object> columns = new ArrayList<>(beanMappingCache.getNameMapping().length);
+                
+                processRecord(record.source, context, bindingErrors, values, columns, errorCollector);
+                results.add(RecordResult.success(record.source, context, bindingErrors, columns));
+                
+            } catch(SuperCsvException e) {
+                results.add(RecordResult.error(e, new ArrayList<>(errors)));
+                
+            } catch(RuntimeException e) {
+                // 以降のレコードは処理しない
+                results.add(RecordResult.fatalError(e));
+                break;
+            }
+        }
+        
+        return results;
+        
+    }
+    
+    /**
+     * タスクの処理結果を取得します。
+     * @param future 処理結果を取得するタスク
+     * @return レコードごとの処理結果
+     * @throws InterruptedIOException 待機中に割り込まれた場合
+     */
+    private List<RecordResult<T>> getChunkResult(final Future<List<RecordResult<T>>> future) throws InterruptedIOException {
+        
+        try {
+            return future.get();
+            
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for processing records.");
+            
+        } catch(ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if(cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("fail processing records.", cause);
+        }
+    }
+    
     /**
      * 行の例外情報をメッセージに変換したりします。
      * @param bindingErrors
@@ -177,14 +404,25 @@ public abstract class AbstractCsvAnnotationBeanWriter<T> extends AbstractCsvWrit
      */
     protected void processErrors(final CsvBindingErrors bindingErrors, final CsvContext context,
             final Optional<SuperCsvRowException> rowException) {
+        processErrors(bindingErrors, context, rowException, errorMessageCollector);
+    }
+    
+    /**
+     * 行の例外情報をメッセージに変換したりします。
+     * @since 2.4
+     * @param bindingErrors
+     * @param context
+     * @param rowException
+     * @param errorCollector メッセージに変換するエラー情報の追加先
+     */
+    protected void processErrors(final CsvBindingErrors bindingErrors, final CsvContext context,
+            final Optional<SuperCsvRowException> rowException, final Consumer<CsvError> errorCollector) {
         
         if(bindingErrors.hasErrors()) {
-            final List<String> message = bindingErrors.getAllErrors().stream()
-                    .map(error -> error.format(exceptionConverter.getMessageResolver(), exceptionConverter.getMessageInterpolator()))
-                    .collect(Collectors.toList());
-            errorMessages.addAll(message);
+            bindingErrors.getAllErrors().forEach(errorCollector);
             
-            final SuperCsvBindingException bindingException = new SuperCsvBindingException("has binding error.", context, bindingErrors);
+            final SuperCsvBindingException bindingException = new SuperCsvBindingException("has binding error.", context, bindingErrors,
+                    isLightweightException());
             rowException.ifPresent(re -> bindingException.addAllProcessingErrors(re.getColumnErrors()));
             
             throw bindingException;
@@ -192,6 +430,14 @@ public abstract class AbstractCsvAnnotationBeanWriter<T> extends AbstractCsvWrit
         }
     }
     
+    /**
+     * 入力値検証のエラー時の例外を軽量化するかどうか。
+     * @return {@link com.github.mygreen.supercsv.builder.Configuration#isLightweightException()}の値。
+     */
+    private boolean isLightweightException() {
+        return beanMappingCache.getOriginal().getConfiguration().isLightweightException();
+    }
+    
     /**
      * Extracts the bean values, using the supplied name mapping array.
      * 
@@ -205,11 +451,33 @@ public abstract class AbstractCsvAnnotationBeanWriter<T> extends AbstractCsvWrit
      *             if there was a reflection exception extracting the bean value
      */
     protected void extractBeanValues(final Object source, final String[] nameMapping) throws SuperCsvReflectionException {
+        extractBeanValues(source, nameMapping, beanValues);
+    }
+    
+    /**
+     * Extracts the bean values, using the supplied name mapping array.
+     * 
+     * @since 2.4
+     * @param source
+     *            the bean
+     * @param nameMapping
+     *            the name mapping
+     * @param beanValues
+     *            the destination of the bean values
+     * @throws NullPointerException
+     *             if source or nameMapping are null
+     * @throws SuperCsvReflectionException
+     *             if there was a reflection exception extracting the bean value
+     */
+    protected void extractBeanValues(final Object source, final String[] nameMapping, final List<Object> beanValues)
+            throws SuperCsvReflectionException {
         
         Objects.requireNonNull(nameMapping, "the nameMapping array can't be null as it's used to map from fields to columns");
         
         beanValues.clear();
         
+        final PropertyAccessor[] accessors = beanMappingCache.getPropertyAccessors();
+        
         for( int i = 0; i < nameMapping.length; i++ ) {
             
             final String fieldName = nameMapping[i];
@@ -218,14 +486,7 @@ public abstract class AbstractCsvAnnotationBeanWriter<T> extends AbstractCsvWrit
                 beanValues.add(null); // assume they always want a blank column
                 
             } else {
-                Method getMethod = cache.getGetMethod(source, fieldName);
-                try {
-                    beanValues.add(getMethod.invoke(source));
-                }
-                catch(final Exception e) {
-                    throw new SuperCsvReflectionException(String.format("error extracting bean value for field %s",
-                        fieldName), e);
-                }
+                beanValues.add(accessors[i].getValue(source));
             }
             
         }
@@ -245,8 +506,9 @@ public abstract class AbstractCsvAnnotationBeanWriter<T> extends AbstractCsvWrit
         
         destination.clear();
         
-        final SuperCsvRowException rowException = new SuperCsvRowException(
-                String.format("row (%d) has errors column", context.getRowNumber()), context);
+        // エラーがあるときのみ作成する
+        SuperCsvRowException rowException = null;
+        
         for( int i = 0; i < source.size(); i++ ) {
             
             try {
@@ -258,6 +520,10 @@ public abstract class AbstractCsvAnnotationBeanWriter<T> extends AbstractCsvWrit
                     destination.add(processors[i].execute(source.get(i), context)); // execute the processor chain
                 }
             } catch(SuperCsvCellProcessorException e) {
+                if(rowException == null) {
+                    rowException = new SuperCsvRowException(context, isLightweightException(),
+                            "row (%d) has errors column", context.getRowNumber());
+                }
                 rowException.addError(e);
                 
                 // 各カラムでエラーがあっても、後の入力値検証で処理を続けるために、仮に値を設定する。
@@ -268,12 +534,32 @@ public abstract class AbstractCsvAnnotationBeanWriter<T> extends AbstractCsvWrit
             }
         }
         
-        if(rowException.isNotEmptyColumnErrors()) {
+        if(rowException != null) {
             throw rowException;
         }
         
     }
     
+    /**
+     * {@inheritDoc}
+     * <p>Beanのクラスタイプを指定して作成した場合は、CellProcessorのうち、{@link AutoCloseable}を実装したものも閉じます。
+     *    例えば、ヒープ外のメモリや一時ファイルを格納先とする{@link com.github.mygreen.supercsv.annotation.constraint.CsvUnique}の領域を解放します。
+     *    Beanのマッピング情報を指定して作成した場合は、他のインスタンスと共有していることがあるため閉じません。
+     *    使い終わった後に{@link BeanMapping#closeCellProcessors()}を呼び出してください。
+     * </p>
+     * @since 2.4
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            if(closeCellProcessors && beanMappingCache != null) {
+                beanMappingCache.getOriginal().closeCellProcessors();
+            }
+        }
+    }
+    
     /**
      * Beanクラスを元に作成したヘッダー情報を取得する。
      * <p>ただし、列番号を省略され、定義がされていないカラムは、{@literal column[カラム番号]}の形式となります。</p>
@@ -293,10 +579,42 @@ public abstract class AbstractCsvAnnotationBeanWriter<T> extends AbstractCsvWrit
     
     /**
      * エラーメッセージを取得します。
+     * <p>メッセージは、{@link #setErrorMessageSink(CsvErrorMessageSink)}で設定した格納先が保持しているものです。</p>
+     * <p>初期値の格納先の場合は、保持しているリストそのものを返すため、要素のクリアや追加ができます。</p>
      * @return 処理中に発生した例外をメッセージに変換した
      */
     public List<String> getErrorMessages() {
-        return errorMessages;
+        return errorMessageSink.getMessages();
+    }
+    
+    /**
+     * エラー情報を、フォーマット前のメッセージとして格納先に追加します。
+     * @since 2.4
+     * @param error 追加するエラー情報
+     */
+    protected void addErrorMessage(final CsvError error) {
+        errorMessageSink.add(new CsvErrorMessage(error,
+                exceptionConverter.getMessageResolver(), exceptionConverter.getMessageInterpolator()));
+    }
+    
+    /**
+     * エラーメッセージの格納先を取得します。
+     * @since 2.4
+     * @return 初期値は、全てのメッセージを保持する{@link CsvErrorMessageSink#unlimited()}です。
+     */
+    public CsvErrorMessageSink getErrorMessageSink() {
+        return errorMessageSink;
+    }
+    
+    /**
+     * エラーメッセージの格納先を設定します。
+     * <p>大量のエラーが発生する可能性がある場合は、保持するメッセージ数に上限のある実装などを設定します。</p>
+     * @since 2.4
+     * @param errorMessageSink エラーメッセージの格納先
+     * @throws NullPointerException {@literal errorMessageSink is null.}
+     */
+    public void setErrorMessageSink(final CsvErrorMessageSink errorMessageSink) {
+        this.errorMessageSink = Objects.requireNonNull(errorMessageSink, "errorMessageSink should not be null.");
     }
     
     /**
@@ -332,6 +650,76 @@ public abstract class AbstractCsvAnnotationBeanWriter<T> extends AbstractCsvWrit
         return validators;
     }
     
+    /**
+     * 並列書き込み時に、書き込む1レコード分の値を保持するクラス。
+     *
+     * @param <T> マッピング対象のBeanのクラスタイプ
+     * @since 2.4
+     */
+    private static final class RawRecord<T> {
+        
+        private final T source;
+        
+        private final int lineNumber;
+        
+        private final int rowNumber;
+        
+        RawRecord(final T source, final int lineNumber, final int rowNumber) {
+            this.source = source;
+            this.lineNumber = lineNumber;
+            this.rowNumber = rowNumber;
+        }
+        
+    }
     
+    /**
+     * 並列書き込み時の、1レコード分の変換結果を保持するクラス。
+     *
+     * @param <T> マッピング対象のBeanのクラスタイプ
+     * @since 2.4
+     */
+    private static final class RecordResult<T> {
+        
+        private T source;
+        
+        private CsvContext context;
+        
+        private CsvBindingErrors bindingErrors;
+        
+        /** CellProcessorで処理したカラムの値 */
+        private List<Object> columns;
+        
+        private SuperCsvException error;
+        
+        /** メッセージに変換するエラー情報 */
+        private List<CsvError> errors;
+        
+        /** 処理を継続できない例外 */
+        private RuntimeException fatalError;
+        
+        static <T> RecordResult<T> success(final T source, final CsvContext context, final CsvBindingErrors bindingErrors,
+                final List<Object> columns) {
+            final RecordResult<T> result = new RecordResult<>();
+            result.source = source;
+            result.context = context;
+            result.bindingErrors = bindingErrors;
+            result.columns = columns;
+            return result;
+        }
+        
+        static <T> RecordResult<T> error(final SuperCsvException error, final List<CsvError> errors) {
+            final RecordResult<T> result = new RecordResult<>();
+            result.error = error;
+            result.errors = errors;
+            return result;
+        }
+        
+        static <T> RecordResult<T> fatalError(final RuntimeException fatalError) {
+            final RecordResult<T> result = new RecordResult<>();
+            result.fatalError = fatalError;
+            return result;
+        }
+        
+    }
     
 }
@@ -1,15 +1,22 @@
 package com.github.mygreen.supercsv.io;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.supercsv.cellprocessor.ift.CellProcessor;
 
 import com.github.mygreen.supercsv.builder.BeanMapping;
+import com.github.mygreen.supercsv.builder.ColumnMapping;
+import com.github.mygreen.supercsv.builder.Configuration;
+import com.github.mygreen.supercsv.builder.PropertyAccessStrategy;
+import com.github.mygreen.supercsv.builder.PropertyAccessor;
 
 
 /**
  * Beanのマッピング情報のキャッシュ。
  * <p>レコードの実行ごとに、</p>
  *
- * @version 2.0
+ * @version 2.4
  * @author T.TSUCHIE
  *
  */
@@ -25,6 +32,8 @@ public class BeanMappingCache<T> {
     
     private CellProcessor[] cellProcessorsForWriting;
     
+    private PropertyAccessor[] propertyAccessors;
+    
     private BeanMappingCache(final BeanMapping<T> beanMapping) {
         this.beanMapping = beanMapping;
     }
@@ -37,10 +46,34 @@ public class BeanMappingCache<T> {
         cache.nameMapping = beanMapping.getNameMapping();
         cache.cellProcessorsForReading = beanMapping.getCellProcessorsForReading();
         cache.cellProcessorsForWriting = beanMapping.getCellProcessorsForWriting();
+        cache.propertyAccessors = createPropertyAccessors(beanMapping);
         
         return cache;
     }
     
+    /**
+     * カラムごとに、Beanのプロパティへのアクセッサを作成する。
+     * @param beanMapping Beanのマッピング情報
+     * @return カラムの位置順のアクセッサ。部分的なカラムの場合はnullとなります。
+     */
+    private static PropertyAccessor[] createPropertyAccessors(final BeanMapping<?> beanMapping) {
+        
+        final PropertyAccessStrategy strategy = Optional.ofNullable(beanMapping.getConfiguration())
+                .map(Configuration::getPropertyAccessStrategy)
+                .orElseGet(() -> new Configuration().getPropertyAccessStrategy());
+        
+        final List<ColumnMapping> columns = beanMapping.getColumns();
+        final PropertyAccessor[] accessors = new PropertyAccessor[columns.size()];
+        for(int i=0; i < accessors.length; i++) {
+            final ColumnMapping column = columns.get(i);
+            if(column.getField() != null) {
+                accessors[i] = strategy.create(beanMapping.getType(), column.getField());
+            }
+        }
+        
+        return accessors;
+    }
+    
     /**
      * キャッシュ元のデータを取得する。
      * @return キャッシュ元となったマッピング情報。
@@ -66,4 +99,13 @@ public class BeanMappingCache<T> {
         return cellProcessorsForWriting;
     }
     
+    /**
+     * Beanのプロパティへのアクセッサを取得する。
+     * @since 2.4
+     * @return カラムの位置順のアクセッサ。部分的なカラムの場合、要素はnullとなります。
+     */
+    public PropertyAccessor[] getPropertyAccessors() {
+        return propertyAccessors;
+    }
+    
 }
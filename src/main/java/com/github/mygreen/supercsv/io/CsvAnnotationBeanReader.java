@@ -21,7 +21,7 @@ import com.github.mygreen.supercsv.exception.SuperCsvNoMatchHeaderException;
  * アノテーションを元にCSVファイルを読み込むためのクラス。
  * 
  * @param <T> マッピング対象のBeanのクラスタイプ
- * @version 2.１
+ * @version 2.4
  * @author T.TSUCHIE
  *
  */
@@ -45,6 +45,7 @@ public class CsvAnnotationBeanReader<T> extends AbstractCsvAnnotationBeanReader<
         
         BeanMappingFactory factory = new BeanMappingFactory();
         this.beanMappingCache = BeanMappingCache.create(factory.create(beanType, groups));
+        this.closeCellProcessors = true;
         this.validators.addAll(beanMappingCache.getOriginal().getValidators());
     }
     
@@ -85,6 +86,7 @@ public class CsvAnnotationBeanReader<T> extends AbstractCsvAnnotationBeanReader<
         
         BeanMappingFactory factory = new BeanMappingFactory();
         this.beanMappingCache = BeanMappingCache.create(factory.create(beanType, groups));
+        this.closeCellProcessors = true;
         this.validators.addAll(beanMappingCache.getOriginal().getValidators());
     }
     
@@ -128,7 +130,7 @@ public class CsvAnnotationBeanReader<T> extends AbstractCsvAnnotationBeanReader<
                 
             } catch(SuperCsvNoMatchColumnSizeException | SuperCsvNoMatchHeaderException e) {
                 // convert exception and format to message.
-                errorMessages.addAll(exceptionConverter.convertAndFormat(e, beanMappingCache.getOriginal()));
+                exceptionConverter.convert(e, beanMappingCache.getOriginal()).forEach(this::addErrorMessage);
                 throw e;
             }
         }
@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.io.Writer;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 import org.supercsv.exception.SuperCsvException;
 import org.supercsv.prefs.CsvPreference;
@@ -17,7 +18,7 @@ import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
  * アノテーションを元にCSVファイルを出力するためのクラス。
  *
  * @param <T> マッピング対象のBeanのクラスタイプ
- * @version 2.1
+ * @version 2.4
  * @author T.TSUCHIE
  *
  */
@@ -41,6 +42,7 @@ public class CsvAnnotationBeanWriter<T> extends AbstractCsvAnnotationBeanWriter<
         
         BeanMappingFactory factory = new BeanMappingFactory();
         this.beanMappingCache = BeanMappingCache.create(factory.create(beanType, groups));
+        this.closeCellProcessors = true;
         this.validators.addAll(beanMappingCache.getOriginal().getValidators());
         
     }
@@ -121,7 +123,47 @@ public class CsvAnnotationBeanWriter<T> extends AbstractCsvAnnotationBeanWriter<
             }
         }
         
-        super.flush();
+        flush();
+        
+    }
+    
+    /**
+     * 複数のスレッドでレコードを変換しながら、レコードのデータを全て書き込みます。
+     * <p>ヘッダー行も自動的に処理されます。2回目以降に呼び出した場合、ヘッダー情報は書き込まれません。</p>
+     * <p>ファイルには、引数のレコードの順番に書き込みます。
+     *    並列処理の詳細は、{@link #writeParallel(Iterable, Executor, int, CsvErrorHandler)}を参照してください。
+     * </p>
+     * 
+     * @since 2.4
+     * @param sources 書き込むレコードのデータ。
+     * @param executor レコードを変換するスレッドプール。
+     * @param parallelism 並列に処理するスレッド数の目安。
+     * @param continueOnError continueOnError レコードの処理中に、
+     *        例外{@link SuperCsvBindingException}が発生しても、続行するかどうか指定します。
+     *        trueの場合、例外が発生しても、次の処理を行います。
+     * @throws NullPointerException sources or executor is null.
+     * @throws IllegalArgumentException {@literal parallelism < 1.}
+     * @throws IOException レコードの出力に失敗した場合。
+     * @throws SuperCsvBindingException セルの値に問題がある場合
+     * @throws SuperCsvException 設定など、その他に問題がある場合
+     * 
+     */
+    public void writeAllParallel(final Collection<T> sources, final Executor executor, final int parallelism,
+            final boolean continueOnError) throws IOException {
+        
+        Objects.requireNonNull(sources, "sources should not be null.");
+        
+        if(beanMappingCache.getOriginal().isHeader() && getLineNumber() == 0) {
+            writeHeader();
+        }
+        
+        writeParallel(sources, executor, parallelism, e -> {
+            if(!continueOnError || !(e instanceof SuperCsvBindingException)) {
+                throw e;
+            }
+        });
+        
+        flush();
         
     }
     
@@ -0,0 +1,73 @@
+package com.github.mygreen.supercsv.io;
+
+import java.util.Objects;
+
+import com.github.mygreen.supercsv.localization.MessageInterpolator;
+import com.github.mygreen.supercsv.localization.MessageResolver;
+import com.github.mygreen.supercsv.validation.CsvError;
+
+/**
+ * {@link CsvErrorMessageSink}に追加される、フォーマット前のエラーメッセージ。
+ * <p>メッセージのフォーマットは、{@link #format()}により最初に参照されたときに1度だけ行い、結果を保持します。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public final class CsvErrorMessage {
+    
+    private final CsvError error;
+    
+    private final MessageResolver messageResolver;
+    
+    private final MessageInterpolator messageInterpolator;
+    
+    private volatile String message;
+    
+    /**
+     * エラー情報とメッセージのフォーマットに使用するクラスを指定してインスタンスを作成します。
+     * @param error エラー情報
+     * @param messageResolver メッセージを解決するクラス
+     * @param messageInterpolator メッセージを補間するクラス
+     * @throws NullPointerException {@literal error or messageResolver or messageInterpolator is null.}
+     */
+    public CsvErrorMessage(final CsvError error, final MessageResolver messageResolver,
+            final MessageInterpolator messageInterpolator) {
+        this.error = Objects.requireNonNull(error, "error should not be null.");
+        this.messageResolver = Objects.requireNonNull(messageResolver, "messageResolver should not be null.");
+        this.messageInterpolator = Objects.requireNonNull(messageInterpolator, "messageInterpolator should not be null.");
+    }
+    
+    /**
+     * フォーマット前のエラー情報を取得します。
+     * @return エラー情報
+     */
+    public CsvError getError() {
+        return error;
+    }
+    
+    /**
+     * メッセージをフォーマットします。
+     * @return フォーマットしたメッセージ。2回目以降は、1回目の結果を返します。
+     */
+    public String format() {
+        
+        String result = message;
+        if(result == null) {
+            result = error.format(messageResolver, messageInterpolator);
+            this.message = result;
+        }
+        
+        return result;
+    }
+    
+    /**
+     * フォーマットしたメッセージを返します。
+     * @return {@link #format()}の値。
+     */
+    @Override
+    public String toString() {
+        return format();
+    }
+    
+}
@@ -0,0 +1,92 @@
+package com.github.mygreen.supercsv.io;
+
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * 処理中に発生したエラーメッセージの格納先。
+ * <p>エラーメッセージは、フォーマット前の{@link CsvErrorMessage}として追加されます。
+ *    保持しないメッセージはフォーマットしないため、上限のある実装では、上限を超えたメッセージのフォーマット処理は行われません。
+ * </p>
+ * <p>大量のエラーが発生する可能性があるファイルを処理する場合は、
+ *    保持するメッセージ数に上限のある実装や、ファイルなどに書き出す実装を利用します。
+ * </p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public interface CsvErrorMessageSink {
+    
+    /**
+     * 全てのメッセージを保持する実装を取得します。
+     * <p>{@link AbstractCsvAnnotationBeanReader}などの初期値です。</p>
+     * <p>メッセージは追加した時点でフォーマットし、フォーマットした文字列のみを保持します。
+     *    {@link #getMessages()}は保持しているリストそのものを返すため、要素のクリアや追加ができます。
+     * </p>
+     * @return 新しいインスタンスを返します。
+     */
+    static CsvErrorMessageSink unlimited() {
+        return new ListErrorMessageSink(Integer.MAX_VALUE);
+    }
+    
+    /**
+     * 最初に発生したメッセージから、指定した件数までを保持する実装を取得します。
+     * <p>上限を超えたメッセージは、フォーマットせずに件数のみを数えます。</p>
+     * @param limit 保持するメッセージ数の上限。
+     * @return 新しいインスタンスを返します。
+     * @throws IllegalArgumentException {@literal limit < 0.}
+     */
+    static CsvErrorMessageSink first(final int limit) {
+        return new ListErrorMessageSink(limit);
+    }
+    
+    /**
+     * 最後に発生したメッセージから、指定した件数までを保持する実装を取得します。
+     * <p>上限を超えた場合は、古いメッセージから破棄します。
+     *    破棄される可能性があるため、メッセージのフォーマットは{@link #getMessages()}で参照したときに行います。
+     * </p>
+     * @param capacity 保持するメッセージ数の上限。
+     * @return 新しいインスタンスを返します。
+     * @throws IllegalArgumentException {@literal capacity < 1.}
+     */
+    static CsvErrorMessageSink last(final int capacity) {
+        return new RingBufferErrorMessageSink(capacity);
+    }
+    
+    /**
+     * メッセージを保持せずに、追加された時点でフォーマットして1行ずつ書き出す実装を取得します。
+     * <p>書き出し先のクローズは、呼び出し元で行います。</p>
+     * @param writer メッセージの書き出し先。
+     * @return 新しいインスタンスを返します。
+     * @throws NullPointerException {@literal writer is null.}
+     */
+    static CsvErrorMessageSink writer(final Writer writer) {
+        return new WriterErrorMessageSink(writer);
+    }
+    
+    /**
+     * エラーメッセージを追加します。
+     * @param message フォーマット前のエラーメッセージ。
+     * @throws java.io.UncheckedIOException メッセージの書き出しに失敗した場合。
+     */
+    void add(CsvErrorMessage message);
+    
+    /**
+     * 保持しているエラーメッセージを取得します。
+     * @return 保持しているメッセージ。保持しない実装の場合は空のリストを返します。
+     */
+    List<String> getMessages();
+    
+    /**
+     * 追加されたエラーメッセージの件数を取得します。
+     * @return 破棄したメッセージも含めた件数。
+     */
+    long getCount();
+    
+    /**
+     * 保持しているエラーメッセージと件数をクリアします。
+     */
+    void clear();
+    
+}
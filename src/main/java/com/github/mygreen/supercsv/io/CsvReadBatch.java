@@ -0,0 +1,92 @@
+package com.github.mygreen.supercsv.io;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 複数レコードをまとめて読み込んだ結果を保持するクラス。
+ * <p>{@link AbstractCsvAnnotationBeanReader#readBatch(int)}などで読み込んだ、
+ *    変換に成功したレコードと、失敗したレコードの読み込み結果{@link CsvReadResult}をそれぞれ読み込み順に保持します。
+ *    失敗したレコードは、例外ではなくエラー情報{@link com.github.mygreen.supercsv.validation.CsvError}として保持します。
+ * </p>
+ * <p>{@link AbstractCsvAnnotationBeanReader#readBatch(int, CsvReadBatch)}に渡して再利用する場合は、
+ *    内部のリストをクリアして使い回すため、前回の読み込み結果は保持されません。
+ * </p>
+ *
+ * @param <T> マッピング対象のBeanのクラスタイプ
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class CsvReadBatch<T> {
+    
+    private final List<T> records;
+    
+    private final List<CsvReadResult<T>> errors = new ArrayList<>();
+    
+    /**
+     * 空のインスタンスを作成します。
+     */
+    public CsvReadBatch() {
+        this.records = new ArrayList<>();
+    }
+    
+    /**
+     * レコード数の初期容量を指定してインスタンスを作成します。
+     * @param initialCapacity レコード数の初期容量
+     * @throws IllegalArgumentException {@literal initialCapacity < 0.}
+     */
+    public CsvReadBatch(final int initialCapacity) {
+        this.records = new ArrayList<>(initialCapacity);
+    }
+    
+    /**
+     * 変換に成功したレコードを取得します。
+     * @return 読み込み順のBeanのリスト。
+     */
+    public List<T> getRecords() {
+        return records;
+    }
+    
+    /**
+     * 変換に失敗したレコードの読み込み結果を取得します。
+     * <p>各要素の{@link CsvReadResult#getErrors()}で、レコードのエラー情報を参照できます。</p>
+     * @return 読み込み順の、ステータスが{@link CsvReadStatus#ERROR}の読み込み結果のリスト。
+     */
+    public List<CsvReadResult<T>> getErrors() {
+        return errors;
+    }
+    
+    /**
+     * 変換に失敗したレコードがあるかどうか。
+     * @return {@literal true}の場合、失敗したレコードがあります。
+     */
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+    
+    /**
+     * 読み込んだレコード数を取得します。
+     * @return 変換に成功したレコードと失敗したレコードの合計。
+     */
+    public int size() {
+        return records.size() + errors.size();
+    }
+    
+    /**
+     * 読み込んだレコードが存在しないかどうか。
+     * @return {@literal true}の場合、レコードが存在しません。
+     */
+    public boolean isEmpty() {
+        return records.isEmpty() && errors.isEmpty();
+    }
+    
+    /**
+     * 保持している読み込み結果をクリアします。
+     */
+    public void clear() {
+        records.clear();
+        errors.clear();
+    }
+    
+}
@@ -0,0 +1,146 @@
+package com.github.mygreen.supercsv.io;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import com.github.mygreen.supercsv.validation.CsvBindingErrors;
+import com.github.mygreen.supercsv.validation.CsvError;
+
+/**
+ * {@link AbstractCsvAnnotationBeanReader#tryRead()}による1レコード分の読み込み結果。
+ * <p>読み込みに成功した場合はBeanを、失敗した場合はエラー情報を保持します。</p>
+ *
+ * @param <T> マッピング対象のBeanのクラスタイプ
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class CsvReadResult<T> {
+    
+    @SuppressWarnings("rawtypes")
+    private static final CsvReadResult EOF = new CsvReadResult<>(CsvReadStatus.EOF, null, null, -1, -1);
+    
+    private final CsvReadStatus status;
+    
+    private final T record;
+    
+    private final CsvBindingErrors bindingErrors;
+    
+    private final int lineNumber;
+    
+    private final int rowNumber;
+    
+    private CsvReadResult(final CsvReadStatus status, final T record, final CsvBindingErrors bindingErrors,
+            final int lineNumber, final int rowNumber) {
+        this.status = status;
+        this.record = record;
+        this.bindingErrors = bindingErrors;
+        this.lineNumber = lineNumber;
+        this.rowNumber = rowNumber;
+    }
+    
+    /**
+     * 最後まで読み込んだときの結果を取得します。
+     * @return 共有のインスタンスを返します。
+     */
+    @SuppressWarnings("unchecked")
+    static <T> CsvReadResult<T> eof() {
+        return EOF;
+    }
+    
+    /**
+     * 読み込みに成功したときの結果を作成します。
+     * @param record Beanのレコード
+     * @param lineNumber 行番号
+     * @param rowNumber レコード番号
+     * @return 成功時の結果
+     */
+    static <T> CsvReadResult<T> success(final T record, final int lineNumber, final int rowNumber) {
+        return new CsvReadResult<>(CsvReadStatus.SUCCESS, record, null, lineNumber, rowNumber);
+    }
+    
+    /**
+     * 読み込みに失敗したときの結果を作成します。
+     * @param bindingErrors エラー情報
+     * @param lineNumber 行番号
+     * @param rowNumber レコード番号
+     * @return 失敗時の結果
+     */
+    static <T> CsvReadResult<T> error(final CsvBindingErrors bindingErrors, final int lineNumber, final int rowNumber) {
+        return new CsvReadResult<>(CsvReadStatus.ERROR, null, bindingErrors, lineNumber, rowNumber);
+    }
+    
+    /**
+     * 読み込み処理のステータスを取得します。
+     * @return 成功/失敗/EOFのいずれか。
+     */
+    public CsvReadStatus getStatus() {
+        return status;
+    }
+    
+    /**
+     * 読み込みに成功したかどうか。
+     * @return {@literal true}の場合、成功です。
+     */
+    public boolean isSuccess() {
+        return status == CsvReadStatus.SUCCESS;
+    }
+    
+    /**
+     * 読み込みに失敗したかどうか。
+     * @return {@literal true}の場合、失敗です。
+     */
+    public boolean isError() {
+        return status == CsvReadStatus.ERROR;
+    }
+    
+    /**
+     * 最後まで読み込んだかどうか。
+     * @return {@literal true}の場合、読み込むレコードがありません。
+     */
+    public boolean isEof() {
+        return status == CsvReadStatus.EOF;
+    }
+    
+    /**
+     * 読み込んだBeanのレコードを取得します。
+     * @return 成功時以外は空を返します。
+     */
+    public Optional<T> getRecord() {
+        return Optional.ofNullable(record);
+    }
+    
+    /**
+     * エラー情報を取得します。
+     * @return 失敗時以外は空を返します。
+     */
+    public Optional<CsvBindingErrors> getBindingErrors() {
+        return Optional.ofNullable(bindingErrors);
+    }
+    
+    /**
+     * 全てのエラーを取得します。
+     * @return 失敗時以外は空のリストを返します。
+     */
+    public List<CsvError> getErrors() {
+        return bindingErrors != null ? bindingErrors.getAllErrors() : Collections.emptyList();
+    }
+    
+    /**
+     * 読み込んだレコードの行番号を取得します。
+     * @return EOFの場合は{@literal -1}を返します。
+     */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+    
+    /**
+     * 読み込んだレコードの番号を取得します。
+     * @return EOFの場合は{@literal -1}を返します。
+     */
+    public int getRowNumber() {
+        return rowNumber;
+    }
+    
+}
@@ -0,0 +1,59 @@
+package com.github.mygreen.supercsv.io;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 現在設定されている{@link CsvErrorMessageSink}が保持するメッセージを参照するリスト。
+ * <p>非推奨となったフィールド{@code errorMessages}の互換性を保つためのものです。
+ *    格納先は途中で変更できるため、操作の度に{@link CsvErrorMessageSink#getMessages()}に委譲します。
+ * </p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+class ErrorMessageListAdapter extends AbstractList<String> {
+    
+    private final Supplier<CsvErrorMessageSink> sinkSupplier;
+    
+    ErrorMessageListAdapter(final Supplier<CsvErrorMessageSink> sinkSupplier) {
+        this.sinkSupplier = sinkSupplier;
+    }
+    
+    private List<String> messages() {
+        return sinkSupplier.get().getMessages();
+    }
+    
+    @Override
+    public String get(final int index) {
+        return messages().get(index);
+    }
+    
+    @Override
+    public int size() {
+        return messages().size();
+    }
+    
+    @Override
+    public String set(final int index, final String element) {
+        return messages().set(index, element);
+    }
+    
+    @Override
+    public void add(final int index, final String element) {
+        messages().add(index, element);
+    }
+    
+    @Override
+    public String remove(final int index) {
+        return messages().remove(index);
+    }
+    
+    @Override
+    public void clear() {
+        messages().clear();
+    }
+    
+}
@@ -0,0 +1,169 @@
+package com.github.mygreen.supercsv.io;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.supercsv.exception.SuperCsvException;
+
+import com.github.mygreen.supercsv.annotation.conversion.CsvFixedSize;
+import com.github.mygreen.supercsv.builder.BeanMapping;
+import com.github.mygreen.supercsv.builder.ColumnMapping;
+import com.github.mygreen.supercsv.cellprocessor.conversion.AbstractPaddingOperator;
+import com.github.mygreen.supercsv.cellprocessor.conversion.PaddingProcessor;
+import com.github.mygreen.supercsv.exception.SuperCsvInvalidAnnotationException;
+import com.github.mygreen.supercsv.localization.MessageBuilder;
+
+/**
+ * アノテーション{@link CsvFixedSize}を元にした、固定長のレコードのカラムの配置情報。
+ * <p>カラムの位置は、区切り文字ではなく、カラム番号の順に並べた各カラムのサイズによって決まります。
+ *    サイズのカウント方法は、{@link CsvFixedSize#paddingProcessor()}で指定した{@link PaddingProcessor}に従います。
+ * </p>
+ * <p>サイズのカウントと切り出しが必要なため、{@link PaddingProcessor}は{@link AbstractPaddingOperator}を継承している必要があります。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+final class FixedSizeColumnLayout {
+    
+    private final Column[] columns;
+    
+    private FixedSizeColumnLayout(final Column[] columns) {
+        this.columns = columns;
+    }
+    
+    /**
+     * Beanのマッピング情報から、カラムの配置情報を作成します。
+     * @param beanMapping Beanのマッピング情報
+     * @return カラムの配置情報
+     * @throws SuperCsvInvalidAnnotationException 定義されていないカラム、またはアノテーション{@link CsvFixedSize}が付与されていないカラムがある場合。
+     *         または、{@link AbstractPaddingOperator}を継承していない{@link PaddingProcessor}が指定されている場合。
+     */
+    static FixedSizeColumnLayout create(final BeanMapping<?> beanMapping) {
+        
+        final List<ColumnMapping> columnMappings = beanMapping.getColumns();
+        final Column[] columns = new Column[columnMappings.size()];
+        
+        for(int i=0; i < columns.length; i++) {
+            final ColumnMapping columnMapping = columnMappings.get(i);
+            if(columnMapping.isPartialized() || columnMapping.getNumber() != i+1) {
+                throw new SuperCsvInvalidAnnotationException(MessageBuilder.create("anno.CsvFixedSize.undefinedColumn")
+                        .varWithClass("property", beanMapping.getType())
+                        .var("columnNumber", i+1)
+                        .format());
+            }
+            
+            final Optional<CsvFixedSize> fixedSizeAnno = columnMapping.getField()
+                    .getAnnotationsByGroup(CsvFixedSize.class, beanMapping.getGroups())
+                    .stream().findFirst();
+            
+            if(!fixedSizeAnno.isPresent()) {
+                throw new SuperCsvInvalidAnnotationException(MessageBuilder.create("anno.required")
+                        .var("property", columnMapping.getField().getNameWithClass())
+                        .varWithAnno("anno", CsvFixedSize.class)
+                        .format());
+            }
+            
+            final PaddingProcessor paddingProcessor = (PaddingProcessor)beanMapping.getConfiguration().getBeanFactory()
+                    .create(fixedSizeAnno.get().paddingProcessor());
+            
+            if(!(paddingProcessor instanceof AbstractPaddingOperator)) {
+                throw new SuperCsvInvalidAnnotationException(fixedSizeAnno.get(), MessageBuilder.create("anno.CsvFixedSize.notSupportedPaddingProcessor")
+                        .var("property", columnMapping.getField().getNameWithClass())
+                        .varWithAnno("anno", CsvFixedSize.class)
+                        .varWithClass("paddingProcessor", fixedSizeAnno.get().paddingProcessor())
+                        .varWithClass("supportedClass", AbstractPaddingOperator.class)
+                        .format());
+            }
+            
+            columns[i] = new Column(columnMapping.getNumber(), fixedSizeAnno.get(), (AbstractPaddingOperator)paddingProcessor);
+        }
+        
+        return new FixedSizeColumnLayout(columns);
+    }
+    
+    /**
+     * カラム数を取得します。
+     * @return カラム数
+     */
+    int getColumnSize() {
+        return columns.length;
+    }
+    
+    /**
+     * レコードを各カラムのサイズで切り出します。
+     * <p>レコードが短く、値が存在しないカラムはnullとします。また、全てのカラムのサイズを超える部分は無視します。</p>
+     * @param record 1レコード分の文字列
+     * @param values 切り出した値の格納先
+     */
+    void split(final String record, final List<String> values) {
+        
+        int beginIndex = 0;
+        for(Column column : columns) {
+            final int endIndex = column.paddingProcessor.endIndexOf(record, beginIndex, column.size);
+            values.add(beginIndex == endIndex ? null : record.substring(beginIndex, endIndex));
+            beginIndex = endIndex;
+        }
+        
+    }
+    
+    /**
+     * 各カラムの値をサイズに合わせてパディングし、区切り文字なしで連結します。
+     * @param values カラムの値。nullの場合は空文字として扱います。
+     * @param record 連結した値の格納先
+     * @throws SuperCsvException パディングした値のサイズが、カラムのサイズと一致しない場合。
+     */
+    void join(final String[] values, final StringBuilder record) {
+        
+        for(int i=0; i < columns.length; i++) {
+            final Column column = columns[i];
+            final String value = column.pad(values[i] == null ? "" : values[i]);
+            
+            final int actualSize = column.paddingProcessor.sizeOf(value);
+            if(actualSize != column.size) {
+                throw new SuperCsvException(MessageBuilder.create("fixedSize.invalidColumnSize")
+                        .var("columnNumber", column.number)
+                        .var("value", value)
+                        .var("actualSize", actualSize)
+                        .var("size", column.size)
+                        .format());
+            }
+            
+            record.append(value);
+        }
+        
+    }
+    
+    /**
+     * 固定長のカラムの情報
+     */
+    private static final class Column {
+        
+        private final int number;
+        
+        private final int size;
+        
+        private final char padChar;
+        
+        private final boolean rightAlign;
+        
+        private final boolean chopped;
+        
+        private final AbstractPaddingOperator paddingProcessor;
+        
+        private Column(final int number, final CsvFixedSize anno, final AbstractPaddingOperator paddingProcessor) {
+            this.number = number;
+            this.size = anno.size();
+            this.padChar = anno.padChar();
+            this.rightAlign = anno.rightAlign();
+            this.chopped = anno.chopped();
+            this.paddingProcessor = paddingProcessor;
+        }
+        
+        private String pad(final String value) {
+            return paddingProcessor.pad(value, size, padChar, rightAlign, chopped);
+        }
+        
+    }
+    
+}
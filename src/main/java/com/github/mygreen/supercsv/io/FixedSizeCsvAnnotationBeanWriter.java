@@ -0,0 +1,149 @@
+package com.github.mygreen.supercsv.io;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.prefs.CsvPreference;
+
+import com.github.mygreen.supercsv.annotation.conversion.CsvFixedSize;
+import com.github.mygreen.supercsv.builder.BeanMapping;
+import com.github.mygreen.supercsv.builder.BeanMappingFactory;
+import com.github.mygreen.supercsv.exception.SuperCsvInvalidAnnotationException;
+
+/**
+ * アノテーション{@link CsvFixedSize}を元に、区切り文字を使用しない固定長のファイルを出力するためのクラス。
+ * <p>各カラムの値は、{@link CsvFixedSize}で指定したサイズにパディングし、区切り文字やクォートなしで連結して書き込みます。
+ *    全てのカラムに{@link CsvFixedSize}を付与する必要があります。
+ * </p>
+ * <p>{@link CsvPreference}は、改行コードのみを使用します。</p>
+ * <p>パディングした値のサイズがカラムのサイズと一致しない場合は、例外{@link SuperCsvException}をスローします。
+ *    例えば、切り出さない設定で値がサイズを超える場合や、全角のパディング文字でサイズの端数を埋められない場合です。
+ * </p>
+ *
+ * <pre class="highlight"><code class="java">
+ * FixedSizeCsvAnnotationBeanWriter&lt;SampleCsv&gt; writer = new FixedSizeCsvAnnotationBeanWriter&lt;&gt;(
+ *         SampleCsv.class,
+ *         Files.newBufferedWriter(new File("sample.txt").toPath(), Charset.forName("Windows-31j")),
+ *         CsvPreference.STANDARD_PREFERENCE);
+ *
+ * writer.writeAll(list);
+ * writer.close();
+ * </code></pre>
+ *
+ * @param <T> マッピング対象のBeanのクラスタイプ
+ * @see FixedSizeTokenizer
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class FixedSizeCsvAnnotationBeanWriter<T> extends CsvAnnotationBeanWriter<T> {
+    
+    /**
+     * レコードの書き込み先
+     */
+    private final BufferedWriter recordWriter;
+    
+    private final String endOfLineSymbols;
+    
+    private final FixedSizeColumnLayout layout;
+    
+    /**
+     * 1レコード分の文字列の作成先
+     */
+    private final StringBuilder recordBuilder = new StringBuilder();
+    
+    /**
+     * Beanのクラスタイプを指定して、{@link FixedSizeCsvAnnotationBeanWriter}を作成するコンストラクタ。
+     * <p>{@link BufferedWriter}にラップして実行されるため、ラップする必要はありません。</p>
+     *
+     * @param beanType Beanのクラスタイプ。
+     * @param writer the writer
+     * @param preference CSV preferences.
+     * @param groups グループ情報。適用するアノテーションを切り替える際に指定します。
+     * @throws NullPointerException {@literal if beanType or writer or preferences are null.}
+     * @throws SuperCsvInvalidAnnotationException {@link CsvFixedSize}が付与されていないカラムがある場合。
+     */
+    public FixedSizeCsvAnnotationBeanWriter(final Class<T> beanType, final Writer writer, final CsvPreference preference,
+            final Class<?>... groups) {
+        super(beanType, writer, preference, groups);
+        
+        this.recordWriter = new BufferedWriter(writer);
+        this.endOfLineSymbols = preference.getEndOfLineSymbols();
+        this.layout = FixedSizeColumnLayout.create(getBeanMapping());
+    }
+    
+    /**
+     * Beanのマッピング情報を指定して、{@link FixedSizeCsvAnnotationBeanWriter}を作成するコンストラクタ。
+     * <p>{@link BufferedWriter}にラップして実行されるため、ラップする必要はありません。</p>
+     * <p>Beanのマッピング情報を独自にカスタマイズして、{@link BeanMappingFactory}から作成する場合に利用します。</p>
+     *
+     * @param beanMapping Beanのマッピング情報。
+     * @param writer the writer
+     * @param preference the CSV preferences.
+     * @throws NullPointerException {@literal if beanMapping or writer or preferences are null.}
+     * @throws SuperCsvInvalidAnnotationException {@link CsvFixedSize}が付与されていないカラムがある場合。
+     */
+    public FixedSizeCsvAnnotationBeanWriter(final BeanMapping<T> beanMapping, final Writer writer, final CsvPreference preference) {
+        super(beanMapping, writer, preference);
+        
+        this.recordWriter = new BufferedWriter(writer);
+        this.endOfLineSymbols = preference.getEndOfLineSymbols();
+        this.layout = FixedSizeColumnLayout.create(beanMapping);
+    }
+    
+    /**
+     * 各カラムの値をパディングし、区切り文字なしで1レコードとして書き込みます。
+     * <p>ヘッダー行とレコードの、どちらの書き込みでも呼び出されます。</p>
+     *
+     * @param columns カラムの値
+     * @throws IOException レコードの出力に失敗した場合。
+     * @throws SuperCsvException パディングした値のサイズが、カラムのサイズと一致しない場合。
+     */
+    @Override
+    protected void writeRow(final String... columns) throws IOException {
+        
+        Objects.requireNonNull(columns, "columns to write should not be null.");
+        if(columns.length != layout.getColumnSize()) {
+            throw new IllegalArgumentException(String.format("the number of columns to write should be %d, but was %d on line %d.",
+                    layout.getColumnSize(), columns.length, getLineNumber()));
+        }
+        
+        recordBuilder.setLength(0);
+        layout.join(columns, recordBuilder);
+        recordBuilder.append(endOfLineSymbols);
+        
+        recordWriter.append(recordBuilder);
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>コメントは、レコードとは別のバッファを介して書き込まれるため、
+     *    書き込み済みのレコードより後、以降に書き込むレコードより前に出力されるよう、前後でそれぞれのバッファを出力します。
+     * </p>
+     */
+    @Override
+    public void writeComment(final String comment) throws IOException {
+        recordWriter.flush();
+        super.writeComment(comment);
+        super.flush();
+    }
+    
+    @Override
+    public void flush() throws IOException {
+        recordWriter.flush();
+        super.flush();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            recordWriter.flush();
+        } finally {
+            super.close();
+        }
+    }
+    
+}
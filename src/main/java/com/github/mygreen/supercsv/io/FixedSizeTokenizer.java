@@ -0,0 +1,175 @@
+package com.github.mygreen.supercsv.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Objects;
+
+import org.supercsv.comment.CommentMatcher;
+import org.supercsv.io.AbstractTokenizer;
+import org.supercsv.prefs.CsvPreference;
+
+import com.github.mygreen.supercsv.annotation.conversion.CsvFixedSize;
+import com.github.mygreen.supercsv.builder.BeanMapping;
+import com.github.mygreen.supercsv.builder.FixedSizeHeaderMapper;
+import com.github.mygreen.supercsv.cellprocessor.conversion.ByteSizePaddingProcessor;
+import com.github.mygreen.supercsv.exception.SuperCsvInvalidAnnotationException;
+
+/**
+ * アノテーション{@link CsvFixedSize}を元に、区切り文字を使用しない固定長のレコードをカラムに分割するTokenizer。
+ * <p>1行を1レコードとして、カラム番号の順に、{@link CsvFixedSize}で指定したサイズごとに切り出します。
+ *    区切り文字やクォートは処理しません。全てのカラムに{@link CsvFixedSize}を付与する必要があります。
+ * </p>
+ * <p>サイズのカウント方法は、{@link CsvFixedSize#paddingProcessor()}で指定した処理方式に従います。
+ *    例えば、{@link ByteSizePaddingProcessor}を指定した場合は、エンコードしたバイト数で切り出します。
+ * </p>
+ * <ul>
+ *   <li>レコードが短い場合、値が存在しないカラムはnullとなります。</li>
+ *   <li>全てのカラムのサイズの合計を超える部分は無視します。</li>
+ *   <li>{@link CsvPreference}は、空行の無視とコメント行の判定のみを使用します。</li>
+ *   <li>ヘッダー行の値もパディングされているため、ヘッダーを検証する場合は{@link FixedSizeHeaderMapper}を使用してください。</li>
+ * </ul>
+ *
+ * <pre class="highlight"><code class="java">
+ * BeanMapping&lt;SampleCsv&gt; beanMapping = new BeanMappingFactory().create(SampleCsv.class);
+ *
+ * // メモリマップドファイルから直接読み込む
+ * MappedByteBuffer buffer;
+ * try(FileChannel channel = FileChannel.open(new File("sample.txt").toPath(), StandardOpenOption.READ)) {
+ *     buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+ * }
+ *
+ * CsvAnnotationBeanReader&lt;SampleCsv&gt; reader = new CsvAnnotationBeanReader&lt;&gt;(
+ *         beanMapping,
+ *         new FixedSizeTokenizer(buffer, Charset.forName("Windows-31j"), beanMapping, CsvPreference.STANDARD_PREFERENCE),
+ *         CsvPreference.STANDARD_PREFERENCE);
+ *
+ * List&lt;SampleCsv&gt; list = reader.readAll();
+ * reader.close();
+ * </code></pre>
+ *
+ * @see FixedSizeCsvAnnotationBeanWriter
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class FixedSizeTokenizer extends AbstractTokenizer {
+    
+    private final FixedSizeColumnLayout layout;
+    
+    private final boolean ignoreEmptyLines;
+    
+    private final CommentMatcher commentMatcher;
+    
+    /**
+     * 最後に読み込んだ行
+     */
+    private String untokenizedRow;
+    
+    /**
+     * {@link Reader}から読み込む{@link FixedSizeTokenizer}を作成するコンストラクタ。
+     *
+     * @param reader the Reader。
+     * @param beanMapping カラムのサイズを取得するBeanのマッピング情報。
+     * @param preferences the CSV preferences.
+     * @throws NullPointerException {@literal if reader or beanMapping or preferences are null.}
+     * @throws SuperCsvInvalidAnnotationException {@link CsvFixedSize}が付与されていないカラムがある場合。
+     */
+    public FixedSizeTokenizer(final Reader reader, final BeanMapping<?> beanMapping, final CsvPreference preferences) {
+        super(reader, preferences);
+        
+        Objects.requireNonNull(beanMapping, "beanMapping should not be null.");
+        
+        this.layout = FixedSizeColumnLayout.create(beanMapping);
+        this.ignoreEmptyLines = preferences.isIgnoreEmptyLines();
+        this.commentMatcher = preferences.getCommentMatcher();
+    }
+    
+    /**
+     * {@link ByteBuffer}から読み込む{@link FixedSizeTokenizer}を作成するコンストラクタ。
+     * <p>メモリマップドファイルなど、バッファの現在の位置からリミットまでを、文字コードでデコードしながら読み込みます。
+     *    引数のバッファの位置は変更しません。
+     * </p>
+     *
+     * @param buffer 読み込むバッファ。
+     * @param charset バッファの文字コード。
+     * @param beanMapping カラムのサイズを取得するBeanのマッピング情報。
+     * @param preferences the CSV preferences.
+     * @throws NullPointerException {@literal if buffer or charset or beanMapping or preferences are null.}
+     * @throws SuperCsvInvalidAnnotationException {@link CsvFixedSize}が付与されていないカラムがある場合。
+     */
+    public FixedSizeTokenizer(final ByteBuffer buffer, final Charset charset, final BeanMapping<?> beanMapping,
+            final CsvPreference preferences) {
+        this(new InputStreamReader(new ByteBufferInputStream(buffer), charset), beanMapping, preferences);
+    }
+    
+    @Override
+    public boolean readColumns(final List<String> columns) throws IOException {
+        
+        Objects.requireNonNull(columns, "columns should not be null.");
+        columns.clear();
+        
+        String line;
+        do {
+            line = readLine();
+            if(line == null) {
+                return false;
+            }
+        } while((ignoreEmptyLines && line.isEmpty())
+                || (commentMatcher != null && commentMatcher.isComment(line)));
+        
+        this.untokenizedRow = line;
+        layout.split(line, columns);
+        
+        return true;
+    }
+    
+    @Override
+    public String getUntokenizedRow() {
+        return untokenizedRow;
+    }
+    
+    /**
+     * {@link ByteBuffer}から読み込む{@link InputStream}。
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        
+        private final ByteBuffer buffer;
+        
+        private ByteBufferInputStream(final ByteBuffer buffer) {
+            Objects.requireNonNull(buffer, "buffer should not be null.");
+            this.buffer = buffer.duplicate();
+        }
+        
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+        
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) {
+            if(length == 0) {
+                return 0;
+            }
+            
+            if(!buffer.hasRemaining()) {
+                return -1;
+            }
+            
+            final int readLength = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, readLength);
+            return readLength;
+        }
+        
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+        
+    }
+    
+}
@@ -7,7 +7,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.supercsv.exception.SuperCsvException;
 import org.supercsv.io.ITokenizer;
@@ -32,7 +34,7 @@ import com.github.mygreen.supercsv.localization.MessageBuilder;
  * 
  * @param <T> マッピング対象のBeanのクラスタイプ
  * 
- * @version 2.2
+ * @version 2.4
  * @since 2.1
  * @author T.TSUCHIE
  *
@@ -69,6 +71,7 @@ public class LazyCsvAnnotationBeanReader<T> extends AbstractCsvAnnotationBeanRea
         
         LazyBeanMappingFactory factory = new LazyBeanMappingFactory();
         this.beanMapping = factory.create(beanType, groups);
+        this.closeCellProcessors = true;
         this.validators.addAll(beanMapping.getValidators());
     }
     
@@ -112,6 +115,7 @@ public class LazyCsvAnnotationBeanReader<T> extends AbstractCsvAnnotationBeanRea
         
         LazyBeanMappingFactory factory = new LazyBeanMappingFactory();
         this.beanMapping = factory.create(beanType, groups);
+        this.closeCellProcessors = true;
         this.validators.addAll(beanMapping.getValidators());
     }
     
@@ -174,7 +178,7 @@ public class LazyCsvAnnotationBeanReader<T> extends AbstractCsvAnnotationBeanRea
                 
             } catch(SuperCsvNoMatchColumnSizeException | SuperCsvNoMatchHeaderException e) {
                 // convert exception and format to message.
-                errorMessages.addAll(exceptionConverter.convertAndFormat(e, beanMappingCache.getOriginal()));
+                exceptionConverter.convert(e, beanMappingCache.getOriginal()).forEach(this::addErrorMessage);
                 throw e;
             }
         }
@@ -283,6 +287,58 @@ public class LazyCsvAnnotationBeanReader<T> extends AbstractCsvAnnotationBeanRea
         
     }
     
+    /**
+     * {@inheritDoc}
+     * @since 2.4
+     * @throws IllegalStateException ヘッダーが読み込まれておらず、マッピング情報の初期か完了していない場合。
+     */
+    @Override
+    public CsvReadResult<T> tryRead() throws IOException {
+        
+        // ヘッダーが読み込まれておらず、初期化が終わっていない場合
+        if(!initialized) {
+            throw newNotInitialzedException();
+        }
+        
+        return super.tryRead();
+        
+    }
+    
+    /**
+     * {@inheritDoc}
+     * @since 2.4
+     * @throws IllegalStateException ヘッダーが読み込まれておらず、マッピング情報の初期か完了していない場合。
+     */
+    @Override
+    public Stream<T> lines() {
+        
+        // ヘッダーが読み込まれておらず、初期化が終わっていない場合
+        if(!initialized) {
+            throw newNotInitialzedException();
+        }
+        
+        return super.lines();
+        
+    }
+    
+    /**
+     * {@inheritDoc}
+     * @since 2.4
+     * @throws IllegalStateException ヘッダーが読み込まれておらず、マッピング情報の初期か完了していない場合。
+     */
+    @Override
+    public void readParallel(final Executor executor, final int parallelism, final boolean ordered,
+            final CsvSuccessHandler<T> successHandler, final CsvErrorHandler errorHandler) throws IOException {
+        
+        // ヘッダーが読み込まれておらず、初期化が終わっていない場合
+        if(!initialized) {
+            throw newNotInitialzedException();
+        }
+        
+        super.readParallel(executor, parallelism, ordered, successHandler, errorHandler);
+        
+    }
+    
     /**
      * 読み込んだヘッダーを元に、マッピング情報を補完する。
      * <p>カラムの位置である番号を確定する。</p>
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import org.supercsv.exception.SuperCsvException;
@@ -29,7 +30,7 @@ import com.github.mygreen.supercsv.localization.MessageBuilder;
  * 
  * @param <T> マッピング対象のBeanのクラスタイプ
  * 
- * @version 2.2
+ * @version 2.4
  * @since 2.1
  * @author T.TSUCHIE
  *
@@ -65,6 +66,7 @@ public class LazyCsvAnnotationBeanWriter<T> extends AbstractCsvAnnotationBeanWri
         
         LazyBeanMappingFactory factory = new LazyBeanMappingFactory();
         this.beanMapping = factory.create(beanType, groups);
+        this.closeCellProcessors = true;
         this.validators.addAll(beanMapping.getValidators());
         
     }
@@ -274,6 +276,50 @@ public class LazyCsvAnnotationBeanWriter<T> extends AbstractCsvAnnotationBeanWri
         
     }
     
+    /**
+     * 複数のスレッドでレコードを変換しながら、レコードのデータを全て書き込みます。
+     * <p>ヘッダー行も自動的に処理されます。2回目以降に呼び出した場合、ヘッダー情報は書き込まれません。</p>
+     * <p>ファイルには、引数のレコードの順番に書き込みます。
+     *    並列処理の詳細は、{@link #writeParallel(Iterable, Executor, int, CsvErrorHandler)}を参照してください。
+     * </p>
+     * 
+     * @since 2.4
+     * @param sources 書き込むレコードのデータ。
+     * @param executor レコードを変換するスレッドプール。
+     * @param parallelism 並列に処理するスレッド数の目安。
+     * @param continueOnError continueOnError レコードの処理中に、
+     *        例外{@link SuperCsvBindingException}が発生しても、続行するかどうか指定します。
+     *        trueの場合、例外が発生しても、次の処理を行います。
+     * @throws NullPointerException sources or executor is null.
+     * @throws IllegalArgumentException {@literal parallelism < 1.}
+     * @throws IOException レコードの出力に失敗した場合。
+     * @throws SuperCsvBindingException セルの値に問題がある場合
+     * @throws SuperCsvException 設定など、その他に問題がある場合
+     * 
+     */
+    public void writeAllParallel(final Collection<T> sources, final Executor executor, final int parallelism,
+            final boolean continueOnError) throws IOException {
+        
+        Objects.requireNonNull(sources, "sources should not be null.");
+        
+        if(!initialized) {
+            init();
+        }
+        
+        if(beanMappingCache.getOriginal().isHeader() && getLineNumber() == 0) {
+            writeHeader();
+        }
+        
+        writeParallel(sources, executor, parallelism, e -> {
+            if(!continueOnError || !(e instanceof SuperCsvBindingException)) {
+                throw e;
+            }
+        });
+        
+        super.flush();
+        
+    }
+    
     /**
      * {@inheritDoc}
      * @throws IllegalStateException {@link #init()} メソッドによる初期化が完了していない場合
@@ -289,6 +335,23 @@ public class LazyCsvAnnotationBeanWriter<T> extends AbstractCsvAnnotationBeanWri
         
     }
     
+    /**
+     * {@inheritDoc}
+     * @since 2.4
+     * @throws IllegalStateException {@link #init()} メソッドによる初期化が完了していない場合
+     */
+    @Override
+    public void writeParallel(final Iterable<T> sources, final Executor executor, final int parallelism,
+            final CsvErrorHandler errorHandler) throws IOException {
+        
+        if(!initialized) {
+            throw newNotInitialzedException();
+        }
+        
+        super.writeParallel(sources, executor, parallelism, errorHandler);
+        
+    }
+    
     /**
      * {@inheritDoc}
      * @throws IllegalStateException {@link #init()} メソッドによる初期化が完了していない場合
@@ -0,0 +1,62 @@
+package com.github.mygreen.supercsv.io;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 最初に発生したメッセージから、上限までを保持する{@link CsvErrorMessageSink}。
+ * <p>上限までのメッセージは、追加した時点でフォーマットし、文字列のみを保持します。
+ *    そのため、フォーマット前のエラー情報が持つ変数などは、メッセージの追加後に解放されます。
+ *    上限を超えたメッセージは、フォーマットせずに件数のみを数えます。
+ * </p>
+ * <p>{@link #getMessages()}は、保持しているリストをそのまま返すため、要素のクリアや追加ができます。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+class ListErrorMessageSink implements CsvErrorMessageSink {
+    
+    private final int limit;
+    
+    private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+    
+    private long count;
+    
+    ListErrorMessageSink(final int limit) {
+        if(limit < 0) {
+            throw new IllegalArgumentException(String.format("limit should be greater than or equal to 0. but %d.", limit));
+        }
+        this.limit = limit;
+    }
+    
+    @Override
+    public synchronized void add(final CsvErrorMessage message) {
+        count++;
+        if(messages.size() < limit) {
+            messages.add(message.format());
+        }
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>保持しているリストそのものを返します。</p>
+     */
+    @Override
+    public List<String> getMessages() {
+        return messages;
+    }
+    
+    @Override
+    public synchronized long getCount() {
+        return count;
+    }
+    
+    @Override
+    public synchronized void clear() {
+        messages.clear();
+        count = 0;
+    }
+    
+}
@@ -0,0 +1,73 @@
+package com.github.mygreen.supercsv.io;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 最後に発生したメッセージから、上限までを保持する{@link CsvErrorMessageSink}。
+ * <p>固定長の配列をリングバッファとして使用し、上限を超えた場合は古いメッセージを上書きします。</p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+class RingBufferErrorMessageSink implements CsvErrorMessageSink {
+    
+    private final CsvErrorMessage[] buffer;
+    
+    /** 次に書き込む位置 */
+    private int next;
+    
+    private int size;
+    
+    private long count;
+    
+    RingBufferErrorMessageSink(final int capacity) {
+        if(capacity < 1) {
+            throw new IllegalArgumentException(String.format("capacity should be greater than 0. but %d.", capacity));
+        }
+        this.buffer = new CsvErrorMessage[capacity];
+    }
+    
+    @Override
+    public synchronized void add(final CsvErrorMessage message) {
+        buffer[next] = message;
+        next = (next + 1) % buffer.length;
+        if(size < buffer.length) {
+            size++;
+        }
+        count++;
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>呼び出した時点のメッセージを、古い順に格納した新しいリストを返します。</p>
+     */
+    @Override
+    public synchronized List<String> getMessages() {
+        
+        final List<String> list = new ArrayList<>(size);
+        final int start = (next - size + buffer.length) % buffer.length;
+        for(int i=0; i < size; i++) {
+            list.add(buffer[(start + i) % buffer.length].format());
+        }
+        
+        return list;
+    }
+    
+    @Override
+    public synchronized long getCount() {
+        return count;
+    }
+    
+    @Override
+    public synchronized void clear() {
+        for(int i=0; i < buffer.length; i++) {
+            buffer[i] = null;
+        }
+        next = 0;
+        size = 0;
+        count = 0;
+    }
+    
+}
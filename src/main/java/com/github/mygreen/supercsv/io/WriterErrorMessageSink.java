@@ -0,0 +1,55 @@
+package com.github.mygreen.supercsv.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * メッセージを保持せずに、1行ずつ書き出す{@link CsvErrorMessageSink}。
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+class WriterErrorMessageSink implements CsvErrorMessageSink {
+    
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    
+    private final Writer writer;
+    
+    private long count;
+    
+    WriterErrorMessageSink(final Writer writer) {
+        this.writer = Objects.requireNonNull(writer, "writer should not be null.");
+    }
+    
+    @Override
+    public synchronized void add(final CsvErrorMessage message) {
+        count++;
+        try {
+            writer.write(message.format());
+            writer.write(LINE_SEPARATOR);
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @Override
+    public List<String> getMessages() {
+        return Collections.emptyList();
+    }
+    
+    @Override
+    public synchronized long getCount() {
+        return count;
+    }
+    
+    @Override
+    public synchronized void clear() {
+        count = 0;
+    }
+    
+}
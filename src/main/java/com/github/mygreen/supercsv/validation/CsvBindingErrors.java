@@ -16,7 +16,7 @@ import com.github.mygreen.supercsv.util.Utils;
  * <p>SpringFrameworkのBindingResultを参考。</p>
  * <p>現状、ネストしたフィールドはサポートしていないため、パスの機能を省略して実装する。</p>
  *
- * @version 2.2
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -137,7 +137,7 @@ public class CsvBindingErrors implements Serializable {
      * @return
      */
     public boolean hasGlobalErrors() {
-        return !getGlobalErrors().isEmpty();
+        return getFirstGlobalError() != null;
     }
     
     /**
@@ -182,7 +182,7 @@ public class CsvBindingErrors implements Serializable {
      * @return true:フィールドエラーを持つ。
      */
     public boolean hasFieldErrors() {
-        return !getFieldErrors().isEmpty();
+        return getFirstFieldError() != null;
     }
     
     /**
@@ -235,7 +235,7 @@ public class CsvBindingErrors implements Serializable {
      * @return true:エラーがある場合。
      */
     public boolean hasFieldErrors(final String path) {
-        return !getFieldErrors(path).isEmpty();
+        return getFirstFieldError(path) != null;
     }
     
     /**
@@ -0,0 +1,229 @@
+package com.github.mygreen.supercsv.builder;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.Comparator;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.supercsv.exception.SuperCsvReflectionException;
+
+/**
+ * {@link PropertyAccessStrategy}の実装クラスのテスタ
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class PropertyAccessStrategyTest {
+    
+    private Comparator<Annotation> comparator;
+    
+    @Before
+    public void setUp() throws Exception {
+        this.comparator = new AnnotationComparator();
+    }
+    
+    private FieldAccessor field(final Class<?> beanType, final String name) throws Exception {
+        Field field = beanType.getDeclaredField(name);
+        return new FieldAccessor(field, comparator);
+    }
+    
+    /**
+     * 各実装で値の設定と取得ができること
+     */
+    @Test
+    public void testGetAndSet() throws Exception {
+        
+        for(PropertyAccessStrategy strategy : new PropertyAccessStrategy[]{
+                new LambdaPropertyAccessStrategy(), new MethodHandlePropertyAccessStrategy(), new FieldPropertyAccessStrategy()}) {
+            
+            SampleBean bean = new SampleBean();
+            
+            PropertyAccessor col1 = strategy.create(SampleBean.class, field(SampleBean.class, "col1"));
+            assertThat(col1.getName()).isEqualTo("col1");
+            col1.setValue(bean, "abc");
+            assertThat(bean.col1).isEqualTo("abc");
+            assertThat(col1.getValue(bean)).isEqualTo("abc");
+            
+            PropertyAccessor col2 = strategy.create(SampleBean.class, field(SampleBean.class, "col2"));
+            col2.setValue(bean, 12);
+            assertThat(bean.col2).isEqualTo(12);
+            assertThat(col2.getValue(bean)).isEqualTo(12);
+            
+            PropertyAccessor col3 = strategy.create(SampleBean.class, field(SampleBean.class, "col3"));
+            col3.setValue(bean, true);
+            assertThat(bean.col3).isTrue();
+            assertThat(col3.getValue(bean)).isEqualTo(true);
+            
+        }
+    }
+    
+    /**
+     * setterの処理が呼ばれること
+     */
+    @Test
+    public void testSetter_invoked() throws Exception {
+        
+        for(PropertyAccessStrategy strategy : new PropertyAccessStrategy[]{
+                new LambdaPropertyAccessStrategy(), new MethodHandlePropertyAccessStrategy()}) {
+            
+            SampleBean bean = new SampleBean();
+            PropertyAccessor col4 = strategy.create(SampleBean.class, field(SampleBean.class, "col4"));
+            col4.setValue(bean, "abc");
+            assertThat(bean.col4).isEqualTo("ABC");
+            assertThat(col4.getValue(bean)).isEqualTo("[ABC]");
+        }
+        
+        // フィールドに直接アクセスする場合
+        SampleBean bean = new SampleBean();
+        PropertyAccessor col4 = new FieldPropertyAccessStrategy().create(SampleBean.class, field(SampleBean.class, "col4"));
+        col4.setValue(bean, "abc");
+        assertThat(bean.col4).isEqualTo("abc");
+        assertThat(col4.getValue(bean)).isEqualTo("abc");
+        
+    }
+    
+    /**
+     * 公開されているクラスの場合は、関数に変換されること
+     */
+    @Test
+    public void testLambda_publicClass() throws Exception {
+        
+        PropertyAccessor col1 = new LambdaPropertyAccessStrategy().create(SampleBean.class, field(SampleBean.class, "col1"));
+        assertThat(col1).isInstanceOf(LambdaPropertyAccessStrategy.LambdaAccessor.class);
+        
+        PropertyAccessor col2 = new LambdaPropertyAccessStrategy().create(SampleBean.class, field(SampleBean.class, "col2"));
+        assertThat(col2).isInstanceOf(LambdaPropertyAccessStrategy.LambdaAccessor.class);
+        
+        // 公開されていないクラスの場合
+        PropertyAccessor nonPublic = new LambdaPropertyAccessStrategy().create(NonPublicBean.class, field(NonPublicBean.class, "col1"));
+        assertThat(nonPublic).isInstanceOf(MethodHandlePropertyAccessStrategy.HandleAccessor.class);
+        
+    }
+    
+    /**
+     * 公開されていないクラスの場合
+     */
+    @Test
+    public void testNonPublicClass() throws Exception {
+        
+        for(PropertyAccessStrategy strategy : new PropertyAccessStrategy[]{
+                new LambdaPropertyAccessStrategy(), new MethodHandlePropertyAccessStrategy(), new FieldPropertyAccessStrategy()}) {
+            
+            NonPublicBean bean = new NonPublicBean();
+            PropertyAccessor col1 = strategy.create(NonPublicBean.class, field(NonPublicBean.class, "col1"));
+            col1.setValue(bean, 123L);
+            assertThat(col1.getValue(bean)).isEqualTo(123L);
+        }
+    }
+    
+    /**
+     * setter/getterが存在しない場合
+     */
+    @Test
+    public void testNotFoundMethod() throws Exception {
+        
+        for(PropertyAccessStrategy strategy : new PropertyAccessStrategy[]{
+                new LambdaPropertyAccessStrategy(), new MethodHandlePropertyAccessStrategy()}) {
+            
+            SampleBean bean = new SampleBean();
+            PropertyAccessor col5 = strategy.create(SampleBean.class, field(SampleBean.class, "col5"));
+            
+            assertThatThrownBy(() -> col5.setValue(bean, "abc"))
+                .isInstanceOf(SuperCsvReflectionException.class)
+                .hasMessageContaining("setCol5");
+            
+            assertThatThrownBy(() -> col5.getValue(bean))
+                .isInstanceOf(SuperCsvReflectionException.class)
+                .hasMessageContaining("col5");
+        }
+        
+        // フィールドに直接アクセスする場合
+        SampleBean bean = new SampleBean();
+        PropertyAccessor col5 = new FieldPropertyAccessStrategy().create(SampleBean.class, field(SampleBean.class, "col5"));
+        col5.setValue(bean, "abc");
+        assertThat(col5.getValue(bean)).isEqualTo("abc");
+        
+    }
+    
+    /**
+     * 型が一致しない値を設定する場合
+     */
+    @Test
+    public void testSetValue_wrongType() throws Exception {
+        
+        for(PropertyAccessStrategy strategy : new PropertyAccessStrategy[]{
+                new LambdaPropertyAccessStrategy(), new MethodHandlePropertyAccessStrategy(), new FieldPropertyAccessStrategy()}) {
+            
+            SampleBean bean = new SampleBean();
+            PropertyAccessor col2 = strategy.create(SampleBean.class, field(SampleBean.class, "col2"));
+            
+            assertThatThrownBy(() -> col2.setValue(bean, "abc"))
+                .isInstanceOf(SuperCsvReflectionException.class);
+        }
+    }
+    
+    public static class SampleBean {
+        
+        private String col1;
+        
+        private int col2;
+        
+        private boolean col3;
+        
+        private String col4;
+        
+        private String col5;
+        
+        public String getCol1() {
+            return col1;
+        }
+        
+        public void setCol1(String col1) {
+            this.col1 = col1;
+        }
+        
+        public int getCol2() {
+            return col2;
+        }
+        
+        public void setCol2(int col2) {
+            this.col2 = col2;
+        }
+        
+        public boolean isCol3() {
+            return col3;
+        }
+        
+        public void setCol3(boolean col3) {
+            this.col3 = col3;
+        }
+        
+        public String getCol4() {
+            return "[" + col4 + "]";
+        }
+        
+        public void setCol4(String col4) {
+            this.col4 = col4.toUpperCase();
+        }
+        
+    }
+    
+    static class NonPublicBean {
+        
+        private Long col1;
+        
+        public Long getCol1() {
+            return col1;
+        }
+        
+        public void setCol1(Long col1) {
+            this.col1 = col1;
+        }
+        
+    }
+    
+}
@@ -0,0 +1,199 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.supercsv.cellprocessor.ift.CellProcessor;
+import org.supercsv.util.CsvContext;
+
+import com.github.mygreen.supercsv.exception.SuperCsvValidationException;
+
+/**
+ * {@link Unique}、{@link UniqueHashCode}を、複数のスレッドから並列に実行するテストの共通処理。
+ * <p>{@link #assertRejected(CellProcessor)}は、判定を確定させない設定をせずに実行するため、
+ *    最初に現れる値を全て格納してから、重複する値を実行します。
+ *    {@link #assertRejectedInLineOrder(CellProcessor)}は、{@link UniqueSource}で判定を確定させない設定をして、
+ *    行番号の大きいセルから実行した後に、行番号の順に判定を確定させます。
+ * </p>
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+class ConcurrentUniqueTester {
+    
+    private final int threadCount;
+    
+    private final int valueCount;
+    
+    /**
+     * @param threadCount 並列に実行するスレッド数
+     * @param valueCount 重複しない値の件数
+     */
+    ConcurrentUniqueTester(final int threadCount, final int valueCount) {
+        this.threadCount = threadCount;
+        this.valueCount = valueCount;
+    }
+    
+    /**
+     * 並列に実行し、重複としてエラーとなったセルと、重複した位置を検証します。
+     * <ol>
+     *   <li>行番号1～valueCountに、値0～(valueCount-1)を、スレッドごとに分けて実行します。全てエラーになりません。</li>
+     *   <li>各スレッドで、全ての値を、それぞれ異なる行番号で実行します。全てエラーとなり、重複した位置は1回目の行番号になります。</li>
+     * </ol>
+     * @param processor 検証対象のCellProcessor
+     * @throws Exception スレッドの実行に失敗した場合
+     */
+    void assertRejected(final CellProcessor processor) throws Exception {
+        
+        // 1回目は、値を分担して格納する
+        final Map<Integer, Integer> firstRejected = execute(processor, t -> {
+            final List<int[]> cells = new ArrayList<>();
+            for(int i=t; i < valueCount; i += threadCount) {
+                cells.add(new int[]{i, i + 1});
+            }
+            return cells;
+        });
+        assertThat(firstRejected).isEmpty();
+        
+        // 2回目は、全てのスレッドが全ての値を実行する
+        final Map<Integer, Integer> secondRejected = execute(processor, t -> {
+            final List<int[]> cells = new ArrayList<>();
+            for(int i=0; i < valueCount; i++) {
+                cells.add(new int[]{i, valueCount * (t + 1) + i + 1});
+            }
+            return cells;
+        });
+        
+        assertThat(secondRejected).hasSize(threadCount * valueCount);
+        for(int t=0; t < threadCount; t++) {
+            for(int i=0; i < valueCount; i++) {
+                final int lineNumber = valueCount * (t + 1) + i + 1;
+                assertThat(secondRejected).containsEntry(lineNumber, i + 1);
+            }
+        }
+        
+    }
+    
+    /**
+     * 判定を確定させない設定で、行番号の大きいセルから並列に実行し、行番号の順に確定させた結果を検証します。
+     * <p>スレッドtは、行番号{@literal t*valueCount+1}～{@literal (t+1)*valueCount}に、値0～(valueCount-1)を逆順に実行します。
+     *    実行する順序によらず、行番号1～valueCountのセルはエラーにならず、それ以外は全てエラーとなり、
+     *    重複した位置は最初に現れた値の行番号になります。
+     * </p>
+     * @param processor 検証対象のCellProcessor
+     * @throws Exception スレッドの実行に失敗した場合
+     */
+    void assertRejectedInLineOrder(final CellProcessor processor) throws Exception {
+        
+        final Map<Integer, Integer> rejected = new ConcurrentHashMap<>();
+        final SortedMap<Integer, List<UniqueSource.Check>> checks = new ConcurrentSkipListMap<>();
+        
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for(int t=0; t < threadCount; t++) {
+                final int threadNo = t;
+                futures.add(executor.submit(() -> {
+                    final UniqueSource source = new UniqueSource(0, true);
+                    source.begin();
+                    try {
+                        for(int i=valueCount-1; i >= 0; i--) {
+                            final int lineNumber = valueCount * threadNo + i + 1;
+                            try {
+                                processor.execute(i, new CsvContext(lineNumber, lineNumber, 1));
+                            } catch(SuperCsvValidationException e) {
+                                rejected.put(lineNumber, (Integer)e.getMessageVariables().get("duplicatedLineNumber"));
+                            }
+                            checks.put(lineNumber, source.takeDeferredChecks());
+                        }
+                    } finally {
+                        UniqueSource.end();
+                    }
+                }));
+            }
+            
+            for(Future<?> future : futures) {
+                future.get();
+            }
+            
+        } finally {
+            executor.shutdown();
+        }
+        
+        // 行番号の順に確定させる
+        for(Map.Entry<Integer, List<UniqueSource.Check>> entry : checks.entrySet()) {
+            for(UniqueSource.Check check : entry.getValue()) {
+                try {
+                    check.verify();
+                } catch(SuperCsvValidationException e) {
+                    rejected.put(entry.getKey(), (Integer)e.getMessageVariables().get("duplicatedLineNumber"));
+                }
+            }
+        }
+        
+        assertThat(rejected).hasSize((threadCount - 1) * valueCount);
+        for(int t=1; t < threadCount; t++) {
+            for(int i=0; i < valueCount; i++) {
+                final int lineNumber = valueCount * t + i + 1;
+                assertThat(rejected).containsEntry(lineNumber, i + 1);
+            }
+        }
+        
+    }
+    
+    /**
+     * スレッドごとのセルを並列に実行します。
+     * @param processor 検証対象のCellProcessor
+     * @param cellsOfThread スレッドの番号から、実行する値と行番号の組を作成する処理
+     * @return エラーとなったセルの行番号と、重複した行番号
+     */
+    private Map<Integer, Integer> execute(final CellProcessor processor, final CellsOfThread cellsOfThread) throws Exception {
+        
+        final Map<Integer, Integer> rejected = new ConcurrentHashMap<>();
+        
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for(int t=0; t < threadCount; t++) {
+                final List<int[]> cells = cellsOfThread.create(t);
+                futures.add(executor.submit(() -> {
+                    for(int[] cell : cells) {
+                        final int lineNumber = cell[1];
+                        try {
+                            processor.execute(cell[0], new CsvContext(lineNumber, lineNumber, 1));
+                        } catch(SuperCsvValidationException e) {
+                            rejected.put(lineNumber, (Integer)e.getMessageVariables().get("duplicatedLineNumber"));
+                        }
+                    }
+                }));
+            }
+            
+            for(Future<?> future : futures) {
+                future.get();
+            }
+            
+        } finally {
+            executor.shutdown();
+        }
+        
+        return rejected;
+    }
+    
+    @FunctionalInterface
+    private interface CellsOfThread {
+        
+        List<int[]> create(int threadNo);
+        
+    }
+    
+}
@@ -8,6 +8,9 @@ import java.text.DecimalFormat;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -22,6 +25,7 @@ import com.github.mygreen.supercsv.exception.SuperCsvValidationException;
 /**
  * {@link Equals}のテスタ
  *
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -131,6 +135,35 @@ public class EqualsTest {
         
     }
     
+    /**
+     * 大量の値を登録した場合
+     */
+    @Test
+    public void testExecute_manyValues() {
+        
+        final List<Long> longValues = LongStream.range(0, 10000)
+                .map(i -> i * 1_000_000_007L)
+                .boxed()
+                .collect(Collectors.toList());
+        final Equals<Long> longProcessor = new Equals<>(Long.class, longValues, value -> value.toString());
+        
+        assertThat((Object)longProcessor.execute(9999 * 1_000_000_007L, ANONYMOUS_CSVCONTEXT)).isEqualTo(9999 * 1_000_000_007L);
+        assertThatThrownBy(() -> longProcessor.execute(1L, ANONYMOUS_CSVCONTEXT))
+            .isInstanceOf(SuperCsvValidationException.class);
+        
+        final List<String> stringValues = IntStream.range(0, 10000)
+                .mapToObj(i -> String.format("B%05d", i))
+                .collect(Collectors.toList());
+        final Equals<String> stringProcessor = new Equals<>(String.class, stringValues, value -> value);
+        
+        assertThat((Object)stringProcessor.execute("B09999", ANONYMOUS_CSVCONTEXT)).isEqualTo("B09999");
+        assertThatThrownBy(() -> stringProcessor.execute("B10000", ANONYMOUS_CSVCONTEXT))
+            .isInstanceOf(SuperCsvValidationException.class)
+            .satisfies(e -> assertThat(((SuperCsvValidationException)e).getMessageVariables())
+                    .containsEntry("equalsValues", stringValues));
+        
+    }
+    
     /**
      * 登録されている値が0件の場合
      */
@@ -29,7 +29,10 @@ import com.github.mygreen.supercsv.builder.ColumnMapping;
 import com.github.mygreen.supercsv.builder.Configuration;
 import com.github.mygreen.supercsv.builder.FieldAccessor;
 import com.github.mygreen.supercsv.builder.standard.IntegerProcessorBuilder;
+import com.github.mygreen.supercsv.builder.standard.LongProcessorBuilder;
+import com.github.mygreen.supercsv.builder.standard.StringProcessorBuilder;
 import com.github.mygreen.supercsv.cellprocessor.format.TextFormatter;
+import com.github.mygreen.supercsv.exception.SuperCsvInvalidAnnotationException;
 import com.github.mygreen.supercsv.exception.SuperCsvValidationException;
 import com.github.mygreen.supercsv.validation.CsvExceptionConverter;
 
@@ -37,6 +40,7 @@ import com.github.mygreen.supercsv.validation.CsvExceptionConverter;
 /**
  * {@link UniqueFactory}のテスタ
  *
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -100,6 +104,23 @@ public class UniqueFactoryTest {
         @CsvUnique(message="lineNumber={lineNumber}, rowNumber={rowNumber}, columnNumber={columnNumber}, label={label}, validatedValue=${printer.print(validatedValue)}, duplicatedLineNumber={duplicatedLineNumber}, duplicatedRowNumber={duplicatedRowNumber}")
         private Integer col_message_variables;
         
+        @CsvColumn(number=13)
+        @CsvUnique(storage=CsvUnique.Storage.COMPACT)
+        private int col_storage_compact;
+        
+        @CsvColumn(number=14)
+        @CsvUnique(storage=CsvUnique.Storage.DISK, expectedSize=100_000L)
+        private long col_storage_disk;
+        
+    }
+    
+    @CsvBean
+    private static class TestCsvNotSupport {
+        
+        @CsvColumn(number=1)
+        @CsvUnique(storage=CsvUnique.Storage.OFF_HEAP)
+        private String col_storage_notSupport;
+        
     }
     
     @Test
@@ -316,4 +337,82 @@ public class UniqueFactoryTest {
     }
     
     
+    /**
+     * 値の格納先を指定した場合
+     * @since 2.4
+     */
+    @Test
+    public void testCreate_storage() {
+        
+        FieldAccessor field = getFieldAccessor(TestCsv.class, "col_storage_compact", comparator);
+        IntegerProcessorBuilder builder = (IntegerProcessorBuilder) builderResolver.resolve(int.class);
+        TextFormatter<Integer> formatter = builder.getFormatter(field, config);
+        
+        CsvUnique anno = field.getAnnotationsByGroup(CsvUnique.class, groupEmpty).get(0);
+        
+        Optional<CellProcessor> processor = factory.create(anno, Optional.empty(), field, formatter, config);
+        Unique<Integer> actual = (Unique<Integer>)processor.get();
+        assertThat(actual.getStore()).isInstanceOf(LongUniqueStore.class);
+        
+        assertThat((Object)actual.execute(TEST_VALUE_OBJ, ANONYMOUS_CSVCONTEXT)).isEqualTo(TEST_VALUE_OBJ);
+        
+        assertThatThrownBy(() -> actual.execute(TEST_VALUE_OBJ, ANONYMOUS_CSVCONTEXT2))
+            .isInstanceOf(SuperCsvValidationException.class)
+            .satisfies(e -> assertThat(((SuperCsvValidationException)e).getMessageVariables())
+                    .containsEntry("duplicatedLineNumber", ANONYMOUS_CSVCONTEXT.getLineNumber())
+                    .containsEntry("duplicatedRowNumber", ANONYMOUS_CSVCONTEXT.getRowNumber()));
+        
+    }
+    
+    /**
+     * 想定件数を指定した場合と、領域の解放
+     * @since 2.4
+     */
+    @Test
+    public void testCreate_expectedSize() {
+        
+        FieldAccessor field = getFieldAccessor(TestCsv.class, "col_storage_disk", comparator);
+        LongProcessorBuilder builder = (LongProcessorBuilder) builderResolver.resolve(long.class);
+        TextFormatter<Long> formatter = builder.getFormatter(field, config);
+        
+        CsvUnique anno = field.getAnnotationsByGroup(CsvUnique.class, groupEmpty).get(0);
+        assertThat(anno.expectedSize()).isEqualTo(100_000L);
+        
+        Optional<CellProcessor> processor = new UniqueFactory<Long>().create(anno, Optional.empty(), field, formatter, config);
+        Unique<Long> actual = (Unique<Long>)processor.get();
+        assertThat(actual.getStore()).isInstanceOf(LongUniqueStore.class);
+        
+        for(long i=0; i < 100_000L; i++) {
+            assertThat((Object)actual.execute(i, ANONYMOUS_CSVCONTEXT)).isEqualTo(i);
+        }
+        
+        assertThatThrownBy(() -> actual.execute(1L, ANONYMOUS_CSVCONTEXT2))
+            .isInstanceOf(SuperCsvValidationException.class);
+        
+        // 一時ファイルを解放した後は、検証できない
+        actual.close();
+        assertThatThrownBy(() -> actual.execute(1L, ANONYMOUS_CSVCONTEXT2))
+            .isInstanceOf(IllegalStateException.class);
+        
+    }
+    
+    /**
+     * 整数型以外のカラムに、値の格納先を指定した場合
+     * @since 2.4
+     */
+    @Test
+    public void testCreate_storageNotSupport() {
+        
+        FieldAccessor field = getFieldAccessor(TestCsvNotSupport.class, "col_storage_notSupport", comparator);
+        StringProcessorBuilder builder = (StringProcessorBuilder) builderResolver.resolve(String.class);
+        TextFormatter<String> formatter = builder.getFormatter(field, config);
+        
+        CsvUnique anno = field.getAnnotationsByGroup(CsvUnique.class, groupEmpty).get(0);
+        
+        assertThatThrownBy(() -> new UniqueFactory<String>().create(anno, Optional.empty(), field, formatter, config))
+            .isInstanceOf(SuperCsvInvalidAnnotationException.class)
+            .hasMessageContaining("OFF_HEAP");
+        
+    }
+    
 }
@@ -0,0 +1,247 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.supercsv.prefs.CsvPreference;
+import org.supercsv.util.CsvContext;
+
+import com.github.mygreen.supercsv.annotation.CsvBean;
+import com.github.mygreen.supercsv.annotation.CsvColumn;
+import com.github.mygreen.supercsv.annotation.constraint.CsvUnique;
+import com.github.mygreen.supercsv.annotation.constraint.CsvUniqueHashCode;
+import com.github.mygreen.supercsv.builder.BeanMapping;
+import com.github.mygreen.supercsv.builder.BeanMappingFactory;
+import com.github.mygreen.supercsv.cellprocessor.format.TextPrinter;
+import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
+import com.github.mygreen.supercsv.exception.SuperCsvValidationException;
+import com.github.mygreen.supercsv.io.CsvAnnotationBeanReader;
+
+/**
+ * {@link UniqueFilter}のテスタ
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class UniqueFilterTest {
+    
+    private TextPrinter<String> stringPrinter = value -> value;
+    
+    @Test
+    public void testConstructor_invalidArgs() {
+        
+        assertThatThrownBy(() -> new UniqueFilter(0L, 0.01d))
+            .isInstanceOf(IllegalArgumentException.class);
+        
+        assertThatThrownBy(() -> new UniqueFilter(100L, 0.0d))
+            .isInstanceOf(IllegalArgumentException.class);
+        
+        assertThatThrownBy(() -> new UniqueFilter(100L, 1.0d))
+            .isInstanceOf(IllegalArgumentException.class);
+        
+    }
+    
+    @Test
+    public void testStartVerification() {
+        
+        UniqueFilter filter = new UniqueFilter(100L, 0.01d);
+        assertThat(filter.getPhase()).isEqualTo(UniqueFilter.Phase.COLLECT);
+        
+        filter.startVerification();
+        assertThat(filter.getPhase()).isEqualTo(UniqueFilter.Phase.VERIFY);
+        
+        assertThatThrownBy(() -> filter.startVerification())
+            .isInstanceOf(IllegalStateException.class);
+        
+    }
+    
+    @Test
+    public void testBloomFilter() {
+        
+        BloomFilter bloomFilter = new BloomFilter(1000L, 0.01d);
+        assertThat(bloomFilter.bitSize()).isGreaterThanOrEqualTo(9585L);
+        assertThat(bloomFilter.hashCount()).isEqualTo(7);
+        
+        assertThat(bloomFilter.put(123L)).isFalse();
+        assertThat(bloomFilter.put(123L)).isTrue();
+        
+    }
+    
+    /**
+     * ブルームフィルタには、hashCode()ではなく64ビットのハッシュ値を追加する。
+     * <p>hashCode()が一致する異なる値は、重複の候補とならない。</p>
+     */
+    @Test
+    public void testCreateStore_64bitHash() {
+        
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        
+        final UniqueFilter filter = new UniqueFilter(1000L, 0.0001d);
+        final UniqueStore<String> store = filter.createStore(stringPrinter);
+        
+        assertThat(store.putIfAbsent("Aa", new UniquePosition(0, 1, 1))).isNull();
+        assertThat(store.putIfAbsent("BB", new UniquePosition(0, 2, 2))).isNull();
+        assertThat(store.size()).isEqualTo(0L);
+        
+        // 同じ値は重複の候補となる
+        assertThat(store.putIfAbsent("Aa", new UniquePosition(0, 3, 3))).isNull();
+        assertThat(store.size()).isEqualTo(1L);
+        
+        assertThatThrownBy(() -> filter.createStore(null))
+            .isInstanceOf(NullPointerException.class);
+        
+    }
+    
+    /**
+     * 1回目の読み込みではエラーとならず、2回目の読み込みで重複を検出する。
+     * <p>誤検出が多く発生する設定でも、重複していない値はエラーとならない。</p>
+     */
+    @Test
+    public void testUnique_twoPass() {
+        
+        final UniqueFilter filter = new UniqueFilter(1L, 0.5d);
+        final Unique<String> processor = new Unique<>(filter.createStore(stringPrinter), stringPrinter);
+        
+        final List<String> values = new ArrayList<>();
+        for(int i=0; i < 1000; i++) {
+            values.add("value" + i);
+        }
+        values.add("value500");
+        
+        // 1回目の読み込み
+        for(int i=0; i < values.size(); i++) {
+            assertThat((Object)processor.execute(values.get(i), new CsvContext(i+1, i+1, 1))).isEqualTo(values.get(i));
+        }
+        
+        // ブルームフィルタが小さいため、重複していない値も候補となる
+        assertThat(processor.getStore().size()).isGreaterThan(1L);
+        
+        // 2回目の読み込み
+        filter.startVerification();
+        
+        final List<SuperCsvValidationException> errors = new ArrayList<>();
+        for(int i=0; i < values.size(); i++) {
+            try {
+                processor.execute(values.get(i), new CsvContext(i+1, i+1, 1));
+            } catch(SuperCsvValidationException e) {
+                errors.add(e);
+            }
+        }
+        
+        assertThat(errors).hasSize(1);
+        assertThat(errors.get(0).getRejectedValue()).isEqualTo("value500");
+        assertThat(errors.get(0).getMessageVariables())
+            .containsEntry("duplicatedLineNumber", 501)
+            .containsEntry("duplicatedRowNumber", 501);
+        
+    }
+    
+    @Test
+    public void testUniqueHashCode_twoPass() {
+        
+        final UniqueFilter filter = new UniqueFilter(1L, 0.5d);
+        final UniqueHashCode<String> processor = new UniqueHashCode<>(filter.createKeyStore(), CsvUniqueHashCode.HashType.XXHASH64,
+                stringPrinter, new NextCellProcessor());
+        
+        final List<String> values = new ArrayList<>();
+        for(int i=0; i < 1000; i++) {
+            values.add("value" + i);
+        }
+        values.add("value10");
+        
+        for(int i=0; i < values.size(); i++) {
+            assertThat((Object)processor.execute(values.get(i), new CsvContext(i+1, i+1, 1))).isEqualTo(values.get(i));
+        }
+        
+        filter.startVerification();
+        
+        final List<SuperCsvValidationException> errors = new ArrayList<>();
+        for(int i=0; i < values.size(); i++) {
+            try {
+                processor.execute(values.get(i), new CsvContext(i+1, i+1, 1));
+            } catch(SuperCsvValidationException e) {
+                errors.add(e);
+            }
+        }
+        
+        assertThat(errors).hasSize(1);
+        assertThat(errors.get(0).getRejectedValue()).isEqualTo("value10");
+        assertThat(errors.get(0).getMessageVariables())
+            .containsEntry("duplicatedLineNumber", 11)
+            .containsEntry("duplicatedRowNumber", 11);
+        
+    }
+    
+    @CsvBean
+    public static class FilterCsv {
+        
+        @CsvColumn(number=1)
+        @CsvUnique
+        private String code;
+        
+        @CsvColumn(number=2)
+        @CsvUniqueHashCode
+        private String name;
+        
+        public String getCode() {
+            return code;
+        }
+        
+        public void setCode(String code) {
+            this.code = code;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+    }
+    
+    /**
+     * 同じBeanMappingを使用して2回読み込む。
+     */
+    @Test
+    public void testRead() throws Exception {
+        
+        final String csv = "code,name\n"
+                + "A,aaa\n"
+                + "B,bbb\n"
+                + "A,ccc\n";
+        
+        final UniqueFilter filter = new UniqueFilter(1000L, 0.01d);
+        
+        final BeanMappingFactory beanMappingFactory = new BeanMappingFactory();
+        beanMappingFactory.getConfiguration().setUniqueFilter(filter);
+        final BeanMapping<FilterCsv> beanMapping = beanMappingFactory.create(FilterCsv.class);
+        
+        // 1回目の読み込み
+        try(CsvAnnotationBeanReader<FilterCsv> csvReader = new CsvAnnotationBeanReader<>(
+                beanMapping, new StringReader(csv), CsvPreference.STANDARD_PREFERENCE)) {
+            csvReader.getHeader(true);
+            assertThat(csvReader.readAll()).hasSize(3);
+        }
+        
+        // 2回目の読み込み
+        filter.startVerification();
+        try(CsvAnnotationBeanReader<FilterCsv> csvReader = new CsvAnnotationBeanReader<>(
+                beanMapping, new StringReader(csv), CsvPreference.STANDARD_PREFERENCE)) {
+            csvReader.getHeader(true);
+            
+            assertThat(csvReader.read()).isNotNull();
+            assertThat(csvReader.read()).isNotNull();
+            assertThatThrownBy(() -> csvReader.read())
+                .isInstanceOf(SuperCsvBindingException.class);
+        }
+        
+    }
+    
+}
@@ -37,6 +37,7 @@ import com.github.mygreen.supercsv.validation.CsvExceptionConverter;
 /**
  * {@link UniqueHashCodeFactory}のテスタ
  *
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -100,6 +101,11 @@ public class UniqueHashCodeFactoryTest {
         @CsvUniqueHashCode(message="lineNumber={lineNumber}, rowNumber={rowNumber}, columnNumber={columnNumber}, label={label}, validatedValue=${printer.print(validatedValue)}, duplicatedLineNumber={duplicatedLineNumber}, duplicatedRowNumber={duplicatedRowNumber}, hashCode={hashCode}")
         private Integer col_message_variables;
         
+        @CsvColumn(number=13)
+        @CsvNumberFormat(pattern="#,###")
+        @CsvUniqueHashCode(hashType=CsvUniqueHashCode.HashType.XXHASH64)
+        private Integer col_hashType_xxhash64;
+        
     }
     
     @Test
@@ -163,6 +169,40 @@ public class UniqueHashCodeFactoryTest {
         
     }
     
+    /**
+     * 属性hashTypeのテスト
+     */
+    @Test
+    public void testCreate_attrHashType() {
+        
+        FieldAccessor field = getFieldAccessor(TestCsv.class, "col_hashType_xxhash64", comparator);
+        IntegerProcessorBuilder builder = (IntegerProcessorBuilder) builderResolver.resolve(Integer.class);
+        TextFormatter<Integer> formatter = builder.getFormatter(field, config);
+        
+        CsvUniqueHashCode anno = field.getAnnotationsByGroup(CsvUniqueHashCode.class, groupEmpty).get(0);
+        
+        Optional<CellProcessor> processor = factory.create(anno, Optional.empty(), field, formatter, config);
+        printCellProcessorChain(processor.get(), name.getMethodName());
+        
+        assertThat(processor.get()).isInstanceOf(UniqueHashCode.class);
+        
+        UniqueHashCode<Integer> actual = (UniqueHashCode<Integer>)processor.get();
+        assertThat(actual.isWideHash()).isTrue();
+        
+        {
+            // valid input
+            Integer input = TEST_VALUE_OBJ;
+            assertThat((Object)actual.execute(input, ANONYMOUS_CSVCONTEXT)).isEqualTo(input);
+        }
+        
+        {
+            // wrong input
+            Integer input = TEST_VALUE_OBJ;
+            assertThatThrownBy(() -> actual.execute(input, ANONYMOUS_CSVCONTEXT2)).isInstanceOf(SuperCsvValidationException.class);
+        }
+        
+    }
+    
     /**
      * 属性messageのテスト
      */
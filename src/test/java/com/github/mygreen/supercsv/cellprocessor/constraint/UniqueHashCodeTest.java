@@ -12,12 +12,15 @@ import org.supercsv.cellprocessor.ift.CellProcessor;
 import org.supercsv.exception.SuperCsvCellProcessorException;
 import org.supercsv.util.CsvContext;
 
+import com.github.mygreen.supercsv.annotation.constraint.CsvUniqueHashCode;
 import com.github.mygreen.supercsv.cellprocessor.format.NumberFormatWrapper;
+import com.github.mygreen.supercsv.cellprocessor.format.TextPrinter;
 import com.github.mygreen.supercsv.exception.SuperCsvValidationException;
 
 /**
  * {@link UniqueHashCode}のテスタ
  *
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -31,6 +34,8 @@ public class UniqueHashCodeTest {
     
     private CsvContext ANONYMOUS_CSVCONTEXT2 = new CsvContext(2, 3, 3);
     
+    private TextPrinter<String> stringPrinter = value -> value;
+    
     @Before
     public void setUp() throws Exception {
         this.processor = new UniqueHashCode<>(formatter);
@@ -53,6 +58,22 @@ public class UniqueHashCodeTest {
         
     }
     
+    @Test(expected=NullPointerException.class)
+    public void testConstuctor_storeNull() {
+        
+        new UniqueHashCode<Integer>(null, CsvUniqueHashCode.HashType.HASH_CODE, formatter);
+        fail();
+        
+    }
+    
+    @Test(expected=NullPointerException.class)
+    public void testConstuctor_hashTypeNull() {
+        
+        new UniqueHashCode<Integer>(UniqueKeyStore.compact(), null, formatter);
+        fail();
+        
+    }
+    
     /**
      * 入力値がnullの場合
      */
@@ -107,5 +128,96 @@ public class UniqueHashCodeTest {
         
     }
     
+    /**
+     * 値のクラスタイプが整数以外の場合でも、重複した位置を取得できること
+     */
+    @Test
+    public void testExecute_duplicatedPosition() {
+        
+        final UniqueHashCode<String> processor = new UniqueHashCode<>(stringPrinter);
+        
+        assertThat((Object)processor.execute("abc", ANONYMOUS_CSVCONTEXT)).isEqualTo("abc");
+        
+        assertThatThrownBy(() -> processor.execute("abc", ANONYMOUS_CSVCONTEXT2))
+            .isInstanceOf(SuperCsvValidationException.class)
+            .satisfies(e -> assertThat(((SuperCsvValidationException)e).getMessageVariables())
+                    .containsEntry("hashCode", "abc".hashCode())
+                    .containsEntry("duplicatedLineNumber", 1)
+                    .containsEntry("duplicatedRowNumber", 2));
+        
+    }
+    
+    /**
+     * 64bitのハッシュ値の場合、hashCode()が衝突する値を区別できること
+     */
+    @Test
+    public void testExecute_wideHash() {
+        
+        final UniqueHashCode<String> narrow = new UniqueHashCode<>(stringPrinter);
+        assertThat(narrow.isWideHash()).isFalse();
+        
+        // "Aa"と"BB"は、hashCode()の値が同じ
+        assertThat((Object)narrow.execute("Aa", ANONYMOUS_CSVCONTEXT)).isEqualTo("Aa");
+        assertThatThrownBy(() -> narrow.execute("BB", ANONYMOUS_CSVCONTEXT2))
+            .isInstanceOf(SuperCsvValidationException.class);
+        
+        final UniqueHashCode<String> wide = new UniqueHashCode<>(UniqueKeyStore.compact(), CsvUniqueHashCode.HashType.XXHASH64, stringPrinter,
+                new NextCellProcessor());
+        assertThat(wide.isWideHash()).isTrue();
+        assertThat(wide.getHashType()).isEqualTo(CsvUniqueHashCode.HashType.XXHASH64);
+        
+        assertThat((Object)wide.execute("Aa", ANONYMOUS_CSVCONTEXT)).isEqualTo("Aa");
+        assertThat((Object)wide.execute("BB", ANONYMOUS_CSVCONTEXT)).isEqualTo("BB");
+        
+        assertThatThrownBy(() -> wide.execute("Aa", ANONYMOUS_CSVCONTEXT2))
+            .isInstanceOf(SuperCsvValidationException.class)
+            .satisfies(e -> assertThat(((SuperCsvValidationException)e).getMessageVariables())
+                    .containsEntry("hashCode", XxHash64.hash("Aa"))
+                    .containsEntry("duplicatedLineNumber", 1)
+                    .containsEntry("duplicatedRowNumber", 2));
+        
+    }
+    
+    /**
+     * 大量の値を格納できること
+     */
+    @Test
+    public void testExecute_manyValues() {
+        
+        for(int i=0; i < 10000; i++) {
+            assertThat((Object)processor.execute(i, new CsvContext(i+1, i+1, 1))).isEqualTo(i);
+        }
+        
+        assertThatThrownBy(() -> processor.execute(5000, ANONYMOUS_CSVCONTEXT2))
+            .isInstanceOf(SuperCsvValidationException.class)
+            .satisfies(e -> assertThat(((SuperCsvValidationException)e).getMessageVariables())
+                    .containsEntry("duplicatedLineNumber", 5001)
+                    .containsEntry("duplicatedRowNumber", 5001));
+        
+    }
+    
+    /**
+     * 複数のスレッドから並列に実行した場合、後から実行した値がエラーとなり、行番号が最も小さい位置を重複した位置とする。
+     */
+    @Test
+    public void testExecute_concurrent() throws Exception {
+        
+        final UniqueHashCode<Integer> processor = new UniqueHashCode<>(UniqueKeyStore.concurrent(), CsvUniqueHashCode.HashType.HASH_CODE, formatter);
+        
+        new ConcurrentUniqueTester(4, 2000).assertRejected(processor);
+        
+    }
+    
+    /**
+     * 判定を確定させない設定で並列に実行した場合、実行した順序によらず、行番号の順に確定させると、行番号が最も小さいセル以外がエラーとなる。
+     */
+    @Test
+    public void testExecute_concurrentInLineOrder() throws Exception {
+        
+        final UniqueHashCode<Integer> processor = new UniqueHashCode<>(UniqueKeyStore.concurrent(), CsvUniqueHashCode.HashType.HASH_CODE, formatter);
+        
+        new ConcurrentUniqueTester(4, 2000).assertRejectedInLineOrder(processor);
+        
+    }
     
 }
@@ -0,0 +1,210 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * {@link UniqueStore}の各実装のテスタ
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+@RunWith(Parameterized.class)
+public class UniqueStoreTest {
+    
+    @Parameters(name="{0}")
+    public static Collection<Object[]> parameters() {
+        return Arrays.asList(new Object[][] {
+            {"heap"}, {"compact"}, {"offHeap"}, {"disk"}, {"concurrentHeap"}, {"concurrentCompact"}
+        });
+    }
+    
+    private final String storageName;
+    
+    public UniqueStoreTest(final String storageName) {
+        this.storageName = storageName;
+    }
+    
+    private UniqueStore<Long> createStore() {
+        switch(storageName) {
+            case "heap":
+                return UniqueStore.heap();
+            case "compact":
+                return UniqueStore.compact();
+            case "offHeap":
+                return UniqueStore.offHeap();
+            case "disk":
+                return UniqueStore.disk();
+            case "concurrentHeap":
+                return UniqueStore.concurrent(UniqueStore::heap);
+            case "concurrentCompact":
+                return UniqueStore.concurrent(UniqueStore::compact);
+            default:
+                throw new IllegalArgumentException(storageName);
+        }
+    }
+    
+    /**
+     * 位置の前後は、読み込み元の番号、行番号、レコード番号の順に比較する。
+     */
+    @Test
+    public void testPosition() {
+        
+        final UniquePosition position = new UniquePosition(3, Integer.MAX_VALUE, 12);
+        assertThat(position.getSourceId()).isEqualTo(3);
+        assertThat(position.getLineNumber()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(position.getRowNumber()).isEqualTo(12);
+        
+        assertThat(position).isEqualTo(new UniquePosition(3, Integer.MAX_VALUE, 12));
+        assertThat(position.compareTo(new UniquePosition(4, 1, 1))).isLessThan(0);
+        assertThat(position.compareTo(new UniquePosition(3, 1, 100))).isGreaterThan(0);
+        assertThat(position.isSameSource(new UniquePosition(3, 1, 1))).isTrue();
+        assertThat(position.isSameSource(new UniquePosition(0, 1, 1))).isFalse();
+        
+        assertThatThrownBy(() -> new UniquePosition(-1, 1, 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        
+    }
+    
+    /**
+     * 重複した値は、最初に格納したときの位置を返す。
+     */
+    @Test
+    public void testPutIfAbsent() {
+        
+        final UniqueStore<Long> store = createStore();
+        
+        // ハッシュテーブルの拡張が行われる件数
+        final int count = 10000;
+        for(int i=0; i < count; i++) {
+            final long value = (i % 2 == 0) ? i : -i * 1000_000_007L;
+            assertThat(store.putIfAbsent(value, new UniquePosition(0, i + 1, i + 2))).isNull();
+        }
+        
+        assertThat(store.putIfAbsent(Long.MIN_VALUE, new UniquePosition(0, 1, 1))).isNull();
+        assertThat(store.putIfAbsent(Long.MAX_VALUE, new UniquePosition(0, 2, 2))).isNull();
+        assertThat(store.size()).isEqualTo(count + 2);
+        
+        for(int i=0; i < count; i++) {
+            final long value = (i % 2 == 0) ? i : -i * 1000_000_007L;
+            final UniquePosition position = store.putIfAbsent(value, new UniquePosition(0, count + i, count + i));
+            assertThat(position).isEqualTo(new UniquePosition(0, i + 1, i + 2));
+            assertThat(store.positionOf(value)).isEqualTo(position);
+        }
+        
+        assertThat(store.putIfAbsent(Long.MIN_VALUE, new UniquePosition(0, 10, 10)).getLineNumber()).isEqualTo(1);
+        assertThat(store.putIfAbsent(Long.MAX_VALUE, new UniquePosition(0, 10, 10)).getLineNumber()).isEqualTo(2);
+        assertThat(store.positionOf(0L)).isNotNull();
+        assertThat(store.positionOf(1L)).isNull();
+        assertThat(store.size()).isEqualTo(count + 2);
+        
+    }
+    
+    /**
+     * 同じ読み込み元の値は、格納した順序によらず、行番号が最も小さい位置を保持する。
+     */
+    @Test
+    public void testPutIfAbsent_earliest() {
+        
+        final UniqueStore<Long> store = createStore();
+        
+        assertThat(store.putIfAbsent(100L, new UniquePosition(0, 20, 20))).isNull();
+        
+        // 前の位置で格納した場合は、格納済みの位置を返し、保持する位置を更新する
+        assertThat(store.putIfAbsent(100L, new UniquePosition(0, 10, 10)).getLineNumber()).isEqualTo(20);
+        assertThat(store.putIfAbsent(100L, new UniquePosition(0, 30, 30)).getLineNumber()).isEqualTo(10);
+        assertThat(store.putIfAbsent(100L, new UniquePosition(0, 15, 15)).getLineNumber()).isEqualTo(10);
+        assertThat(store.positionOf(100L)).isEqualTo(new UniquePosition(0, 10, 10));
+        
+        assertThat(store.size()).isEqualTo(1L);
+        
+    }
+    
+    /**
+     * 読み込み元の番号を含めて位置を保持し、異なる読み込み元の位置では更新しない。
+     */
+    @Test
+    public void testPutIfAbsent_source() {
+        
+        final UniqueStore<Long> store = createStore();
+        
+        // 読み込み元の番号が0の値を格納した後に、0以外の番号の値を格納する
+        final int count = 3000;
+        for(int i=0; i < count; i++) {
+            assertThat(store.putIfAbsent((long)i, new UniquePosition(0, i + 1, i + 1))).isNull();
+        }
+        
+        for(int i=0; i < count; i++) {
+            assertThat(store.putIfAbsent((long)(count + i), new UniquePosition(2, i + 1, i + 1))).isNull();
+        }
+        
+        for(int i=0; i < count; i++) {
+            assertThat(store.positionOf((long)i)).isEqualTo(new UniquePosition(0, i + 1, i + 1));
+            assertThat(store.positionOf((long)(count + i))).isEqualTo(new UniquePosition(2, i + 1, i + 1));
+        }
+        
+        // 異なる読み込み元の前の位置では、保持する位置を更新しない
+        assertThat(store.putIfAbsent((long)count, new UniquePosition(1, 100, 100))).isEqualTo(new UniquePosition(2, 1, 1));
+        assertThat(store.positionOf((long)count)).isEqualTo(new UniquePosition(2, 1, 1));
+        
+        // 同じ読み込み元の前の位置では、保持する位置を更新する
+        assertThat(store.putIfAbsent(10L, new UniquePosition(0, 1, 1))).isEqualTo(new UniquePosition(0, 11, 11));
+        assertThat(store.positionOf(10L)).isEqualTo(new UniquePosition(0, 1, 1));
+        
+        assertThat(store.size()).isEqualTo(count * 2);
+        
+    }
+    
+    /**
+     * 想定件数を指定して、ハッシュテーブルの大きさを事前に確保する。
+     */
+    @Test
+    public void testCapacityOf() {
+        
+        assertThat(LongUniqueStore.capacityOf(0L)).isEqualTo(1024L);
+        assertThat(LongUniqueStore.capacityOf(-1L)).isEqualTo(1024L);
+        assertThat(LongUniqueStore.capacityOf(768L)).isEqualTo(2048L);
+        assertThat(LongUniqueStore.capacityOf(1_000_000L)).isEqualTo(1L << 21);
+        assertThat(LongUniqueStore.capacityOf(Long.MAX_VALUE / 2L)).isEqualTo(1L << 40);
+        
+        // 想定件数まで格納しても、拡張しない
+        final long capacity = LongUniqueStore.capacityOf(3000L);
+        assertThat(capacity - (capacity >>> 2)).isGreaterThanOrEqualTo(3000L);
+        
+    }
+    
+    /**
+     * 領域を解放した後は、値を格納できない。
+     */
+    @Test
+    public void testClose() {
+        
+        final UniqueStore<Long> store = createStore();
+        for(int i=0; i < 5000; i++) {
+            assertThat(store.putIfAbsent((long)i, new UniquePosition(0, i + 1, i + 1))).isNull();
+        }
+        
+        store.close();
+        
+        // 2回目は何もしない
+        store.close();
+        
+        if(storageName.equals("heap") || storageName.equals("concurrentHeap")) {
+            // ヒープ上の格納先は、解放する領域がない
+            return;
+        }
+        
+        assertThatThrownBy(() -> store.putIfAbsent(1L, new UniquePosition(0, 1, 1)))
+            .isInstanceOf(IllegalStateException.class);
+        
+    }
+    
+}
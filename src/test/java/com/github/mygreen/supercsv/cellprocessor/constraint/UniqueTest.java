@@ -18,6 +18,7 @@ import com.github.mygreen.supercsv.exception.SuperCsvValidationException;
 /**
  * {@link Unique}のテスタ
  *
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -106,5 +107,28 @@ public class UniqueTest {
         
     }
     
+    /**
+     * 複数のスレッドから並列に実行した場合、後から実行した値がエラーとなり、行番号が最も小さい位置を重複した位置とする。
+     */
+    @Test
+    public void testExecute_concurrent() throws Exception {
+        
+        final Unique<Integer> processor = new Unique<>(UniqueStore.concurrent(UniqueStore::heap), formatter);
+        
+        new ConcurrentUniqueTester(4, 2000).assertRejected(processor);
+        
+    }
+    
+    /**
+     * 判定を確定させない設定で並列に実行した場合、実行した順序によらず、行番号の順に確定させると、行番号が最も小さいセル以外がエラーとなる。
+     */
+    @Test
+    public void testExecute_concurrentInLineOrder() throws Exception {
+        
+        final Unique<Integer> processor = new Unique<>(UniqueStore.concurrent(UniqueStore::heap), formatter);
+        
+        new ConcurrentUniqueTester(4, 2000).assertRejectedInLineOrder(processor);
+        
+    }
     
 }
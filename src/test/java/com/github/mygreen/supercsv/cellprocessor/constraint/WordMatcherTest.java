@@ -0,0 +1,104 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * {@link WordMatcher}のテスタ
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class WordMatcherTest {
+    
+    /**
+     * 重なり合う語彙や、他の語彙の一部となる語彙も検出する。
+     */
+    @Test
+    public void testFindAll_overlap() {
+        
+        WordMatcher matcher = new WordMatcher(Arrays.asList("he", "she", "his", "hers", "e"));
+        
+        assertThat(matcher.containsAny("ushers")).isTrue();
+        assertThat(matcher.findAll("ushers")).containsExactly("he", "she", "hers", "e");
+        
+        assertThat(matcher.containsAny("abc")).isFalse();
+        assertThat(matcher.findAll("abc")).isEmpty();
+        assertThat(matcher.findMissing("ushers")).containsExactly("his");
+        
+    }
+    
+    @Test
+    public void testFindAll_japanese() {
+        
+        WordMatcher matcher = new WordMatcher(Arrays.asList("馬鹿", "阿呆", "鹿児島"));
+        
+        assertThat(matcher.findAll("馬鹿児島")).containsExactly("馬鹿", "鹿児島");
+        assertThat(matcher.findMissing("あいつは阿呆だ")).containsExactly("馬鹿", "鹿児島");
+        assertThat(matcher.findMissing("馬鹿阿呆鹿児島")).isEmpty();
+        
+    }
+    
+    /**
+     * 空文字の語彙は、{@link String#contains(CharSequence)}と同様に常に含まれる。
+     */
+    @Test
+    public void testEmptyWord() {
+        
+        WordMatcher matcher = new WordMatcher(Arrays.asList("abc", ""));
+        
+        assertThat(matcher.containsAny("")).isTrue();
+        assertThat(matcher.findAll("xabc")).containsExactly("abc", "");
+        
+        assertThat(new WordMatcher(new ArrayList<>()).containsAny("abc")).isFalse();
+        
+    }
+    
+    /**
+     * {@link String#contains(CharSequence)}による判定結果と一致する。
+     */
+    @Test
+    public void testCompareWithContains() {
+        
+        final Random random = new Random(12345L);
+        
+        final List<String> words = random.ints(2000, 1, 6)
+                .mapToObj(length -> randomText(random, length))
+                .distinct()
+                .collect(Collectors.toList());
+        
+        final WordMatcher matcher = new WordMatcher(words);
+        
+        for(int i=0; i < 500; i++) {
+            final String text = randomText(random, random.nextInt(40));
+            
+            final List<String> expected = words.stream()
+                    .filter(word -> text.contains(word))
+                    .collect(Collectors.toList());
+            
+            assertThat(matcher.containsAny(text)).isEqualTo(!expected.isEmpty());
+            assertThat(matcher.findAll(text)).isEqualTo(expected);
+            assertThat(matcher.findMissing(text)).isEqualTo(words.stream()
+                    .filter(word -> !text.contains(word))
+                    .collect(Collectors.toList()));
+        }
+        
+    }
+    
+    private static String randomText(final Random random, final int length) {
+        final StringBuilder text = new StringBuilder(length);
+        for(int i=0; i < length; i++) {
+            text.append((char)('a' + random.nextInt(4)));
+        }
+        return text.toString();
+    }
+    
+}
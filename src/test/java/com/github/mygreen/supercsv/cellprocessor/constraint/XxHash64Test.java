@@ -0,0 +1,42 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+
+/**
+ * {@link XxHash64}のテスタ
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class XxHash64Test {
+    
+    /**
+     * 参照実装の値と一致すること
+     */
+    @Test
+    public void testHash() {
+        
+        assertThat(XxHash64.hash("")).isEqualTo(0xEF46DB3751D8E999L);
+        assertThat(XxHash64.hash("a")).isEqualTo(0xD24EC4F1A98C6E5BL);
+        assertThat(XxHash64.hash("abc")).isEqualTo(0x44BC2CF5AD770999L);
+        
+        // 32バイト以上
+        assertThat(XxHash64.hash("Nobody inspects the spammish repetition")).isEqualTo(0xFBCEA83C8A378BF1L);
+        
+    }
+    
+    /**
+     * hashCode()が衝突する値でも、異なるハッシュ値になること
+     */
+    @Test
+    public void testHash_collisionOfHashCode() {
+        
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        assertThat(XxHash64.hash("Aa")).isNotEqualTo(XxHash64.hash("BB"));
+        
+    }
+    
+}
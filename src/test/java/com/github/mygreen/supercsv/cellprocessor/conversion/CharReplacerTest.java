@@ -10,6 +10,7 @@ import org.junit.Test;
 /**
  * {@link CharReplacer}のテスタ
  * 
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -164,4 +165,53 @@ public class CharReplacerTest {
         assertThat(replacer.replace("abc_xyz")).isEqualTo("bbc_hello");
     }
     
+    /**
+     * 置換対象の文字が含まれない場合は、同じインスタンスを返す。
+     */
+    @Test
+    public void testReplace_noMatch() {
+        
+        replacer.register("abc", "x");
+        replacer.register("z", "Z");
+        replacer.ready();
+        
+        final String text = "ab_ac_bc";
+        assertThat(replacer.replace(text)).isSameAs(text);
+        
+    }
+    
+    /**
+     * 最も長く一致する文字を置換する。
+     */
+    @Test
+    public void testReplace_longestMatch() {
+        
+        replacer.register("東京", "T");
+        replacer.register("東京都", "TK");
+        replacer.register("京都", "KY");
+        replacer.register("東", "E");
+        replacer.register("東京都", "XX");
+        replacer.ready();
+        
+        assertThat(replacer.replace("東京都京都市東区")).isEqualTo("TKKY市E区");
+        assertThat(replacer.replace("東京駅")).isEqualTo("T駅");
+        assertThat(replacer.replace("東西")).isEqualTo("E西");
+        
+    }
+    
+    /**
+     * 大量の置換対象の文字を登録した場合
+     */
+    @Test
+    public void testReplace_manyWords() {
+        
+        for(int i=0; i < 5000; i++) {
+            replacer.register(String.format("w%04d", i), String.format("<%d>", i));
+        }
+        replacer.ready();
+        
+        assertThat(replacer.replace("w0001-w4999-w5000")).isEqualTo("<1>-<4999>-w5000");
+        
+    }
+    
 }
@@ -98,4 +98,53 @@ public class JapaneseCharReplacerTest {
         
     }
     
+    /**
+     * 変換対象の文字が含まれない場合は、同じインスタンスを返す。
+     */
+    @Test
+    public void testReplace_noConversion() {
+        
+        final String full = "こんにちは。Ｈｅｌｌｏ！";
+        assertThat(replacerAll.replaceToFullChar(full)).isSameAs(full);
+        
+        final String half = "こんにちは。Hello!";
+        assertThat(replacerAll.replaceToHalfChar(half)).isSameAs(half);
+        
+        final String text = "abc_ABC_012";
+        assertThat(replacerNoChar.replaceToFullChar(text)).isSameAs(text);
+        
+    }
+    
+    /**
+     * 半角カナの濁点・半濁点は、2文字を1文字の全角カナに変換し、全角カナから2文字の半角カナに戻す。
+     */
+    @Test
+    public void testReplace_voicedKatakana() {
+        
+        final JapaneseCharReplacer replacer = new JapaneseCharReplacer(CharCategory.Katakana);
+        
+        assertThat(replacer.replaceToFullChar("ﾊﾟﾊﾊﾟ")).isEqualTo("パハパ");
+        assertThat(replacer.replaceToHalfChar("パハパ")).isEqualTo("ﾊﾟﾊﾊﾟ");
+        
+        // 末尾の1文字は、単独の文字として変換する
+        assertThat(replacer.replaceToFullChar("ﾊﾟﾊ")).isEqualTo("パハ");
+        
+    }
+    
+    /**
+     * 文字の種類の指定順序や重複は、変換結果に影響しない。
+     */
+    @Test
+    public void testReplace_categoryOrder() {
+        
+        final JapaneseCharReplacer replacer = new JapaneseCharReplacer(
+                CharCategory.Alpha, CharCategory.Number, CharCategory.Alpha);
+        
+        assertThat(replacer.replaceToFullChar("abc_ABC_012 ｶﾞﾋﾟﾌﾟ"))
+            .isEqualTo(replacerAlphaNumeric.replaceToFullChar("abc_ABC_012 ｶﾞﾋﾟﾌﾟ"));
+        assertThat(replacer.replaceToHalfChar("ａｂｃ＿ＡＢＣ＿０１２　カﾞピプ"))
+            .isEqualTo(replacerAlphaNumeric.replaceToHalfChar("ａｂｃ＿ＡＢＣ＿０１２　カﾞピプ"));
+        
+    }
+    
 }
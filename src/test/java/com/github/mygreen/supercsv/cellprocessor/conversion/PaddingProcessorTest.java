@@ -4,6 +4,10 @@ import static org.junit.Assert.*;
 import static org.assertj.core.api.Assertions.*;
 import static com.github.mygreen.supercsv.tool.TestUtils.*;
 
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Random;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
@@ -222,6 +226,54 @@ public class PaddingProcessorTest {
             assertThat(paddingProcessorEucJP.count("𡌛")).isEqualTo(1);    // 文字化けする
             
         }
+        
+        /**
+         * 文字ごとのバイト数の表によるカウントが、{@link String#getBytes(java.nio.charset.Charset)}のバイト数と一致する。
+         */
+        @Test
+        public void count_compareWithGetBytes() {
+            
+            final Random random = new Random(12345L);
+            
+            for(ByteSizePaddingProcessor processor : Arrays.asList(paddingProcessorUtf8, paddingProcessorWindows31j, paddingProcessorEucJP)) {
+                final Charset charset = processor.getCharset();
+                
+                for(int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+                    final String text = String.valueOf((char)c);
+                    assertThat(processor.count(c)).as("char=%04x", c).isEqualTo(text.getBytes(charset).length);
+                }
+                
+                for(int i=0; i < 1000; i++) {
+                    final StringBuilder text = new StringBuilder();
+                    final int length = random.nextInt(10);
+                    for(int j=0; j < length; j++) {
+                        text.append((char)random.nextInt(Character.MAX_VALUE + 1));
+                    }
+                    assertThat(processor.count(text.toString())).isEqualTo(text.toString().getBytes(charset).length);
+                }
+            }
+            
+        }
+        
+        /**
+         * サロゲートペアを分割せずに切り出す。
+         */
+        @Test
+        public void pad_surrogate() {
+            
+            // 左詰 - 右端から切り出す
+            assertThat(paddingProcessorUtf8.pad("a𡌛b", 5, '_', false, true)).isEqualTo("a𡌛");
+            assertThat(paddingProcessorUtf8.pad("a𡌛b", 4, '_', false, true)).isEqualTo("a___");
+            
+            // 右詰 - 左端から切り出す
+            assertThat(paddingProcessorUtf8.pad("a𡌛b", 5, '_', true, true)).isEqualTo("𡌛b");
+            assertThat(paddingProcessorUtf8.pad("a𡌛b", 4, '_', true, true)).isEqualTo("___b");
+            
+            // 全角のパディング文字で、切り出し後に不足する場合
+            assertThat(paddingProcessorUtf8.pad("aあい", 5, 'ー', false, true)).isEqualTo("aあ");
+            assertThat(paddingProcessorUtf8.pad("あいう", 8, 'ー', true, true)).isEqualTo("いう");
+            
+        }
     
     }
     
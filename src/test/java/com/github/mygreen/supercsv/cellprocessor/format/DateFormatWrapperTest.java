@@ -7,11 +7,14 @@ import static com.github.mygreen.supercsv.tool.TestUtils.*;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.text.DateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.TimeZone;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -25,6 +28,7 @@ import com.github.mygreen.supercsv.cellprocessor.format.TextParseException;
 /**
  * Tests the {@link DateFormatWrapper}.
  *
+ * @version 2.4
  * @since 1.2
  * @author T.TSUCHIE
  *
@@ -183,4 +187,42 @@ public class DateFormatWrapperTest {
         formatter.parse("abc");
         fail();
     }
+    
+    /**
+     * スレッドごとに複製したフォーマッタでも、厳密なチェックとタイムゾーンの設定が引き継がれること。
+     * @since 2.4
+     */
+    @Test
+    public void testParseWithMultiThread_strict() throws Exception {
+        
+        final DateFormatWrapper<Timestamp> strictFormatter = new DateFormatWrapper<>(
+                SimpleDateFormatBuilder.create("yyyy/MM/dd HH:mm:ss")
+                    .lenient(false)
+                    .timeZone(TimeZone.getTimeZone("UTC"))
+                    .build(), Timestamp.class);
+        
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Timestamp>> validResults = new ArrayList<>();
+            final List<Future<Timestamp>> invalidResults = new ArrayList<>();
+            for(int i=0; i < 100; i++) {
+                validResults.add(executor.submit(() -> strictFormatter.parse("1970/01/02 00:00:00")));
+                invalidResults.add(executor.submit(() -> strictFormatter.parse("2016/02/30 00:00:00")));
+            }
+            
+            for(Future<Timestamp> result : validResults) {
+                assertThat(result.get()).isInstanceOf(Timestamp.class);
+                assertThat(result.get().getTime()).isEqualTo(24L*60L*60L*1000L);
+            }
+            
+            for(Future<Timestamp> result : invalidResults) {
+                assertThatThrownBy(() -> result.get())
+                    .hasCauseInstanceOf(TextParseException.class);
+            }
+            
+        } finally {
+            executor.shutdown();
+        }
+        
+    }
 }
@@ -24,6 +24,7 @@ import com.github.mygreen.supercsv.cellprocessor.format.TextParseException;
 /**
  * Tests the {@link NumberFormatWrapper}.
  *
+ * @version 2.4
  * @since 1.2
  * @author T.TSUCHIE
  *
@@ -259,4 +260,24 @@ public class NumberFormatWrapperTest {
         }
         
     }
+    
+    /**
+     * 同じスレッドで解析に失敗した後も、続けて解析できること。
+     * <p>スレッドごとの解析位置が初期化されることの確認。</p>
+     * @since 2.4
+     */
+    @Test
+    public void testParseAfterFailure() {
+        
+        assertThatThrownBy(() -> formatter.parse("123,456.0abc"))
+            .isInstanceOf(TextParseException.class);
+        
+        assertThat(formatter.parse("123,456.0")).isEqualTo(123456);
+        assertThat(parseBigDecimalFormatter.parse("1,234.0")).isEqualTo(1234);
+        
+        assertThatThrownBy(() -> parseBigDecimalFormatter.parse("1,234.5"))
+            .isInstanceOf(TextParseException.class);
+        assertThat(parseBigDecimalFormatter.parse("1,234.0")).isEqualTo(1234);
+        
+    }
 }
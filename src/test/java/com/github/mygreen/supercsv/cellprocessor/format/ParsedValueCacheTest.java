@@ -0,0 +1,203 @@
+package com.github.mygreen.supercsv.cellprocessor.format;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.supercsv.prefs.CsvPreference;
+
+import com.github.mygreen.supercsv.annotation.CsvBean;
+import com.github.mygreen.supercsv.annotation.CsvColumn;
+import com.github.mygreen.supercsv.annotation.format.CsvParseCache;
+import com.github.mygreen.supercsv.builder.BeanMapping;
+import com.github.mygreen.supercsv.builder.BeanMappingFactory;
+import com.github.mygreen.supercsv.io.CsvAnnotationBeanReader;
+
+/**
+ * {@link ParsedValueCache}と{@link CachedTextParser}のテスタ。
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class ParsedValueCacheTest {
+    
+    @Test
+    public void testConstructor_invalidSize() {
+        
+        assertThatThrownBy(() -> new ParsedValueCache<String>(0))
+            .isInstanceOf(IllegalArgumentException.class);
+        
+    }
+    
+    /**
+     * 上限を超えた場合、最も参照されていない値から破棄する。
+     */
+    @Test
+    public void testEviction() {
+        
+        ParsedValueCache<Integer> cache = new ParsedValueCache<>(3);
+        cache.put("1", 1);
+        cache.put("2", 2);
+        cache.put("3", 3);
+        
+        // 参照順を更新
+        assertThat(cache.get("1")).isEqualTo(1);
+        
+        cache.put("4", 4);
+        
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get("2")).isNull();
+        assertThat(cache.get("1")).isEqualTo(1);
+        assertThat(cache.get("3")).isEqualTo(3);
+        assertThat(cache.get("4")).isEqualTo(4);
+        
+        cache.clear();
+        assertThat(cache.size()).isEqualTo(0);
+        
+    }
+    
+    /**
+     * 領域を分割した場合でも、上限件数を超えて保持しない。
+     */
+    @Test
+    public void testEviction_segments() {
+        
+        ParsedValueCache<Integer> cache = new ParsedValueCache<>(256);
+        for(int i=0; i < 10000; i++) {
+            cache.put(String.valueOf(i), i);
+        }
+        
+        assertThat(cache.getMaxSize()).isEqualTo(256);
+        assertThat(cache.size()).isLessThanOrEqualTo(256);
+        
+    }
+    
+    @Test
+    public void testIsCacheableType() {
+        
+        assertThat(ParsedValueCache.isCacheableType(int.class)).isTrue();
+        assertThat(ParsedValueCache.isCacheableType(Integer.class)).isTrue();
+        assertThat(ParsedValueCache.isCacheableType(String.class)).isTrue();
+        assertThat(ParsedValueCache.isCacheableType(BigDecimal.class)).isTrue();
+        assertThat(ParsedValueCache.isCacheableType(LocalDate.class)).isTrue();
+        assertThat(ParsedValueCache.isCacheableType(Thread.State.class)).isTrue();
+        
+        assertThat(ParsedValueCache.isCacheableType(Date.class)).isFalse();
+        assertThat(ParsedValueCache.isCacheableType(java.sql.Timestamp.class)).isFalse();
+        assertThat(ParsedValueCache.isCacheableType(Calendar.class)).isFalse();
+        
+    }
+    
+    /**
+     * 変換に成功した値のみキャッシュする。
+     */
+    @Test
+    public void testCachedTextParser() {
+        
+        final AtomicInteger count = new AtomicInteger();
+        final TextParser<Integer> parser = text -> {
+            count.incrementAndGet();
+            try {
+                return Integer.valueOf(text);
+            } catch(NumberFormatException e) {
+                throw new TextParseException(text, Integer.class, e);
+            }
+        };
+        
+        CachedTextParser<Integer> cachedParser = new CachedTextParser<>(parser, new ParsedValueCache<>(10));
+        
+        assertThat(cachedParser.parse("123")).isEqualTo(123);
+        assertThat(cachedParser.parse("123")).isEqualTo(123);
+        assertThat(count.get()).isEqualTo(1);
+        
+        assertThatThrownBy(() -> cachedParser.parse("abc")).isInstanceOf(TextParseException.class);
+        assertThatThrownBy(() -> cachedParser.parse("abc")).isInstanceOf(TextParseException.class);
+        assertThat(count.get()).isEqualTo(3);
+        assertThat(cachedParser.getCache().size()).isEqualTo(1);
+        
+    }
+    
+    @CsvBean
+    public static class CacheCsv {
+        
+        @CsvColumn(number=1)
+        @CsvParseCache
+        private String code;
+        
+        @CsvColumn(number=2)
+        @CsvParseCache(size=0)
+        private String name;
+        
+        @CsvColumn(number=3)
+        @CsvParseCache
+        private Date date;
+        
+        public String getCode() {
+            return code;
+        }
+        
+        public void setCode(String code) {
+            this.code = code;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public Date getDate() {
+            return date;
+        }
+        
+        public void setDate(Date date) {
+            this.date = date;
+        }
+        
+    }
+    
+    /**
+     * 読み込み時に、同じ文字列のインスタンスを共有する。
+     */
+    @Test
+    public void testRead() throws Exception {
+        
+        final String csv = "code,name,date\n"
+                + "JP,abc,2017-01-02 00:00:00\n"
+                + "JP,abc,2017-01-02 00:00:00\n";
+        
+        BeanMapping<CacheCsv> beanMapping = new BeanMappingFactory().create(CacheCsv.class);
+        
+        final List<CacheCsv> list;
+        try(CsvAnnotationBeanReader<CacheCsv> csvReader = new CsvAnnotationBeanReader<>(
+                beanMapping, new StringReader(csv), CsvPreference.STANDARD_PREFERENCE)) {
+            csvReader.getHeader(true);
+            list = csvReader.readAll();
+        }
+        
+        assertThat(list).hasSize(2);
+        
+        // キャッシュが有効
+        assertThat(list.get(0).getCode()).isSameAs(list.get(1).getCode());
+        
+        // キャッシュが無効
+        assertThat(list.get(0).getName()).isEqualTo(list.get(1).getName())
+            .isNotSameAs(list.get(1).getName());
+        
+        // 変更可能なクラスタイプは無視される
+        assertThat(list.get(0).getDate()).isEqualTo(list.get(1).getDate())
+            .isNotSameAs(list.get(1).getDate());
+        
+    }
+    
+}
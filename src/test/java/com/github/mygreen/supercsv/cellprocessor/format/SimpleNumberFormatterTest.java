@@ -18,6 +18,7 @@ import org.junit.runner.RunWith;
 /**
  * {@link SimpleNumberFormatter}のテスタ
  *
+ * @version 2.4
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -1291,4 +1292,74 @@ public class SimpleNumberFormatterTest {
         
     }
     
+    /**
+     * 整数を直接解析する場合のテスト
+     * @since 2.4
+     */
+    public static class IntegralFastPathTest {
+        
+        @Test
+        public void testParse_sign() {
+            
+            SimpleNumberFormatter<Integer> formatter = new SimpleNumberFormatter<>(Integer.class, false);
+            
+            assertThat(formatter.parse("+123")).isEqualTo(123);
+            assertThat(formatter.parse("-123")).isEqualTo(-123);
+            assertThat(formatter.parse("-0")).isEqualTo(0);
+            assertThat(formatter.parse("000123")).isEqualTo(123);
+            
+            assertThatThrownBy(() -> formatter.parse("")).isInstanceOf(TextParseException.class);
+            assertThatThrownBy(() -> formatter.parse("-")).isInstanceOf(TextParseException.class);
+            assertThatThrownBy(() -> formatter.parse("+")).isInstanceOf(TextParseException.class);
+            assertThatThrownBy(() -> formatter.parse(" 123")).isInstanceOf(TextParseException.class);
+            
+            // BigDecimalで解析可能な形式
+            assertThat(formatter.parse("123.000")).isEqualTo(123);
+            assertThat(formatter.parse("1.23E2")).isEqualTo(123);
+            assertThat(formatter.parse("１２３")).isEqualTo(123);
+            
+        }
+        
+        @Test
+        public void testParse_range() {
+            
+            SimpleNumberFormatter<Byte> byteFormatter = new SimpleNumberFormatter<>(Byte.class, false);
+            assertThat(byteFormatter.parse("127")).isEqualTo((byte)127);
+            assertThat(byteFormatter.parse("-128")).isEqualTo((byte)-128);
+            assertThatThrownBy(() -> byteFormatter.parse("128")).isInstanceOf(TextParseException.class);
+            
+            SimpleNumberFormatter<Short> shortFormatter = new SimpleNumberFormatter<>(short.class, false);
+            assertThat(shortFormatter.parse("-32768")).isEqualTo((short)-32768);
+            assertThatThrownBy(() -> shortFormatter.parse("32768")).isInstanceOf(TextParseException.class);
+            
+            SimpleNumberFormatter<Integer> intFormatter = new SimpleNumberFormatter<>(int.class, false);
+            assertThat(intFormatter.parse("2147483647")).isEqualTo(Integer.MAX_VALUE);
+            assertThatThrownBy(() -> intFormatter.parse("2147483648")).isInstanceOf(TextParseException.class);
+            
+            SimpleNumberFormatter<Long> longFormatter = new SimpleNumberFormatter<>(Long.class, false);
+            assertThat(longFormatter.parse("999999999999999999")).isEqualTo(999999999999999999L);
+            assertThat(longFormatter.parse("9223372036854775807")).isEqualTo(Long.MAX_VALUE);
+            assertThat(longFormatter.parse("-9223372036854775808")).isEqualTo(Long.MIN_VALUE);
+            assertThatThrownBy(() -> longFormatter.parse("9223372036854775808")).isInstanceOf(TextParseException.class);
+            
+            // 曖昧に解析する場合は、範囲外でも切り捨てる
+            SimpleNumberFormatter<Byte> byteLenientFormatter = new SimpleNumberFormatter<>(Byte.class, true);
+            assertThat(byteLenientFormatter.parse("128")).isEqualTo((byte)-128);
+            
+        }
+        
+        @Test
+        public void testPrint_precision() {
+            
+            SimpleNumberFormatter<Long> formatter = new SimpleNumberFormatter<>(Long.class, false, new MathContext(4, RoundingMode.DOWN));
+            
+            assertThat(formatter.print(1234L)).isEqualTo("1234");
+            assertThat(formatter.print(-1234L)).isEqualTo("-1234");
+            assertThat(formatter.print(12345L)).isEqualTo("12340");
+            assertThat(formatter.print(Long.MIN_VALUE)).isEqualTo("-9223000000000000000");
+            
+        }
+        
+    }
+    
 }
@@ -0,0 +1,75 @@
+package com.github.mygreen.supercsv.cellprocessor.format;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
+
+import org.junit.Test;
+
+/**
+ * {@link TemporalFormatWrapper}のテスタ。
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class TemporalFormatWrapperTest {
+    
+    @Test
+    public void testConstructor_notSupportType() {
+        
+        assertThatThrownBy(() -> new TemporalFormatWrapper<>(DateTimeFormatter.ISO_DATE, TemporalAccessor.class))
+            .isInstanceOf(IllegalArgumentException.class);
+        
+    }
+    
+    @Test
+    public void testParseAndPrint() {
+        
+        TemporalFormatWrapper<LocalDateTime> formatter = new TemporalFormatWrapper<>(
+                DateTimeFormatter.ofPattern("uuuu/MM/dd HH:mm:ss").withResolverStyle(ResolverStyle.STRICT), LocalDateTime.class);
+        formatter.setPattern("uuuu/MM/dd HH:mm:ss");
+        
+        assertThat(formatter.parse("2017/01/02 03:04:05")).isEqualTo(LocalDateTime.of(2017, 1, 2, 3, 4, 5));
+        assertThat(formatter.print(LocalDateTime.of(2017, 1, 2, 3, 4, 5))).isEqualTo("2017/01/02 03:04:05");
+        
+        assertThatThrownBy(() -> formatter.parse("2017/02/30 03:04:05"))
+            .isInstanceOf(TextParseException.class)
+            .hasCauseInstanceOf(DateTimeParseException.class);
+        
+        TemporalFormatWrapper<YearMonth> yearMonthFormatter = new TemporalFormatWrapper<>(
+                DateTimeFormatter.ofPattern("uuuu-MM"), YearMonth.class);
+        assertThat(yearMonthFormatter.parse("2017-01")).isEqualTo(YearMonth.of(2017, 1));
+        
+        TemporalFormatWrapper<ZonedDateTime> zonedFormatter = new TemporalFormatWrapper<>(
+                DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss").withZone(ZoneId.of("Asia/Tokyo")), ZonedDateTime.class);
+        assertThat(zonedFormatter.parse("2017-01-02 03:04:05"))
+            .isEqualTo(ZonedDateTime.of(2017, 1, 2, 3, 4, 5, 0, ZoneId.of("Asia/Tokyo")));
+        
+    }
+    
+    /**
+     * 和暦の書式の場合
+     */
+    @Test
+    public void testPrint_japaneseEra() {
+        
+        final String pattern = "GGGGy年M月d日";
+        TemporalFormatWrapper<LocalDate> formatter = new TemporalFormatWrapper<>(
+                DateTimeFormatter.ofPattern(pattern, Locale.JAPANESE), LocalDate.class);
+        formatter.setPattern(pattern);
+        
+        assertThat(formatter.print(LocalDate.of(2017, 1, 2))).isEqualTo("平成29年1月2日");
+        
+    }
+    
+}
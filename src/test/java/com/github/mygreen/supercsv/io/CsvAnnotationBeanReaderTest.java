@@ -2,35 +2,55 @@ package com.github.mygreen.supercsv.io;
 
 import static com.github.mygreen.supercsv.tool.TestUtils.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.supercsv.exception.SuperCsvException;
 import org.supercsv.prefs.CsvPreference;
 
+import com.github.mygreen.supercsv.annotation.CsvBean;
+import com.github.mygreen.supercsv.annotation.CsvColumn;
 import com.github.mygreen.supercsv.annotation.DefaultGroup;
+import com.github.mygreen.supercsv.annotation.constraint.CsvUnique;
 import com.github.mygreen.supercsv.builder.BeanMapping;
 import com.github.mygreen.supercsv.builder.BeanMappingFactory;
 import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
 import com.github.mygreen.supercsv.exception.SuperCsvNoMatchColumnSizeException;
 import com.github.mygreen.supercsv.exception.SuperCsvNoMatchHeaderException;
+import com.github.mygreen.supercsv.exception.SuperCsvRowException;
+import com.github.mygreen.supercsv.exception.SuperCsvValidationException;
 import com.github.mygreen.supercsv.validation.CsvExceptionConverter;
+import com.github.mygreen.supercsv.validation.MessageCodeGenerator;
 
 
 /**
  * {@link CsvAnnotationBeanReader}のテスタ。
  *
- * @version 2.3
+ * @version 2.4
  * @since 1.2
  * @author T.TSUCHIE
  *
@@ -650,6 +670,148 @@ public class CsvAnnotationBeanReaderTest {
         
     }
     
+    /**
+     * エラー時の例外のコンテキストが、後続のレコードの読み込みで上書きされないこと。
+     * @since 2.4
+     */
+    @Test
+    public void testRead_error_contextNotOverwritten() throws IOException {
+        
+        File file = new File("src/test/data/test_read_error_wrong_pattern.csv");
+        
+        CsvAnnotationBeanReader<SampleNormalBean> csvReader = new CsvAnnotationBeanReader<>(
+                SampleNormalBean.class,
+                new InputStreamReader(new FileInputStream(file), Charset.forName("UTF-8")),
+                CsvPreference.STANDARD_PREFERENCE,
+                DefaultGroup.class, SampleNormalBean.ReadGroup.class);
+        csvReader.setExceptionConverter(exceptionConverter);
+        
+        csvReader.getHeader(true);
+        
+        SuperCsvBindingException error = null;
+        try {
+            csvReader.read();
+            fail();
+        } catch(SuperCsvBindingException e) {
+            error = e;
+        }
+        
+        // 後続のレコードは、正常に読み込める
+        SampleNormalBean record = csvReader.read();
+        assertBean(record);
+        assertThat(csvReader.read()).isNull();
+        
+        assertThat(error.getCsvContext().getLineNumber()).isEqualTo(2);
+        assertThat(error.getCsvContext().getRowNumber()).isEqualTo(2);
+        assertThat(error.getCsvContext().getRowSource()).hasSize(11)
+            .startsWith("1", "999,110")
+            .contains("2000/01/01 00:01:02");
+        assertThat(error.getBindingErrors().getAllErrors()).hasSize(1);
+        assertThat(error.isLightweight()).isFalse();
+        assertThat(error.getStackTrace()).isNotEmpty();
+        
+        csvReader.close();
+        
+    }
+    
+    /**
+     * 入力値検証で変更したメッセージコードの生成方法が、後続のレコードに引き継がれないこと。
+     * @since 2.4
+     */
+    @Test
+    public void testRead_messageCodeGeneratorNotShared() throws IOException {
+        
+        final String csv = createBatchCsv(2).replace("2000/01/01 00:01:02", "2000-01-01 00:01:02");
+        
+        final List<String> prefixes = new ArrayList<>();
+        try(CsvAnnotationBeanReader<SampleNormalBean> csvReader = new CsvAnnotationBeanReader<>(
+                SampleNormalBean.class, new StringReader(csv), CsvPreference.STANDARD_PREFERENCE,
+                DefaultGroup.class, SampleNormalBean.ReadGroup.class)) {
+            
+            csvReader.addValidator((record, bindingErrors, validationContext) -> {
+                prefixes.add(bindingErrors.getMessageCodeGenerator().getPrefix());
+                
+                final MessageCodeGenerator generator = new MessageCodeGenerator();
+                generator.setPrefix("custom.");
+                bindingErrors.setMessageCodeGenerator(generator);
+            });
+            
+            assertThat(csvReader.readAll(true)).hasSize(2);
+        }
+        
+        assertThat(prefixes).containsExactly("", "");
+        
+    }
+    
+    /**
+     * 軽量でない例外のスタックトレースは、例外を作成した箇所から始まること。
+     * @since 2.4
+     */
+    @Test
+    public void testException_stackTrace() {
+        
+        final SuperCsvValidationException validationError = new SuperCsvValidationException("error", ANONYMOUS_CSVCONTEXT, null);
+        assertThat(validationError.getStackTrace()[0].getMethodName()).isEqualTo("testException_stackTrace");
+        
+        final SuperCsvRowException rowError = new SuperCsvRowException("error", ANONYMOUS_CSVCONTEXT);
+        assertThat(rowError.getStackTrace()[0].getMethodName()).isEqualTo("testException_stackTrace");
+        
+        final SuperCsvRowException formattedRowError = new SuperCsvRowException(ANONYMOUS_CSVCONTEXT, false, "row (%d)", 1);
+        assertThat(formattedRowError.getStackTrace()[0].getMethodName()).isEqualTo("testException_stackTrace");
+        
+        final SuperCsvRowException lightweightRowError = new SuperCsvRowException(ANONYMOUS_CSVCONTEXT, true, "row (%d)", 1);
+        assertThat(lightweightRowError.getStackTrace()).isEmpty();
+        
+    }
+    
+    /**
+     * 軽量な例外を設定した場合のテスト
+     * @since 2.4
+     */
+    @Test
+    public void testRead_error_lightweightException() throws IOException {
+        
+        File file = new File("src/test/data/test_read_error_wrong_pattern.csv");
+        
+        BeanMappingFactory mappingFactory = new BeanMappingFactory();
+        mappingFactory.getConfiguration().setLightweightException(true);
+        
+        BeanMapping<SampleNormalBean> beanMapping = mappingFactory.create(SampleNormalBean.class,
+                DefaultGroup.class, SampleNormalBean.ReadGroup.class);
+        
+        CsvAnnotationBeanReader<SampleNormalBean> csvReader = new CsvAnnotationBeanReader<>(
+                beanMapping,
+                new InputStreamReader(new FileInputStream(file), Charset.forName("UTF-8")),
+                CsvPreference.STANDARD_PREFERENCE);
+        csvReader.setExceptionConverter(exceptionConverter);
+        
+        csvReader.getHeader(true);
+        
+        try {
+            csvReader.read();
+            fail();
+        } catch(SuperCsvBindingException e) {
+            assertThat(e.isLightweight()).isTrue();
+            assertThat(e.getStackTrace()).isEmpty();
+            
+            assertThat(e.getProcessingErrors()).hasSize(1);
+            SuperCsvValidationException error = (SuperCsvValidationException) e.getProcessingErrors().get(0);
+            assertThat(error.isLightweight()).isTrue();
+            assertThat(error.getStackTrace()).isEmpty();
+            assertThat(error.getMessage()).isEqualTo("'2000/01/01 00:01:02' could not parse to java.util.Date.");
+        }
+        
+        assertBean(csvReader.read());
+        
+        // メッセージは通常の例外と同じ
+        List<String> messages = csvReader.getErrorMessages();
+        assertThat(messages).hasSize(1)
+            .contains("[2行, 6列] : 項目「date1」の値（2000/01/01 00:01:02）の書式は不正です。");
+        
+        csvReader.close();
+        
+    }
+    
     /**
      * Streamで読み込むテスト - 正常時
      * @since 2.3
@@ -686,6 +848,668 @@ public class CsvAnnotationBeanReaderTest {
         csvReader.close();
     }
     
+    /**
+     * 並列に読み込むテスト
+     * <p>1レコードずつ読み込む場合と同じ結果になること。</p>
+     * @since 2.4
+     */
+    @Test
+    public void testReadParallel() throws Exception {
+        
+        final StringBuilder csv = new StringBuilder();
+        csv.append("id,数字1,number2,string1,string2,date1,date2,enum1,列挙型2,boolean1,boolean2\n");
+        for(int i=1; i <= 1000; i++) {
+            if(i % 50 == 0) {
+                // カラムサイズのエラー
+                csv.append(i).append(",1,2\n");
+            } else if(i % 7 == 0) {
+                // 書式のエラー
+                csv.append(i).append(",100,10.2,abcd,12345,2000/01/01 00:01:02,2000年02月03日,RED,赤,true,\n");
+            } else {
+                csv.append(i).append(",100,10.2,abcd,12345,2000-01-01 00:01:02,2000年02月03日,RED,赤,true,\n");
+            }
+        }
+        
+        // 1レコードずつ読み込む
+        final List<Integer> expectedIds = new ArrayList<>();
+        final List<Integer> expectedErrorLines = new ArrayList<>();
+        final List<String> expectedMessages;
+        try(CsvAnnotationBeanReader<SampleNormalBean> csvReader = new CsvAnnotationBeanReader<>(
+                SampleNormalBean.class, new StringReader(csv.toString()), CsvPreference.STANDARD_PREFERENCE,
+                DefaultGroup.class, SampleNormalBean.ReadGroup.class)) {
+            
+            csvReader.getHeader(true);
+            while(csvReader.read(
+                    record -> expectedIds.add(record.getId()),
+                    error -> expectedErrorLines.add(error.getCsvContext().getLineNumber())) != CsvReadStatus.EOF) {
+            }
+            expectedMessages = new ArrayList<>(csvReader.getErrorMessages());
+        }
+        
+        assertThat(expectedIds).hasSize(1000 - 20 - 140);
+        assertThat(expectedErrorLines).hasSize(20 + 140);
+        
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // 順番を保持する場合
+            try(CsvAnnotationBeanReader<SampleNormalBean> csvReader = new CsvAnnotationBeanReader<>(
+                    SampleNormalBean.class, new StringReader(csv.toString()), CsvPreference.STANDARD_PREFERENCE,
+                    DefaultGroup.class, SampleNormalBean.ReadGroup.class)) {
+                
+                final List<Integer> ids = new ArrayList<>();
+                final List<Integer> errorLines = new ArrayList<>();
+                
+                csvReader.getHeader(true);
+                csvReader.readParallel(executor, 4, true,
+                        record -> ids.add(record.getId()),
+                        error -> errorLines.add(error.getCsvContext().getLineNumber()));
+                
+                assertThat(ids).isEqualTo(expectedIds);
+                assertThat(errorLines).isEqualTo(expectedErrorLines);
+                assertThat(csvReader.getErrorMessages()).isEqualTo(expectedMessages);
+                assertThat(csvReader.read()).isNull();
+            }
+            
+            // 順番を保持しない場合
+            try(CsvAnnotationBeanReader<SampleNormalBean> csvReader = new CsvAnnotationBeanReader<>(
+                    SampleNormalBean.class, new StringReader(csv.toString()), CsvPreference.STANDARD_PREFERENCE,
+                    DefaultGroup.class, SampleNormalBean.ReadGroup.class)) {
+                
+                final List<Integer> ids = new ArrayList<>();
+                final List<Integer> errorLines = new ArrayList<>();
+                
+                csvReader.getHeader(true);
+                csvReader.readParallel(executor, 4, false,
+                        record -> ids.add(record.getId()),
+                        error -> errorLines.add(error.getCsvContext().getLineNumber()));
+                
+                // 元の順番は昇順のため、並び替えて比較する
+                ids.sort(null);
+                errorLines.sort(null);
+                assertThat(ids).isEqualTo(expectedIds);
+                assertThat(errorLines).isEqualTo(expectedErrorLines);
+                
+                final List<String> messages = new ArrayList<>(csvReader.getErrorMessages());
+                final List<String> sortedExpectedMessages = new ArrayList<>(expectedMessages);
+                messages.sort(null);
+                sortedExpectedMessages.sort(null);
+                assertThat(messages).isEqualTo(sortedExpectedMessages);
+            }
+            
+        } finally {
+            executor.shutdown();
+        }
+        
+    }
+    
+    /**
+     * 並列に読み込む場合の重複の判定のテスト
+     * <p>後のレコードから処理しても、1レコードずつ読み込む場合と同じく、行番号が最も小さいレコード以外がエラーとなること。</p>
+     * @since 2.4
+     */
+    @Test
+    public void testReadParallel_unique() throws Exception {
+        
+        // 128件ごとに同じ値が現れる
+        final StringBuilder csv = new StringBuilder();
+        csv.append("id,code\n");
+        for(int i=1; i <= 512; i++) {
+            csv.append(i).append(",code").append(i % 128).append("\n");
+        }
+        
+        // 1レコードずつ読み込む
+        final List<String> expectedMessages;
+        try(CsvAnnotationBeanReader<UniqueCodeCsv> csvReader = new CsvAnnotationBeanReader<>(
+                UniqueCodeCsv.class, new StringReader(csv.toString()), CsvPreference.STANDARD_PREFERENCE)) {
+            
+            final List<UniqueCodeCsv> list = csvReader.readAll(true);
+            assertThat(list).hasSize(128);
+            expectedMessages = new ArrayList<>(csvReader.getErrorMessages());
+        }
+        
+        assertThat(expectedMessages).hasSize(512 - 128);
+        
+        for(boolean ordered : new boolean[]{true, false}) {
+            try(CsvAnnotationBeanReader<UniqueCodeCsv> csvReader = new CsvAnnotationBeanReader<>(
+                    UniqueCodeCsv.class, new StringReader(csv.toString()), CsvPreference.STANDARD_PREFERENCE)) {
+                
+                final List<Integer> ids = new ArrayList<>();
+                final List<Map<String, Object>> variables = new ArrayList<>();
+                
+                // 128件ずつの4つのタスクを、後から登録したタスクから処理する
+                csvReader.getHeader(true);
+                csvReader.readParallel(new ReverseExecutor(4), 2, ordered,
+                        record -> ids.add(record.getId()),
+                        error -> ((SuperCsvBindingException)error).getBindingErrors().getAllErrors()
+                            .forEach(e -> variables.add(e.getVariables())));
+                
+                ids.sort(null);
+                assertThat(ids).hasSize(128).startsWith(1).endsWith(128);
+                
+                assertThat(variables).hasSize(512 - 128)
+                    .allSatisfy(vars -> assertThat((Integer)vars.get("duplicatedLineNumber")).isLessThanOrEqualTo(129))
+                    .allSatisfy(vars -> assertThat(vars).containsEntry("duplicatedSourceId", 0));
+                
+                final List<String> messages = new ArrayList<>(csvReader.getErrorMessages());
+                if(ordered) {
+                    assertThat(messages).isEqualTo(expectedMessages);
+                } else {
+                    final List<String> sortedExpectedMessages = new ArrayList<>(expectedMessages);
+                    messages.sort(null);
+                    sortedExpectedMessages.sort(null);
+                    assertThat(messages).isEqualTo(sortedExpectedMessages);
+                }
+            }
+        }
+        
+    }
+    
+    /**
+     * 読み込み元の番号を指定して、複数のファイルに跨って重複を検証するテスト
+     * @since 2.4
+     */
+    @Test
+    public void testSetSourceId() throws Exception {
+        
+        final BeanMapping<UniqueCodeCsv> beanMapping = new BeanMappingFactory().create(UniqueCodeCsv.class);
+        
+        try(CsvAnnotationBeanReader<UniqueCodeCsv> csvReader = new CsvAnnotationBeanReader<>(
+                beanMapping, new StringReader("id,code\n1,a\n2,b\n"), CsvPreference.STANDARD_PREFERENCE)) {
+            
+            assertThat(csvReader.getSourceId()).isEqualTo(0);
+            csvReader.setSourceId(1);
+            assertThat(csvReader.getSourceId()).isEqualTo(1);
+            
+            assertThat(csvReader.readAll(true)).hasSize(2);
+        }
+        
+        try(CsvAnnotationBeanReader<UniqueCodeCsv> csvReader = new CsvAnnotationBeanReader<>(
+                beanMapping, new StringReader("id,code\n3,c\n4,b\n"), CsvPreference.STANDARD_PREFERENCE)) {
+            
+            csvReader.setSourceId(2);
+            
+            final List<Map<String, Object>> variables = new ArrayList<>();
+            csvReader.getHeader(true);
+            while(csvReader.read(
+                    record -> {},
+                    error -> ((SuperCsvBindingException)error).getBindingErrors().getAllErrors()
+                        .forEach(e -> variables.add(e.getVariables()))) != CsvReadStatus.EOF) {
+            }
+            
+            // 同じ行番号でも、異なるファイルの値と区別できる
+            assertThat(variables).hasSize(1);
+            assertThat(variables.get(0))
+                .containsEntry("duplicatedSourceId", 1)
+                .containsEntry("duplicatedLineNumber", 3)
+                .containsEntry("duplicatedRowNumber", 3);
+            
+            assertThatThrownBy(() -> csvReader.setSourceId(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+        
+    }
+    
+    @CsvBean(header=true)
+    public static class UniqueCodeCsv {
+        
+        @CsvColumn(number=1)
+        private Integer id;
+        
+        @CsvColumn(number=2)
+        @CsvUnique
+        private String code;
+        
+        public Integer getId() {
+            return id;
+        }
+        
+        public void setId(Integer id) {
+            this.id = id;
+        }
+        
+        public String getCode() {
+            return code;
+        }
+        
+        public void setCode(String code) {
+            this.code = code;
+        }
+        
+    }
+    
+    /**
+     * 指定した件数のタスクが登録されたら、後から登録したタスクから順に、別なスレッドで実行する{@link Executor}。
+     */
+    private static class ReverseExecutor implements Executor {
+        
+        private final int batchSize;
+        
+        private final List<Runnable> tasks = new ArrayList<>();
+        
+        ReverseExecutor(final int batchSize) {
+            this.batchSize = batchSize;
+        }
+        
+        @Override
+        public void execute(final Runnable command) {
+            
+            tasks.add(command);
+            if(tasks.size() < batchSize) {
+                return;
+            }
+            
+            final List<Runnable> batch = new ArrayList<>(tasks);
+            tasks.clear();
+            
+            final Thread thread = new Thread(() -> {
+                for(int i=batch.size()-1; i >= 0; i--) {
+                    batch.get(i).run();
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+        
+    }
+    
+    /**
+     * 並列ストリームで読み込むテスト
+     * @since 2.4
+     */
+    @Test
+    public void testLines_parallel() throws Exception {
+        
+        final StringBuilder csv = new StringBuilder();
+        csv.append("id,数字1,number2,string1,string2,date1,date2,enum1,列挙型2,boolean1,boolean2\n");
+        for(int i=1; i <= 3000; i++) {
+            csv.append(i).append(",100,10.2,abcd,12345,2000-01-01 00:01:02,2000年02月03日,RED,赤,true,\n");
+        }
+        
+        // 先読みしたレコードが分割されること
+        try(CsvAnnotationBeanReader<SampleNormalBean> csvReader = new CsvAnnotationBeanReader<>(
+                SampleNormalBean.class, new StringReader(csv.toString()), CsvPreference.STANDARD_PREFERENCE,
+                DefaultGroup.class, SampleNormalBean.ReadGroup.class)) {
+            
+            csvReader.getHeader(true);
+            
+            final Spliterator<SampleNormalBean> spliterator = csvReader.lines().spliterator();
+            final Spliterator<SampleNormalBean> prefix = spliterator.trySplit();
+            assertThat(prefix.estimateSize()).isEqualTo(128L);
+            assertThat(prefix.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED)).isTrue();
+            
+            final List<Integer> ids = new ArrayList<>();
+            spliterator.forEachRemaining(record -> ids.add(record.getId()));
+            prefix.forEachRemaining(record -> ids.add(record.getId()));
+            
+            assertThat(ids).hasSize(3000).startsWith(129).endsWith(128);
+        }
+        
+        // 順番が保持されること
+        try(CsvAnnotationBeanReader<SampleNormalBean> csvReader = new CsvAnnotationBeanReader<>(
+                SampleNormalBean.class, new StringReader(csv.toString()), CsvPreference.STANDARD_PREFERENCE,
+                DefaultGroup.class, SampleNormalBean.ReadGroup.class)) {
+            
+            csvReader.getHeader(true);
+            
+            final List<Integer> ids = csvReader.lines().parallel()
+                    .map(SampleNormalBean::getId)
+                    .collect(Collectors.toList());
+            
+            assertThat(ids).hasSize(3000);
+            for(int i=0; i < ids.size(); i++) {
+                assertThat(ids.get(i)).isEqualTo(i + 1);
+            }
+            assertThat(csvReader.getErrorMessages()).isEmpty();
+        }
+        
+        // エラーがある場合
+        final String errorCsv = csv.toString().replace("\n2500,100,10.2,abcd,12345,2000-01-01", "\n2500,100,10.2,abcd,12345,2000/01/01");
+        try(CsvAnnotationBeanReader<SampleNormalBean> csvReader = new CsvAnnotationBeanReader<>(
+                SampleNormalBean.class, new StringReader(errorCsv), CsvPreference.STANDARD_PREFERENCE,
+                DefaultGroup.class, SampleNormalBean.ReadGroup.class)) {
+            
+            csvReader.getHeader(true);
+            
+            assertThatThrownBy(() -> csvReader.lines().parallel().count())
+                .isInstanceOf(SuperCsvBindingException.class);
+            
+            assertThat(csvReader.getErrorMessages()).hasSize(1)
+                .allMatch(message -> message.startsWith("[2501行, 6列]"));
+        }
+        
+    }
+    
+    /**
+     * 例外をスローせずに読み込むテスト
+     * @since 2.4
+     */
+    @Test
+    public void testTryRead() throws Exception {
+        
+        final StringBuilder csv = new StringBuilder();
+        csv.append("id,数字1,number2,string1,string2,date1,date2,enum1,列挙型2,boolean1,boolean2\n");
+        for(int i=1; i <= 100; i++) {
+            if(i % 50 == 0) {
+                // カラムサイズのエラー
+                csv.append(i).append(",1,2\n");
+            } else if(i % 7 == 0) {
+                // 書式のエラー
+                csv.append(i).append(",100,10.2,abcd,12345,2000/01/01 00:01:02,2000年02月03日,RED,赤,true,\n");
+            } else {
+                csv.append(i).append(",100,10.2,abcd,12345,2000-01-01 00:01:02,2000年02月03日,RED,赤,true,\n");
+            }
+        }
+        
+        // 1レコードずつ例外をスローしながら読み込む
+        final List<Integer> expectedIds = new ArrayList<>();
+        final List<Integer> expectedErrorLines = new ArrayList<>();
+        final List<String> expectedMessages;
+        try(CsvAnnotationBeanReader<SampleNormalBean> csvReader = new CsvAnnotationBeanReader<>(
+                SampleNormalBean.class, new StringReader(csv.toString()), CsvPreference.STANDARD_PREFERENCE,
+                DefaultGroup.class, SampleNormalBean.ReadGroup.class)) {
+            
+            csvReader.getHeader(true);
+            while(csvReader.read(
+                    record -> expectedIds.add(record.getId()),
+                    error -> expectedErrorLines.add(error.getCsvContext().getLineNumber())) != CsvReadStatus.EOF) {
+            }
+            expectedMessages = new ArrayList<>(csvReader.getErrorMessages());
+        }
+        
+        try(CsvAnnotationBeanReader<SampleNormalBean> csvReader = new CsvAnnotationBeanReader<>(
+                SampleNormalBean.class, new StringReader(csv.toString()), CsvPreference.STANDARD_PREFERENCE,
+                DefaultGroup.class, SampleNormalBean.ReadGroup.class)) {
+            
+            csvReader.getHeader(true);
+            
+            final List<Integer> ids = new ArrayList<>();
+            final List<Integer> errorLines = new ArrayList<>();
+            final List<CsvReadResult<SampleNormalBean>> errorResults = new ArrayList<>();
+            
+            CsvReadResult<SampleNormalBean> result;
+            while(!(result = csvReader.tryRead()).isEof()) {
+                if(result.isSuccess()) {
+                    assertThat(result.getErrors()).isEmpty();
+                    ids.add(result.getRecord().get().getId());
+                } else {
+                    assertThat(result.getStatus()).isEqualTo(CsvReadStatus.ERROR);
+                    assertThat(result.getRecord()).isEmpty();
+                    errorLines.add(result.getLineNumber());
+                    errorResults.add(result);
+                }
+            }
+            
+            assertThat(ids).isEqualTo(expectedIds);
+            assertThat(errorLines).isEqualTo(expectedErrorLines);
+            assertThat(csvReader.getErrorMessages()).isEqualTo(expectedMessages);
+            
+            // カラムサイズのエラー
+            final CsvReadResult<SampleNormalBean> sizeError = errorResults.stream()
+                    .filter(r -> r.getRowNumber() == 51)
+                    .findFirst().get();
+            assertThat(sizeError.getBindingErrors().get().hasGlobalErrors()).isTrue();
+            
+            // 書式のエラー
+            final CsvReadResult<SampleNormalBean> formatError = errorResults.get(0);
+            assertThat(formatError.getRowNumber()).isEqualTo(8);
+            assertThat(formatError.getBindingErrors().get().getFirstFieldError().getField()).isEqualTo("date1");
+        }
+        
+    }
+    
+    /**
+     * エラーメッセージの格納先を変更するテスト
+     * @since 2.4
+     */
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testErrorMessageSink() throws Exception {
+        
+        final StringBuilder csv = new StringBuilder();
+        csv.append("id,数字1,number2,string1,string2,date1,date2,enum1,列挙型2,boolean1,boolean2\n");
+        for(int i=1; i <= 20; i++) {
+            if(i % 2 == 0) {
+                // 書式のエラー
+                csv.append(i).append(",100,10.2,abcd,12345,2000/01/01 00:01:02,2000年02月03日,RED,赤,true,\n");
+            } else {
+                csv.append(i).append(",100,10.2,abcd,12345,2000-01-01 00:01:02,2000年02月03日,RED,赤,true,\n");
+            }
+        }
+        
+        final List<String> allMessages;
+        try(CsvAnnotationBeanReader<SampleNormalBean> csvReader = new CsvAnnotationBeanReader<>(
+                SampleNormalBean.class, new StringReader(csv.toString()), CsvPreference.STANDARD_PREFERENCE,
+                DefaultGroup.class, SampleNormalBean.ReadGroup.class)) {
+            
+            csvReader.readAll(true);
+            allMessages = new ArrayList<>(csvReader.getErrorMessages());
+            assertThat(allMessages).hasSize(10);
+            assertThat(csvReader.getErrorMessageSink().getCount()).isEqualTo(10L);
+            
+            // 非推奨のフィールドからも参照できる
+            assertThat(csvReader.errorMessages).isEqualTo(allMessages);
+            
+            // 取得したリストは変更できる
+            csvReader.getErrorMessages().clear();
+            assertThat(csvReader.errorMessages).isEmpty();
+            
+            csvReader.errorMessages.add("custom");
+            assertThat(csvReader.getErrorMessages()).containsExactly("custom");
+        }
+        
+        // 最初の3件のみ保持する
+        try(CsvAnnotationBeanReader<SampleNormalBean> csvReader = new CsvAnnotationBeanReader<>(
+                SampleNormalBean.class, new StringReader(csv.toString()), CsvPreference.STANDARD_PREFERENCE,
+                DefaultGroup.class, SampleNormalBean.ReadGroup.class)) {
+            
+            csvReader.setErrorMessageSink(CsvErrorMessageSink.first(3));
+            csvReader.readAll(true);
+            
+            assertThat(csvReader.getErrorMessages()).isEqualTo(allMessages.subList(0, 3));
+            assertThat(csvReader.getErrorMessageSink().getCount()).isEqualTo(10L);
+        }
+        
+        // 最後の3件のみ保持する
+        try(CsvAnnotationBeanReader<SampleNormalBean> csvReader = new CsvAnnotationBeanReader<>(
+                SampleNormalBean.class, new StringReader(csv.toString()), CsvPreference.STANDARD_PREFERENCE,
+                DefaultGroup.class, SampleNormalBean.ReadGroup.class)) {
+            
+            csvReader.setErrorMessageSink(CsvErrorMessageSink.last(3));
+            csvReader.readAll(true);
+            
+            assertThat(csvReader.getErrorMessages()).isEqualTo(allMessages.subList(7, 10));
+            assertThat(csvReader.getErrorMessageSink().getCount()).isEqualTo(10L);
+        }
+        
+    }
+    
+    /**
+     * まとめて読み込むテスト
+     * @since 2.4
+     */
+    @Test
+    public void testReadBatch() throws Exception {
+        
+        final String csv = createBatchCsv(10);
+        
+        try(CsvAnnotationBeanReader<SampleNormalBean> csvReader = new CsvAnnotationBeanReader<>(
+                SampleNormalBean.class, new StringReader(csv), CsvPreference.STANDARD_PREFERENCE,
+                DefaultGroup.class, SampleNormalBean.ReadGroup.class)) {
+            
+            csvReader.getHeader(true);
+            
+            final CsvReadBatch<SampleNormalBean> batch1 = csvReader.readBatch(4);
+            assertThat(batch1.size()).isEqualTo(4);
+            assertThat(batch1.getRecords()).extracting("id").containsExactly(1, 2, 4);
+            assertThat(batch1.getErrors()).hasSize(1);
+            assertThat(batch1.getErrors().get(0).isError()).isTrue();
+            assertThat(batch1.getErrors().get(0).getRowNumber()).isEqualTo(4);
+            assertThat(batch1.getErrors().get(0).getErrors()).extracting("field").containsExactly("date1");
+            
+            // 再利用する場合
+            final CsvReadBatch<SampleNormalBean> batch2 = csvReader.readBatch(4, batch1);
+            assertThat(batch2).isSameAs(batch1);
+            assertThat(batch2.getRecords()).extracting("id").containsExactly(5, 7, 8);
+            assertThat(batch2.getErrors()).extracting("rowNumber").containsExactly(7);
+            
+            // 最後のレコードまで読み込んだ場合
+            final CsvReadBatch<SampleNormalBean> batch3 = csvReader.readBatch(4);
+            assertThat(batch3.size()).isEqualTo(2);
+            assertThat(batch3.getRecords()).extracting("id").containsExactly(10);
+            assertThat(batch3.hasErrors()).isTrue();
+            
+            assertThat(csvReader.readBatch(4).isEmpty()).isTrue();
+            assertThat(csvReader.getErrorMessages()).hasSize(3);
+        }
+        
+    }
+    
+    /**
+     * レコード数ごとにまとめて処理するテスト
+     * @since 2.4
+     */
+    @Test
+    public void testForEachBatch() throws Exception {
+        
+        final String csv = createBatchCsv(10);
+        
+        try(CsvAnnotationBeanReader<SampleNormalBean> csvReader = new CsvAnnotationBeanReader<>(
+                SampleNormalBean.class, new StringReader(csv), CsvPreference.STANDARD_PREFERENCE,
+                DefaultGroup.class, SampleNormalBean.ReadGroup.class)) {
+            
+            csvReader.getHeader(true);
+            
+            final List<List<Integer>> batches = new ArrayList<>();
+            final List<Integer> errorRows = new ArrayList<>();
+            
+            csvReader.forEachBatch(5,
+                    records -> batches.add(records.stream().map(SampleNormalBean::getId).collect(Collectors.toList())),
+                    error -> errorRows.add(error.getRowNumber()));
+            
+            assertThat(batches).hasSize(2);
+            assertThat(batches.get(0)).containsExactly(1, 2, 4, 5);
+            assertThat(batches.get(1)).containsExactly(7, 8, 10);
+            assertThat(errorRows).containsExactly(4, 7, 10);
+        }
+        
+    }
+    
+    @CsvBean(header=true)
+    public static class DiskUniqueCsv {
+        
+        @CsvColumn(number=1)
+        @CsvUnique(storage=CsvUnique.Storage.DISK)
+        private Integer id;
+        
+        public Integer getId() {
+            return id;
+        }
+        
+        public void setId(Integer id) {
+            this.id = id;
+        }
+        
+    }
+    
+    /**
+     * 閉じたときに、CellProcessorが使用している一時ファイルも解放する。
+     * <p>作成した一時ファイルは、OSによっては直ちにディレクトリから削除されるため、
+     *    メモリマップされているファイル（{@literal /proc/self/maps}）も確認します。
+     * </p>
+     * @since 2.4
+     */
+    @Test
+    public void testClose_releaseCellProcessor() throws Exception {
+        
+        final Set<String> before = listUniqueTempFiles();
+        
+        final CsvAnnotationBeanReader<DiskUniqueCsv> csvReader = new CsvAnnotationBeanReader<>(
+                DiskUniqueCsv.class, new StringReader("id\n1\n2\n1\n"), CsvPreference.STANDARD_PREFERENCE);
+        
+        final List<DiskUniqueCsv> list = csvReader.readAll(true);
+        assertThat(list).extracting("id").containsExactly(1, 2);
+        assertThat(csvReader.getErrorMessages()).hasSize(1);
+        
+        final Set<String> created = listUniqueTempFiles();
+        created.removeAll(before);
+        assertThat(created).isNotEmpty();
+        
+        csvReader.close();
+        
+        assertThat(listUniqueTempFiles()).doesNotContainAnyElementsOf(created);
+        
+    }
+    
+    /**
+     * Beanのマッピング情報を指定して作成した場合は、共有しているため閉じない。
+     * @since 2.4
+     */
+    @Test
+    public void testClose_sharedBeanMapping() throws Exception {
+        
+        final BeanMapping<DiskUniqueCsv> beanMapping = new BeanMappingFactory().create(DiskUniqueCsv.class);
+        
+        try(CsvAnnotationBeanReader<DiskUniqueCsv> csvReader = new CsvAnnotationBeanReader<>(
+                beanMapping, new StringReader("id\n1\n2\n"), CsvPreference.STANDARD_PREFERENCE)) {
+            assertThat(csvReader.readAll(true)).hasSize(2);
+        }
+        
+        // 複数のファイルに跨って重複を検証する
+        try(CsvAnnotationBeanReader<DiskUniqueCsv> csvReader = new CsvAnnotationBeanReader<>(
+                beanMapping, new StringReader("id\n3\n1\n"), CsvPreference.STANDARD_PREFERENCE)) {
+            assertThat(csvReader.readAll(true)).extracting("id").containsExactly(3);
+        }
+        
+        final Set<String> before = listUniqueTempFiles();
+        beanMapping.closeCellProcessors();
+        
+        final Set<String> after = listUniqueTempFiles();
+        assertThat(before.size() - after.size()).isGreaterThanOrEqualTo(1);
+        
+    }
+    
+    /**
+     * {@literal @CsvUnique}で作成した一時ファイルのパスを取得します。
+     * @return 一時ディレクトリに存在するファイルと、メモリマップされているファイルのパス。
+     */
+    private Set<String> listUniqueTempFiles() throws IOException {
+        
+        final Set<String> paths = new HashSet<>();
+        try(Stream<Path> files = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            files.filter(file -> file.getFileName().toString().startsWith("super-csv-unique"))
+                .forEach(file -> paths.add(file.toAbsolutePath().toString()));
+        }
+        
+        final Path maps = Paths.get("/proc/self/maps");
+        if(Files.isReadable(maps)) {
+            for(String line : Files.readAllLines(maps)) {
+                final int index = line.indexOf('/');
+                if(index >= 0 && line.contains("super-csv-unique")) {
+                    paths.add(line.substring(index).replace(" (deleted)", ""));
+                }
+            }
+        }
+        
+        return paths;
+    }
+    
+    /**
+     * まとめて読み込むテスト用のCSVを作成します。3の倍数のIDのレコードは、書式のエラーになります。
+     * @param size レコード数
+     * @return CSVの文字列
+     */
+    private String createBatchCsv(final int size) {
+        
+        final StringBuilder csv = new StringBuilder();
+        csv.append("id,数字1,number2,string1,string2,date1,date2,enum1,列挙型2,boolean1,boolean2\n");
+        for(int i=1; i <= size; i++) {
+            final String date1 = (i % 3 == 0) ? "2000/01/01 00:01:02" : "2000-01-01 00:01:02";
+            csv.append(i).append(",100,10.2,abcd,12345,").append(date1).append(",2000年02月03日,RED,赤,true,\n");
+        }
+        
+        return csv.toString();
+    }
+    
     private void assertBean(final SampleNormalBean bean) {
         
         if(bean.getId() == 1) {
@@ -10,6 +10,8 @@ import java.nio.charset.Charset;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -26,7 +28,7 @@ import com.github.mygreen.supercsv.validation.CsvExceptionConverter;
 /**
  * {@link CsvAnnotationBeanReader}のテスタ
  *
- * @version 2.3
+ * @version 2.4
  * @since 1.2
  * @author T.TSUCHIE
  *
@@ -562,6 +564,80 @@ public class CsvAnnotationBeanWriterTest {
         
     }
     
+    /**
+     * 並列に変換して全件書き込むテスト
+     * @since 2.4
+     */
+    @Test
+    public void testWriteAllParallel() throws Exception {
+        
+        // テストデータの作成
+        final List<SampleNormalBean> list = new ArrayList<>();
+        for(int i=1; i <= 1000; i++) {
+            final SampleNormalBean bean = createNormalData().get(i % 2);
+            bean.setId(i);
+            if(i % 7 == 0) {
+                bean.setNumber1(1_000_000);   // 最大値を超える
+            }
+            list.add(bean);
+        }
+        
+        // 1レコードずつ書き込む
+        final StringWriter expectedWriter = new StringWriter();
+        final List<String> expectedMessages;
+        try(CsvAnnotationBeanWriter<SampleNormalBean> csvWriter = new CsvAnnotationBeanWriter<>(
+                SampleNormalBean.class, expectedWriter, CsvPreference.STANDARD_PREFERENCE,
+                DefaultGroup.class, SampleNormalBean.WriteGroup.class)) {
+            
+            csvWriter.writeAll(list, true);
+            expectedMessages = new ArrayList<>(csvWriter.getErrorMessages());
+        }
+        
+        assertThat(expectedMessages).hasSize(142);
+        
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // エラーがある場合も処理を続ける
+            final StringWriter strWriter = new StringWriter();
+            try(CsvAnnotationBeanWriter<SampleNormalBean> csvWriter = new CsvAnnotationBeanWriter<>(
+                    SampleNormalBean.class, strWriter, CsvPreference.STANDARD_PREFERENCE,
+                    DefaultGroup.class, SampleNormalBean.WriteGroup.class)) {
+                
+                csvWriter.writeAllParallel(list, executor, 4, true);
+                
+                assertThat(csvWriter.getRowNumber()).isEqualTo(1001);
+                assertThat(csvWriter.getErrorMessages()).isEqualTo(expectedMessages);
+            }
+            
+            assertThat(strWriter.toString()).isEqualTo(expectedWriter.toString());
+            
+            // エラーが発生した時点で終了する
+            final StringWriter errorWriter = new StringWriter();
+            try(CsvAnnotationBeanWriter<SampleNormalBean> csvWriter = new CsvAnnotationBeanWriter<>(
+                    SampleNormalBean.class, errorWriter, CsvPreference.STANDARD_PREFERENCE,
+                    DefaultGroup.class, SampleNormalBean.WriteGroup.class)) {
+                
+                try {
+                    csvWriter.writeAllParallel(list, executor, 4, false);
+                    fail();
+                    
+                } catch(SuperCsvBindingException e) {
+                    assertThat(e.getCsvContext().getLineNumber()).isEqualTo(8);
+                }
+                
+                assertThat(csvWriter.getErrorMessages()).containsExactly(expectedMessages.get(0));
+                csvWriter.flush();
+            }
+            
+            final String[] lines = errorWriter.toString().split("\r\n");
+            assertThat(lines).hasSize(7);
+            
+        } finally {
+            executor.shutdownNow();
+        }
+        
+    }
+    
     /**
      * 書き込み用のデータを作成する
      * @return
@@ -0,0 +1,147 @@
+package com.github.mygreen.supercsv.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.mygreen.supercsv.localization.MessageInterpolator;
+import com.github.mygreen.supercsv.localization.MessageResolver;
+import com.github.mygreen.supercsv.validation.CsvError;
+
+/**
+ * {@link CsvErrorMessageSink}のテスタ。
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class CsvErrorMessageSinkTest {
+    
+    private AtomicInteger resolveCount;
+    
+    private MessageResolver messageResolver;
+    
+    private MessageInterpolator messageInterpolator;
+    
+    @Before
+    public void setUp() throws Exception {
+        this.resolveCount = new AtomicInteger();
+        this.messageResolver = code -> {
+            resolveCount.incrementAndGet();
+            return Optional.of("message-${no}");
+        };
+        this.messageInterpolator = new MessageInterpolator();
+    }
+    
+    private CsvErrorMessage createMessage(final int no) {
+        final Map<String, Object> variables = new HashMap<>();
+        variables.put("no", no);
+        final CsvError error = new CsvError("test", new String[]{"test.code"}, variables, "default");
+        return new CsvErrorMessage(error, messageResolver, messageInterpolator);
+    }
+    
+    /**
+     * メッセージのフォーマットは、参照されたときに1度だけ行う。
+     */
+    @Test
+    public void testFormat_lazy() {
+        
+        CsvErrorMessage message = createMessage(1);
+        assertThat(resolveCount.get()).isEqualTo(0);
+        
+        assertThat(message.format()).isEqualTo("message-1");
+        assertThat(message.toString()).isEqualTo("message-1");
+        assertThat(resolveCount.get()).isEqualTo(1);
+    }
+    
+    @Test
+    public void testUnlimited() {
+        
+        CsvErrorMessageSink sink = CsvErrorMessageSink.unlimited();
+        for(int i=1; i <= 5; i++) {
+            sink.add(createMessage(i));
+        }
+        
+        // 追加した時点でフォーマットし、文字列のみを保持する
+        assertThat(resolveCount.get()).isEqualTo(5);
+        assertThat(sink.getCount()).isEqualTo(5L);
+        assertThat(sink.getMessages()).containsExactly(
+                "message-1", "message-2", "message-3", "message-4", "message-5");
+        
+        // 保持しているリストは変更できる
+        sink.getMessages().clear();
+        sink.getMessages().add("custom");
+        assertThat(sink.getMessages()).containsExactly("custom");
+        
+        sink.clear();
+        assertThat(sink.getCount()).isEqualTo(0L);
+        assertThat(sink.getMessages()).isEmpty();
+    }
+    
+    @Test
+    public void testFirst() {
+        
+        CsvErrorMessageSink sink = CsvErrorMessageSink.first(3);
+        for(int i=1; i <= 10; i++) {
+            sink.add(createMessage(i));
+        }
+        
+        assertThat(sink.getCount()).isEqualTo(10L);
+        assertThat(sink.getMessages()).containsExactly("message-1", "message-2", "message-3");
+        
+        // 破棄したメッセージはフォーマットしない
+        assertThat(resolveCount.get()).isEqualTo(3);
+        
+        assertThatThrownBy(() -> CsvErrorMessageSink.first(-1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    public void testLast() {
+        
+        CsvErrorMessageSink sink = CsvErrorMessageSink.last(3);
+        
+        sink.add(createMessage(1));
+        sink.add(createMessage(2));
+        assertThat(sink.getMessages()).containsExactly("message-1", "message-2");
+        
+        for(int i=3; i <= 10; i++) {
+            sink.add(createMessage(i));
+        }
+        
+        assertThat(sink.getCount()).isEqualTo(10L);
+        assertThat(sink.getMessages()).containsExactly("message-8", "message-9", "message-10");
+        
+        sink.clear();
+        assertThat(sink.getCount()).isEqualTo(0L);
+        assertThat(sink.getMessages()).isEmpty();
+        
+        assertThatThrownBy(() -> CsvErrorMessageSink.last(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    public void testWriter() {
+        
+        StringWriter writer = new StringWriter();
+        CsvErrorMessageSink sink = CsvErrorMessageSink.writer(writer);
+        for(int i=1; i <= 3; i++) {
+            sink.add(createMessage(i));
+        }
+        
+        final String sep = System.lineSeparator();
+        assertThat(writer.toString()).isEqualTo("message-1" + sep + "message-2" + sep + "message-3" + sep);
+        assertThat(sink.getCount()).isEqualTo(3L);
+        assertThat(sink.getMessages()).isEqualTo(Collections.emptyList());
+    }
+    
+}
@@ -0,0 +1,233 @@
+package com.github.mygreen.supercsv.io;
+
+import static com.github.mygreen.supercsv.tool.TestUtils.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+import org.supercsv.comment.CommentStartsWith;
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.prefs.CsvPreference;
+
+import com.github.mygreen.supercsv.builder.BeanMapping;
+import com.github.mygreen.supercsv.builder.BeanMappingFactory;
+import com.github.mygreen.supercsv.exception.SuperCsvInvalidAnnotationException;
+
+/**
+ * {@link FixedSizeCsvAnnotationBeanWriter}のテスタ
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class FixedSizeCsvAnnotationBeanWriterTest {
+    
+    /**
+     * 区切り文字なしで書き込む。
+     */
+    @Test
+    public void testWrite() throws Exception {
+        
+        final StringWriter strWriter = new StringWriter();
+        
+        try(FixedSizeCsvAnnotationBeanWriter<SampleFixedColumnBean> csvWriter = new FixedSizeCsvAnnotationBeanWriter<>(
+                SampleFixedColumnBean.class,
+                strWriter,
+                CsvPreference.STANDARD_PREFERENCE)) {
+            
+            csvWriter.writeAll(createFixedColumnData());
+            csvWriter.flush();
+            
+            assertThat(csvWriter.getErrorMessages()).isEmpty();
+        }
+        
+        final String expected = getTextFromFile("src/test/data/test_write_fixedColumn.csv", Charset.forName("UTF-8"))
+                .replace(",", "");
+        assertThat(strWriter.toString()).isEqualTo(expected);
+        
+    }
+    
+    /**
+     * 書き込んだ内容を、{@link FixedSizeTokenizer}で読み込む。
+     */
+    @Test
+    public void testWrite_readByTokenizer() throws Exception {
+        
+        final BeanMapping<FixedSizeTokenizerTest.ByteSizeCsv> beanMapping = new BeanMappingFactory()
+                .create(FixedSizeTokenizerTest.ByteSizeCsv.class);
+        
+        final List<FixedSizeTokenizerTest.ByteSizeCsv> list = new ArrayList<>();
+        {
+            final FixedSizeTokenizerTest.ByteSizeCsv record = new FixedSizeTokenizerTest.ByteSizeCsv();
+            record.setCode("A01");
+            record.setName("ｱｲｳ山田");
+            record.setAmount(12);
+            list.add(record);
+        }
+        {
+            final FixedSizeTokenizerTest.ByteSizeCsv record = new FixedSizeTokenizerTest.ByteSizeCsv();
+            record.setCode("B02");
+            list.add(record);
+        }
+        
+        final StringWriter strWriter = new StringWriter();
+        try(FixedSizeCsvAnnotationBeanWriter<FixedSizeTokenizerTest.ByteSizeCsv> csvWriter = new FixedSizeCsvAnnotationBeanWriter<>(
+                beanMapping, strWriter, CsvPreference.STANDARD_PREFERENCE)) {
+            
+            csvWriter.writeComment("#comment");
+            csvWriter.writeAll(list);
+        }
+        
+        // nullのカラムもパディングする
+        assertThat(strWriter.toString()).isEqualTo("#comment\r\n"
+                + "A01   ｱｲｳ山田 012\r\n"
+                + "B02           000\r\n");
+        
+        final CsvPreference preference = new CsvPreference.Builder(CsvPreference.STANDARD_PREFERENCE)
+                .skipComments(new CommentStartsWith("#"))
+                .build();
+        
+        try(CsvAnnotationBeanReader<FixedSizeTokenizerTest.ByteSizeCsv> csvReader = new CsvAnnotationBeanReader<>(
+                beanMapping,
+                new FixedSizeTokenizer(new StringReader(strWriter.toString()), beanMapping, preference),
+                preference)) {
+            
+            final List<FixedSizeTokenizerTest.ByteSizeCsv> actual = csvReader.readAll();
+            assertThat(actual).hasSize(2);
+            assertThat(actual.get(0).getName()).isEqualTo("ｱｲｳ山田");
+            assertThat(actual.get(0).getAmount()).isEqualTo(12);
+            assertThat(actual.get(1).getCode()).isEqualTo("B02");
+        }
+        
+    }
+    
+    /**
+     * {@link FixedSizeCsvAnnotationBeanWriter#writeAll(java.util.Collection)}の後は、閉じなくても出力されている。
+     */
+    @Test
+    public void testWriteAll_flush() throws Exception {
+        
+        final FixedSizeTokenizerTest.ByteSizeCsv record = new FixedSizeTokenizerTest.ByteSizeCsv();
+        record.setCode("A01");
+        
+        final StringWriter strWriter = new StringWriter();
+        final FixedSizeCsvAnnotationBeanWriter<FixedSizeTokenizerTest.ByteSizeCsv> csvWriter = new FixedSizeCsvAnnotationBeanWriter<>(
+                FixedSizeTokenizerTest.ByteSizeCsv.class, strWriter, CsvPreference.STANDARD_PREFERENCE);
+        
+        csvWriter.writeAll(Arrays.asList(record));
+        assertThat(strWriter.toString()).isEqualTo("A01           000\r\n");
+        
+        csvWriter.writeAllParallel(Arrays.asList(record), ForkJoinPool.commonPool(), 2, false);
+        assertThat(strWriter.toString()).isEqualTo("A01           000\r\n"
+                + "A01           000\r\n");
+        
+        csvWriter.close();
+        
+    }
+    
+    /**
+     * レコードの間にコメントを書き込む場合、書き込んだ順に出力する。
+     */
+    @Test
+    public void testWriteComment_betweenRecords() throws Exception {
+        
+        final FixedSizeTokenizerTest.ByteSizeCsv record1 = new FixedSizeTokenizerTest.ByteSizeCsv();
+        record1.setCode("A01");
+        
+        final FixedSizeTokenizerTest.ByteSizeCsv record2 = new FixedSizeTokenizerTest.ByteSizeCsv();
+        record2.setCode("B02");
+        
+        final StringWriter strWriter = new StringWriter();
+        try(FixedSizeCsvAnnotationBeanWriter<FixedSizeTokenizerTest.ByteSizeCsv> csvWriter = new FixedSizeCsvAnnotationBeanWriter<>(
+                FixedSizeTokenizerTest.ByteSizeCsv.class, strWriter, CsvPreference.STANDARD_PREFERENCE)) {
+            
+            csvWriter.write(record1);
+            csvWriter.writeComment("#comment");
+            csvWriter.write(record2);
+        }
+        
+        assertThat(strWriter.toString()).isEqualTo("A01           000\r\n"
+                + "#comment\r\n"
+                + "B02           000\r\n");
+        
+    }
+    
+    /**
+     * 値のサイズがカラムのサイズと一致しない場合
+     */
+    @Test
+    public void testWrite_invalidSize() throws Exception {
+        
+        final FixedSizeTokenizerTest.ByteSizeCsv record = new FixedSizeTokenizerTest.ByteSizeCsv();
+        record.setCode("A01");
+        record.setName("山田太郎花子");
+        
+        final StringWriter strWriter = new StringWriter();
+        try(FixedSizeCsvAnnotationBeanWriter<FixedSizeTokenizerTest.ByteSizeCsv> csvWriter = new FixedSizeCsvAnnotationBeanWriter<>(
+                FixedSizeTokenizerTest.ByteSizeCsv.class, strWriter, CsvPreference.STANDARD_PREFERENCE)) {
+            
+            assertThatThrownBy(() -> csvWriter.write(record))
+                .isInstanceOf(SuperCsvException.class)
+                .hasMessageContaining("2番目のカラム");
+        }
+        
+    }
+    
+    @Test
+    public void testConstructor_invalidColumn() {
+        
+        assertThatThrownBy(() -> new FixedSizeCsvAnnotationBeanWriter<>(FixedSizeTokenizerTest.NoFixedSizeCsv.class,
+                    new StringWriter(), CsvPreference.STANDARD_PREFERENCE))
+            .isInstanceOf(SuperCsvInvalidAnnotationException.class);
+        
+        assertThatThrownBy(() -> new FixedSizeCsvAnnotationBeanWriter<>(FixedSizeTokenizerTest.NotSupportedPaddingCsv.class,
+                    new StringWriter(), CsvPreference.STANDARD_PREFERENCE))
+            .isInstanceOf(SuperCsvInvalidAnnotationException.class)
+            .hasMessageContaining("NoCountPaddingProcessor");
+        
+    }
+    
+    private List<SampleFixedColumnBean> createFixedColumnData() {
+        
+        final List<SampleFixedColumnBean> list = new ArrayList<>();
+        
+        {
+            final SampleFixedColumnBean bean = new SampleFixedColumnBean();
+            bean.setNo(1);
+            bean.setUserName("山田　太郎");
+            bean.setBirthDay(LocalDate.of(1980, 1, 28));
+            bean.setComment("全ての項目に値が設定");
+            list.add(bean);
+        }
+        
+        {
+            final SampleFixedColumnBean bean = new SampleFixedColumnBean();
+            bean.setNo(2);
+            bean.setUserName("田中　次郎");
+            bean.setBirthDay(null);
+            bean.setComment("誕生日の項目が空。");
+            list.add(bean);
+        }
+        
+        {
+            final SampleFixedColumnBean bean = new SampleFixedColumnBean();
+            bean.setNo(3);
+            bean.setUserName("鈴木　三郎");
+            bean.setBirthDay(LocalDate.of(2000, 3, 25));
+            bean.setComment("コメントを切落とす。あいう。");
+            list.add(bean);
+        }
+        
+        return list;
+        
+    }
+    
+}
@@ -0,0 +1,307 @@
+package com.github.mygreen.supercsv.io;
+
+import static com.github.mygreen.supercsv.tool.TestUtils.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.supercsv.prefs.CsvPreference;
+
+import com.github.mygreen.supercsv.annotation.CsvBean;
+import com.github.mygreen.supercsv.annotation.CsvColumn;
+import com.github.mygreen.supercsv.annotation.CsvPartial;
+import com.github.mygreen.supercsv.annotation.conversion.CsvFixedSize;
+import com.github.mygreen.supercsv.builder.BeanMapping;
+import com.github.mygreen.supercsv.builder.BeanMappingFactory;
+import com.github.mygreen.supercsv.cellprocessor.conversion.ByteSizePaddingProcessor;
+import com.github.mygreen.supercsv.cellprocessor.conversion.PaddingProcessor;
+import com.github.mygreen.supercsv.exception.SuperCsvInvalidAnnotationException;
+
+/**
+ * {@link FixedSizeTokenizer}のテスタ
+ *
+ * @since 2.4
+ * @author T.TSUCHIE
+ *
+ */
+public class FixedSizeTokenizerTest {
+    
+    private BeanMappingFactory beanMappingFactory;
+    
+    @Before
+    public void setUp() throws Exception {
+        this.beanMappingFactory = new BeanMappingFactory();
+    }
+    
+    /**
+     * 区切り文字のない固定長のファイルのテキスト。
+     */
+    private String getFixedColumnText() {
+        return getTextFromFile("src/test/data/test_write_fixedColumn.csv", Charset.forName("UTF-8"))
+                .replace(",", "");
+    }
+    
+    /**
+     * 文字の幅で切り出す。
+     */
+    @Test
+    public void testRead_charWidth() throws Exception {
+        
+        final BeanMapping<SampleFixedColumnBean> beanMapping = beanMappingFactory.create(SampleFixedColumnBean.class);
+        
+        try(CsvAnnotationBeanReader<SampleFixedColumnBean> csvReader = new CsvAnnotationBeanReader<>(
+                beanMapping,
+                new FixedSizeTokenizer(new StringReader(getFixedColumnText()), beanMapping, CsvPreference.STANDARD_PREFERENCE),
+                CsvPreference.STANDARD_PREFERENCE)) {
+            
+            // ヘッダーの値はパディングされている
+            assertThat(csvReader.getHeader(true)).containsExactly(
+                    "   no", "ユーザ名　　　　　　", "誕生日____", "コメント            ");
+            
+            final List<SampleFixedColumnBean> list = new ArrayList<>();
+            SampleFixedColumnBean bean;
+            while((bean = csvReader.read()) != null) {
+                list.add(bean);
+            }
+            assertThat(list).hasSize(3);
+            assertFixedColumnBeans(list);
+            
+            assertThat(csvReader.getUntokenizedRow()).startsWith("    3鈴木　三郎");
+            assertThat(csvReader.getErrorMessages()).isEmpty();
+        }
+        
+    }
+    
+    /**
+     * メモリマップドファイルから読み込む。
+     */
+    @Test
+    public void testRead_mappedFile() throws Exception {
+        
+        final BeanMapping<SampleFixedColumnBean> beanMapping = beanMappingFactory.create(SampleFixedColumnBean.class);
+        final Charset charset = Charset.forName("Windows-31j");
+        
+        final Path file = Files.createTempFile("test_read_fixedSize", ".txt");
+        try {
+            Files.write(file, getFixedColumnText().getBytes(charset));
+            
+            final MappedByteBuffer buffer;
+            try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            
+            try(CsvAnnotationBeanReader<SampleFixedColumnBean> csvReader = new CsvAnnotationBeanReader<>(
+                    beanMapping,
+                    new FixedSizeTokenizer(buffer, charset, beanMapping, CsvPreference.STANDARD_PREFERENCE),
+                    CsvPreference.STANDARD_PREFERENCE)) {
+                
+                assertFixedColumnBeans(csvReader.readAll());
+            }
+            
+            // バッファの位置は変更しない
+            assertThat(buffer.position()).isEqualTo(0);
+            
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        
+    }
+    
+    private void assertFixedColumnBeans(final List<SampleFixedColumnBean> list) {
+        
+        assertThat(list.get(0).getNo()).isEqualTo(1);
+        assertThat(list.get(0).getUserName()).isEqualTo("山田　太郎");
+        assertThat(list.get(0).getBirthDay()).isEqualTo(LocalDate.of(1980, 1, 28));
+        assertThat(list.get(0).getComment()).isEqualTo("全ての項目に値が設定");
+        
+        assertThat(list.get(1).getNo()).isEqualTo(2);
+        assertThat(list.get(1).getBirthDay()).isNull();
+        assertThat(list.get(1).getComment()).isEqualTo("誕生日の項目が空。");
+        
+        assertThat(list.get(2).getNo()).isEqualTo(3);
+        assertThat(list.get(2).getUserName()).isEqualTo("鈴木　三郎");
+        assertThat(list.get(2).getComment()).isEqualTo("コメントを切落とす。");
+        
+    }
+    
+    @CsvBean
+    public static class ByteSizeCsv {
+        
+        @CsvColumn(number=1)
+        @CsvFixedSize(size=6, paddingProcessor=ByteSizePaddingProcessor.Windows31j.class)
+        private String code;
+        
+        @CsvColumn(number=2)
+        @CsvFixedSize(size=8, paddingProcessor=ByteSizePaddingProcessor.Windows31j.class)
+        private String name;
+        
+        @CsvColumn(number=3)
+        @CsvFixedSize(size=3, rightAlign=true, padChar='0', paddingProcessor=ByteSizePaddingProcessor.Windows31j.class)
+        private Integer amount;
+        
+        public String getCode() {
+            return code;
+        }
+        
+        public void setCode(String code) {
+            this.code = code;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public Integer getAmount() {
+            return amount;
+        }
+        
+        public void setAmount(Integer amount) {
+            this.amount = amount;
+        }
+        
+    }
+    
+    /**
+     * バイト数で切り出す。
+     */
+    @Test
+    public void testReadColumns_byteSize() throws Exception {
+        
+        final BeanMapping<ByteSizeCsv> beanMapping = beanMappingFactory.create(ByteSizeCsv.class);
+        final Charset charset = Charset.forName("Windows-31j");
+        
+        final String text = "A01   ｱｲｳ山田 012\r\n"
+                + "\r\n"
+                + "B02   鈴木    100\n"
+                + "C03";
+        
+        try(FixedSizeTokenizer tokenizer = new FixedSizeTokenizer(ByteBuffer.wrap(text.getBytes(charset)), charset,
+                beanMapping, CsvPreference.STANDARD_PREFERENCE)) {
+            
+            final List<String> columns = new ArrayList<>();
+            
+            assertThat(tokenizer.readColumns(columns)).isTrue();
+            assertThat(columns).containsExactly("A01   ", "ｱｲｳ山田 ", "012");
+            assertThat(tokenizer.getLineNumber()).isEqualTo(1);
+            
+            // 空行は無視する
+            assertThat(tokenizer.readColumns(columns)).isTrue();
+            assertThat(columns).containsExactly("B02   ", "鈴木    ", "100");
+            assertThat(tokenizer.getLineNumber()).isEqualTo(3);
+            
+            // 値が存在しないカラムはnull
+            assertThat(tokenizer.readColumns(columns)).isTrue();
+            assertThat(columns).containsExactly("C03", null, null);
+            assertThat(tokenizer.getUntokenizedRow()).isEqualTo("C03");
+            
+            assertThat(tokenizer.readColumns(columns)).isFalse();
+            assertThat(columns).isEmpty();
+        }
+        
+        try(CsvAnnotationBeanReader<ByteSizeCsv> csvReader = new CsvAnnotationBeanReader<>(
+                beanMapping,
+                new FixedSizeTokenizer(new StringReader("A01   ｱｲｳ山田 012\r\nB02   鈴木    100\r\n"), beanMapping, CsvPreference.STANDARD_PREFERENCE),
+                CsvPreference.STANDARD_PREFERENCE)) {
+            
+            final List<ByteSizeCsv> list = csvReader.readAll();
+            assertThat(list).hasSize(2);
+            
+            assertThat(list.get(0).getCode()).isEqualTo("A01");
+            assertThat(list.get(0).getName()).isEqualTo("ｱｲｳ山田");
+            assertThat(list.get(0).getAmount()).isEqualTo(12);
+            
+            assertThat(list.get(1).getName()).isEqualTo("鈴木");
+            assertThat(list.get(1).getAmount()).isEqualTo(100);
+        }
+        
+    }
+    
+    @CsvBean
+    public static class NoFixedSizeCsv {
+        
+        @CsvColumn(number=1)
+        @CsvFixedSize(size=5)
+        private String code;
+        
+        @CsvColumn(number=2)
+        private String name;
+        
+    }
+    
+    @CsvBean
+    @CsvPartial(columnSize=3)
+    public static class PartialCsv {
+        
+        @CsvColumn(number=1)
+        @CsvFixedSize(size=5)
+        private String code;
+        
+        @CsvColumn(number=3)
+        @CsvFixedSize(size=5)
+        private String name;
+        
+    }
+    
+    /**
+     * サイズのカウント方法を持たないパディング処理
+     */
+    public static class NoCountPaddingProcessor implements PaddingProcessor {
+        
+        @Override
+        public String pad(final String text, final int size, final char padChar, final boolean rightAlign, final boolean chopped) {
+            return text;
+        }
+        
+    }
+    
+    @CsvBean
+    public static class NotSupportedPaddingCsv {
+        
+        @CsvColumn(number=1)
+        @CsvFixedSize(size=5, paddingProcessor=NoCountPaddingProcessor.class)
+        private String code;
+        
+    }
+    
+    /**
+     * 固定長のカラムの位置を決められない場合
+     */
+    @Test
+    public void testConstructor_invalidColumn() {
+        
+        final BeanMapping<NoFixedSizeCsv> noFixedSizeMapping = beanMappingFactory.create(NoFixedSizeCsv.class);
+        assertThatThrownBy(() -> new FixedSizeTokenizer(new StringReader(""), noFixedSizeMapping, CsvPreference.STANDARD_PREFERENCE))
+            .isInstanceOf(SuperCsvInvalidAnnotationException.class)
+            .hasMessageContaining("@CsvFixedSize");
+        
+        final BeanMapping<PartialCsv> partialMapping = beanMappingFactory.create(PartialCsv.class);
+        assertThatThrownBy(() -> new FixedSizeTokenizer(new StringReader(""), partialMapping, CsvPreference.STANDARD_PREFERENCE))
+            .isInstanceOf(SuperCsvInvalidAnnotationException.class)
+            .hasMessageContaining("2番目のカラム");
+        
+        // 切り出しに対応していないパディング処理は、読み込み前にエラーとする
+        final BeanMapping<NotSupportedPaddingCsv> notSupportedMapping = beanMappingFactory.create(NotSupportedPaddingCsv.class);
+        assertThatThrownBy(() -> new FixedSizeTokenizer(new StringReader("A0001"), notSupportedMapping, CsvPreference.STANDARD_PREFERENCE))
+            .isInstanceOf(SuperCsvInvalidAnnotationException.class)
+            .hasMessageContaining("NoCountPaddingProcessor")
+            .hasMessageContaining("AbstractPaddingOperator");
+        
+    }
+    
+}